@@ -0,0 +1,89 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Polynomial;
+import polynomial.PolynomialBuilder;
+import polynomial.Term;
+import polynomial.VariableName;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of accumulating a sum of products a_1 b_1 + ... + a_n b_n with immutable polynomials and with a
+ * {@link PolynomialBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccumulationBenchmark {
+    @Param({ "100" })
+    public int count;
+
+    @Param({ "10" })
+    public int termCount;
+
+    // Whether the coefficients are fractions, or only their numerators.
+    @Param({ "true", "false" })
+    public boolean fractions;
+
+    private Polynomial[] left;
+    private Polynomial[] right;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(23, 8);
+        VariableName[] variables = PolynomialGenerator.variables(3);
+        this.left = new Polynomial[this.count];
+        this.right = new Polynomial[this.count];
+        for (int i = 0; i < this.count; ++i) {
+            this.left[i] = coefficients(generator.sparse(variables, 4, this.termCount));
+            this.right[i] = coefficients(generator.sparse(variables, 4, this.termCount));
+        }
+    }
+
+    private Polynomial coefficients(Polynomial p) {
+        if (this.fractions) {
+            return p;
+        }
+        Term[] terms = new Term[p.getTermCount()];
+        for (int i = 0; i < terms.length; ++i) {
+            Term term = p.getTerms().get(i);
+            terms[i] = new Term(new RationalNumber(term.getCoefficient().getBigNumerator(), BigInteger.ONE),
+                    term.getMonomial());
+        }
+        return new Polynomial(terms);
+    }
+
+    @Benchmark
+    public Polynomial immutable() {
+        Polynomial result = new Polynomial();
+        for (int i = 0; i < this.count; ++i) {
+            result = result.add(this.left[i].multiply(this.right[i]));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Polynomial builder() {
+        PolynomialBuilder builder = new PolynomialBuilder();
+        for (int i = 0; i < this.count; ++i) {
+            builder.addProduct(this.left[i], this.right[i]);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Polynomial;
+import polynomial.PolynomialCache;
+import polynomial.VariableName;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of a pipeline that multiplies and raises random pairs from a small pool of subexpressions, with and
+ * without a {@link PolynomialCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheBenchmark {
+    @Param({ "8", "64" })
+    public int poolSize;
+
+    @Param({ "200" })
+    public int operationCount;
+
+    private Polynomial[] pool;
+    private int[] operands;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(37, 8);
+        VariableName[] variables = PolynomialGenerator.variables(3);
+        this.pool = new Polynomial[this.poolSize];
+        for (int i = 0; i < this.poolSize; ++i) {
+            this.pool[i] = generator.sparse(variables, 4, 10);
+        }
+        Random random = new Random(37);
+        this.operands = new int[2 * this.operationCount];
+        for (int i = 0; i < this.operands.length; ++i) {
+            this.operands[i] = random.nextInt(this.poolSize);
+        }
+    }
+
+    @Benchmark
+    public Polynomial uncached() {
+        Polynomial result = null;
+        for (int i = 0; i < this.operationCount; ++i) {
+            Polynomial p = this.pool[this.operands[2 * i]];
+            Polynomial q = this.pool[this.operands[2 * i + 1]];
+            result = p.multiply(q).add(p.pow(3));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Polynomial cached() {
+        // A fresh cache per invocation, so only repetitions within the pipeline hit.
+        PolynomialCache cache = new PolynomialCache(1 << 20);
+        Polynomial result = null;
+        for (int i = 0; i < this.operationCount; ++i) {
+            Polynomial p = this.pool[this.operands[2 * i]];
+            Polynomial q = this.pool[this.operands[2 * i + 1]];
+            result = cache.multiply(p, q).add(cache.pow(p, 3));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Polynomial;
+import polynomial.PolynomialFormatter;
+import polynomial.Term;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of writing polynomials as text, against joining the strings of the terms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatterBenchmark {
+    @Param({ "100000" })
+    public int termCount;
+
+    private Polynomial polynomial;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(19, 8);
+        this.polynomial = generator.sparse(PolynomialGenerator.variables(6), 40, this.termCount);
+        this.polynomial.getTerms();
+    }
+
+    @Benchmark
+    public String toStringTerms() {
+        StringBuilder result = new StringBuilder();
+        for (Term term : this.polynomial.getTerms()) {
+            if (result.length() > 0) {
+                result.append(" + ");
+            }
+            result.append(term.toString());
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String toStringFormatter() {
+        return this.polynomial.toString();
+    }
+
+    @Benchmark
+    public Writer formatWriter() throws IOException {
+        Writer writer = Writer.nullWriter();
+        PolynomialFormatter.format(this.polynomial, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Writer formatLatex() throws IOException {
+        Writer writer = Writer.nullWriter();
+        PolynomialFormatter.format(this.polynomial, writer, PolynomialFormatter.Style.latex);
+        return writer;
+    }
+}
@@ -0,0 +1,80 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Polynomial;
+import polynomial.Term;
+import polynomial.VariableName;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the modular GCD against Euclid's algorithm over the rationals, on products sharing a dense common
+ * factor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GcdBenchmark {
+    @Param({ "8", "16" })
+    public int degree;
+
+    private Polynomial left;
+    private Polynomial right;
+    private Polynomial multivariateLeft;
+    private Polynomial multivariateRight;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(13, 8);
+        VariableName[] variables = PolynomialGenerator.variables(1);
+        Polynomial common = generator.dense(variables, this.degree);
+        this.left = common.multiply(generator.dense(variables, this.degree));
+        this.right = common.multiply(generator.dense(variables, this.degree));
+
+        VariableName[] multivariables = PolynomialGenerator.variables(3);
+        int termCount = 2 * this.degree;
+        int multivariateDegree = this.degree / 2;
+        Polynomial multivariateCommon = generator.sparse(multivariables, multivariateDegree, termCount);
+        this.multivariateLeft = multivariateCommon
+                .multiply(generator.sparse(multivariables, multivariateDegree, termCount));
+        this.multivariateRight = multivariateCommon
+                .multiply(generator.sparse(multivariables, multivariateDegree, termCount));
+    }
+
+    @Benchmark
+    public Polynomial gcd() {
+        return this.left.gcd(this.right);
+    }
+
+    @Benchmark
+    public Polynomial euclid() {
+        Polynomial a = this.left;
+        Polynomial b = this.right;
+        while (!b.isZero()) {
+            Polynomial r = a.divideWithRemainder(b).getRemainder();
+            a = b;
+            b = r;
+        }
+        RationalNumber leading = a.getLeadingTerm().getCoefficient();
+        return a.multiply(new Term(RationalNumber.one.divide(leading)));
+    }
+
+    @Benchmark
+    public Polynomial gcdMultivariate() {
+        return this.multivariateLeft.gcd(this.multivariateRight);
+    }
+}
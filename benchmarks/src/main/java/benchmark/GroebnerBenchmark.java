@@ -0,0 +1,51 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.GroebnerBasis;
+import polynomial.MonomialOrder;
+import polynomial.Polynomial;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of Gröbner basis computations on classic systems in grevlex.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class GroebnerBenchmark {
+    @Param({ "cyclic-4", "cyclic-5", "katsura-4", "katsura-5", "katsura-6" })
+    public String system;
+
+    @Param({ "normal", "sugar" })
+    public GroebnerBasis.SelectionStrategy strategy;
+
+    private List<Polynomial> generators;
+
+    @Setup
+    public void setup() {
+        int n = Integer.parseInt(this.system.substring(this.system.indexOf('-') + 1));
+        this.generators = this.system.startsWith("cyclic")
+                ? PolynomialGenerator.cyclic(n)
+                : PolynomialGenerator.katsura(n);
+    }
+
+    @Benchmark
+    public GroebnerBasis compute() {
+        return GroebnerBasis.compute(this.generators, MonomialOrder.grevlex, this.strategy);
+    }
+}
@@ -0,0 +1,67 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Polynomial;
+import polynomial.Term;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of equality checks between equal polynomials built independently, with and without interned monomials,
+ * and of interning itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InternBenchmark {
+    @Param({ "100", "1000" })
+    public int termCount;
+
+    private Polynomial p;
+    private Polynomial q;
+    private Polynomial internedP;
+    private Polynomial internedQ;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(37, 16);
+        this.p = generator.sparse(PolynomialGenerator.variables(6), 12, this.termCount);
+        // Copies of every term, so that no monomial is shared with p.
+        Term[] terms = this.p.getTerms().toArray(new Term[0]);
+        for (int i = 0; i < terms.length; ++i) {
+            terms[i] = new Term(terms[i].getCoefficient(), terms[i].getMonomial().multiply(terms[i].getMonomial())
+                    .divide(terms[i].getMonomial()));
+        }
+        this.q = new Polynomial(terms);
+        this.internedP = this.p.intern();
+        this.internedQ = this.q.intern();
+    }
+
+    @Benchmark
+    public boolean equals() {
+        return this.p.equals(this.q);
+    }
+
+    @Benchmark
+    public boolean equalsInterned() {
+        return this.internedP.equals(this.internedQ);
+    }
+
+    @Benchmark
+    public Polynomial intern() {
+        return this.q.intern();
+    }
+}
@@ -0,0 +1,100 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Jacobian;
+import polynomial.JacobianEvaluator;
+import polynomial.Polynomial;
+import polynomial.PolynomialEvaluator;
+import polynomial.Variable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of evaluating the Jacobian of a Katsura system at a point, as in a step of Newton's method: the compiled
+ * Jacobian in one pass, sequentially and in parallel, against a separately compiled evaluator per entry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JacobianBenchmark {
+    @Param({ "6", "12" })
+    public int n;
+
+    private JacobianEvaluator evaluator;
+    private PolynomialEvaluator[][] entryEvaluators;
+    private RationalNumber[][] entryPoints;
+    private RationalNumber[] point;
+    private double[] doublePoint;
+
+    @Setup
+    public void setup() {
+        Jacobian jacobian = Jacobian.of(PolynomialGenerator.katsura(this.n));
+        this.evaluator = jacobian.compile();
+        PolynomialGenerator generator = new PolynomialGenerator(43, 8);
+        List<Variable> slots = this.evaluator.getSlots();
+        this.point = new RationalNumber[slots.size()];
+        this.doublePoint = new double[slots.size()];
+        for (int slot = 0; slot < slots.size(); ++slot) {
+            this.point[slot] = generator.coefficient();
+            this.doublePoint[slot] = this.point[slot].doubleValue();
+        }
+
+        this.entryEvaluators = new PolynomialEvaluator[jacobian.getRowCount()][jacobian.getColumnCount()];
+        this.entryPoints = new RationalNumber[jacobian.getRowCount() * jacobian.getColumnCount()][];
+        for (int row = 0; row < jacobian.getRowCount(); ++row) {
+            for (int column = 0; column < jacobian.getColumnCount(); ++column) {
+                Polynomial entry = jacobian.get(row, column);
+                PolynomialEvaluator entryEvaluator = entry.compile();
+                RationalNumber[] entryPoint = new RationalNumber[entryEvaluator.getSlots().size()];
+                for (int slot = 0; slot < entryPoint.length; ++slot) {
+                    entryPoint[slot] = this.point[slots.indexOf(entryEvaluator.getSlots().get(slot))];
+                }
+                this.entryEvaluators[row][column] = entryEvaluator;
+                this.entryPoints[row * jacobian.getColumnCount() + column] = entryPoint;
+            }
+        }
+    }
+
+    @Benchmark
+    public RationalNumber[][] compiled() {
+        return this.evaluator.evaluate(this.point);
+    }
+
+    @Benchmark
+    public RationalNumber[][] compiledParallel() {
+        return this.evaluator.evaluate(this.point, true);
+    }
+
+    @Benchmark
+    public double[][] compiledDouble() {
+        return this.evaluator.evaluate(this.doublePoint);
+    }
+
+    @Benchmark
+    public RationalNumber[][] perEntry() {
+        int columnCount = this.entryEvaluators[0].length;
+        RationalNumber[][] result = new RationalNumber[this.entryEvaluators.length][columnCount];
+        for (int row = 0; row < result.length; ++row) {
+            for (int column = 0; column < columnCount; ++column) {
+                result[row][column] = this.entryEvaluators[row][column]
+                        .evaluate(this.entryPoints[row * columnCount + column]);
+            }
+        }
+        return result;
+    }
+}
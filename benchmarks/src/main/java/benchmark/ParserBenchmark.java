@@ -0,0 +1,84 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Polynomial;
+import polynomial.PolynomialBinaryFormat;
+import polynomial.PolynomialParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading polynomials back from the output of {@link Polynomial#toString()} and from
+ * {@link PolynomialBinaryFormat}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    @Param({ "1000", "100000" })
+    public int termCount;
+
+    private Polynomial polynomial;
+    private String text;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(17, 30);
+        this.polynomial = generator.sparse(PolynomialGenerator.variables(6), 20, this.termCount);
+        this.text = this.polynomial.toString();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            PolynomialBinaryFormat.write(this.polynomial, out);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.bytes = out.toByteArray();
+    }
+
+    @Benchmark
+    public Polynomial parse() {
+        return PolynomialParser.parse(this.text);
+    }
+
+    @Benchmark
+    public Polynomial parseReader() throws IOException {
+        return PolynomialParser.parse(new StringReader(this.text));
+    }
+
+    @Benchmark
+    public Polynomial readBinary() throws IOException {
+        return PolynomialBinaryFormat.read(new ByteArrayInputStream(this.bytes));
+    }
+
+    @Benchmark
+    public String writeText() {
+        return this.polynomial.toString();
+    }
+
+    @Benchmark
+    public byte[] writeBinary() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(this.bytes.length);
+        PolynomialBinaryFormat.write(this.polynomial, out);
+        return out.toByteArray();
+    }
+}
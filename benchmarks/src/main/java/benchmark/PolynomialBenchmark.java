@@ -0,0 +1,113 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Polynomial;
+import polynomial.PolynomialEvaluator;
+import polynomial.Term;
+import polynomial.VariableName;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of whole-polynomial operations on dense and sparse inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolynomialBenchmark {
+    @Param({ "dense", "sparse" })
+    public String shape;
+
+    @Param({ "3" })
+    public int variableCount;
+
+    @Param({ "6", "10" })
+    public int degree;
+
+    // Number of terms of each sparse operand; dense operands have every monomial up to the degree.
+    @Param({ "100", "1000" })
+    public int termCount;
+
+    @Param({ "8" })
+    public int coefficientBits;
+
+    private Term[] terms;
+    private Polynomial left;
+    private Polynomial right;
+    private PolynomialEvaluator evaluator;
+    private RationalNumber[] point;
+    private double[] doublePoint;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(11, this.coefficientBits);
+        VariableName[] variables = PolynomialGenerator.variables(this.variableCount);
+        if (this.shape.equals("dense")) {
+            this.left = generator.dense(variables, this.degree);
+            this.right = generator.dense(variables, this.degree);
+        }
+        else {
+            this.left = generator.sparse(variables, this.degree, this.termCount);
+            this.right = generator.sparse(variables, this.degree, this.termCount);
+        }
+        this.terms = this.left.getTerms().toArray(new Term[0]);
+
+        this.evaluator = this.left.compile();
+        int slots = this.evaluator.getVariables().size();
+        this.point = new RationalNumber[slots];
+        this.doublePoint = new double[slots];
+        for (int i = 0; i < slots; ++i) {
+            this.point[i] = new RationalNumber(i + 2, i + 3);
+            this.doublePoint[i] = this.point[i].doubleValue();
+        }
+    }
+
+    @Benchmark
+    public Polynomial construct() {
+        return new Polynomial(this.terms);
+    }
+
+    @Benchmark
+    public Polynomial add() {
+        return this.left.add(this.right);
+    }
+
+    @Benchmark
+    public Polynomial multiply() {
+        return this.left.multiply(this.right);
+    }
+
+    @Benchmark
+    public Polynomial multiplyParallel() {
+        return this.left.multiplyParallel(this.right);
+    }
+
+    @Benchmark
+    public PolynomialEvaluator compile() {
+        return this.left.compile();
+    }
+
+    @Benchmark
+    public RationalNumber evaluate() {
+        return this.evaluator.evaluate(this.point);
+    }
+
+    @Benchmark
+    public double evaluateDouble() {
+        return this.evaluator.evaluate(this.doublePoint);
+    }
+}
@@ -0,0 +1,151 @@
+package benchmark;
+
+import number.RationalNumber;
+import polynomial.Monomial;
+import polynomial.Polynomial;
+import polynomial.Term;
+import polynomial.VariableName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible generator of benchmark inputs. The same arguments and seed always produce the same polynomial.
+ */
+public final class PolynomialGenerator {
+    private final Random random;
+    private final int coefficientBits;
+
+    /**
+     * @param seed Seed of the pseudo-random sequence.
+     * @param coefficientBits Bit size (1 to 30) of generated numerators and denominators.
+     */
+    public PolynomialGenerator(long seed, int coefficientBits) {
+        this.random = new Random(seed);
+        this.coefficientBits = coefficientBits;
+    }
+
+    /**
+     * Obtains the first variableCount variables a, b, c, ...
+     */
+    public static VariableName[] variables(int variableCount) {
+        return Arrays.copyOf(VariableName.values(), variableCount);
+    }
+
+    /**
+     * Creates a random nonzero rational number whose numerator and denominator have at most coefficientBits bits.
+     */
+    public RationalNumber coefficient() {
+        int bound = 1 << this.coefficientBits;
+        int numerator = this.random.nextInt(bound - 1) + 1;
+        int denominator = this.random.nextInt(bound - 1) + 1;
+        return new RationalNumber(this.random.nextBoolean() ? numerator : -numerator, denominator);
+    }
+
+    /**
+     * Creates a monomial with random exponents in the given variables whose total degree is at most degree.
+     */
+    public Monomial monomial(VariableName[] variables, int degree) {
+        Monomial result = Monomial.one;
+        int remaining = this.random.nextInt(degree + 1);
+        for (int i = 0; i < variables.length && remaining > 0; ++i) {
+            int power = i == variables.length - 1 ? remaining : this.random.nextInt(remaining + 1);
+            result = result.multiply(new Monomial(variables[i], power));
+            remaining -= power;
+        }
+        return result;
+    }
+
+    public Term term(VariableName[] variables, int degree) {
+        return new Term(coefficient(), monomial(variables, degree));
+    }
+
+    /**
+     * Creates a dense polynomial: every monomial in the given variables of total degree at most degree, each with a
+     * random coefficient.
+     */
+    public Polynomial dense(VariableName[] variables, int degree) {
+        List<Term> terms = new ArrayList<>();
+        addDense(variables, 0, degree, Monomial.one, terms);
+        return new Polynomial(terms.toArray(new Term[0]));
+    }
+
+    private void addDense(VariableName[] variables, int index, int remaining, Monomial prefix, List<Term> terms) {
+        if (index == variables.length) {
+            terms.add(new Term(coefficient(), prefix));
+            return;
+        }
+        for (int power = 0; power <= remaining; ++power) {
+            addDense(variables, index + 1, remaining - power, prefix.multiply(new Monomial(variables[index], power)),
+                    terms);
+        }
+    }
+
+    /**
+     * Creates a sparse polynomial with up to termCount random terms (fewer if random monomials coincide).
+     */
+    public Polynomial sparse(VariableName[] variables, int degree, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            terms[i] = term(variables, degree);
+        }
+        return new Polynomial(terms);
+    }
+
+    /**
+     * Creates the cyclic-n benchmark system in the first n variables: the cyclic sums of products of 1 to n - 1
+     * consecutive variables, and the product of all variables minus 1.
+     */
+    public static List<Polynomial> cyclic(int n) {
+        VariableName[] variables = variables(n);
+        List<Polynomial> result = new ArrayList<>();
+        for (int length = 1; length < n; ++length) {
+            Term[] terms = new Term[n];
+            for (int i = 0; i < n; ++i) {
+                Monomial product = Monomial.one;
+                for (int k = 0; k < length; ++k) {
+                    product = product.multiply(new Monomial(variables[(i + k) % n], 1));
+                }
+                terms[i] = new Term(RationalNumber.one, product);
+            }
+            result.add(new Polynomial(terms));
+        }
+        Monomial product = Monomial.one;
+        for (VariableName variable : variables) {
+            product = product.multiply(new Monomial(variable, 1));
+        }
+        result.add(new Polynomial(new Term(RationalNumber.one, product), new Term(RationalNumber.minusOne)));
+        return result;
+    }
+
+    /**
+     * Creates the katsura-n benchmark system in the first n + 1 variables u_0, ..., u_n:
+     * u_0 + 2 (u_1 + ... + u_n) - 1, and sum_{l = -n}^{n} u_|l| u_|m - l| - u_m for m = 0, ..., n - 1.
+     */
+    public static List<Polynomial> katsura(int n) {
+        VariableName[] variables = variables(n + 1);
+        List<Polynomial> result = new ArrayList<>();
+        List<Term> linear = new ArrayList<>();
+        linear.add(new Term(RationalNumber.one, variables[0], 1));
+        for (int i = 1; i <= n; ++i) {
+            linear.add(new Term(RationalNumber.of(2), variables[i], 1));
+        }
+        linear.add(new Term(RationalNumber.minusOne));
+        result.add(new Polynomial(linear.toArray(new Term[0])));
+
+        for (int m = 0; m < n; ++m) {
+            List<Term> terms = new ArrayList<>();
+            terms.add(new Term(RationalNumber.minusOne, variables[m], 1));
+            for (int l = -n; l <= n; ++l) {
+                if (Math.abs(m - l) <= n) {
+                    terms.add(new Term(RationalNumber.one, new Monomial(variables[Math.abs(l)], 1)
+                            .multiply(new Monomial(variables[Math.abs(m - l)], 1))));
+                }
+            }
+            result.add(new Polynomial(terms.toArray(new Term[0])));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.DenseUnivariatePolynomial;
+import polynomial.Polynomial;
+import polynomial.VariableName;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of powers of polynomials: sparse and dense univariate bases, raised by J.C.P. Miller's recurrence and by
+ * repeated squaring, and a sparse multivariate base, raised by {@link Polynomial#pow} and by repeated multiplication.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PowerBenchmark {
+    @Param({ "4", "16" })
+    public int termCount;
+
+    @Param({ "10", "40" })
+    public int power;
+
+    private DenseUnivariatePolynomial univariate;
+    private Polynomial multivariate;
+    private RationalNumber number;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(31, 4);
+        this.univariate = DenseUnivariatePolynomial.of(
+                generator.sparse(PolynomialGenerator.variables(1), 2 * this.termCount, this.termCount),
+                VariableName.a);
+        // The number of terms of a multivariate power grows quickly, so the base has few.
+        this.multivariate = generator.sparse(PolynomialGenerator.variables(3), 3, this.termCount / 4 + 3);
+        this.number = generator.coefficient();
+    }
+
+    @Benchmark
+    public DenseUnivariatePolynomial recurrence() {
+        return this.univariate.powRecurrence(this.power);
+    }
+
+    @Benchmark
+    public DenseUnivariatePolynomial squaring() {
+        return this.univariate.powSquaring(this.power);
+    }
+
+    @Benchmark
+    public Polynomial multivariate() {
+        return this.multivariate.pow(this.power);
+    }
+
+    @Benchmark
+    public Polynomial multivariateRepeated() {
+        Polynomial result = this.multivariate;
+        for (int i = 1; i < this.power; ++i) {
+            result = result.multiply(this.multivariate);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public RationalNumber rational() {
+        return this.number.pow(this.power);
+    }
+
+    @Benchmark
+    public RationalNumber rationalRepeated() {
+        RationalNumber result = RationalNumber.one;
+        for (int i = 0; i < this.power; ++i) {
+            result = result.multiply(this.number);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of rational arithmetic. Construction measures the reduction (GCD) path in isolation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RationalNumberBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({ "4", "16", "30" })
+    public int coefficientBits;
+
+    private int[] numerators;
+    private int[] denominators;
+    private RationalNumber[] left;
+    private RationalNumber[] right;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        PolynomialGenerator generator = new PolynomialGenerator(42, this.coefficientBits);
+        this.numerators = new int[SIZE];
+        this.denominators = new int[SIZE];
+        this.left = new RationalNumber[SIZE];
+        this.right = new RationalNumber[SIZE];
+        int bound = 1 << this.coefficientBits;
+        for (int i = 0; i < SIZE; ++i) {
+            this.numerators[i] = random.nextInt(bound);
+            this.denominators[i] = random.nextInt(bound - 1) + 1;
+            this.left[i] = generator.coefficient();
+            this.right[i] = generator.coefficient();
+        }
+    }
+
+    private int next() {
+        this.index = (this.index + 1) & (SIZE - 1);
+        return this.index;
+    }
+
+    @Benchmark
+    public RationalNumber construct() {
+        int i = next();
+        return new RationalNumber(this.numerators[i], this.denominators[i]);
+    }
+
+    @Benchmark
+    public RationalNumber add() {
+        int i = next();
+        return this.left[i].add(this.right[i]);
+    }
+
+    @Benchmark
+    public RationalNumber multiply() {
+        int i = next();
+        return this.left[i].multiply(this.right[i]);
+    }
+
+    @Benchmark
+    public RationalNumber divide() {
+        int i = next();
+        return this.left[i].divide(this.right[i]);
+    }
+
+    @Benchmark
+    public int compare() {
+        int i = next();
+        return this.left[i].compareTo(this.right[i]);
+    }
+}
@@ -0,0 +1,99 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Monomial;
+import polynomial.Polynomial;
+import polynomial.Term;
+import polynomial.VariableName;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of substitution into a polynomial in a, b, c: binding a to a value, and composition with a polynomial
+ * for a by {@link Polynomial#compose}, against raising the replacement separately for every term and against
+ * multiplying by the replacement once per degree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SubstitutionBenchmark {
+    @Param({ "8", "16" })
+    public int degree;
+
+    @Param({ "40" })
+    public int termCount;
+
+    @Param({ "3", "6" })
+    public int replacementTermCount;
+
+    private Polynomial p;
+    private Polynomial replacement;
+    private Map<VariableName, RationalNumber> values;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(41, 8);
+        VariableName[] variables = PolynomialGenerator.variables(3);
+        this.p = generator.sparse(variables, this.degree, this.termCount);
+        this.replacement = generator.sparse(variables, 2, this.replacementTermCount);
+        this.values = Map.of(variables[0], generator.coefficient());
+    }
+
+    @Benchmark
+    public Polynomial substitute() {
+        return this.p.substitute(this.values);
+    }
+
+    @Benchmark
+    public Polynomial compose() {
+        return this.p.compose(VariableName.a, this.replacement);
+    }
+
+    @Benchmark
+    public Polynomial composeTermByTerm() {
+        Polynomial result = new Polynomial();
+        for (Term t : this.p.getTerms()) {
+            int power = t.getMonomial().getExponent(VariableName.a);
+            Term cofactor = new Term(t.getCoefficient(), t.getMonomial().divide(new Monomial(VariableName.a, power)));
+            result = result.add(this.replacement.pow(power).multiply(cofactor));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Polynomial composeByDegree() {
+        // Groups the cofactors by exponent, and multiplies the power by the replacement at every degree.
+        TreeMap<Integer, Polynomial> groups = new TreeMap<>();
+        for (Term t : this.p.getTerms()) {
+            int power = t.getMonomial().getExponent(VariableName.a);
+            Term cofactor = new Term(t.getCoefficient(), t.getMonomial().divide(new Monomial(VariableName.a, power)));
+            groups.merge(power, new Polynomial(cofactor), Polynomial::add);
+        }
+        Polynomial result = new Polynomial();
+        Polynomial power = new Polynomial(new Term(RationalNumber.one, Monomial.one));
+        int exponent = 0;
+        for (var group : groups.entrySet()) {
+            for (; exponent < group.getKey(); ++exponent) {
+                power = power.multiply(this.replacement);
+            }
+            result = result.add(power.multiply(group.getValue()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import number.RationalNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Term;
+import polynomial.VariableName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of single-term operations for varying numbers of variables and degrees.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TermBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({ "1", "3", "8" })
+    public int variableCount;
+
+    @Param({ "4", "16" })
+    public int degree;
+
+    private Term[] terms;
+    private Map<VariableName, RationalNumber> point;
+    private int index;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(7, 8);
+        VariableName[] variables = PolynomialGenerator.variables(this.variableCount);
+        this.terms = new Term[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            this.terms[i] = generator.term(variables, this.degree);
+        }
+        this.point = new HashMap<>();
+        for (VariableName variable : variables) {
+            this.point.put(variable, new RationalNumber(3, 2));
+        }
+    }
+
+    private int next() {
+        this.index = (this.index + 1) & (SIZE - 1);
+        return this.index;
+    }
+
+    @Benchmark
+    public int compareTo() {
+        int i = next();
+        return this.terms[i].compareTo(this.terms[(i + 1) & (SIZE - 1)]);
+    }
+
+    @Benchmark
+    public boolean like() {
+        int i = next();
+        return this.terms[i].like(this.terms[(i + 1) & (SIZE - 1)]);
+    }
+
+    @Benchmark
+    public RationalNumber evaluateAt() {
+        return this.terms[next()].evaluateAt(this.point);
+    }
+}
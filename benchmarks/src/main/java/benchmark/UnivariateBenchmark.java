@@ -0,0 +1,76 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.DenseUnivariatePolynomial;
+import polynomial.Polynomial;
+import polynomial.VariableName;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of dense univariate multiplication algorithms against the sparse hash-table product.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnivariateBenchmark {
+    @Param({ "16", "256", "2048" })
+    public int degree;
+
+    @Param({ "8" })
+    public int coefficientBits;
+
+    private Polynomial left;
+    private Polynomial right;
+    private DenseUnivariatePolynomial denseLeft;
+    private DenseUnivariatePolynomial denseRight;
+
+    @Setup
+    public void setup() {
+        PolynomialGenerator generator = new PolynomialGenerator(11, this.coefficientBits);
+        VariableName[] variables = PolynomialGenerator.variables(1);
+        this.left = generator.dense(variables, this.degree);
+        this.right = generator.dense(variables, this.degree);
+        this.denseLeft = DenseUnivariatePolynomial.of(this.left, variables[0]);
+        this.denseRight = DenseUnivariatePolynomial.of(this.right, variables[0]);
+    }
+
+    @Benchmark
+    public Polynomial multiply() {
+        return this.left.multiply(this.right);
+    }
+
+    @Benchmark
+    public Polynomial multiplySparse() {
+        // A threshold of one makes the fork-join product multiply term by term.
+        return this.left.multiplyParallel(this.right, 1);
+    }
+
+    @Benchmark
+    public DenseUnivariatePolynomial schoolbook() {
+        return this.denseLeft.multiplySchoolbook(this.denseRight);
+    }
+
+    @Benchmark
+    public DenseUnivariatePolynomial karatsuba() {
+        return this.denseLeft.multiplyKaratsuba(this.denseRight);
+    }
+
+    @Benchmark
+    public DenseUnivariatePolynomial fourier() {
+        return this.denseLeft.multiplyFourier(this.denseRight);
+    }
+}
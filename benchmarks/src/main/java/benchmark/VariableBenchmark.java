@@ -0,0 +1,74 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polynomial.Monomial;
+import polynomial.MonomialOrder;
+import polynomial.Polynomial;
+import polynomial.Term;
+import polynomial.Variable;
+import polynomial.VariableName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of sparse polynomials in many subscripted variables x_1, ..., x_n, where every term has a few of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariableBenchmark {
+    @Param({ "20", "500" })
+    public int variableCount;
+
+    @Param({ "200" })
+    public int termCount;
+
+    private Polynomial p;
+    private Polynomial q;
+    private Term[] terms;
+
+    @Setup
+    public void setup() {
+        List<Variable> variables = Variable.range(VariableName.x, 1, this.variableCount);
+        PolynomialGenerator generator = new PolynomialGenerator(29, 8);
+        Random random = new Random(29);
+        this.terms = new Term[this.termCount];
+        for (int i = 0; i < this.termCount; ++i) {
+            Monomial m = Monomial.one;
+            for (int k = 0; k < 3; ++k) {
+                m = m.multiply(Monomial.of(Map.of(variables.get(random.nextInt(this.variableCount)),
+                        1 + random.nextInt(3))));
+            }
+            this.terms[i] = new Term(generator.coefficient(), m);
+        }
+        this.p = new Polynomial(this.terms);
+        this.q = new Polynomial(Arrays.copyOf(this.terms, this.termCount / 2));
+    }
+
+    @Benchmark
+    public Polynomial construct() {
+        return new Polynomial(MonomialOrder.grevlex, this.terms);
+    }
+
+    @Benchmark
+    public Polynomial multiply() {
+        return this.p.multiply(this.q);
+    }
+}
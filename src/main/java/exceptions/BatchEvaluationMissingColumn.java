@@ -0,0 +1,7 @@
+package exceptions;
+
+public class BatchEvaluationMissingColumn extends RuntimeException {
+    public BatchEvaluationMissingColumn() {
+        super("Column map for Polynomial::evaluateBatch must provide a column for every polynomial variable.");
+    }
+}
@@ -0,0 +1,7 @@
+package exceptions;
+
+public class EvaluatorMissingVariable extends RuntimeException {
+    public EvaluatorMissingVariable() {
+        super("Point argument for PolynomialEvaluator::evaluate must provide a value for every polynomial variable.");
+    }
+}
@@ -0,0 +1,7 @@
+package exceptions;
+
+public class InvalidVariableNameException extends RuntimeException {
+    public InvalidVariableNameException() {
+        super("Variable names must be a letter a-z, optionally followed by an underscore and a subscript such as x_1.");
+    }
+}
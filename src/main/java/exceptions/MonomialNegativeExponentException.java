@@ -0,0 +1,7 @@
+package exceptions;
+
+public class MonomialNegativeExponentException extends RuntimeException {
+    public MonomialNegativeExponentException() {
+        super("Monomial exponents must be non-negative.");
+    }
+}
@@ -0,0 +1,7 @@
+package exceptions;
+
+public class PolynomialDivideByZeroException extends RuntimeException {
+    public PolynomialDivideByZeroException() {
+        super("Cannot divide a polynomial by the zero polynomial.");
+    }
+}
@@ -0,0 +1,7 @@
+package exceptions;
+
+public class PolynomialFormatException extends RuntimeException {
+    public PolynomialFormatException() {
+        super("The data is not a complete polynomial in a supported binary format.");
+    }
+}
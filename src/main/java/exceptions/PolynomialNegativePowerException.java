@@ -0,0 +1,7 @@
+package exceptions;
+
+public class PolynomialNegativePowerException extends RuntimeException {
+    public PolynomialNegativePowerException() {
+        super("Polynomials can only be raised to non-negative powers.");
+    }
+}
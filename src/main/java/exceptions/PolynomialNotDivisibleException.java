@@ -0,0 +1,7 @@
+package exceptions;
+
+public class PolynomialNotDivisibleException extends RuntimeException {
+    public PolynomialNotDivisibleException() {
+        super("The polynomial is not a multiple of the divisor.");
+    }
+}
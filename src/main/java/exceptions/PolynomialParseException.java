@@ -0,0 +1,18 @@
+package exceptions;
+
+public class PolynomialParseException extends RuntimeException {
+    private final long position;
+
+    public PolynomialParseException(long position) {
+        super("Cannot parse the polynomial at character " + position + ".");
+        this.position = position;
+    }
+
+    /**
+     * Obtains the zero-based index of the first character that could not be parsed, or of the end of the input.
+     * @return Character position.
+     */
+    public long getPosition() {
+        return this.position;
+    }
+}
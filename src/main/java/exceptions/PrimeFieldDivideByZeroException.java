@@ -0,0 +1,7 @@
+package exceptions;
+
+public class PrimeFieldDivideByZeroException extends RuntimeException {
+    public PrimeFieldDivideByZeroException() {
+        super("Cannot divide by zero modulo the prime.");
+    }
+}
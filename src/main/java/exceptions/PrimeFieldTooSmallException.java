@@ -0,0 +1,7 @@
+package exceptions;
+
+public class PrimeFieldTooSmallException extends RuntimeException {
+    public PrimeFieldTooSmallException() {
+        super("The prime field has too few elements for the computation.");
+    }
+}
@@ -0,0 +1,69 @@
+package number;
+
+import java.math.BigInteger;
+
+/**
+ * Lifts residues modulo products of primes back to integers and rational numbers.
+ *
+ * A multi-modular computation is carried out modulo several {@link PrimeField} primes p_1, p_2, ... independently.
+ * The residues of each result coefficient are combined incrementally with the Chinese remainder theorem (in Garner's
+ * mixed-radix form, so each new prime costs one small inverse and one multiplication by the running modulus). An
+ * integer coefficient c is then recovered as the symmetric residue once p_1 ... p_k > 2|c|, and a rational coefficient
+ * n/d by rational reconstruction once p_1 ... p_k > 2 |n| d.
+ */
+public final class ModularReconstruction {
+    private ModularReconstruction() {
+    }
+
+    /**
+     * Combines a residue modulo m with a residue modulo a prime p that does not divide m.
+     * @param residue The residue modulo m, in [0, m).
+     * @param modulus The modulus m.
+     * @param r The residue modulo p, in [0, p).
+     * @param field The field of the prime p.
+     * @return The unique x in [0, m p) with x = residue (mod m) and x = r (mod p).
+     */
+    public static BigInteger chineseRemainder(BigInteger residue, BigInteger modulus, long r, PrimeField field) {
+        // x = residue + m t with t = (r - residue) / m (mod p).
+        long t = field.multiply(field.subtract(r, field.valueOf(residue)), field.inverse(field.valueOf(modulus)));
+        return t == 0 ? residue : residue.add(modulus.multiply(BigInteger.valueOf(t)));
+    }
+
+    /**
+     * Maps a residue to its symmetric representative.
+     * @param residue A residue modulo m, in [0, m).
+     * @param modulus The modulus m.
+     * @return The integer congruent to the residue in (-m/2, m/2].
+     */
+    public static BigInteger symmetric(BigInteger residue, BigInteger modulus) {
+        return residue.shiftLeft(1).compareTo(modulus) > 0 ? residue.subtract(modulus) : residue;
+    }
+
+    /**
+     * Finds the rational number n/d congruent to a residue with |n|, d <= sqrt(m / 2), using the half-extended
+     * Euclidean algorithm (Wang's method). Such a fraction is unique if it exists.
+     * @param residue A residue modulo m, in [0, m).
+     * @param modulus The modulus m.
+     * @return The reconstructed rational number, or null if there is none within the bound (more primes are needed).
+     */
+    public static RationalNumber reconstruct(BigInteger residue, BigInteger modulus) {
+        BigInteger bound = modulus.shiftRight(1).sqrt();
+        BigInteger r0 = modulus;
+        BigInteger r1 = residue;
+        BigInteger t0 = BigInteger.ZERO;
+        BigInteger t1 = BigInteger.ONE;
+        while (r1.compareTo(bound) > 0) {
+            BigInteger[] division = r0.divideAndRemainder(r1);
+            r0 = r1;
+            r1 = division[1];
+            BigInteger t = t0.subtract(division[0].multiply(t1));
+            t0 = t1;
+            t1 = t;
+        }
+        // Now r1 = t1 residue (mod m); the fraction r1 / t1 is valid if its denominator is small and invertible.
+        if (t1.signum() == 0 || t1.abs().compareTo(bound) > 0 || !t1.gcd(modulus).equals(BigInteger.ONE)) {
+            return null;
+        }
+        return new RationalNumber(r1, t1);
+    }
+}
@@ -0,0 +1,166 @@
+package number;
+
+import java.math.BigInteger;
+
+/**
+ * A mutable rational number for accumulating sums in place, e.g. the coefficients of a sum of products.
+ *
+ * While the reduced value fits, it is stored in two {@code long} fields, so adding {@link RationalNumber}s in the
+ * small representation, or products of two of them, allocates nothing. An intermediate result that overflows a
+ * {@code long} moves the value to {@link BigInteger}s, and it moves back as soon as it fits again. Both are kept
+ * reduced: the arbitrary-precision sums use Henrici's addition like {@link RationalNumber#add}, whose GCDs are taken
+ * with a divisor of the addend's denominator rather than with the whole sum, so reading the value takes no GCD.
+ */
+public final class MutableRationalNumber {
+    // Small representation, only meaningful when bigNumerator is null.
+    private long numerator;
+    private long denominator = 1;
+    // Arbitrary-precision representation, non-null only when the value does not fit the small representation.
+    private BigInteger bigNumerator;
+    private BigInteger bigDenominator;
+
+    /**
+     * Creates the accumulator with value zero.
+     */
+    public MutableRationalNumber() {
+    }
+
+    /**
+     * Adds a rational number to this one.
+     * @param r The addend.
+     * @return This accumulator.
+     */
+    public MutableRationalNumber add(RationalNumber r) {
+        if (r.isSmall()) {
+            addSmall(r.getNumerator(), r.getDenominator());
+        }
+        else {
+            addBig(r.getBigNumerator(), r.getBigDenominator());
+        }
+        return this;
+    }
+
+    /**
+     * Adds the product of two rational numbers to this one, without creating the product when both are small.
+     * @param a The first factor.
+     * @param b The second factor.
+     * @return This accumulator.
+     */
+    public MutableRationalNumber addProduct(RationalNumber a, RationalNumber b) {
+        if (a.isSmall() && b.isSmall()) {
+            // Products of two ints fit in a long; addSmall reduces the unreduced product along with the sum.
+            addSmall((long) a.getNumerator() * b.getNumerator(), (long) a.getDenominator() * b.getDenominator());
+        }
+        else {
+            add(a.multiply(b));
+        }
+        return this;
+    }
+
+    /**
+     * Resets this accumulator to zero.
+     * @return This accumulator.
+     */
+    public MutableRationalNumber clear() {
+        this.numerator = 0;
+        this.denominator = 1;
+        this.bigNumerator = null;
+        this.bigDenominator = null;
+        return this;
+    }
+
+    /**
+     * Checks if the accumulated value is zero.
+     * @return True if the value is zero, false otherwise.
+     */
+    public boolean isZero() {
+        return this.bigNumerator == null ? this.numerator == 0 : this.bigNumerator.signum() == 0;
+    }
+
+    /**
+     * Obtains the accumulated value.
+     * @return An immutable rational number equal to the current value.
+     */
+    public RationalNumber toRationalNumber() {
+        if (this.bigNumerator == null) {
+            return RationalNumber.reduced(this.numerator, this.denominator);
+        }
+        return RationalNumber.reducedBig(this.bigNumerator, this.bigDenominator);
+    }
+
+    /**
+     * Adds p/q for a positive q, where p/q need not be reduced.
+     */
+    private void addSmall(long p, long q) {
+        if (p == 0) {
+            return;
+        }
+        if (this.bigNumerator == null) {
+            try {
+                long sum;
+                long denominator;
+                if (q == this.denominator) {
+                    sum = Math.addExact(this.numerator, p);
+                    denominator = q;
+                }
+                else {
+                    long g = RationalNumber.greatestCommonDivisor(this.denominator, q);
+                    sum = Math.addExact(Math.multiplyExact(this.numerator, q / g),
+                            Math.multiplyExact(p, this.denominator / g));
+                    denominator = Math.multiplyExact(this.denominator, q / g);
+                }
+                if (sum != Long.MIN_VALUE) {
+                    long g = RationalNumber.greatestCommonDivisor(Math.abs(sum), denominator);
+                    this.numerator = sum / g;
+                    this.denominator = denominator / g;
+                    return;
+                }
+            }
+            catch (ArithmeticException e) {
+                // Fall through to arbitrary precision.
+            }
+        }
+        long g = RationalNumber.greatestCommonDivisor(Math.abs(p), q);
+        addBig(BigInteger.valueOf(p / g), BigInteger.valueOf(q / g));
+    }
+
+    /**
+     * Adds p/q for a positive q with arbitrary precision, then returns to the small representation if possible.
+     * p/q must be reduced. With g = gcd(b, q), the sum a/b + p/q is t / (b/g * q) for t = a * q/g + p * b/g, and
+     * gcd(t, b/g * q) = gcd(t, g), so the sum is reduced by a GCD with g alone, skipped when g is 1.
+     */
+    private void addBig(BigInteger p, BigInteger q) {
+        BigInteger a = this.bigNumerator == null ? BigInteger.valueOf(this.numerator) : this.bigNumerator;
+        BigInteger b = this.bigNumerator == null ? BigInteger.valueOf(this.denominator) : this.bigDenominator;
+        BigInteger g = b.equals(BigInteger.ONE) || q.equals(BigInteger.ONE) ? BigInteger.ONE : b.gcd(q);
+        BigInteger sum;
+        BigInteger denominator;
+        if (g.equals(BigInteger.ONE)) {
+            sum = a.multiply(q).add(p.multiply(b));
+            denominator = b.multiply(q);
+        }
+        else {
+            BigInteger t = a.multiply(q.divide(g)).add(p.multiply(b.divide(g)));
+            BigInteger g2 = t.gcd(g);
+            sum = t.divide(g2);
+            denominator = b.divide(g).multiply(q.divide(g2));
+        }
+
+        // One bit short of a long, so that the absolute value of the numerator fits as well.
+        if (sum.bitLength() < Long.SIZE - 1 && denominator.bitLength() < Long.SIZE - 1) {
+            this.numerator = sum.longValue();
+            this.denominator = denominator.longValue();
+            this.bigNumerator = null;
+            this.bigDenominator = null;
+        }
+        else {
+            this.bigNumerator = sum;
+            this.bigDenominator = denominator;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toRationalNumber().toString();
+    }
+}
@@ -0,0 +1,310 @@
+package number;
+
+import exceptions.PrimeFieldDivideByZeroException;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The field Z/pZ of integers modulo a word-size prime p.
+ *
+ * Residues are plain {@code long}s in the range [0, p), so arithmetic never allocates. Since p is below 2^31, the
+ * product of two residues fits in 62 bits and is reduced with Barrett's method: the quotient is estimated with one
+ * high multiplication by the precomputed constant floor(2^64 / p), which is off by at most one, so a single
+ * conditional subtraction finishes the reduction without a hardware division.
+ */
+public final class PrimeField {
+    /**
+     * Largest supported modulus, the Mersenne prime 2^31 - 1.
+     */
+    public static final long MAX_MODULUS = Integer.MAX_VALUE;
+
+    private static final List<PrimeField> LARGE_PRIMES = new ArrayList<>();
+    // Fourier primes by the exponent k of the power of two dividing p - 1.
+    private static final Map<Integer, List<PrimeField>> FOURIER_PRIMES = new HashMap<>();
+
+    private final long modulus;
+    // floor((2^64 - 1) / modulus) as an unsigned long.
+    private final long barrett;
+    // Smallest generator of the multiplicative group, found on first use.
+    private volatile long generator;
+
+    /**
+     * Creates the field of integers modulo a prime.
+     * @param modulus A prime between 2 and {@link #MAX_MODULUS}.
+     */
+    public PrimeField(long modulus) {
+        if (modulus < 2 || modulus > MAX_MODULUS || !isPrime(modulus)) {
+            throw new IllegalArgumentException(modulus + " is not a prime between 2 and " + MAX_MODULUS + ".");
+        }
+        this.modulus = modulus;
+        this.barrett = Long.divideUnsigned(-1L, modulus);
+    }
+
+    /**
+     * Obtains fields for the largest primes below 2^31, in descending order. The fields are created once and shared.
+     * @param count Number of primes.
+     * @return The first count fields, starting with {@link #MAX_MODULUS}.
+     */
+    public static List<PrimeField> largePrimes(int count) {
+        synchronized (LARGE_PRIMES) {
+            long candidate = LARGE_PRIMES.isEmpty()
+                    ? MAX_MODULUS
+                    : LARGE_PRIMES.get(LARGE_PRIMES.size() - 1).modulus - 2;
+            while (LARGE_PRIMES.size() < count) {
+                if (isPrime(candidate)) {
+                    LARGE_PRIMES.add(new PrimeField(candidate));
+                }
+                candidate -= 2;
+            }
+            return List.copyOf(LARGE_PRIMES.subList(0, count));
+        }
+    }
+
+    /**
+     * Obtains fields for the largest primes p between 2^30 and 2^31 with 2^k dividing p - 1, in descending order. These
+     * fields contain the 2^k-th roots of unity needed for number-theoretic transforms of length up to 2^k. Only as
+     * many primes as requested are searched for; the fields are created once per k and shared.
+     * @param count Number of primes.
+     * @param log2Length The exponent k, between 1 and 30.
+     * @return The first count such fields, or all of them if there are fewer (there are about 2^(30-k) / 10).
+     */
+    public static List<PrimeField> fourierPrimes(int count, int log2Length) {
+        if (log2Length < 1 || log2Length > 30) {
+            throw new IllegalArgumentException("The transform length must be between 2^1 and 2^30.");
+        }
+        synchronized (FOURIER_PRIMES) {
+            // Search downward from the last prime found for this k, only as far as needed.
+            List<PrimeField> primes = FOURIER_PRIMES.computeIfAbsent(log2Length, k -> new ArrayList<>());
+            long c = primes.isEmpty()
+                    ? MAX_MODULUS >> log2Length
+                    : ((primes.get(primes.size() - 1).modulus - 1) >> log2Length) - 1;
+            for (; primes.size() < count && c >= 1L << (30 - log2Length); --c) {
+                long candidate = (c << log2Length) + 1;
+                if (isPrime(candidate)) {
+                    primes.add(new PrimeField(candidate));
+                }
+            }
+            return List.copyOf(primes.subList(0, Math.min(count, primes.size())));
+        }
+    }
+
+    /**
+     * Deterministic Miller-Rabin test; the bases 2, 7 and 61 are sufficient below 4,759,123,141.
+     */
+    private static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (long small : new long[] { 2, 3, 5, 7, 61 }) {
+            if (n % small == 0) {
+                return n == small;
+            }
+        }
+
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+        for (long base : new long[] { 2, 7, 61 }) {
+            long x = powMod(base, d, n);
+            if (x == 1 || x == n - 1) {
+                continue;
+            }
+            boolean composite = true;
+            for (int r = 1; r < s && composite; ++r) {
+                x = x * x % n;
+                composite = x != n - 1;
+            }
+            if (composite) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long powMod(long base, long exponent, long n) {
+        long result = 1;
+        base %= n;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = result * base % n;
+            }
+            base = base * base % n;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    public long getModulus() {
+        return this.modulus;
+    }
+
+    /**
+     * Obtains a primitive root of unity of power-of-two order.
+     * @param log2Order The exponent k of the order 2^k; 2^k must divide p - 1.
+     * @return A residue w with w^(2^k) = 1 and w^(2^(k-1)) != 1.
+     */
+    public long rootOfUnity(int log2Order) {
+        if (log2Order < 0 || log2Order > Long.numberOfTrailingZeros(this.modulus - 1)) {
+            throw new IllegalArgumentException("2^" + log2Order + " does not divide " + (this.modulus - 1) + ".");
+        }
+        return pow(generator(), (this.modulus - 1) >> log2Order);
+    }
+
+    /**
+     * Finds the smallest generator g, i.e., g^((p-1)/q) != 1 for every prime factor q of p - 1.
+     */
+    private long generator() {
+        long result = this.generator;
+        if (result != 0) {
+            return result;
+        }
+
+        List<Long> factors = new ArrayList<>();
+        long n = this.modulus - 1;
+        for (long q = 2; q * q <= n; ++q) {
+            if (n % q == 0) {
+                factors.add(q);
+                while (n % q == 0) {
+                    n /= q;
+                }
+            }
+        }
+        if (n > 1) {
+            factors.add(n);
+        }
+
+        for (result = 1; ; ++result) {
+            boolean isGenerator = true;
+            for (long q : factors) {
+                if (pow(result, (this.modulus - 1) / q) == 1) {
+                    isGenerator = false;
+                    break;
+                }
+            }
+            if (isGenerator) {
+                this.generator = result;
+                return result;
+            }
+        }
+    }
+
+    // Conversions.
+    /**
+     * Obtains the residue of an integer.
+     * @param n Any integer.
+     * @return n mod p, in [0, p).
+     */
+    public long valueOf(long n) {
+        return Math.floorMod(n, this.modulus);
+    }
+
+    public long valueOf(BigInteger n) {
+        return n.mod(BigInteger.valueOf(this.modulus)).longValue();
+    }
+
+    /**
+     * Obtains the residue of a rational number, i.e., its numerator times the inverse of its denominator.
+     * @param r The rational number.
+     * @return r mod p, in [0, p).
+     * @throws PrimeFieldDivideByZeroException If p divides the denominator of r.
+     */
+    public long valueOf(RationalNumber r) {
+        if (r.isSmall()) {
+            return divide(valueOf(r.getNumerator()), valueOf(r.getDenominator()));
+        }
+        return divide(valueOf(r.getBigNumerator()), valueOf(r.getBigDenominator()));
+    }
+
+    // Numerical operations on residues in [0, p).
+    public long add(long a, long b) {
+        long sum = a + b;
+        return sum >= this.modulus ? sum - this.modulus : sum;
+    }
+    public long subtract(long a, long b) {
+        long difference = a - b;
+        return difference < 0 ? difference + this.modulus : difference;
+    }
+    public long negate(long a) {
+        return a == 0 ? 0 : this.modulus - a;
+    }
+    public long multiply(long a, long b) {
+        long product = a * b;
+        long quotient = Math.unsignedMultiplyHigh(product, this.barrett);
+        long remainder = product - quotient * this.modulus;
+        return remainder >= this.modulus ? remainder - this.modulus : remainder;
+    }
+
+    /**
+     * Computes the multiplicative inverse with the extended Euclidean algorithm.
+     * @param a A nonzero residue.
+     * @return The residue b with a b = 1.
+     * @throws PrimeFieldDivideByZeroException If a is zero.
+     */
+    public long inverse(long a) {
+        if (a == 0) {
+            throw new PrimeFieldDivideByZeroException();
+        }
+        long r0 = this.modulus;
+        long r1 = a;
+        long s0 = 0;
+        long s1 = 1;
+        while (r1 != 0) {
+            long q = r0 / r1;
+            long r = r0 - q * r1;
+            r0 = r1;
+            r1 = r;
+            long s = s0 - q * s1;
+            s0 = s1;
+            s1 = s;
+        }
+        return s0 < 0 ? s0 + this.modulus : s0;
+    }
+    public long divide(long a, long b) {
+        return multiply(a, inverse(b));
+    }
+    public long pow(long a, long exponent) {
+        long result = 1;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = multiply(result, a);
+            }
+            a = multiply(a, a);
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Maps a residue to its symmetric representative.
+     * @param a A residue in [0, p).
+     * @return The integer congruent to a in (-p/2, p/2].
+     */
+    public long symmetric(long a) {
+        return a > this.modulus / 2 ? a - this.modulus : a;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != this.getClass()) {
+            return false;
+        }
+        return ((PrimeField) o).modulus == this.modulus;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.modulus);
+    }
+
+    @Override
+    public String toString() {
+        return "GF(" + this.modulus + ")";
+    }
+}
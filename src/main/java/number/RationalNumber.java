@@ -2,25 +2,218 @@ package number;
 
 import exceptions.RationalNumberDivideByZeroException;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * An exact rational number in reduced form with a positive denominator.
+ *
+ * Values whose reduced numerator and denominator both fit in an {@code int} are stored in two {@code int} fields and
+ * all arithmetic between them is carried out in {@code long}, where products of two {@code int}s cannot overflow.
+ * When a reduced result does not fit back into an {@code int}, it is promoted to a {@link BigInteger} representation.
+ * Results that shrink back into {@code int} range are demoted again, so every value has exactly one representation.
+ */
 public class RationalNumber extends Number implements Comparable<RationalNumber> {
+    private static final long INT_MIN = Integer.MIN_VALUE;
+    private static final long INT_MAX = Integer.MAX_VALUE;
+
+    // Small representation, only meaningful when bigNumerator is null.
     private final int numerator;
     private final int denominator;
+    // Arbitrary-precision representation, non-null only when the value does not fit the small representation.
+    private final BigInteger bigNumerator;
+    private final BigInteger bigDenominator;
+
+    // Interned reduced values n/d with |n| <= CACHE_NUMERATOR_LIMIT and 1 <= d <= CACHE_DENOMINATOR_LIMIT, in the
+    // spirit of Integer.valueOf. Arithmetic results in this range are always returned from the table.
+    private static final int CACHE_NUMERATOR_LIMIT = 128;
+    private static final int CACHE_DENOMINATOR_LIMIT = 16;
+    private static final int CACHE_ROW = 2 * CACHE_NUMERATOR_LIMIT + 1;
+    private static final RationalNumber[] CACHE = createCache();
 
-    public static final RationalNumber zero = new RationalNumber(0, 1);
+    public static final RationalNumber zero = of(0);
+    public static final RationalNumber one = of(1);
+    public static final RationalNumber minusOne = of(-1);
 
     public RationalNumber(int numerator, int denominator) {
         if (denominator == 0) {
             throw new RationalNumberDivideByZeroException();
         }
 
-        int gcd = greatestCommonDivisor(Math.abs(numerator),
-                Math.abs(denominator));
-        boolean nonnegative = (numerator >= 0 && denominator > 0) ||
-                (numerator < 0 && denominator < 0);
-        this.numerator = nonnegative ?
-                Math.abs(numerator / gcd) :
-                -Math.abs(numerator / gcd);
-        this.denominator = Math.abs(denominator / gcd);
+        // Widen to long so that negating Integer.MIN_VALUE cannot overflow.
+        long n = numerator;
+        long d = denominator;
+        long gcd = greatestCommonDivisor(Math.abs(n), Math.abs(d));
+        n /= gcd;
+        d /= gcd;
+        if (d < 0) {
+            n = -n;
+            d = -d;
+        }
+
+        if (fitsInt(n) && fitsInt(d)) {
+            this.numerator = (int) n;
+            this.denominator = (int) d;
+            this.bigNumerator = null;
+            this.bigDenominator = null;
+        }
+        else {
+            this.numerator = 0;
+            this.denominator = 0;
+            this.bigNumerator = BigInteger.valueOf(n);
+            this.bigDenominator = BigInteger.valueOf(d);
+        }
+    }
+
+    /**
+     * Creates a rational number from arbitrary-precision integers.
+     * @param numerator Numerator.
+     * @param denominator Denominator, must be nonzero.
+     */
+    public RationalNumber(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() == 0) {
+            throw new RationalNumberDivideByZeroException();
+        }
+
+        BigInteger gcd = numerator.gcd(denominator);
+        if (denominator.signum() < 0) {
+            gcd = gcd.negate();
+        }
+        BigInteger n = numerator.divide(gcd);
+        BigInteger d = denominator.divide(gcd);
+
+        if (n.bitLength() < Integer.SIZE && d.bitLength() < Integer.SIZE) {
+            this.numerator = n.intValue();
+            this.denominator = d.intValue();
+            this.bigNumerator = null;
+            this.bigDenominator = null;
+        }
+        else {
+            this.numerator = 0;
+            this.denominator = 0;
+            this.bigNumerator = n;
+            this.bigDenominator = d;
+        }
+    }
+
+    /**
+     * Stores the fields as given, with bigNumerator and bigDenominator null for the small representation. Callers go
+     * through {@link #wrapSmall} and {@link #wrapBig}.
+     */
+    private RationalNumber(int numerator, int denominator, BigInteger bigNumerator, BigInteger bigDenominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = bigNumerator;
+        this.bigDenominator = bigDenominator;
+    }
+
+    /**
+     * Wraps an already reduced value whose denominator is positive and which fits the small representation.
+     */
+    private static RationalNumber wrapSmall(int numerator, int denominator) {
+        return new RationalNumber(numerator, denominator, null, null);
+    }
+
+    /**
+     * Wraps an already reduced value whose denominator is positive and which does not fit the small representation.
+     */
+    private static RationalNumber wrapBig(BigInteger numerator, BigInteger denominator) {
+        return new RationalNumber(0, 0, numerator, denominator);
+    }
+
+    private static RationalNumber[] createCache() {
+        RationalNumber[] cache = new RationalNumber[CACHE_DENOMINATOR_LIMIT * CACHE_ROW];
+        for (int d = 1; d <= CACHE_DENOMINATOR_LIMIT; ++d) {
+            for (int n = -CACHE_NUMERATOR_LIMIT; n <= CACHE_NUMERATOR_LIMIT; ++n) {
+                if (greatestCommonDivisor(Math.abs(n), d) == 1) {
+                    cache[(d - 1) * CACHE_ROW + n + CACHE_NUMERATOR_LIMIT] = wrapSmall(n, d);
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Obtains the rational number numerator/denominator. Small values such as 0, 1, -1 and 1/2 are returned from a
+     * shared table instead of being allocated.
+     * @param numerator Numerator.
+     * @param denominator Denominator, must be nonzero.
+     * @return The reduced rational number.
+     */
+    public static RationalNumber of(int numerator, int denominator) {
+        return valueOf(numerator, denominator);
+    }
+
+    /**
+     * Obtains the integer value as a rational number, sharing instances of small values.
+     * @param value Integer value.
+     * @return The rational number value/1.
+     */
+    public static RationalNumber of(int value) {
+        return reduced(value, 1);
+    }
+
+    /**
+     * Creates a rational number from a numerator and a positive denominator that are already coprime, skipping the
+     * GCD computation.
+     */
+    static RationalNumber reduced(long numerator, long denominator) {
+        if (denominator <= CACHE_DENOMINATOR_LIMIT && Math.abs(numerator) <= CACHE_NUMERATOR_LIMIT) {
+            return CACHE[(int) (denominator - 1) * CACHE_ROW + (int) numerator + CACHE_NUMERATOR_LIMIT];
+        }
+        if (fitsInt(numerator) && fitsInt(denominator)) {
+            return wrapSmall((int) numerator, (int) denominator);
+        }
+        return wrapBig(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    /**
+     * Creates a rational number from a long numerator and denominator, staying on the small representation when the
+     * reduced value allows it.
+     */
+    private static RationalNumber valueOf(long numerator, long denominator) {
+        if (denominator == 0) {
+            throw new RationalNumberDivideByZeroException();
+        }
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            // The absolute value of Long.MIN_VALUE is not representable, so reduce with arbitrary precision.
+            return valueOf(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+
+        long gcd = greatestCommonDivisor(Math.abs(numerator), Math.abs(denominator));
+        numerator /= gcd;
+        denominator /= gcd;
+        if (denominator < 0) {
+            numerator = -numerator;
+            denominator = -denominator;
+        }
+
+        return reduced(numerator, denominator);
+    }
+
+    /**
+     * Creates a rational number from arbitrary-precision integers, returning a shared instance if the reduced value
+     * is in the interned range.
+     */
+    static RationalNumber valueOf(BigInteger numerator, BigInteger denominator) {
+        RationalNumber result = new RationalNumber(numerator, denominator);
+        return result.isSmall() ? reduced(result.numerator, result.denominator) : result;
+    }
+
+    /**
+     * Creates a rational number from an arbitrary-precision numerator and a positive denominator that are already
+     * coprime, skipping the GCD computation.
+     */
+    static RationalNumber reducedBig(BigInteger numerator, BigInteger denominator) {
+        if (numerator.bitLength() < Integer.SIZE && denominator.bitLength() < Integer.SIZE) {
+            return reduced(numerator.longValue(), denominator.longValue());
+        }
+        return wrapBig(numerator, denominator);
+    }
+
+    private static boolean fitsInt(long value) {
+        return value >= INT_MIN && value <= INT_MAX;
     }
 
     /**
@@ -28,15 +221,16 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
      * a rational number in its reduced form.
      *
      * This is an implementation of Stein's algorithm, also known as the
-     * binary GCD algorithm.
+     * binary GCD algorithm, which strips all factors of two at once with a
+     * trailing-zero count and a shift.
      *
      * https://en.wikipedia.org/wiki/Binary_GCD_algorithm
      *
-     * @param a Integer.
-     * @param b Integer.
+     * @param a Non-negative integer.
+     * @param b Non-negative integer.
      * @return The greatest common divisor of a and b.
      */
-    private int greatestCommonDivisor(int a, int b) {
+    static long greatestCommonDivisor(long a, long b) {
         // We know that gcd(x, 0) = gcd(0, x) = x always.
         if (a == 0) {
             return b;
@@ -44,36 +238,39 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
         else if (b == 0) {
             return a;
         }
+        // gcd(1, x) = 1 is common enough (integers, unit denominators) to skip the loop.
+        if (a == 1 || b == 1) {
+            return 1;
+        }
 
         // Suppose a = 2^m * x and b = 2^n * y, where x, y are odd.
         // We have gcd(2^m * x, 2^n * y) = 2^k * gcd(x, y), where
-        // k = min(m, n). Thus, we divide `a` and `b` by 2 until
-        // we obtain an odd value.
-        int m = 0;
-        int n = 0;
-        while (a % 2 == 0) {
-            ++m;
-            a /= 2;
-        }
-        while (b % 2 == 0) {
-            ++n;
-            b /= 2;
-        }
-        // Set k = min(m, n).
-        int k = Math.min(m, n);
-
-        // At this point, both a and b are odd.
-        while (a != b) {
+        // k = min(m, n), which is the number of trailing zeros of a | b.
+        int k = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+
+        // Invariant: a is odd. Each step makes b odd, then replaces the larger
+        // of the two by their (even) difference.
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
             if (a > b) {
-                a -= b;
-            }
-            else {
-                b -= a;
+                long t = a;
+                a = b;
+                b = t;
             }
-        }
+            b -= a;
+        } while (b != 0);
 
         // Multiply result by 2^k.
-        return a * (1 << k);
+        return a << k;
+    }
+
+    /**
+     * Checks if this rational number uses the small (int) representation.
+     * @return True if the numerator and denominator both fit in an int, false otherwise.
+     */
+    public boolean isSmall() {
+        return this.bigNumerator == null;
     }
 
     /**
@@ -82,66 +279,286 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
      *         false otherwise.
      */
     public boolean isNonNegative() {
-        return numerator >= 0;
+        return signum() >= 0;
+    }
+
+    /**
+     * Obtains the sign of this rational number.
+     * @return -1, 0 or 1 if this rational number is negative, zero or positive.
+     */
+    public int signum() {
+        return isSmall() ? Integer.signum(this.numerator) : this.bigNumerator.signum();
+    }
+
+    /**
+     * Checks if this rational number is zero.
+     * @return True if this rational number is zero, false otherwise.
+     */
+    public boolean isZero() {
+        return signum() == 0;
     }
 
     // Numerical operations.
     public RationalNumber add(RationalNumber r) {
-        int numerator = this.numerator * r.denominator + r.numerator * this.denominator;
-        int denominator = this.denominator * r.denominator;
-        return new RationalNumber(numerator, denominator);
+        if (this.isSmall() && r.isSmall()) {
+            return addSmall(this.numerator, this.denominator, r.numerator, r.denominator);
+        }
+        return addBig(this.getBigNumerator(), this.getBigDenominator(), r.getBigNumerator(), r.getBigDenominator());
     }
     public RationalNumber subtract(RationalNumber r) {
-        int numerator = this.numerator * r.denominator - r.numerator * this.denominator;
-        int denominator = this.denominator * r.denominator;
-        return new RationalNumber(numerator, denominator);
+        if (this.isSmall() && r.isSmall()) {
+            // -Integer.MIN_VALUE does not fit in an int, so that case goes through the long path.
+            if (r.numerator != Integer.MIN_VALUE) {
+                return addSmall(this.numerator, this.denominator, -r.numerator, r.denominator);
+            }
+            long numerator = (long) this.numerator * r.denominator - (long) r.numerator * this.denominator;
+            long denominator = (long) this.denominator * r.denominator;
+            return valueOf(numerator, denominator);
+        }
+        return addBig(this.getBigNumerator(), this.getBigDenominator(), r.getBigNumerator().negate(),
+                r.getBigDenominator());
     }
     public RationalNumber multiply(RationalNumber r) {
-        return new RationalNumber(this.numerator * r.numerator,
-                this.denominator * r.denominator);
+        if (this.isSmall() && r.isSmall()) {
+            if (this.numerator == 0 || r.numerator == 0) {
+                return zero;
+            }
+            // Cancel common factors crosswise before multiplying: a/b * c/d = (a/g1 * c/g2) / (b/g2 * d/g1) with
+            // g1 = gcd(a, d) and g2 = gcd(c, b). Both operands are reduced, so the result is reduced as well.
+            long g1 = greatestCommonDivisor(Math.abs((long) this.numerator), r.denominator);
+            long g2 = greatestCommonDivisor(Math.abs((long) r.numerator), this.denominator);
+            return reduced((this.numerator / g1) * (r.numerator / g2),
+                    (this.denominator / g2) * (r.denominator / g1));
+        }
+        if (this.isZero() || r.isZero()) {
+            return zero;
+        }
+        // Same cross cancellation as above; a GCD with a denominator of 1 is skipped.
+        BigInteger a = this.getBigNumerator();
+        BigInteger b = this.getBigDenominator();
+        BigInteger c = r.getBigNumerator();
+        BigInteger d = r.getBigDenominator();
+        BigInteger g1 = d.equals(BigInteger.ONE) ? BigInteger.ONE : a.gcd(d);
+        BigInteger g2 = b.equals(BigInteger.ONE) ? BigInteger.ONE : c.gcd(b);
+        return reducedBig(a.divide(g1).multiply(c.divide(g2)), b.divide(g2).multiply(d.divide(g1)));
     }
     public RationalNumber divide(RationalNumber r) {
-        return new RationalNumber(this.numerator * r.denominator,
-                this.denominator * r.numerator);
+        if (this.isSmall() && r.isSmall()) {
+            if (r.numerator == 0) {
+                throw new RationalNumberDivideByZeroException();
+            }
+            if (this.numerator == 0) {
+                return zero;
+            }
+            // a/b / c/d = (a/g1 * d/g2) / (b/g2 * c/g1) with g1 = gcd(a, c) and g2 = gcd(b, d).
+            long g1 = greatestCommonDivisor(Math.abs((long) this.numerator), Math.abs((long) r.numerator));
+            long g2 = greatestCommonDivisor(this.denominator, r.denominator);
+            long numerator = (this.numerator / g1) * (r.denominator / g2);
+            long denominator = (this.denominator / g2) * (r.numerator / g1);
+            if (denominator < 0) {
+                numerator = -numerator;
+                denominator = -denominator;
+            }
+            return reduced(numerator, denominator);
+        }
+        if (r.isZero()) {
+            throw new RationalNumberDivideByZeroException();
+        }
+        if (this.isZero()) {
+            return zero;
+        }
+        BigInteger a = this.getBigNumerator();
+        BigInteger b = this.getBigDenominator();
+        BigInteger c = r.getBigNumerator();
+        BigInteger d = r.getBigDenominator();
+        BigInteger g1 = a.gcd(c);
+        BigInteger g2 = b.equals(BigInteger.ONE) || d.equals(BigInteger.ONE) ? BigInteger.ONE : b.gcd(d);
+        BigInteger numerator = a.divide(g1).multiply(d.divide(g2));
+        BigInteger denominator = b.divide(g2).multiply(c.divide(g1));
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        return reducedBig(numerator, denominator);
     }
+
+    /**
+     * Adds two reduced small values a/b + c/d without reducing a full cross product (Henrici's method). With
+     * g = gcd(b, d), the sum is (a*(d/g) + c*(b/g)) / (b*(d/g)), and only a factor of g can remain in common.
+     */
+    private static RationalNumber addSmall(long a, long b, long c, long d) {
+        if (b == d) {
+            if (b == 1) {
+                return reduced(a + c, 1);
+            }
+            return valueOf(a + c, b);
+        }
+
+        long g = greatestCommonDivisor(b, d);
+        if (g == 1) {
+            // Coprime denominators give an already reduced sum.
+            return reduced(a * d + c * b, b * d);
+        }
+        // Equal reduced values with opposite signs have equal denominators, so t cannot be zero here.
+        long t = a * (d / g) + c * (b / g);
+        long g2 = greatestCommonDivisor(Math.abs(t), g);
+        return reduced(t / g2, (b / g) * (d / g2));
+    }
+    /**
+     * Henrici's method for reduced arbitrary-precision values, as in {@link #addSmall}. Integers (denominator 1) are
+     * added without any GCD.
+     */
+    private static RationalNumber addBig(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+        if (b.equals(d)) {
+            return b.equals(BigInteger.ONE) ? reducedBig(a.add(c), b) : valueOf(a.add(c), b);
+        }
+
+        BigInteger g = b.equals(BigInteger.ONE) || d.equals(BigInteger.ONE) ? BigInteger.ONE : b.gcd(d);
+        if (g.equals(BigInteger.ONE)) {
+            return reducedBig(a.multiply(d).add(c.multiply(b)), b.multiply(d));
+        }
+        BigInteger t = a.multiply(d.divide(g)).add(c.multiply(b.divide(g)));
+        BigInteger g2 = t.gcd(g);
+        return reducedBig(t.divide(g2), b.divide(g).multiply(d.divide(g2)));
+    }
+    public RationalNumber negate() {
+        if (this.isSmall() && this.numerator != Integer.MIN_VALUE) {
+            return reduced(-this.numerator, this.denominator);
+        }
+        if (this.isSmall()) {
+            // Negating Integer.MIN_VALUE does not fit in an int.
+            return valueOf(-(long) this.numerator, this.denominator);
+        }
+        return valueOf(this.bigNumerator.negate(), this.bigDenominator);
+    }
+    /**
+     * Raises this rational number to an integer power. The numerator and denominator of a reduced value are coprime,
+     * and so are their powers, so both are raised separately by squaring and the result needs no GCD.
+     * @param power The exponent. A negative exponent raises the reciprocal.
+     * @return This rational number to the given power, and 1 for a power of 0 (including 0^0).
+     * @throws RationalNumberDivideByZeroException If this rational number is zero and the power is negative.
+     * @throws ArithmeticException If the result is too large for a {@link BigInteger}.
+     */
     public RationalNumber pow(int power) {
-        RationalNumber result = new RationalNumber(1, 1);
-        for (int i = 0; i < power; ++i) {
-            result = result.multiply(this);
+        if (power < 0 && this.isZero()) {
+            throw new RationalNumberDivideByZeroException();
+        }
+        if (power == 0 || this.equals(one)) {
+            return one;
+        }
+        if (this.equals(minusOne)) {
+            return (power & 1) == 0 ? one : minusOne;
+        }
+        if (power == 1) {
+            return this;
+        }
+        // The exponent of the numerator and of the denominator, as a long so that -Integer.MIN_VALUE fits.
+        long exponent = Math.abs((long) power);
+        int signum = this.signum();
+        if (this.isSmall()) {
+            long numerator = power > 0 ? this.numerator : signum * (long) this.denominator;
+            long denominator = power > 0 ? this.denominator : Math.abs((long) this.numerator);
+            // |x|^n < 2^(bits(x) n), so the powers fit in a long if that is at most 2^62.
+            int bits = Long.SIZE - Long.numberOfLeadingZeros(Math.max(Math.abs(numerator), denominator));
+            if (bits * exponent <= Long.SIZE - 2) {
+                return reduced(powLong(numerator, exponent), powLong(denominator, exponent));
+            }
+        }
+        BigInteger numerator = power > 0 ? this.getBigNumerator() : this.getBigDenominator();
+        BigInteger denominator = power > 0 ? this.getBigDenominator() : this.getBigNumerator().abs();
+        if (signum < 0 && power < 0) {
+            numerator = numerator.negate();
+        }
+        int e = Math.toIntExact(exponent);
+        return reducedBig(numerator.pow(e), denominator.pow(e));
+    }
+
+    /**
+     * Raises a long to a positive power by squaring. The result must fit in a long.
+     */
+    private static long powLong(long base, long exponent) {
+        long result = 1;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            exponent >>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            base *= base;
         }
-        return result;
     }
 
     // Accessor methods.
+    /**
+     * Obtains the numerator of this rational number.
+     * @return The reduced numerator.
+     * @throws ArithmeticException If the numerator does not fit in an int (see {@link #getBigNumerator()}).
+     */
     public int getNumerator() {
+        if (!isSmall()) {
+            throw new ArithmeticException("Numerator of " + this + " does not fit in an int.");
+        }
         return this.numerator;
     }
+    /**
+     * Obtains the denominator of this rational number.
+     * @return The reduced, positive denominator.
+     * @throws ArithmeticException If the denominator does not fit in an int (see {@link #getBigDenominator()}).
+     */
     public int getDenominator() {
+        if (!isSmall()) {
+            throw new ArithmeticException("Denominator of " + this + " does not fit in an int.");
+        }
         return this.denominator;
     }
+    public BigInteger getBigNumerator() {
+        return isSmall() ? BigInteger.valueOf(this.numerator) : this.bigNumerator;
+    }
+    public BigInteger getBigDenominator() {
+        return isSmall() ? BigInteger.valueOf(this.denominator) : this.bigDenominator;
+    }
 
     // Inherited Number methods.
     @Override
     public int intValue() {
+        if (!isSmall()) {
+            return this.bigNumerator.divide(this.bigDenominator).intValue();
+        }
         double x = this.doubleValue();
         return (int) x;
     }
     @Override
     public long longValue() {
+        if (!isSmall()) {
+            return this.bigNumerator.divide(this.bigDenominator).longValue();
+        }
         double x = this.doubleValue();
         return (long) x;
     }
     @Override
     public float floatValue() {
+        if (!isSmall()) {
+            return (float) this.doubleValue();
+        }
         return ((float) numerator) / ((float) denominator);
     }
     @Override
     public double doubleValue() {
+        if (!isSmall()) {
+            return new BigDecimal(this.bigNumerator)
+                    .divide(new BigDecimal(this.bigDenominator), MathContext.DECIMAL64)
+                    .doubleValue();
+        }
         return ((double) numerator) / ((double) denominator);
     }
 
     @Override
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
         if (o == null) {
             return false;
         }
@@ -150,39 +567,61 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             return false;
         }
 
+        // Every value has exactly one representation, so small and big values are never equal.
         RationalNumber r = (RationalNumber) o;
-        return (r.numerator == this.numerator) &&
-                (r.denominator == this.denominator);
+        if (this.isSmall() && r.isSmall()) {
+            return (r.numerator == this.numerator) &&
+                    (r.denominator == this.denominator);
+        }
+        if (this.isSmall() || r.isSmall()) {
+            return false;
+        }
+        return r.bigNumerator.equals(this.bigNumerator) &&
+                r.bigDenominator.equals(this.bigDenominator);
     }
 
     @Override
-    public int compareTo(RationalNumber r) {
-        // Subtract `r` from `this`.
-        RationalNumber subtractResult = this.subtract(r);
-        if (subtractResult.numerator < 0) {
-            return -1;
+    public int hashCode() {
+        if (isSmall()) {
+            return 31 * this.numerator + this.denominator;
         }
-        else if (subtractResult.equals(RationalNumber.zero)) {
-            return 0;
-        }
-        else {
-            return 1;
+        return 31 * this.bigNumerator.hashCode() + this.bigDenominator.hashCode();
+    }
+
+    @Override
+    public int compareTo(RationalNumber r) {
+        // Denominators are positive, so compare the cross products a*d and c*b.
+        if (this.isSmall() && r.isSmall()) {
+            return Long.compare((long) this.numerator * r.denominator,
+                    (long) r.numerator * this.denominator);
         }
+        return this.getBigNumerator().multiply(r.getBigDenominator())
+                .compareTo(r.getBigNumerator().multiply(this.getBigDenominator()));
     }
 
     @Override
     public String toString() {
         StringBuilder result = new StringBuilder();
-        if (this.denominator > 1) {
+        boolean integral = isSmall() ? this.denominator == 1 : this.bigDenominator.equals(BigInteger.ONE);
+        if (!integral) {
             result.append("(");
-            result.append(this.numerator);
+            appendTo(result, this.numerator, this.bigNumerator);
             result.append("/");
-            result.append(this.denominator);
+            appendTo(result, this.denominator, this.bigDenominator);
             result.append(")");
         }
         else {
-            result.append(this.numerator);
+            appendTo(result, this.numerator, this.bigNumerator);
         }
         return result.toString();
     }
+
+    private static void appendTo(StringBuilder result, int small, BigInteger big) {
+        if (big == null) {
+            result.append(small);
+        }
+        else {
+            result.append(big);
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package polynomial;
+
+import exceptions.BatchEvaluationMissingColumn;
+import number.RationalNumber;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates one polynomial over a batch of points stored column-wise, one array per variable.
+ *
+ * Points are processed in blocks of {@link #BLOCK_SIZE}. For each block, the powers of every variable up to its
+ * highest exponent are tabulated once as columns; the terms are then walked once, and each term updates the output
+ * of every point in the block with a tight loop over the power columns. Blocks are independent and write disjoint
+ * ranges of the output, so they can be spread across threads.
+ */
+final class BatchEvaluator {
+    static final int BLOCK_SIZE = 1024;
+
+    private final int pointCount;
+    // Per term: coefficient, and (column, power) pairs of its variables.
+    private final Term[] terms;
+    private final int[][] termColumns;
+    private final int[][] termPowers;
+    // Variables in column order, and the highest power of each column's variable in any term.
+    private final Variable[] variables;
+    private final int[] maxPower;
+
+    BatchEvaluator(List<Term> terms, int pointCount) {
+        this.pointCount = pointCount;
+        this.terms = terms.toArray(new Term[0]);
+        this.termColumns = new int[this.terms.length][];
+        this.termPowers = new int[this.terms.length][];
+
+        List<Variable> variables = new ArrayList<>();
+        Map<Variable, Integer> columnOf = new HashMap<>();
+        for (int t = 0; t < this.terms.length; ++t) {
+            Monomial monomial = this.terms[t].getMonomial();
+            int factors = 0;
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                if (monomial.exponentAt(i) != 0) {
+                    ++factors;
+                }
+            }
+            this.termColumns[t] = new int[factors];
+            this.termPowers[t] = new int[factors];
+            int f = 0;
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                int power = monomial.exponentAt(i);
+                if (power == 0) {
+                    continue;
+                }
+                Variable variable = Variable.at(i);
+                Integer column = columnOf.get(variable);
+                if (column == null) {
+                    column = variables.size();
+                    columnOf.put(variable, column);
+                    variables.add(variable);
+                }
+                this.termColumns[t][f] = column;
+                this.termPowers[t][f] = power;
+                ++f;
+            }
+        }
+
+        this.maxPower = new int[variables.size()];
+        for (int t = 0; t < this.terms.length; ++t) {
+            for (int f = 0; f < this.termColumns[t].length; ++f) {
+                int column = this.termColumns[t][f];
+                this.maxPower[column] = Math.max(this.maxPower[column], this.termPowers[t][f]);
+            }
+        }
+        this.variables = variables.toArray(new Variable[0]);
+    }
+
+    /**
+     * Gathers the input columns in column order, checking their lengths.
+     */
+    private <T> List<T> columnsInOrder(IntFunction<T> columnAt, ToIntFunction<T> length) {
+        List<T> result = new ArrayList<>(this.variables.length);
+        for (Variable variable : this.variables) {
+            T column = columnAt.apply(variable.index());
+            if (column == null) {
+                throw new BatchEvaluationMissingColumn();
+            }
+            if (length.applyAsInt(column) != this.pointCount) {
+                throw new IllegalArgumentException("Column for " + variable + " has " + length.applyAsInt(column) +
+                        " values, expected " + this.pointCount + ".");
+            }
+            result.add(column);
+        }
+        return result;
+    }
+
+    double[] evaluate(IntFunction<double[]> columnAt, boolean parallel) {
+        List<double[]> input = columnsInOrder(columnAt, column -> column.length);
+        double[] coefficients = new double[this.terms.length];
+        for (int t = 0; t < coefficients.length; ++t) {
+            coefficients[t] = this.terms[t].getCoefficient().doubleValue();
+        }
+
+        double[] output = new double[this.pointCount];
+        IntStream blocks = IntStream.range(0, blockCount());
+        (parallel ? blocks.parallel() : blocks).forEach(block -> {
+            int from = block * BLOCK_SIZE;
+            int size = Math.min(BLOCK_SIZE, this.pointCount - from);
+
+            // powers[column][k] holds the k-th power of the column's values for this block.
+            double[][][] powers = new double[input.size()][][];
+            for (int c = 0; c < powers.length; ++c) {
+                powers[c] = new double[this.maxPower[c] + 1][];
+                powers[c][1] = new double[size];
+                System.arraycopy(input.get(c), from, powers[c][1], 0, size);
+                for (int k = 2; k <= this.maxPower[c]; ++k) {
+                    double[] previous = powers[c][k - 1];
+                    double[] base = powers[c][1];
+                    double[] current = new double[size];
+                    for (int i = 0; i < size; ++i) {
+                        current[i] = previous[i] * base[i];
+                    }
+                    powers[c][k] = current;
+                }
+            }
+
+            double[] product = new double[size];
+            for (int t = 0; t < this.terms.length; ++t) {
+                int[] termColumns = this.termColumns[t];
+                int[] termPowers = this.termPowers[t];
+                double coefficient = coefficients[t];
+                if (termColumns.length == 0) {
+                    for (int i = 0; i < size; ++i) {
+                        output[from + i] += coefficient;
+                    }
+                    continue;
+                }
+
+                double[] first = powers[termColumns[0]][termPowers[0]];
+                for (int i = 0; i < size; ++i) {
+                    product[i] = coefficient * first[i];
+                }
+                for (int f = 1; f < termColumns.length; ++f) {
+                    double[] factor = powers[termColumns[f]][termPowers[f]];
+                    for (int i = 0; i < size; ++i) {
+                        product[i] *= factor[i];
+                    }
+                }
+                for (int i = 0; i < size; ++i) {
+                    output[from + i] += product[i];
+                }
+            }
+        });
+        return output;
+    }
+
+    RationalNumber[] evaluateExact(IntFunction<RationalNumber[]> columnAt, boolean parallel) {
+        List<RationalNumber[]> input = columnsInOrder(columnAt, column -> column.length);
+
+        RationalNumber[] output = new RationalNumber[this.pointCount];
+        IntStream blocks = IntStream.range(0, blockCount());
+        (parallel ? blocks.parallel() : blocks).forEach(block -> {
+            int from = block * BLOCK_SIZE;
+            int size = Math.min(BLOCK_SIZE, this.pointCount - from);
+
+            RationalNumber[][][] powers = new RationalNumber[input.size()][][];
+            for (int c = 0; c < powers.length; ++c) {
+                powers[c] = new RationalNumber[this.maxPower[c] + 1][];
+                powers[c][1] = new RationalNumber[size];
+                System.arraycopy(input.get(c), from, powers[c][1], 0, size);
+                for (int k = 2; k <= this.maxPower[c]; ++k) {
+                    RationalNumber[] previous = powers[c][k - 1];
+                    RationalNumber[] base = powers[c][1];
+                    RationalNumber[] current = new RationalNumber[size];
+                    for (int i = 0; i < size; ++i) {
+                        current[i] = previous[i].multiply(base[i]);
+                    }
+                    powers[c][k] = current;
+                }
+            }
+
+            for (int i = 0; i < size; ++i) {
+                output[from + i] = RationalNumber.zero;
+            }
+            for (int t = 0; t < this.terms.length; ++t) {
+                int[] termColumns = this.termColumns[t];
+                int[] termPowers = this.termPowers[t];
+                RationalNumber coefficient = this.terms[t].getCoefficient();
+                for (int i = 0; i < size; ++i) {
+                    RationalNumber product = coefficient;
+                    for (int f = 0; f < termColumns.length; ++f) {
+                        product = product.multiply(powers[termColumns[f]][termPowers[f]][i]);
+                    }
+                    output[from + i] = output[from + i].add(product);
+                }
+            }
+        });
+        return output;
+    }
+
+    private int blockCount() {
+        return (this.pointCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+}
@@ -0,0 +1,231 @@
+package polynomial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One run of Buchberger's algorithm, independent of the coefficient representation.
+ *
+ * Subclasses supply the few polynomial operations the algorithm needs, so the same pair management serves rational
+ * polynomials ({@link Polynomial}) and polynomials over a prime field ({@link ModularPolynomial}). See
+ * {@link GroebnerBasis} for the criteria and strategies.
+ *
+ * @param <P> The polynomial type.
+ */
+abstract class Buchberger<P> {
+    private final MonomialOrder order;
+    private final GroebnerBasis.SelectionStrategy strategy;
+    // Every basis element ever added; pairs refer to elements by index.
+    private final List<Element<P>> elements = new ArrayList<>();
+    private final List<Pair> pairs = new ArrayList<>();
+
+    Buchberger(MonomialOrder order, GroebnerBasis.SelectionStrategy strategy) {
+        this.order = order;
+        this.strategy = strategy;
+    }
+
+    abstract boolean isZero(P f);
+
+    abstract Monomial leadingMonomial(P f);
+
+    abstract int degree(P f);
+
+    abstract P monic(P f);
+
+    abstract P sPolynomial(P f, P g);
+
+    /**
+     * Reduces f completely modulo the divisors, in the algorithm's monomial order.
+     */
+    abstract P reduce(P f, List<P> divisors);
+
+    /**
+     * Obtains the constant polynomial 1, the reduced basis of the unit ideal.
+     */
+    abstract P one();
+
+    /**
+     * Computes the reduced Gröbner basis of the ideal generated by some polynomials in the algorithm's order.
+     * @return Unmodifiable list of monic basis polynomials sorted by descending leading monomial.
+     */
+    List<P> run(List<P> generators) {
+        for (P generator : generators) {
+            P f = reduce(generator, activePolynomials());
+            if (!isZero(f) && !update(f, degree(generator))) {
+                return List.of(one());
+            }
+        }
+
+        while (!this.pairs.isEmpty()) {
+            Pair pair = this.pairs.remove(select());
+            P s = sPolynomial(this.elements.get(pair.i).polynomial, this.elements.get(pair.j).polynomial);
+            P h = reduce(s, activePolynomials());
+            // Reduction may raise the degree in non-graded orders, and sugar never drops below the degree.
+            if (!isZero(h) && !update(h, Math.max(pair.sugar, degree(h)))) {
+                return List.of(one());
+            }
+        }
+        return interreduce();
+    }
+
+    /**
+     * Adds a nonzero reduced polynomial to the basis and updates the critical pairs (Gebauer–Möller).
+     * @return False if the polynomial is a constant, i.e., the ideal is the whole ring.
+     */
+    private boolean update(P h, int sugar) {
+        P polynomial = monic(h);
+        Element<P> added = new Element<>(polynomial, leadingMonomial(polynomial), sugar);
+        if (added.leading.isOne()) {
+            return false;
+        }
+        int k = this.elements.size();
+        this.elements.add(added);
+
+        // New pairs (g, h) for every active g.
+        List<Pair> candidates = new ArrayList<>();
+        for (int i = 0; i < k; ++i) {
+            Element<P> g = this.elements.get(i);
+            if (g.active) {
+                candidates.add(new Pair(i, k, g.leading.lcm(added.leading), pairSugar(g, added)));
+            }
+        }
+
+        // Chain criterion among the new pairs: drop a pair if the lcm of another new pair divides its lcm. Of pairs
+        // with equal lcm only the last one survives. Coprime pairs are kept here so they can still eliminate others,
+        // and are dropped afterwards.
+        List<Pair> kept = new ArrayList<>();
+        for (int c = 0; c < candidates.size(); ++c) {
+            Pair pair = candidates.get(c);
+            if (!isCoprime(pair) && (isDominated(pair, candidates, c + 1) || isDominated(pair, kept, 0))) {
+                continue;
+            }
+            kept.add(pair);
+        }
+        kept.removeIf(this::isCoprime);
+
+        // Chain criterion for the old pairs: drop (g1, g2) if LM(h) divides its lcm strictly through both sides.
+        this.pairs.removeIf(pair -> added.leading.divides(pair.lcm)
+                && !this.elements.get(pair.i).leading.lcm(added.leading).equals(pair.lcm)
+                && !this.elements.get(pair.j).leading.lcm(added.leading).equals(pair.lcm));
+        this.pairs.addAll(kept);
+
+        // Elements whose leading monomial is a multiple of LM(h) are redundant for reduction.
+        for (Element<P> g : this.elements) {
+            if (g != added && g.active && added.leading.divides(g.leading)) {
+                g.active = false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCoprime(Pair pair) {
+        return this.elements.get(pair.i).leading.isCoprime(this.elements.get(pair.j).leading);
+    }
+
+    private static boolean isDominated(Pair pair, List<Pair> others, int from) {
+        for (int o = from; o < others.size(); ++o) {
+            if (others.get(o).lcm.divides(pair.lcm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the index of the next pair to reduce.
+     */
+    private int select() {
+        int best = 0;
+        for (int p = 1; p < this.pairs.size(); ++p) {
+            Pair candidate = this.pairs.get(p);
+            Pair current = this.pairs.get(best);
+            int comparison = 0;
+            if (this.strategy == GroebnerBasis.SelectionStrategy.sugar) {
+                comparison = Integer.compare(candidate.sugar, current.sugar);
+            }
+            if (comparison == 0) {
+                comparison = this.order.compare(candidate.lcm, current.lcm);
+            }
+            if (comparison < 0) {
+                best = p;
+            }
+        }
+        return best;
+    }
+
+    private List<P> activePolynomials() {
+        List<P> result = new ArrayList<>();
+        for (Element<P> g : this.elements) {
+            if (g.active) {
+                result.add(g.polynomial);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reduces every active element by the others. The active leading monomials are pairwise non-dividing, so the
+     * leading terms are untouched and the result is the reduced basis.
+     */
+    private List<P> interreduce() {
+        List<Element<P>> active = new ArrayList<>();
+        for (Element<P> g : this.elements) {
+            if (g.active) {
+                active.add(g);
+            }
+        }
+        active.sort((g1, g2) -> this.order.compare(g2.leading, g1.leading));
+
+        List<P> polynomials = new ArrayList<>(active.size());
+        for (Element<P> g : active) {
+            polynomials.add(g.polynomial);
+        }
+        List<P> result = new ArrayList<>(active.size());
+        for (int i = 0; i < polynomials.size(); ++i) {
+            List<P> others = new ArrayList<>(polynomials);
+            others.remove(i);
+            result.add(reduce(polynomials.get(i), others));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static int pairSugar(Element<?> g, Element<?> h) {
+        Monomial lcm = g.leading.lcm(h.leading);
+        return Math.max(g.sugar + lcm.getDegree() - g.leading.getDegree(),
+                h.sugar + lcm.getDegree() - h.leading.getDegree());
+    }
+
+    /**
+     * A basis element with its leading monomial and sugar degree.
+     */
+    private static final class Element<P> {
+        private final P polynomial;
+        private final Monomial leading;
+        private final int sugar;
+        private boolean active = true;
+
+        Element(P polynomial, Monomial leading, int sugar) {
+            this.polynomial = polynomial;
+            this.leading = leading;
+            this.sugar = sugar;
+        }
+    }
+
+    /**
+     * A critical pair of basis elements i < j, with the lcm of their leading monomials.
+     */
+    private static final class Pair {
+        private final int i;
+        private final int j;
+        private final Monomial lcm;
+        private final int sugar;
+
+        Pair(int i, int j, Monomial lcm, int sugar) {
+            this.i = i;
+            this.j = j;
+            this.lcm = lcm;
+            this.sugar = sugar;
+        }
+    }
+}
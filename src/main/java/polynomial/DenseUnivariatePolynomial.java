@@ -0,0 +1,754 @@
+package polynomial;
+
+import exceptions.PolynomialNegativePowerException;
+import number.ModularReconstruction;
+import number.PrimeField;
+import number.RationalNumber;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable polynomial in a single variable with rational coefficients, stored densely as an array indexed by
+ * degree.
+ *
+ * Products are computed on integer coefficients after clearing denominators, with an algorithm chosen by the length
+ * of the shorter factor: schoolbook multiplication below {@link #KARATSUBA_THRESHOLD} coefficients (accumulated in
+ * {@code long}s for word-size coefficients), Karatsuba's O(n^1.58) method below {@link #FOURIER_THRESHOLD}, and above
+ * it number-theoretic transforms modulo several Fourier primes (see {@link PrimeField#fourierPrimes}) combined with
+ * Chinese remaindering. Powers use J.C.P. Miller's recurrence, which only costs a step per nonzero coefficient, or
+ * repeated squaring for polynomials with many nonzero coefficients (see {@link #pow}).
+ * {@link Polynomial#multiply(Polynomial)} and {@link Polynomial#pow(int)} convert univariate operands to this
+ * representation automatically.
+ */
+public final class DenseUnivariatePolynomial {
+    /**
+     * Length of the shorter factor from which {@link #multiply} uses Karatsuba's method.
+     */
+    public static final int KARATSUBA_THRESHOLD = 16;
+
+    /**
+     * Length of the shorter factor from which {@link #multiply} uses number-theoretic transforms.
+     */
+    public static final int FOURIER_THRESHOLD = 1536;
+
+    /**
+     * Number of nonzero coefficients below which {@link #pow} uses J.C.P. Miller's recurrence.
+     */
+    public static final int RECURRENCE_THRESHOLD = 256;
+
+    // Factor by which clearing denominators may lengthen the coefficients before rational arithmetic is used instead.
+    private static final int INFLATION = 64;
+
+    private static final RationalNumber[] NO_COEFFICIENTS = new RationalNumber[0];
+
+    private final Variable variable;
+    // coefficients[i] is the coefficient of variable^i. Never has a trailing zero, so the zero polynomial is empty.
+    private final RationalNumber[] coefficients;
+    private int hash;
+
+    /**
+     * Creates a polynomial from its coefficients.
+     * @param variable The variable of the polynomial.
+     * @param coefficients The coefficients, lowest degree first: c_0 + c_1 x + c_2 x^2 + ...
+     */
+    public DenseUnivariatePolynomial(VariableName variable, RationalNumber... coefficients) {
+        this(Variable.of(variable), coefficients);
+    }
+
+    /**
+     * Creates a polynomial in a variable that need not be a {@link VariableName} from its coefficients.
+     * @param variable The variable of the polynomial.
+     * @param coefficients The coefficients, lowest degree first: c_0 + c_1 x + c_2 x^2 + ...
+     */
+    public DenseUnivariatePolynomial(Variable variable, RationalNumber... coefficients) {
+        this.variable = variable;
+        this.coefficients = trim(coefficients.clone());
+    }
+
+    /**
+     * Wraps a coefficient array without copying it. The array must not have trailing zeros and must not be modified
+     * afterwards.
+     */
+    private DenseUnivariatePolynomial(RationalNumber[] coefficients, Variable variable) {
+        this.variable = variable;
+        this.coefficients = coefficients;
+    }
+
+    private static RationalNumber[] trim(RationalNumber[] coefficients) {
+        int length = coefficients.length;
+        while (length > 0 && coefficients[length - 1].isZero()) {
+            --length;
+        }
+        if (length == 0) {
+            return NO_COEFFICIENTS;
+        }
+        return length == coefficients.length ? coefficients : Arrays.copyOf(coefficients, length);
+    }
+
+    /**
+     * Converts a sparse polynomial in at most one variable to the dense representation.
+     * @param p The polynomial.
+     * @param variable The variable of the result; p must not contain any other variable.
+     * @return The dense polynomial equal to p.
+     * @throws IllegalArgumentException If p contains a variable other than the given one.
+     */
+    public static DenseUnivariatePolynomial of(Polynomial p, VariableName variable) {
+        return of(p, Variable.of(variable));
+    }
+
+    /**
+     * Converts a sparse polynomial in at most one variable, which need not be a {@link VariableName}, to the dense
+     * representation.
+     * @param p The polynomial.
+     * @param variable The variable of the result; p must not contain any other variable.
+     * @return The dense polynomial equal to p.
+     * @throws IllegalArgumentException If p contains a variable other than the given one.
+     */
+    public static DenseUnivariatePolynomial of(Polynomial p, Variable variable) {
+        for (Variable v : p.getVariables()) {
+            if (v != variable) {
+                throw new IllegalArgumentException(p + " is not a polynomial in " + variable + ".");
+            }
+        }
+
+        if (p.isZero()) {
+            return new DenseUnivariatePolynomial(NO_COEFFICIENTS, variable);
+        }
+        Map<Monomial, RationalNumber> terms = p.coefficientMap();
+        int degree = 0;
+        for (Monomial monomial : terms.keySet()) {
+            degree = Math.max(degree, monomial.getDegree());
+        }
+        RationalNumber[] coefficients = new RationalNumber[degree + 1];
+        Arrays.fill(coefficients, RationalNumber.zero);
+        for (var entry : terms.entrySet()) {
+            coefficients[entry.getKey().getDegree()] = entry.getValue();
+        }
+        return new DenseUnivariatePolynomial(coefficients, variable);
+    }
+
+    /**
+     * Converts this polynomial to the sparse representation, in grlex order.
+     * @return The sparse polynomial equal to this one.
+     */
+    public Polynomial toPolynomial() {
+        return toPolynomial(MonomialOrder.grlex);
+    }
+
+    /**
+     * Converts this polynomial to the sparse representation.
+     * @param order The monomial order of the result.
+     * @return The sparse polynomial equal to this one.
+     */
+    public Polynomial toPolynomial(MonomialOrder order) {
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.coefficients.length);
+        for (int i = 0; i < this.coefficients.length; ++i) {
+            if (!this.coefficients[i].isZero()) {
+                result.put(new Monomial(this.variable, i), this.coefficients[i]);
+            }
+        }
+        return new Polynomial(result, order);
+    }
+
+    /**
+     * Obtains the variable of this polynomial as a {@link VariableName}.
+     * @return The variable.
+     * @throws IllegalStateException If the variable is not a {@link VariableName}; see {@link #getIndeterminate()}.
+     */
+    public VariableName getVariable() {
+        VariableName result = this.variable.toVariableName();
+        if (result == null) {
+            throw new IllegalStateException(this.variable + " is not a VariableName.");
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the variable of this polynomial, which need not be a {@link VariableName}.
+     * @return The variable.
+     */
+    public Variable getIndeterminate() {
+        return this.variable;
+    }
+
+    /**
+     * Obtains the degree of this polynomial.
+     * @return The highest power with a nonzero coefficient, or zero for the zero polynomial.
+     */
+    public int getDegree() {
+        return Math.max(this.coefficients.length - 1, 0);
+    }
+
+    /**
+     * Obtains the coefficient of a power of the variable.
+     * @param power A nonnegative power.
+     * @return The coefficient, or zero beyond the degree.
+     */
+    public RationalNumber getCoefficient(int power) {
+        return power < this.coefficients.length ? this.coefficients[power] : RationalNumber.zero;
+    }
+
+    /**
+     * Obtains all coefficients up to the degree, lowest degree first.
+     * @return Unmodifiable list of coefficients, empty for the zero polynomial.
+     */
+    public List<RationalNumber> getCoefficients() {
+        return Collections.unmodifiableList(Arrays.asList(this.coefficients));
+    }
+
+    public boolean isZero() {
+        return this.coefficients.length == 0;
+    }
+
+    // Polynomial operations.
+    public DenseUnivariatePolynomial add(DenseUnivariatePolynomial p) {
+        Variable variable = commonVariable(p);
+        boolean thisLonger = this.coefficients.length >= p.coefficients.length;
+        RationalNumber[] longer = thisLonger ? this.coefficients : p.coefficients;
+        RationalNumber[] shorter = thisLonger ? p.coefficients : this.coefficients;
+        RationalNumber[] result = longer.clone();
+        for (int i = 0; i < shorter.length; ++i) {
+            result[i] = result[i].add(shorter[i]);
+        }
+        return new DenseUnivariatePolynomial(trim(result), variable);
+    }
+    public DenseUnivariatePolynomial subtract(DenseUnivariatePolynomial p) {
+        return add(p.negate());
+    }
+    public DenseUnivariatePolynomial negate() {
+        RationalNumber[] result = new RationalNumber[this.coefficients.length];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = this.coefficients[i].negate();
+        }
+        return new DenseUnivariatePolynomial(result, this.variable);
+    }
+
+    /**
+     * Multiplies two polynomials with the algorithm suited to their size. Products of word-size coefficients (whose
+     * sums of products fit in a {@code long}) use the schoolbook method below {@link #FOURIER_THRESHOLD}; products of
+     * longer coefficients switch to Karatsuba's method at {@link #KARATSUBA_THRESHOLD}.
+     * @param p The other factor.
+     * @return The product of this polynomial and p.
+     * @throws IllegalArgumentException If the factors are nonconstant polynomials in different variables.
+     */
+    public DenseUnivariatePolynomial multiply(DenseUnivariatePolynomial p) {
+        return multiply(p, Algorithm.automatic);
+    }
+
+    /**
+     * Multiplies two polynomials with the classical O(n m) algorithm.
+     * @param p The other factor.
+     * @return The product of this polynomial and p, equal to {@link #multiply}.
+     */
+    public DenseUnivariatePolynomial multiplySchoolbook(DenseUnivariatePolynomial p) {
+        return multiply(p, Algorithm.schoolbook);
+    }
+
+    /**
+     * Multiplies two polynomials with Karatsuba's method, which replaces four half-size products by three.
+     * @param p The other factor.
+     * @return The product of this polynomial and p, equal to {@link #multiply}.
+     */
+    public DenseUnivariatePolynomial multiplyKaratsuba(DenseUnivariatePolynomial p) {
+        return multiply(p, Algorithm.karatsuba);
+    }
+
+    /**
+     * Multiplies two polynomials with number-theoretic transforms. The integer product is computed modulo as many
+     * Fourier primes as its coefficient bound requires, one transform per prime in parallel, and lifted with Chinese
+     * remaindering. Falls back to Karatsuba's method if there are not enough Fourier primes for the length and
+     * coefficient size.
+     * @param p The other factor.
+     * @return The product of this polynomial and p, equal to {@link #multiply}.
+     */
+    public DenseUnivariatePolynomial multiplyFourier(DenseUnivariatePolynomial p) {
+        return multiply(p, Algorithm.fourier);
+    }
+
+    private DenseUnivariatePolynomial multiply(DenseUnivariatePolynomial p, Algorithm algorithm) {
+        Variable variable = commonVariable(p);
+        if (this.isZero() || p.isZero()) {
+            return new DenseUnivariatePolynomial(NO_COEFFICIENTS, variable);
+        }
+        IntegerForm a = new IntegerForm(this.coefficients);
+        IntegerForm b = new IntegerForm(p.coefficients);
+        if (a.isInflated() || b.isInflated()) {
+            return multiplyRational(p, variable);
+        }
+
+        if (algorithm == Algorithm.automatic) {
+            int shorter = Math.min(this.coefficients.length, p.coefficients.length);
+            if (shorter >= FOURIER_THRESHOLD) {
+                algorithm = Algorithm.fourier;
+            }
+            else if (shorter >= KARATSUBA_THRESHOLD && !fitsWord(a.numerators, b.numerators)) {
+                algorithm = Algorithm.karatsuba;
+            }
+            else {
+                algorithm = Algorithm.schoolbook;
+            }
+        }
+        BigInteger[] product = switch (algorithm) {
+            case schoolbook -> schoolbook(a.numerators, b.numerators);
+            case fourier -> fourier(a, b);
+            default -> karatsuba(a.numerators, b.numerators);
+        };
+        return a.fromProduct(product, b, variable);
+    }
+
+    /**
+     * Raises this polynomial to a power with the algorithm suited to its sparsity: J.C.P. Miller's recurrence if it has
+     * fewer than {@link #RECURRENCE_THRESHOLD} nonzero coefficients, and repeated squaring with {@link #multiply}
+     * otherwise.
+     * @param power The non-negative power.
+     * @return This polynomial to the given power, and 1 for a power of 0 (including 0^0).
+     * @throws PolynomialNegativePowerException If power is negative.
+     * @throws ArithmeticException If the degree of the result overflows an int.
+     */
+    public DenseUnivariatePolynomial pow(int power) {
+        DenseUnivariatePolynomial trivial = trivialPow(power);
+        if (trivial != null) {
+            return trivial;
+        }
+        int nonzero = 0;
+        for (RationalNumber c : this.coefficients) {
+            nonzero += c.isZero() ? 0 : 1;
+        }
+        return nonzero < RECURRENCE_THRESHOLD ? powRecurrence(power) : powSquaring(power);
+    }
+
+    /**
+     * Raises this polynomial to a power by repeated squaring, from the most significant bit of the power down, so that
+     * every multiplication other than a squaring is by this polynomial.
+     * @param power The non-negative power.
+     * @return This polynomial to the given power, equal to {@link #pow}.
+     * @throws PolynomialNegativePowerException If power is negative.
+     */
+    public DenseUnivariatePolynomial powSquaring(int power) {
+        DenseUnivariatePolynomial trivial = trivialPow(power);
+        if (trivial != null) {
+            return trivial;
+        }
+        // Fails early if the degree of the result overflows.
+        Math.multiplyExact(this.coefficients.length - 1, power);
+        DenseUnivariatePolynomial result = this;
+        for (int bit = Integer.highestOneBit(power) >>> 1; bit != 0; bit >>>= 1) {
+            result = result.multiply(result);
+            if ((power & bit) != 0) {
+                result = result.multiply(this);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Raises this polynomial to a power with J.C.P. Miller's recurrence. After clearing denominators and factoring
+     * out the lowest power of the variable, the integer polynomial a with a_0 != 0 and its power b = a^n satisfy
+     * a b' = n a' b, which gives b_0 = a_0^n and
+     * b_k = (1 / (k a_0)) sum_{i = 1}^{min(k, d)} ((n + 1) i - k) a_i b_{k - i},
+     * where every division is exact. Each coefficient of the result costs one step per nonzero coefficient of a, so
+     * powers of sparse polynomials cost O(n d t) instead of the cost of squaring dense intermediate results.
+     * @param power The non-negative power.
+     * @return This polynomial to the given power, equal to {@link #pow}.
+     * @throws PolynomialNegativePowerException If power is negative.
+     */
+    public DenseUnivariatePolynomial powRecurrence(int power) {
+        DenseUnivariatePolynomial trivial = trivialPow(power);
+        if (trivial != null) {
+            return trivial;
+        }
+        int low = 0;
+        while (this.coefficients[low].isZero()) {
+            ++low;
+        }
+        int degree = this.coefficients.length - 1 - low;
+        int shift = Math.multiplyExact(low, power);
+        int length = Math.addExact(Math.multiplyExact(degree, power), 1);
+        IntegerForm a = new IntegerForm(Arrays.copyOfRange(this.coefficients, low, this.coefficients.length));
+
+        // Nonzero coefficients of a other than a_0.
+        int count = 0;
+        int[] indices = new int[degree];
+        BigInteger[] values = new BigInteger[degree];
+        for (int i = 1; i <= degree; ++i) {
+            if (a.numerators[i].signum() != 0) {
+                indices[count] = i;
+                values[count++] = a.numerators[i];
+            }
+        }
+
+        BigInteger first = a.numerators[0];
+        BigInteger[] b = new BigInteger[length];
+        b[0] = first.pow(power);
+        for (int k = 1; k < length; ++k) {
+            BigInteger sum = BigInteger.ZERO;
+            for (int j = 0; j < count && indices[j] <= k; ++j) {
+                int i = indices[j];
+                long factor = (long) (power + 1) * i - k;
+                if (factor != 0 && b[k - i].signum() != 0) {
+                    sum = sum.add(values[j].multiply(b[k - i]).multiply(BigInteger.valueOf(factor)));
+                }
+            }
+            b[k] = sum.signum() == 0 ? BigInteger.ZERO : sum.divide(first.multiply(BigInteger.valueOf(k)));
+        }
+
+        BigInteger denominator = a.denominator.pow(power);
+        RationalNumber[] result = new RationalNumber[shift + length];
+        Arrays.fill(result, 0, shift, RationalNumber.zero);
+        for (int k = 0; k < length; ++k) {
+            BigInteger n = b[k];
+            result[shift + k] = denominator.equals(BigInteger.ONE) && n.bitLength() < Integer.SIZE
+                    ? RationalNumber.of(n.intValue())
+                    : new RationalNumber(n, denominator);
+        }
+        return new DenseUnivariatePolynomial(trim(result), this.variable);
+    }
+
+    /**
+     * Handles the powers that need no arithmetic: 0, 1 and any positive power of zero.
+     * @return The power, or null if it has to be computed.
+     */
+    private DenseUnivariatePolynomial trivialPow(int power) {
+        if (power < 0) {
+            throw new PolynomialNegativePowerException();
+        }
+        if (power == 0) {
+            return new DenseUnivariatePolynomial(new RationalNumber[] { RationalNumber.one }, this.variable);
+        }
+        return power == 1 || this.isZero() ? this : null;
+    }
+
+    /**
+     * Computes the integer product with number-theoretic transforms, or with Karatsuba's method if there are too few
+     * Fourier primes.
+     */
+    private static BigInteger[] fourier(IntegerForm a, IntegerForm b) {
+        BigInteger bound = a.maxNumerator().multiply(b.maxNumerator())
+                .multiply(BigInteger.valueOf(Math.min(a.numerators.length, b.numerators.length)));
+
+        // Every Fourier prime exceeds 2^30, and the product of the primes must exceed twice the bound.
+        int primeCount = (bound.bitLength() + 1 + 29) / 30;
+        int resultLength = a.numerators.length + b.numerators.length - 1;
+        List<PrimeField> primes = PrimeField.fourierPrimes(primeCount,
+                NumberTheoreticTransform.log2Length(resultLength));
+        if (primes.size() < primeCount) {
+            return karatsuba(a.numerators, b.numerators);
+        }
+        List<long[]> images = primes.parallelStream()
+                .map(field -> NumberTheoreticTransform.multiply(a.residues(field), b.residues(field), field))
+                .toList();
+
+        BigInteger[] product = new BigInteger[resultLength];
+        if (primes.size() <= 2) {
+            // The combined modulus is below 2^62, so Garner's formula x = r1 + p1 ((r2 - r1) / p1 mod p2) stays in a
+            // long.
+            PrimeField first = primes.get(0);
+            PrimeField second = primes.size() == 2 ? primes.get(1) : null;
+            long p1 = first.getModulus();
+            long modulus = second == null ? p1 : p1 * second.getModulus();
+            long inverse = second == null ? 0 : second.inverse(second.valueOf(p1));
+            for (int i = 0; i < resultLength; ++i) {
+                long x = images.get(0)[i];
+                if (second != null) {
+                    x += p1 * second.multiply(second.subtract(images.get(1)[i], second.valueOf(x)), inverse);
+                }
+                product[i] = BigInteger.valueOf(x > modulus / 2 ? x - modulus : x);
+            }
+            return product;
+        }
+        for (int i = 0; i < resultLength; ++i) {
+            BigInteger residue = BigInteger.ZERO;
+            BigInteger modulus = BigInteger.ONE;
+            for (int k = 0; k < primes.size(); ++k) {
+                PrimeField field = primes.get(k);
+                residue = ModularReconstruction.chineseRemainder(residue, modulus, images.get(k)[i], field);
+                modulus = modulus.multiply(BigInteger.valueOf(field.getModulus()));
+            }
+            product[i] = ModularReconstruction.symmetric(residue, modulus);
+        }
+        return product;
+    }
+
+    /**
+     * Classical product on the rational coefficients themselves, for factors whose common denominator is so large
+     * that clearing it would make the integer coefficients much longer than the rational ones.
+     */
+    private DenseUnivariatePolynomial multiplyRational(DenseUnivariatePolynomial p, Variable variable) {
+        RationalNumber[] result = new RationalNumber[this.coefficients.length + p.coefficients.length - 1];
+        Arrays.fill(result, RationalNumber.zero);
+        for (int i = 0; i < this.coefficients.length; ++i) {
+            RationalNumber c = this.coefficients[i];
+            if (!c.isZero()) {
+                for (int j = 0; j < p.coefficients.length; ++j) {
+                    result[i + j] = result[i + j].add(c.multiply(p.coefficients[j]));
+                }
+            }
+        }
+        return new DenseUnivariatePolynomial(trim(result), variable);
+    }
+
+    /**
+     * Obtains the variable of a sum or product, which may only differ from this polynomial's if one is a constant.
+     */
+    private Variable commonVariable(DenseUnivariatePolynomial p) {
+        if (this.variable == p.variable || p.coefficients.length <= 1) {
+            return this.variable;
+        }
+        if (this.coefficients.length <= 1) {
+            return p.variable;
+        }
+        throw new IllegalArgumentException("Cannot combine polynomials in " + this.variable + " and " + p.variable
+                + ".");
+    }
+
+    /**
+     * Classical product of integer coefficient vectors. When the coefficients are small enough that every sum of
+     * products fits in 63 bits, the products are accumulated in {@code long}s.
+     */
+    private static BigInteger[] schoolbook(BigInteger[] a, BigInteger[] b) {
+        BigInteger[] result = new BigInteger[a.length + b.length - 1];
+        if (fitsWord(a, b)) {
+            long[] la = longValues(a);
+            long[] lb = longValues(b);
+            long[] sums = new long[result.length];
+            for (int i = 0; i < la.length; ++i) {
+                long ai = la[i];
+                if (ai != 0) {
+                    for (int j = 0; j < lb.length; ++j) {
+                        sums[i + j] += ai * lb[j];
+                    }
+                }
+            }
+            for (int k = 0; k < result.length; ++k) {
+                result[k] = BigInteger.valueOf(sums[k]);
+            }
+            return result;
+        }
+
+        Arrays.fill(result, BigInteger.ZERO);
+        for (int i = 0; i < a.length; ++i) {
+            if (a[i].signum() != 0) {
+                for (int j = 0; j < b.length; ++j) {
+                    result[i + j] = result[i + j].add(a[i].multiply(b[j]));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Karatsuba product of integer coefficient vectors. Unbalanced factors are split into chunks of the shorter
+     * length, so every recursive product is balanced.
+     */
+    private static BigInteger[] karatsuba(BigInteger[] a, BigInteger[] b) {
+        if (a.length < b.length) {
+            BigInteger[] swap = a;
+            a = b;
+            b = swap;
+        }
+        if (b.length < KARATSUBA_THRESHOLD) {
+            return schoolbook(a, b);
+        }
+
+        BigInteger[] result = new BigInteger[a.length + b.length - 1];
+        Arrays.fill(result, BigInteger.ZERO);
+        if (a.length > b.length) {
+            for (int offset = 0; offset < a.length; offset += b.length) {
+                BigInteger[] chunk = Arrays.copyOfRange(a, offset, Math.min(offset + b.length, a.length));
+                addShifted(result, karatsuba(chunk, b), offset);
+            }
+            return result;
+        }
+
+        // a = a0 + a1 x^half, b = b0 + b1 x^half, and a b = z0 + (z1 - z0 - z2) x^half + z2 x^(2 half).
+        int half = a.length / 2;
+        BigInteger[] a0 = Arrays.copyOfRange(a, 0, half);
+        BigInteger[] a1 = Arrays.copyOfRange(a, half, a.length);
+        BigInteger[] b0 = Arrays.copyOfRange(b, 0, half);
+        BigInteger[] b1 = Arrays.copyOfRange(b, half, b.length);
+        BigInteger[] z0 = karatsuba(a0, b0);
+        BigInteger[] z2 = karatsuba(a1, b1);
+        BigInteger[] z1 = karatsuba(sum(a0, a1), sum(b0, b1));
+        for (int i = 0; i < z0.length; ++i) {
+            z1[i] = z1[i].subtract(z0[i]);
+        }
+        for (int i = 0; i < z2.length; ++i) {
+            z1[i] = z1[i].subtract(z2[i]);
+        }
+        addShifted(result, z0, 0);
+        addShifted(result, z1, half);
+        addShifted(result, z2, 2 * half);
+        return result;
+    }
+
+    /**
+     * Checks if every coefficient of the product of a and b, as a sum of products, fits in 63 bits.
+     */
+    private static boolean fitsWord(BigInteger[] a, BigInteger[] b) {
+        int shorter = Math.min(a.length, b.length);
+        int bits = maxBitLength(a) + maxBitLength(b) + Integer.SIZE - Integer.numberOfLeadingZeros(shorter);
+        return bits < Long.SIZE - 1;
+    }
+
+    private static BigInteger[] sum(BigInteger[] low, BigInteger[] high) {
+        // The high half is never shorter than the low half.
+        BigInteger[] result = high.clone();
+        for (int i = 0; i < low.length; ++i) {
+            result[i] = result[i].add(low[i]);
+        }
+        return result;
+    }
+
+    private static void addShifted(BigInteger[] result, BigInteger[] values, int offset) {
+        int length = Math.min(values.length, result.length - offset);
+        for (int i = 0; i < length; ++i) {
+            if (values[i].signum() != 0) {
+                result[offset + i] = result[offset + i].add(values[i]);
+            }
+        }
+    }
+
+    private static int maxBitLength(BigInteger[] values) {
+        int result = 0;
+        for (BigInteger value : values) {
+            result = Math.max(result, value.bitLength());
+        }
+        return result;
+    }
+
+    private static long[] longValues(BigInteger[] values) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = values[i].longValue();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != this.getClass()) {
+            return false;
+        }
+
+        DenseUnivariatePolynomial p = (DenseUnivariatePolynomial) o;
+        // Constants do not depend on the variable.
+        return (this.variable == p.variable || this.coefficients.length <= 1)
+                && Arrays.equals(this.coefficients, p.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = this.hash;
+        if (h == 0) {
+            h = Arrays.hashCode(this.coefficients);
+            this.hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        if (this.isZero()) {
+            return RationalNumber.zero.toString();
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (int i = this.coefficients.length - 1; i >= 0; --i) {
+            if (this.coefficients[i].isZero()) {
+                continue;
+            }
+            if (!result.isEmpty()) {
+                result.append(" + ");
+            }
+            result.append(this.coefficients[i]).append(new Monomial(this.variable, i));
+        }
+        return result.toString();
+    }
+
+    private enum Algorithm {
+        automatic,
+        schoolbook,
+        karatsuba,
+        fourier
+    }
+
+    /**
+     * Coefficients scaled to integers by the least common multiple of their denominators.
+     */
+    private static final class IntegerForm {
+        private final BigInteger[] numerators;
+        private final BigInteger denominator;
+        // Largest bit length of any numerator or denominator before scaling.
+        private final int rationalBits;
+
+        IntegerForm(RationalNumber[] coefficients) {
+            BigInteger denominator = BigInteger.ONE;
+            int rationalBits = 0;
+            for (RationalNumber c : coefficients) {
+                BigInteger d = c.getBigDenominator();
+                rationalBits = Math.max(rationalBits, Math.max(d.bitLength(), c.getBigNumerator().bitLength()));
+                if (!d.equals(BigInteger.ONE)) {
+                    denominator = denominator.divide(denominator.gcd(d)).multiply(d);
+                }
+            }
+            this.denominator = denominator;
+            this.rationalBits = rationalBits;
+            this.numerators = new BigInteger[coefficients.length];
+            for (int i = 0; i < coefficients.length; ++i) {
+                RationalNumber c = coefficients[i];
+                BigInteger d = c.getBigDenominator();
+                this.numerators[i] = d.equals(denominator)
+                        ? c.getBigNumerator()
+                        : c.getBigNumerator().multiply(denominator.divide(d));
+            }
+        }
+
+        /**
+         * Checks if the common denominator grew so much that integer arithmetic would be slower than rational
+         * arithmetic, which happens when the denominators have few common factors.
+         */
+        boolean isInflated() {
+            return this.denominator.bitLength() > INFLATION * this.rationalBits + Long.SIZE;
+        }
+
+        BigInteger maxNumerator() {
+            BigInteger result = BigInteger.ZERO;
+            for (BigInteger n : this.numerators) {
+                result = result.max(n.abs());
+            }
+            return result;
+        }
+
+        long[] residues(PrimeField field) {
+            long[] result = new long[this.numerators.length];
+            for (int i = 0; i < result.length; ++i) {
+                BigInteger n = this.numerators[i];
+                result[i] = n.bitLength() < Long.SIZE ? field.valueOf(n.longValue()) : field.valueOf(n);
+            }
+            return result;
+        }
+
+        /**
+         * Converts the integer product of this form and another one back to rational coefficients.
+         */
+        DenseUnivariatePolynomial fromProduct(BigInteger[] product, IntegerForm other, Variable variable) {
+            BigInteger denominator = this.denominator.multiply(other.denominator);
+            RationalNumber[] result = new RationalNumber[product.length];
+            for (int i = 0; i < product.length; ++i) {
+                BigInteger n = product[i];
+                result[i] = denominator.equals(BigInteger.ONE) && n.bitLength() < Integer.SIZE
+                        ? RationalNumber.of(n.intValue())
+                        : new RationalNumber(n, denominator);
+            }
+            return new DenseUnivariatePolynomial(trim(result), variable);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package polynomial;
+
+import number.RationalNumber;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Multivariate division with remainder.
+ *
+ * The dividend is kept in a {@link TreeMap} sorted in descending monomial order, so that its leading term is always
+ * the first entry. Each reduction step removes the leading term and subtracts a multiple of the divisor's remaining
+ * terms, which costs O(t log n) for a divisor with t terms instead of rebuilding the whole polynomial.
+ */
+final class Division {
+    private Division() {
+    }
+
+    /**
+     * Divides f by the divisors in f's monomial order.
+     * @param f The dividend.
+     * @param divisors The divisors; zero divisors are ignored and get a zero quotient.
+     * @param computeQuotients Whether to accumulate quotients; if false, the result has no quotients.
+     * @return The quotients and the remainder.
+     */
+    static DivisionResult divide(Polynomial f, List<Polynomial> divisors, boolean computeQuotients) {
+        return divide(f, divisors, computeQuotients, false);
+    }
+
+    /**
+     * Divides f by a single divisor that is expected to divide it exactly. A single divisor is a Gröbner basis of the
+     * ideal it generates, so the first leading term that the divisor's leading monomial does not divide already
+     * proves that f is not a multiple, and the division stops there.
+     * @param f The dividend.
+     * @param g The nonzero divisor.
+     * @param computeQuotient Whether to compute the quotient; if false, a nonnull result has no quotients.
+     * @return The quotient and a zero remainder, or null if g does not divide f.
+     */
+    static DivisionResult divideExactly(Polynomial f, Polynomial g, boolean computeQuotient) {
+        return divide(f, List.of(g), computeQuotient, true);
+    }
+
+    /**
+     * Checks whether a nonzero polynomial g divides f, stopping at the first term that proves it does not.
+     */
+    static boolean divides(Polynomial g, Polynomial f) {
+        return divideExactly(f, g, false) != null;
+    }
+
+    private static DivisionResult divide(Polynomial f, List<Polynomial> divisors, boolean computeQuotients,
+                                         boolean exact) {
+        MonomialOrder order = f.getOrder();
+        Term[][] divisorTerms = new Term[divisors.size()][];
+        for (int i = 0; i < divisorTerms.length; ++i) {
+            divisorTerms[i] = divisors.get(i).withOrder(order).getTerms().toArray(new Term[0]);
+        }
+
+        List<Map<Monomial, RationalNumber>> quotients = new ArrayList<>();
+        if (computeQuotients) {
+            for (int i = 0; i < divisorTerms.length; ++i) {
+                quotients.add(new HashMap<>());
+            }
+        }
+
+        TreeMap<Monomial, RationalNumber> work = new TreeMap<>(order.reversed());
+        for (Term term : f.getTerms()) {
+            work.put(term.getMonomial(), term.getCoefficient());
+        }
+        Map<Monomial, RationalNumber> remainder = new HashMap<>();
+
+        while (!work.isEmpty()) {
+            Map.Entry<Monomial, RationalNumber> lead = work.pollFirstEntry();
+            int i = findReducer(divisorTerms, lead.getKey());
+            if (i < 0) {
+                if (exact) {
+                    return null;
+                }
+                // No divisor's leading monomial divides the leading term, so it moves to the remainder.
+                remainder.put(lead.getKey(), lead.getValue());
+                continue;
+            }
+
+            Term[] g = divisorTerms[i];
+            Monomial m = lead.getKey().divide(g[0].getMonomial());
+            RationalNumber c = lead.getValue().divide(g[0].getCoefficient());
+            if (computeQuotients) {
+                quotients.get(i).merge(m, c, RationalNumber::add);
+            }
+            RationalNumber minusC = c.negate();
+            for (int k = 1; k < g.length; ++k) {
+                work.merge(g[k].getMonomial().multiply(m), g[k].getCoefficient().multiply(minusC),
+                        Polynomial::addNonZero);
+            }
+        }
+
+        List<Polynomial> quotientPolynomials = new ArrayList<>(quotients.size());
+        for (Map<Monomial, RationalNumber> quotient : quotients) {
+            quotientPolynomials.add(new Polynomial(quotient, order));
+        }
+        return new DivisionResult(Collections.unmodifiableList(quotientPolynomials), new Polynomial(remainder, order));
+    }
+
+    /**
+     * Reduces f completely modulo the divisors, returning only the remainder.
+     */
+    static Polynomial reduce(Polynomial f, List<Polynomial> divisors) {
+        return divide(f, divisors, false).getRemainder();
+    }
+
+    private static int findReducer(Term[][] divisorTerms, Monomial monomial) {
+        for (int i = 0; i < divisorTerms.length; ++i) {
+            if (divisorTerms[i].length > 0 && divisorTerms[i][0].getMonomial().divides(monomial)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,29 @@
+package polynomial;
+
+import java.util.List;
+
+/**
+ * The outcome of dividing a polynomial f by divisors f_1, ..., f_s: quotients q_i and a remainder r with
+ * f = q_1 f_1 + ... + q_s f_s + r, where no term of r is divisible by the leading monomial of any f_i.
+ */
+public final class DivisionResult {
+    private final List<Polynomial> quotients;
+    private final Polynomial remainder;
+
+    DivisionResult(List<Polynomial> quotients, Polynomial remainder) {
+        this.quotients = quotients;
+        this.remainder = remainder;
+    }
+
+    /**
+     * Obtains the quotients, one per divisor, in the order the divisors were given.
+     * @return Unmodifiable list of quotients.
+     */
+    public List<Polynomial> getQuotients() {
+        return this.quotients;
+    }
+
+    public Polynomial getRemainder() {
+        return this.remainder;
+    }
+}
@@ -0,0 +1,250 @@
+package polynomial;
+
+import number.PrimeField;
+import number.RationalNumber;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reduced Gröbner basis of a polynomial ideal over the rationals, computed with Buchberger's algorithm (see
+ * {@link Buchberger}).
+ *
+ * Critical pairs are pruned with the Gebauer–Möller installation of Buchberger's criteria: pairs whose leading
+ * monomials are coprime are never reduced (their S-polynomial always reduces to zero), and of the pairs whose lcm is
+ * a multiple of another pair's lcm only one is kept (the chain criterion). Basis elements whose leading monomial
+ * becomes divisible by a new element's are retired from reduction. Every new element is made monic, which keeps
+ * coefficient growth in check. Pairs are selected either by smallest lcm (the normal strategy) or by smallest sugar,
+ * the degree the S-polynomial would have if the input had been homogenized, which behaves much better on
+ * non-homogeneous systems.
+ */
+public final class GroebnerBasis {
+    /**
+     * The order in which critical pairs are reduced.
+     */
+    public enum SelectionStrategy {
+        /**
+         * Smallest lcm of the leading monomials first.
+         */
+        normal,
+        /**
+         * Smallest sugar degree first, ties broken by smallest lcm.
+         */
+        sugar
+    }
+
+    private final MonomialOrder order;
+    private final List<Polynomial> polynomials;
+
+    GroebnerBasis(MonomialOrder order, List<Polynomial> polynomials) {
+        this.order = order;
+        this.polynomials = polynomials;
+    }
+
+    /**
+     * Computes the reduced Gröbner basis of the ideal generated by some polynomials. Pairs are selected with the
+     * normal strategy for {@link MonomialOrder#lex}, where sugar degrees say little about the actual degrees, and with
+     * the sugar strategy otherwise.
+     * @param generators Generators of the ideal; zero polynomials are ignored.
+     * @param order The monomial order of the basis.
+     * @return The reduced Gröbner basis.
+     */
+    public static GroebnerBasis compute(List<Polynomial> generators, MonomialOrder order) {
+        return compute(generators, order,
+                order == MonomialOrder.lex ? SelectionStrategy.normal : SelectionStrategy.sugar);
+    }
+
+    /**
+     * Computes the reduced Gröbner basis of the ideal generated by some polynomials.
+     * @param generators Generators of the ideal; zero polynomials are ignored.
+     * @param order The monomial order of the basis.
+     * @param strategy The pair selection strategy.
+     * @return The reduced Gröbner basis.
+     */
+    public static GroebnerBasis compute(List<Polynomial> generators, MonomialOrder order,
+                                        SelectionStrategy strategy) {
+        List<Polynomial> ordered = new ArrayList<>(generators.size());
+        for (Polynomial generator : generators) {
+            ordered.add(generator.withOrder(order));
+        }
+        return new GroebnerBasis(order, new Buchberger<Polynomial>(order, strategy) {
+            @Override
+            boolean isZero(Polynomial f) {
+                return f.isZero();
+            }
+
+            @Override
+            Monomial leadingMonomial(Polynomial f) {
+                return f.getLeadingTerm().getMonomial();
+            }
+
+            @Override
+            int degree(Polynomial f) {
+                int result = 0;
+                for (Term term : f.getTerms()) {
+                    result = Math.max(result, term.getMonomial().getDegree());
+                }
+                return result;
+            }
+
+            @Override
+            Polynomial monic(Polynomial f) {
+                RationalNumber leading = f.getLeadingTerm().getCoefficient();
+                return leading.equals(RationalNumber.one)
+                        ? f
+                        : f.multiply(new Term(RationalNumber.one.divide(leading)));
+            }
+
+            @Override
+            Polynomial sPolynomial(Polynomial f, Polynomial g) {
+                return GroebnerBasis.sPolynomial(f, g);
+            }
+
+            @Override
+            Polynomial reduce(Polynomial f, List<Polynomial> divisors) {
+                return Division.reduce(f, divisors);
+            }
+
+            @Override
+            Polynomial one() {
+                return new Polynomial(order, new Term(RationalNumber.one));
+            }
+        }.run(ordered));
+    }
+
+    /**
+     * Computes the reduced Gröbner basis of an ideal over a prime field, with the same algorithm as
+     * {@link #compute(List, MonomialOrder, SelectionStrategy)}.
+     * @param generators Generators of the ideal, all over the same field; zero polynomials are ignored.
+     * @param order The monomial order of the basis.
+     * @param strategy The pair selection strategy.
+     * @return Unmodifiable list of monic basis polynomials sorted by descending leading monomial.
+     */
+    public static List<ModularPolynomial> computeModular(List<ModularPolynomial> generators, MonomialOrder order,
+                                                         SelectionStrategy strategy) {
+        if (generators.isEmpty()) {
+            return List.of();
+        }
+        PrimeField field = generators.get(0).getField();
+        List<ModularPolynomial> ordered = new ArrayList<>(generators.size());
+        for (ModularPolynomial generator : generators) {
+            ordered.add(generator.withOrder(order));
+        }
+        return new Buchberger<ModularPolynomial>(order, strategy) {
+            @Override
+            boolean isZero(ModularPolynomial f) {
+                return f.isZero();
+            }
+
+            @Override
+            Monomial leadingMonomial(ModularPolynomial f) {
+                return f.getLeadingMonomial();
+            }
+
+            @Override
+            int degree(ModularPolynomial f) {
+                return f.getDegree();
+            }
+
+            @Override
+            ModularPolynomial monic(ModularPolynomial f) {
+                return f.monic();
+            }
+
+            @Override
+            ModularPolynomial sPolynomial(ModularPolynomial f, ModularPolynomial g) {
+                return GroebnerBasis.sPolynomial(f, g);
+            }
+
+            @Override
+            ModularPolynomial reduce(ModularPolynomial f, List<ModularPolynomial> divisors) {
+                return f.reduce(divisors);
+            }
+
+            @Override
+            ModularPolynomial one() {
+                return ModularPolynomial.constant(field, order, 1);
+            }
+        }.run(ordered);
+    }
+
+    /**
+     * Computes the S-polynomial of two nonzero polynomials in the order of f: with L the lcm of their leading
+     * monomials, S(f, g) = (L / LT(f)) f - (L / LT(g)) g.
+     * @param f The first polynomial.
+     * @param g The second polynomial.
+     * @return The S-polynomial of f and g.
+     */
+    public static Polynomial sPolynomial(Polynomial f, Polynomial g) {
+        g = g.withOrder(f.getOrder());
+        Term ltf = f.getLeadingTerm();
+        Term ltg = g.getLeadingTerm();
+        if (ltf == null || ltg == null) {
+            throw new IllegalArgumentException("S-polynomials are only defined for nonzero polynomials.");
+        }
+
+        Monomial lcm = ltf.getMonomial().lcm(ltg.getMonomial());
+        Polynomial left = f.multiply(new Term(RationalNumber.one.divide(ltf.getCoefficient()),
+                lcm.divide(ltf.getMonomial())));
+        Polynomial right = g.multiply(new Term(RationalNumber.one.divide(ltg.getCoefficient()),
+                lcm.divide(ltg.getMonomial())));
+        return left.subtract(right);
+    }
+
+    /**
+     * Computes the S-polynomial of two nonzero polynomials over the same prime field, in the order of f.
+     * @param f The first polynomial.
+     * @param g The second polynomial.
+     * @return The S-polynomial of f and g.
+     */
+    public static ModularPolynomial sPolynomial(ModularPolynomial f, ModularPolynomial g) {
+        if (f.isZero() || g.isZero()) {
+            throw new IllegalArgumentException("S-polynomials are only defined for nonzero polynomials.");
+        }
+
+        PrimeField field = f.getField();
+        g = g.withOrder(f.getOrder());
+        Monomial lcm = f.getLeadingMonomial().lcm(g.getLeadingMonomial());
+        ModularPolynomial left = f.multiply(field.inverse(f.getLeadingCoefficient()),
+                lcm.divide(f.getLeadingMonomial()));
+        ModularPolynomial right = g.multiply(field.inverse(g.getLeadingCoefficient()),
+                lcm.divide(g.getLeadingMonomial()));
+        return left.subtract(right);
+    }
+
+    public MonomialOrder getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Obtains the basis polynomials. They are monic and sorted by descending leading monomial.
+     * @return Unmodifiable list of basis polynomials.
+     */
+    public List<Polynomial> getPolynomials() {
+        return this.polynomials;
+    }
+
+    /**
+     * Computes the normal form of a polynomial, i.e., its remainder modulo this basis. The normal form does not depend
+     * on the order of the divisors.
+     * @param f The polynomial to reduce.
+     * @return The normal form of f, in this basis's monomial order.
+     */
+    public Polynomial reduce(Polynomial f) {
+        return Division.reduce(f.withOrder(this.order), this.polynomials);
+    }
+
+    /**
+     * Checks if a polynomial belongs to the ideal generated by this basis.
+     * @param f The polynomial.
+     * @return True if the normal form of f is zero, false otherwise.
+     */
+    public boolean contains(Polynomial f) {
+        return reduce(f).isZero();
+    }
+
+    @Override
+    public String toString() {
+        return this.polynomials.toString();
+    }
+}
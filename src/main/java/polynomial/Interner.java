@@ -0,0 +1,58 @@
+package polynomial;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * A table of canonical instances of an immutable type, so that equal values interned anywhere in the program share
+ * one instance and compare equal by reference.
+ *
+ * Instances are held weakly: once a canonical instance is no longer reachable from outside the table, it is collected
+ * and its entry removed. The table is split by hash into segments, each a synchronized {@link WeakHashMap} from an
+ * instance to a weak reference to itself, so that threads interning different values rarely contend.
+ */
+final class Interner<T> {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final WeakHashMap<T, WeakReference<T>>[] segments;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Interner() {
+        this.segments = new WeakHashMap[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; ++i) {
+            this.segments[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * Obtains the canonical instance equal to a value, making the value itself canonical if there is none.
+     * @param value The value.
+     * @return The canonical instance, which equals value.
+     */
+    T intern(T value) {
+        int h = value.hashCode();
+        WeakHashMap<T, WeakReference<T>> segment = this.segments[(h ^ (h >>> 16)) & (SEGMENT_COUNT - 1)];
+        synchronized (segment) {
+            WeakReference<T> reference = segment.get(value);
+            T canonical = reference == null ? null : reference.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            segment.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    /**
+     * Counts the canonical instances that have not been collected yet.
+     */
+    int size() {
+        int result = 0;
+        for (WeakHashMap<T, WeakReference<T>> segment : this.segments) {
+            synchronized (segment) {
+                result += segment.size();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package polynomial;
+
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * An immutable matrix of partial derivatives: the Jacobian of a system of polynomials, whose row i is the gradient
+ * of the i-th polynomial, or the Hessian of a single polynomial.
+ *
+ * Columns correspond to the variables of differentiation, in the order given on creation. For repeated evaluation,
+ * e.g. in Newton's method, {@link #compile()} turns all entries into one evaluator.
+ */
+public final class Jacobian {
+    private final Polynomial[][] entries;
+    private final Variable[] variables;
+
+    private Jacobian(Polynomial[][] entries, Variable[] variables) {
+        this.entries = entries;
+        this.variables = variables;
+    }
+
+    /**
+     * Creates the Jacobian of a system with respect to all of its variables.
+     * @param system The polynomials, one per row.
+     * @return The Jacobian, whose columns are the variables of the system in increasing order of index.
+     */
+    public static Jacobian of(List<Polynomial> system) {
+        SortedSet<Variable> variables = new TreeSet<>();
+        for (Polynomial p : system) {
+            variables.addAll(p.getVariables());
+        }
+        return of(system, List.copyOf(variables));
+    }
+
+    /**
+     * Creates the Jacobian of a system with respect to some variables.
+     * @param system The polynomials, one per row.
+     * @param variables The variables to differentiate with respect to, one per column.
+     * @return The Jacobian, whose entry (i, j) is the derivative of the i-th polynomial by the j-th variable.
+     */
+    public static Jacobian of(List<Polynomial> system, List<Variable> variables) {
+        Polynomial[][] entries = new Polynomial[system.size()][];
+        for (int row = 0; row < entries.length; ++row) {
+            entries[row] = system.get(row).gradient(variables).toArray(new Polynomial[0]);
+        }
+        return new Jacobian(entries, variables.toArray(new Variable[0]));
+    }
+
+    /**
+     * Creates the Hessian of a polynomial. Mixed partial derivatives are equal, so each is computed once and shared
+     * by the two symmetric entries.
+     * @param p The polynomial.
+     * @param variables The variables to differentiate with respect to, one per row and column.
+     * @return The Hessian, whose entry (i, j) is the second derivative of p by the i-th and the j-th variable.
+     */
+    public static Jacobian hessian(Polynomial p, List<Variable> variables) {
+        List<Polynomial> gradient = p.gradient(variables);
+        Polynomial[][] entries = new Polynomial[variables.size()][variables.size()];
+        for (int row = 0; row < entries.length; ++row) {
+            for (int column = row; column < entries.length; ++column) {
+                entries[row][column] = gradient.get(row).derivative(variables.get(column));
+                entries[column][row] = entries[row][column];
+            }
+        }
+        return new Jacobian(entries, variables.toArray(new Variable[0]));
+    }
+
+    /**
+     * Compiles all entries for repeated evaluation at many points.
+     * @return An evaluator whose point arrays are indexed by the slots listed in {@link JacobianEvaluator#getSlots()}.
+     */
+    public JacobianEvaluator compile() {
+        return new JacobianEvaluator(this.entries, this.variables);
+    }
+
+    // Accessor methods.
+    public int getRowCount() {
+        return this.entries.length;
+    }
+    public int getColumnCount() {
+        return this.variables.length;
+    }
+    public Polynomial get(int row, int column) {
+        return this.entries[row][column];
+    }
+    public List<Polynomial> getRow(int row) {
+        return List.of(this.entries[row]);
+    }
+    public List<Variable> getVariables() {
+        return List.of(this.variables);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int row = 0; row < this.entries.length; ++row) {
+            result.append(row == 0 ? "[" : ", [");
+            for (int column = 0; column < this.variables.length; ++column) {
+                result.append(column == 0 ? "" : ", ").append(this.entries[row][column]);
+            }
+            result.append(']');
+        }
+        return result.append(']').toString();
+    }
+}
@@ -0,0 +1,240 @@
+package polynomial;
+
+import exceptions.EvaluatorMissingVariable;
+import number.MutableRationalNumber;
+import number.RationalNumber;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * A matrix of polynomials compiled for repeated evaluation, obtained from {@link Jacobian#compile()}.
+ *
+ * The variables of the entries and of differentiation are mapped to consecutive slots of a point array, in the order
+ * given by {@link #getSlots()}. The entries of a Jacobian share most of their monomials, so each evaluation works in
+ * one pass over the whole matrix: it tabulates the powers of every variable up to its highest exponent, evaluates
+ * every distinct monomial once from the tables, and then sums each entry from its coefficients and the values of
+ * its monomials. The monomials, and then the rows, can be spread across threads.
+ *
+ * Evaluators are immutable and can be shared between threads.
+ */
+public final class JacobianEvaluator {
+    private final int rowCount;
+    private final int columnCount;
+    private final Variable[] variables;
+    private final int[] maxPower;
+    // Per distinct monomial: the slots of its variables and their exponents.
+    private final int[][] monomialSlots;
+    private final int[][] monomialPowers;
+    // Per entry, in row-major order: the indices of its monomials and their coefficients.
+    private final int[][] entryMonomials;
+    private final RationalNumber[][] entryCoefficients;
+    private final double[][] entryCoefficientsDouble;
+
+    JacobianEvaluator(Polynomial[][] entries, Variable[] columns) {
+        this.rowCount = entries.length;
+        this.columnCount = columns.length;
+
+        // Assign consecutive slots to the variables in index order.
+        SortedSet<Variable> used = new TreeSet<>(List.of(columns));
+        for (Polynomial[] row : entries) {
+            for (Polynomial entry : row) {
+                used.addAll(entry.getVariables());
+            }
+        }
+        this.variables = used.toArray(new Variable[0]);
+        Map<Variable, Integer> slotOf = new HashMap<>();
+        for (int slot = 0; slot < this.variables.length; ++slot) {
+            slotOf.put(this.variables[slot], slot);
+        }
+
+        Map<Monomial, Integer> monomialIndex = new HashMap<>();
+        List<Monomial> monomials = new ArrayList<>();
+        int entryCount = this.rowCount * this.columnCount;
+        this.entryMonomials = new int[entryCount][];
+        this.entryCoefficients = new RationalNumber[entryCount][];
+        this.entryCoefficientsDouble = new double[entryCount][];
+        for (int row = 0; row < this.rowCount; ++row) {
+            for (int column = 0; column < this.columnCount; ++column) {
+                Map<Monomial, RationalNumber> terms = entries[row][column].coefficientMap();
+                int e = row * this.columnCount + column;
+                this.entryMonomials[e] = new int[terms.size()];
+                this.entryCoefficients[e] = new RationalNumber[terms.size()];
+                this.entryCoefficientsDouble[e] = new double[terms.size()];
+                int t = 0;
+                for (var term : terms.entrySet()) {
+                    Integer index = monomialIndex.get(term.getKey());
+                    if (index == null) {
+                        index = monomials.size();
+                        monomialIndex.put(term.getKey(), index);
+                        monomials.add(term.getKey());
+                    }
+                    this.entryMonomials[e][t] = index;
+                    this.entryCoefficients[e][t] = term.getValue();
+                    this.entryCoefficientsDouble[e][t] = term.getValue().doubleValue();
+                    ++t;
+                }
+            }
+        }
+
+        this.maxPower = new int[this.variables.length];
+        this.monomialSlots = new int[monomials.size()][];
+        this.monomialPowers = new int[monomials.size()][];
+        for (int m = 0; m < monomials.size(); ++m) {
+            Monomial monomial = monomials.get(m);
+            int factors = 0;
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                if (monomial.exponentAt(i) != 0) {
+                    ++factors;
+                }
+            }
+            this.monomialSlots[m] = new int[factors];
+            this.monomialPowers[m] = new int[factors];
+            int f = 0;
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                int power = monomial.exponentAt(i);
+                if (power == 0) {
+                    continue;
+                }
+                int slot = slotOf.get(Variable.at(i));
+                this.monomialSlots[m][f] = slot;
+                this.monomialPowers[m][f] = power;
+                this.maxPower[slot] = Math.max(this.maxPower[slot], power);
+                ++f;
+            }
+        }
+    }
+
+    /**
+     * Obtains the variables of the compiled entries and of differentiation in slot order.
+     * @return Unmodifiable list where the i-th variable is read from index i of a point array.
+     */
+    public List<Variable> getSlots() {
+        return List.of(this.variables);
+    }
+
+    /**
+     * Evaluates all entries exactly.
+     * @param point Values of the variables, indexed by slot (see {@link #getSlots()}).
+     * @return Values of the entries, indexed by row and column.
+     */
+    public RationalNumber[][] evaluate(RationalNumber[] point) {
+        return evaluate(point, false);
+    }
+
+    /**
+     * Evaluates all entries exactly.
+     * @param point Values of the variables, indexed by slot (see {@link #getSlots()}).
+     * @param parallel Whether to spread the monomials and then the rows across the common
+     *                 {@link java.util.concurrent.ForkJoinPool}.
+     * @return Values of the entries, indexed by row and column.
+     */
+    public RationalNumber[][] evaluate(RationalNumber[] point, boolean parallel) {
+        checkPoint(point.length);
+        RationalNumber[][] powers = new RationalNumber[this.variables.length][];
+        for (int slot = 0; slot < powers.length; ++slot) {
+            RationalNumber[] table = new RationalNumber[this.maxPower[slot] + 1];
+            table[0] = RationalNumber.one;
+            for (int k = 1; k < table.length; ++k) {
+                table[k] = table[k - 1].multiply(point[slot]);
+            }
+            powers[slot] = table;
+        }
+
+        RationalNumber[] values = new RationalNumber[this.monomialSlots.length];
+        IntStream monomials = IntStream.range(0, values.length);
+        (parallel ? monomials.parallel() : monomials).forEach(m -> {
+            RationalNumber value = RationalNumber.one;
+            for (int f = 0; f < this.monomialSlots[m].length; ++f) {
+                value = value.multiply(powers[this.monomialSlots[m][f]][this.monomialPowers[m][f]]);
+            }
+            values[m] = value;
+        });
+
+        RationalNumber[][] result = new RationalNumber[this.rowCount][this.columnCount];
+        IntStream rows = IntStream.range(0, this.rowCount);
+        (parallel ? rows.parallel() : rows).forEach(row -> {
+            MutableRationalNumber sum = new MutableRationalNumber();
+            for (int column = 0; column < this.columnCount; ++column) {
+                int e = row * this.columnCount + column;
+                sum.clear();
+                for (int t = 0; t < this.entryMonomials[e].length; ++t) {
+                    sum.addProduct(this.entryCoefficients[e][t], values[this.entryMonomials[e][t]]);
+                }
+                result[row][column] = sum.toRationalNumber();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Evaluates all entries in floating point.
+     * @param point Values of the variables, indexed by slot (see {@link #getSlots()}).
+     * @return Approximate values of the entries, indexed by row and column.
+     */
+    public double[][] evaluate(double[] point) {
+        return evaluate(point, false);
+    }
+
+    /**
+     * Evaluates all entries in floating point.
+     * @param point Values of the variables, indexed by slot (see {@link #getSlots()}).
+     * @param parallel Whether to spread the rows across the common {@link java.util.concurrent.ForkJoinPool}.
+     * @return Approximate values of the entries, indexed by row and column.
+     */
+    public double[][] evaluate(double[] point, boolean parallel) {
+        checkPoint(point.length);
+        double[][] powers = new double[this.variables.length][];
+        for (int slot = 0; slot < powers.length; ++slot) {
+            double[] table = new double[this.maxPower[slot] + 1];
+            table[0] = 1.0;
+            for (int k = 1; k < table.length; ++k) {
+                table[k] = table[k - 1] * point[slot];
+            }
+            powers[slot] = table;
+        }
+
+        // Monomial values are cheap in floating point, so only the rows are parallel.
+        double[] values = new double[this.monomialSlots.length];
+        for (int m = 0; m < values.length; ++m) {
+            double value = 1.0;
+            for (int f = 0; f < this.monomialSlots[m].length; ++f) {
+                value *= powers[this.monomialSlots[m][f]][this.monomialPowers[m][f]];
+            }
+            values[m] = value;
+        }
+
+        double[][] result = new double[this.rowCount][this.columnCount];
+        IntStream rows = IntStream.range(0, this.rowCount);
+        (parallel ? rows.parallel() : rows).forEach(row -> {
+            for (int column = 0; column < this.columnCount; ++column) {
+                int e = row * this.columnCount + column;
+                double sum = 0.0;
+                for (int t = 0; t < this.entryMonomials[e].length; ++t) {
+                    sum += this.entryCoefficientsDouble[e][t] * values[this.entryMonomials[e][t]];
+                }
+                result[row][column] = sum;
+            }
+        });
+        return result;
+    }
+
+    private void checkPoint(int length) {
+        if (length < this.variables.length) {
+            throw new EvaluatorMissingVariable();
+        }
+    }
+
+    // Accessor methods.
+    public int getRowCount() {
+        return this.rowCount;
+    }
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+}
@@ -0,0 +1,115 @@
+package polynomial;
+
+import number.RationalNumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The terms of a polynomial stored in a memory-mapped file in {@link PolynomialBinaryFormat}, decoded on demand.
+ *
+ * Only the header is read when the file is mapped. Every iteration decodes the terms afresh, in descending order of
+ * the stored monomial order, directly from the mapping and without holding more than one term at a time; the file is
+ * only loaded into the Java heap by {@link #toPolynomial()}. Iterations are independent, so several threads may
+ * iterate concurrently.
+ */
+public final class MappedPolynomial implements Iterable<Term> {
+    private final ByteBuffer terms;
+    private final MonomialOrder order;
+    private final int[] variables;
+    private final int termCount;
+
+    MappedPolynomial(ByteBuffer terms, MonomialOrder order, int[] variables, int termCount) {
+        this.terms = terms;
+        this.order = order;
+        this.variables = variables;
+        this.termCount = termCount;
+    }
+
+    // Accessor methods.
+    public MonomialOrder getOrder() {
+        return this.order;
+    }
+    public int getTermCount() {
+        return this.termCount;
+    }
+    public Set<VariableName> getVariableSet() {
+        Set<VariableName> result = EnumSet.noneOf(VariableName.class);
+        for (int variable : this.variables) {
+            if (Variable.at(variable).toVariableName() != null) {
+                result.add(Variable.at(variable).toVariableName());
+            }
+        }
+        return result;
+    }
+    public SortedSet<Variable> getVariables() {
+        SortedSet<Variable> result = new TreeSet<>();
+        for (int variable : this.variables) {
+            result.add(Variable.at(variable));
+        }
+        return result;
+    }
+
+    /**
+     * Iterates over the terms in descending order.
+     * @return An iterator that decodes one term per call to next().
+     * @throws exceptions.PolynomialFormatException From next(), if the file is truncated or corrupt.
+     */
+    @Override
+    public Iterator<Term> iterator() {
+        PolynomialBinaryFormat.Decoder decoder = new PolynomialBinaryFormat.Decoder(this.variables,
+                this.terms.duplicate());
+        return new Iterator<>() {
+            private int remaining = MappedPolynomial.this.termCount;
+
+            @Override
+            public boolean hasNext() {
+                return this.remaining > 0;
+            }
+
+            @Override
+            public Term next() {
+                if (this.remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                --this.remaining;
+                try {
+                    return decoder.readTerm();
+                }
+                catch (IOException e) {
+                    // A decoder without a stream never reads.
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Decodes all the terms into a polynomial.
+     * @return The stored polynomial with its stored monomial order.
+     * @throws exceptions.PolynomialFormatException If the file is truncated or corrupt.
+     */
+    public Polynomial toPolynomial() {
+        PolynomialBinaryFormat.Decoder decoder = new PolynomialBinaryFormat.Decoder(this.variables,
+                this.terms.duplicate());
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.termCount);
+        try {
+            for (int i = 0; i < this.termCount; ++i) {
+                decoder.readTerm(result);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Polynomial(result, this.order);
+    }
+}
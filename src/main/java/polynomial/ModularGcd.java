@@ -0,0 +1,455 @@
+package polynomial;
+
+import exceptions.PrimeFieldTooSmallException;
+import number.ModularReconstruction;
+import number.PrimeField;
+import number.RationalNumber;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Greatest common divisors by Brown's dense modular algorithm.
+ *
+ * Over the rationals, both inputs are scaled to primitive integer polynomials, and their GCD is computed modulo a
+ * sequence of primes, scaled so that its leading coefficient is the integer GCD of the inputs' leading coefficients,
+ * and lifted with Chinese remaindering. Over a prime field, the last variable is eliminated by evaluating it at
+ * successive points; the GCDs of the images are computed recursively and combined by Newton interpolation, and
+ * univariate GCDs use Euclid's algorithm on dense residue arrays.
+ *
+ * Images whose leading monomial is greater than that of other images come from unlucky primes or points and are
+ * discarded. As soon as a lifted candidate stops changing, it is checked by trial division, so the number of primes
+ * and points follows the size of the GCD rather than a worst-case bound, and no coefficient ever grows beyond the
+ * size of the result. All computations are done in {@link MonomialOrder#lex}.
+ */
+final class ModularGcd {
+    private static final MonomialOrder lex = MonomialOrder.lex;
+
+    private ModularGcd() {
+    }
+
+    /**
+     * Computes a GCD of two nonzero rational polynomials.
+     * @return The GCD as a primitive integer polynomial in lex order.
+     */
+    static Polynomial gcd(Polynomial a, Polynomial b) {
+        Polynomial one = new Polynomial(lex, new Term(RationalNumber.one));
+        Polynomial pa = integerPrimitivePart(a.withOrder(lex));
+        Polynomial pb = integerPrimitivePart(b.withOrder(lex));
+        if (pa.getVariables().isEmpty() || pb.getVariables().isEmpty()) {
+            return one;
+        }
+        List<Variable> variables = variables(pa.getVariables(), pb.getVariables());
+
+        // Every image is scaled to the leading coefficient gamma, a multiple of the GCD's leading coefficient, so the
+        // images of different primes fit together.
+        BigInteger leadingA = pa.getLeadingTerm().getCoefficient().getBigNumerator();
+        BigInteger leadingB = pb.getLeadingTerm().getCoefficient().getBigNumerator();
+        BigInteger gamma = leadingA.gcd(leadingB);
+
+        Monomial leading = null;
+        Map<Monomial, BigInteger> residues = new HashMap<>();
+        BigInteger modulus = BigInteger.ONE;
+        Polynomial previous = null;
+        for (int used = 0; ; ++used) {
+            PrimeField field = PrimeField.largePrimes(used + 1).get(used);
+            if (field.valueOf(leadingA) == 0 || field.valueOf(leadingB) == 0) {
+                continue;
+            }
+            ModularPolynomial image = gcd(ModularPolynomial.of(pa, field), ModularPolynomial.of(pb, field), variables);
+            if (image.getLeadingMonomial().isOne()) {
+                return one;
+            }
+            image = image.multiply(field.valueOf(gamma), Monomial.one);
+
+            int comparison = leading == null ? -1 : lex.compare(image.getLeadingMonomial(), leading);
+            if (comparison > 0) {
+                // The prime is unlucky.
+                continue;
+            }
+            if (comparison < 0) {
+                // All earlier primes were unlucky.
+                leading = image.getLeadingMonomial();
+                residues.clear();
+                modulus = BigInteger.ONE;
+                previous = null;
+            }
+            // A monomial seen for the first time had coefficient zero modulo all earlier primes.
+            for (Monomial monomial : image.getMonomials()) {
+                residues.putIfAbsent(monomial, BigInteger.ZERO);
+            }
+            for (var entry : residues.entrySet()) {
+                entry.setValue(ModularReconstruction.chineseRemainder(entry.getValue(), modulus,
+                        image.getCoefficient(entry.getKey()), field));
+            }
+            modulus = modulus.multiply(BigInteger.valueOf(field.getModulus()));
+
+            Map<Monomial, RationalNumber> terms = new HashMap<>(2 * residues.size());
+            for (var entry : residues.entrySet()) {
+                BigInteger coefficient = ModularReconstruction.symmetric(entry.getValue(), modulus);
+                if (coefficient.signum() != 0) {
+                    terms.put(entry.getKey(), new RationalNumber(coefficient, BigInteger.ONE));
+                }
+            }
+            Polynomial candidate = integerPrimitivePart(new Polynomial(terms, lex));
+            if (candidate.equals(previous) && divides(candidate, pa) && divides(candidate, pb)) {
+                return candidate;
+            }
+            previous = candidate;
+        }
+    }
+
+    /**
+     * Computes the monic GCD of two polynomials over a prime field, in the first polynomial's order.
+     */
+    static ModularPolynomial gcd(ModularPolynomial a, ModularPolynomial b) {
+        if (a.isZero() || b.isZero()) {
+            return (a.isZero() ? b : a).withOrder(a.getOrder()).monic();
+        }
+        List<Variable> variables = variables(a.getVariables(), b.getVariables());
+        return gcd(a.withOrder(lex), b.withOrder(lex), variables).withOrder(a.getOrder()).monic();
+    }
+
+    /**
+     * Brown's algorithm over a prime field for nonzero polynomials in lex order, whose variables are among the given
+     * ones.
+     * @return The monic GCD in lex order.
+     * @throws PrimeFieldTooSmallException If the field runs out of points before the GCD is found.
+     */
+    private static ModularPolynomial gcd(ModularPolynomial a, ModularPolynomial b, List<Variable> variables) {
+        PrimeField field = a.getField();
+        if (variables.isEmpty()) {
+            return ModularPolynomial.constant(field, lex, 1);
+        }
+        Variable v = variables.get(variables.size() - 1);
+        if (variables.size() == 1) {
+            return fromDense(gcd(dense(a, v), dense(b, v), field), v, field);
+        }
+        List<Variable> rest = variables.subList(0, variables.size() - 1);
+
+        // View a and b as polynomials in the other variables with coefficients in GF(p)[v], and split off their
+        // contents, the GCDs of those coefficients.
+        Map<Monomial, long[]> groupsA = group(a, v);
+        Map<Monomial, long[]> groupsB = group(b, v);
+        long[] contentA = content(groupsA, field);
+        long[] contentB = content(groupsB, field);
+        ModularPolynomial content = fromDense(gcd(contentA, contentB, field), v, field);
+        divide(groupsA, contentA, field);
+        divide(groupsB, contentB, field);
+        ModularPolynomial primitiveA = ungroup(groupsA, v, field);
+        ModularPolynomial primitiveB = ungroup(groupsB, v, field);
+
+        long[] leadingA = groupsA.get(leadingKey(groupsA));
+        long[] leadingB = groupsB.get(leadingKey(groupsB));
+        long[] gamma = gcd(leadingA, leadingB, field);
+        // The interpolated GCD, scaled to leading coefficient gamma, has at most this degree in v.
+        int bound = degree(gamma) + Math.min(degree(groupsA), degree(groupsB));
+
+        Monomial leading = null;
+        Map<Monomial, long[]> interpolant = new HashMap<>();
+        long[] vanishing = { 1 };
+        int points = 0;
+        for (long alpha = 0; alpha < field.getModulus(); ++alpha) {
+            if (evaluate(leadingA, alpha, field) == 0 || evaluate(leadingB, alpha, field) == 0) {
+                continue;
+            }
+            ModularPolynomial image = gcd(evaluate(groupsA, alpha, field), evaluate(groupsB, alpha, field), rest);
+            if (image.getLeadingMonomial().isOne()) {
+                return content.monic();
+            }
+            image = image.multiply(evaluate(gamma, alpha, field), Monomial.one);
+
+            int comparison = leading == null ? -1 : lex.compare(image.getLeadingMonomial(), leading);
+            if (comparison > 0) {
+                // The point is unlucky.
+                continue;
+            }
+            if (comparison < 0) {
+                // All earlier points were unlucky.
+                leading = image.getLeadingMonomial();
+                interpolant.clear();
+                vanishing = new long[] { 1 };
+                points = 0;
+            }
+            boolean changed = interpolate(interpolant, vanishing, image, alpha, field);
+            vanishing = multiply(vanishing, new long[] { field.negate(field.valueOf(alpha)), 1 }, field);
+            ++points;
+
+            if (!changed || points > bound) {
+                Map<Monomial, long[]> candidateGroups = new HashMap<>(interpolant);
+                divide(candidateGroups, content(candidateGroups, field), field);
+                ModularPolynomial candidate = ungroup(candidateGroups, v, field);
+                if (divides(candidate, primitiveA) && divides(candidate, primitiveB)) {
+                    return candidate.multiply(content).monic();
+                }
+                if (points > bound) {
+                    // Enough points were combined, so some of them were unlucky; start over with fresh points.
+                    leading = null;
+                }
+            }
+        }
+        // Every element of the field was used, and points beyond would repeat them modulo p.
+        throw new PrimeFieldTooSmallException();
+    }
+
+    /**
+     * Adds the image at a new point to the Newton interpolant: h += (image - h(alpha)) q / q(alpha), where q is the
+     * product of (v - beta) over the earlier points beta.
+     * @return Whether the interpolant changed, i.e., whether it did not already agree with the image.
+     */
+    private static boolean interpolate(Map<Monomial, long[]> interpolant, long[] vanishing, ModularPolynomial image,
+                                       long alpha, PrimeField field) {
+        long scale = field.inverse(evaluate(vanishing, alpha, field));
+        Set<Monomial> monomials = new HashSet<>(interpolant.keySet());
+        monomials.addAll(image.getMonomials());
+        boolean changed = false;
+        for (Monomial monomial : monomials) {
+            long[] current = interpolant.getOrDefault(monomial, new long[0]);
+            long difference = field.subtract(image.getCoefficient(monomial), evaluate(current, alpha, field));
+            if (difference == 0) {
+                continue;
+            }
+            changed = true;
+            long[] updated = add(current, scale(vanishing, field.multiply(difference, scale), field), field);
+            if (updated.length == 0) {
+                interpolant.remove(monomial);
+            }
+            else {
+                interpolant.put(monomial, updated);
+            }
+        }
+        return changed;
+    }
+
+    private static boolean divides(Polynomial divisor, Polynomial p) {
+        return Division.divides(divisor, p);
+    }
+
+    private static boolean divides(ModularPolynomial divisor, ModularPolynomial p) {
+        return p.isDivisibleBy(divisor);
+    }
+
+    /**
+     * Scales a rational polynomial to integer coefficients without a common factor.
+     */
+    private static Polynomial integerPrimitivePart(Polynomial p) {
+        BigInteger denominator = BigInteger.ONE;
+        BigInteger numerator = BigInteger.ZERO;
+        for (Term term : p.getTerms()) {
+            BigInteger d = term.getCoefficient().getBigDenominator();
+            denominator = denominator.divide(denominator.gcd(d)).multiply(d);
+            numerator = numerator.gcd(term.getCoefficient().getBigNumerator());
+        }
+        RationalNumber scale = new RationalNumber(denominator, numerator);
+        return scale.equals(RationalNumber.one) ? p : p.multiply(new Term(scale));
+    }
+
+    private static List<Variable> variables(Set<Variable> a, Set<Variable> b) {
+        TreeSet<Variable> result = new TreeSet<>();
+        result.addAll(a);
+        result.addAll(b);
+        return new ArrayList<>(result);
+    }
+
+    // Polynomials over GF(p)[v] grouped by their monomial in the other variables.
+    /**
+     * Groups the terms of f by their monomial in the variables other than v. Each group is the dense coefficient
+     * array of a univariate polynomial in v.
+     */
+    private static Map<Monomial, long[]> group(ModularPolynomial f, Variable v) {
+        int degree = 0;
+        for (int i = 0; i < f.getTermCount(); ++i) {
+            degree = Math.max(degree, f.monomialAt(i).getExponent(v));
+        }
+        int length = degree + 1;
+        Map<Monomial, long[]> result = new HashMap<>();
+        for (int i = 0; i < f.getTermCount(); ++i) {
+            Monomial monomial = f.monomialAt(i);
+            int power = monomial.getExponent(v);
+            Monomial key = power == 0 ? monomial : monomial.divide(new Monomial(v, power));
+            result.computeIfAbsent(key, k -> new long[length])[power] = f.coefficientAt(i);
+        }
+        result.replaceAll((key, coefficients) -> trim(coefficients));
+        return result;
+    }
+
+    private static ModularPolynomial ungroup(Map<Monomial, long[]> groups, Variable v, PrimeField field) {
+        List<Monomial> monomials = new ArrayList<>();
+        List<Long> coefficients = new ArrayList<>();
+        for (var entry : groups.entrySet()) {
+            long[] group = entry.getValue();
+            for (int power = 0; power < group.length; ++power) {
+                if (group[power] != 0) {
+                    monomials.add(entry.getKey().multiply(new Monomial(v, power)));
+                    coefficients.add(group[power]);
+                }
+            }
+        }
+        return ModularPolynomial.fromTerms(field, lex, monomials, coefficients);
+    }
+
+    private static Monomial leadingKey(Map<Monomial, long[]> groups) {
+        Monomial result = null;
+        for (Monomial key : groups.keySet()) {
+            if (result == null || lex.compare(key, result) > 0) {
+                result = key;
+            }
+        }
+        return result;
+    }
+
+    private static int degree(Map<Monomial, long[]> groups) {
+        int result = 0;
+        for (long[] group : groups.values()) {
+            result = Math.max(result, degree(group));
+        }
+        return result;
+    }
+
+    private static long[] content(Map<Monomial, long[]> groups, PrimeField field) {
+        long[] result = new long[0];
+        for (long[] group : groups.values()) {
+            result = gcd(result, group, field);
+            if (result.length == 1) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static void divide(Map<Monomial, long[]> groups, long[] divisor, PrimeField field) {
+        if (divisor.length > 1 || divisor[0] != 1) {
+            groups.replaceAll((key, group) -> divideExact(group, divisor, field));
+        }
+    }
+
+    private static ModularPolynomial evaluate(Map<Monomial, long[]> groups, long alpha, PrimeField field) {
+        List<Monomial> monomials = new ArrayList<>();
+        List<Long> coefficients = new ArrayList<>();
+        for (var entry : groups.entrySet()) {
+            long value = evaluate(entry.getValue(), alpha, field);
+            if (value != 0) {
+                monomials.add(entry.getKey());
+                coefficients.add(value);
+            }
+        }
+        return ModularPolynomial.fromTerms(field, lex, monomials, coefficients);
+    }
+
+    // Dense univariate polynomials over GF(p): coefficient arrays indexed by degree without trailing zeros.
+    private static long[] dense(ModularPolynomial f, Variable v) {
+        long[] result = new long[f.getDegree() + 1];
+        for (int i = 0; i < f.getTermCount(); ++i) {
+            result[f.monomialAt(i).getExponent(v)] = f.coefficientAt(i);
+        }
+        return trim(result);
+    }
+
+    private static ModularPolynomial fromDense(long[] coefficients, Variable v, PrimeField field) {
+        return ungroup(Map.of(Monomial.one, coefficients), v, field);
+    }
+
+    private static long[] trim(long[] a) {
+        int length = a.length;
+        while (length > 0 && a[length - 1] == 0) {
+            --length;
+        }
+        return length == a.length ? a : Arrays.copyOf(a, length);
+    }
+
+    private static int degree(long[] a) {
+        return a.length - 1;
+    }
+
+    private static long evaluate(long[] a, long x, PrimeField field) {
+        long value = field.valueOf(x);
+        long result = 0;
+        for (int i = a.length - 1; i >= 0; --i) {
+            result = field.add(field.multiply(result, value), a[i]);
+        }
+        return result;
+    }
+
+    private static long[] add(long[] a, long[] b, PrimeField field) {
+        long[] result = Arrays.copyOf(a, Math.max(a.length, b.length));
+        for (int i = 0; i < b.length; ++i) {
+            result[i] = field.add(result[i], b[i]);
+        }
+        return trim(result);
+    }
+
+    private static long[] scale(long[] a, long c, PrimeField field) {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; ++i) {
+            result[i] = field.multiply(a[i], c);
+        }
+        return trim(result);
+    }
+
+    private static long[] multiply(long[] a, long[] b, PrimeField field) {
+        if (a.length == 0 || b.length == 0) {
+            return a.length == 0 ? a : b;
+        }
+        long[] result = new long[a.length + b.length - 1];
+        for (int i = 0; i < a.length; ++i) {
+            for (int j = 0; j < b.length; ++j) {
+                result[i + j] = field.add(result[i + j], field.multiply(a[i], b[j]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Divides a by a nonzero b, leaving the remainder in the low coefficients of the returned work array and the
+     * quotient in its high coefficients, from index degree(b) on.
+     */
+    private static long[] divideInPlace(long[] a, long[] b, PrimeField field) {
+        long[] work = a.clone();
+        long inverse = field.inverse(b[b.length - 1]);
+        for (int i = work.length - 1; i >= b.length - 1; --i) {
+            long factor = field.multiply(work[i], inverse);
+            work[i] = factor;
+            if (factor != 0) {
+                for (int j = 0; j < b.length - 1; ++j) {
+                    int k = i - (b.length - 1) + j;
+                    work[k] = field.subtract(work[k], field.multiply(factor, b[j]));
+                }
+            }
+        }
+        return work;
+    }
+
+    private static long[] remainder(long[] a, long[] b, PrimeField field) {
+        if (a.length < b.length) {
+            return a;
+        }
+        return trim(Arrays.copyOf(divideInPlace(a, b, field), b.length - 1));
+    }
+
+    private static long[] divideExact(long[] a, long[] b, PrimeField field) {
+        if (a.length < b.length) {
+            return new long[0];
+        }
+        return trim(Arrays.copyOfRange(divideInPlace(a, b, field), b.length - 1, a.length));
+    }
+
+    /**
+     * Euclid's algorithm.
+     * @return The monic GCD, or the empty array if both a and b are zero.
+     */
+    private static long[] gcd(long[] a, long[] b, PrimeField field) {
+        while (b.length > 0) {
+            long[] r = remainder(a, b, field);
+            a = b;
+            b = r;
+        }
+        return a.length == 0 ? a : scale(a, field.inverse(a[a.length - 1]), field);
+    }
+}
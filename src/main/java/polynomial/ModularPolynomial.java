@@ -0,0 +1,554 @@
+package polynomial;
+
+import number.PrimeField;
+import number.RationalNumber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An immutable multivariate polynomial with coefficients in a prime field Z/pZ.
+ *
+ * This is the modular counterpart of {@link Polynomial}: it shares {@link Monomial} and {@link MonomialOrder}, but
+ * stores its coefficients as primitive residues (see {@link PrimeField}) in an array parallel to the monomials, kept
+ * in descending monomial order. Coefficient arithmetic never allocates and never computes a GCD, and coefficients
+ * cannot grow, which makes it the building block of multi-modular algorithms (see {@link MultiModular}).
+ */
+public final class ModularPolynomial {
+    private static final Monomial[] NO_MONOMIALS = new Monomial[0];
+    private static final long[] NO_COEFFICIENTS = new long[0];
+
+    private final PrimeField field;
+    private final MonomialOrder order;
+    // Monomials in descending order, and their nonzero residues.
+    private final Monomial[] monomials;
+    private final long[] coefficients;
+    private int hash;
+
+    /**
+     * Wraps sorted parallel arrays without copying them. The coefficients must be nonzero residues and the arrays
+     * must not be modified afterwards.
+     */
+    ModularPolynomial(PrimeField field, MonomialOrder order, Monomial[] monomials, long[] coefficients) {
+        this.field = field;
+        this.order = order;
+        this.monomials = monomials;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * Creates the zero polynomial.
+     * @param field The coefficient field.
+     * @param order The monomial order.
+     * @return The zero polynomial over the field.
+     */
+    public static ModularPolynomial zero(PrimeField field, MonomialOrder order) {
+        return new ModularPolynomial(field, order, NO_MONOMIALS, NO_COEFFICIENTS);
+    }
+
+    /**
+     * Creates a constant polynomial.
+     * @param field The coefficient field.
+     * @param order The monomial order.
+     * @param constant The constant, any integer.
+     * @return The constant polynomial.
+     */
+    public static ModularPolynomial constant(PrimeField field, MonomialOrder order, long constant) {
+        long residue = field.valueOf(constant);
+        return residue == 0
+                ? zero(field, order)
+                : new ModularPolynomial(field, order, new Monomial[] { Monomial.one }, new long[] { residue });
+    }
+
+    /**
+     * Reduces the coefficients of a rational polynomial modulo a prime. The result keeps the polynomial's order.
+     * @param p The polynomial.
+     * @param field The coefficient field.
+     * @return The image of p in Z/pZ.
+     * @throws exceptions.PrimeFieldDivideByZeroException If the prime divides the denominator of a coefficient.
+     */
+    public static ModularPolynomial of(Polynomial p, PrimeField field) {
+        List<Term> terms = p.getTerms();
+        Monomial[] monomials = new Monomial[terms.size()];
+        long[] coefficients = new long[terms.size()];
+        int size = 0;
+        for (Term term : terms) {
+            long residue = field.valueOf(term.getCoefficient());
+            if (residue != 0) {
+                monomials[size] = term.getMonomial();
+                coefficients[size] = residue;
+                ++size;
+            }
+        }
+        return new ModularPolynomial(field, p.getOrder(), Arrays.copyOf(monomials, size),
+                Arrays.copyOf(coefficients, size));
+    }
+
+    /**
+     * Creates a polynomial from distinct monomials and nonzero residues in any order.
+     */
+    static ModularPolynomial fromTerms(PrimeField field, MonomialOrder order, List<Monomial> monomials,
+                                       List<Long> coefficients) {
+        Monomial[] sortedMonomials = monomials.toArray(NO_MONOMIALS);
+        long[] sortedCoefficients = new long[sortedMonomials.length];
+        for (int i = 0; i < sortedCoefficients.length; ++i) {
+            sortedCoefficients[i] = coefficients.get(i);
+        }
+        order.sortDescending(sortedMonomials, sortedCoefficients);
+        return new ModularPolynomial(field, order, sortedMonomials, sortedCoefficients);
+    }
+
+    /**
+     * Converts this polynomial to a rational polynomial, mapping each residue to its symmetric representative in
+     * (-p/2, p/2].
+     * @return The polynomial with integer coefficients, in this polynomial's order.
+     */
+    public Polynomial toPolynomial() {
+        Term[] terms = new Term[this.monomials.length];
+        for (int i = 0; i < terms.length; ++i) {
+            long value = this.field.symmetric(this.coefficients[i]);
+            // Residues are below 2^31, so symmetric representatives fit in an int.
+            terms[i] = new Term(RationalNumber.of((int) value), this.monomials[i]);
+        }
+        return new Polynomial(this.order, terms);
+    }
+
+    // Accessor methods.
+    public PrimeField getField() {
+        return this.field;
+    }
+
+    public MonomialOrder getOrder() {
+        return this.order;
+    }
+
+    public int getTermCount() {
+        return this.monomials.length;
+    }
+
+    public boolean isZero() {
+        return this.monomials.length == 0;
+    }
+
+    /**
+     * Obtains the set of predefined variables that appear in this polynomial.
+     * @return Set of the {@link VariableName}s with a positive exponent in some term.
+     */
+    public Set<VariableName> getVariableSet() {
+        EnumSet<VariableName> result = EnumSet.noneOf(VariableName.class);
+        for (Monomial monomial : this.monomials) {
+            result.addAll(monomial.getVariableSet());
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the set of variables that appear in this polynomial.
+     * @return Set of the variables with a positive exponent in some term, in increasing order of index.
+     */
+    public SortedSet<Variable> getVariables() {
+        SortedSet<Variable> result = new TreeSet<>();
+        for (Monomial monomial : this.monomials) {
+            result.addAll(monomial.getVariables());
+        }
+        return result;
+    }
+
+    // The i-th monomial in descending order, and its coefficient.
+    Monomial monomialAt(int i) {
+        return this.monomials[i];
+    }
+
+    long coefficientAt(int i) {
+        return this.coefficients[i];
+    }
+
+    /**
+     * Obtains the monomials of this polynomial.
+     * @return Unmodifiable list of monomials in descending order.
+     */
+    public List<Monomial> getMonomials() {
+        return List.of(this.monomials);
+    }
+
+    /**
+     * Obtains the leading monomial.
+     * @return The greatest monomial in this polynomial's order, or null for the zero polynomial.
+     */
+    public Monomial getLeadingMonomial() {
+        return this.monomials.length == 0 ? null : this.monomials[0];
+    }
+
+    /**
+     * Obtains the leading coefficient.
+     * @return The coefficient of the leading monomial, or zero for the zero polynomial.
+     */
+    public long getLeadingCoefficient() {
+        return this.monomials.length == 0 ? 0 : this.coefficients[0];
+    }
+
+    /**
+     * Obtains the coefficient of a monomial by binary search.
+     * @param monomial The monomial.
+     * @return The residue of the monomial's coefficient, zero if it does not appear.
+     */
+    public long getCoefficient(Monomial monomial) {
+        int low = 0;
+        int high = this.monomials.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = this.order.compare(this.monomials[mid], monomial);
+            if (comparison == 0) {
+                return this.coefficients[mid];
+            }
+            if (comparison > 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Obtains the total degree, i.e., the largest degree of any monomial.
+     * @return Total degree, or zero for the zero polynomial.
+     */
+    public int getDegree() {
+        int result = 0;
+        for (Monomial monomial : this.monomials) {
+            result = Math.max(result, monomial.getDegree());
+        }
+        return result;
+    }
+
+    // Polynomial operations.
+    public ModularPolynomial add(ModularPolynomial p) {
+        return combine(p, false);
+    }
+    public ModularPolynomial subtract(ModularPolynomial p) {
+        return combine(p, true);
+    }
+    public ModularPolynomial negate() {
+        long[] result = new long[this.coefficients.length];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = this.field.negate(this.coefficients[i]);
+        }
+        return new ModularPolynomial(this.field, this.order, this.monomials, result);
+    }
+
+    /**
+     * Merges the two sorted term arrays, adding or subtracting the coefficients of like terms.
+     */
+    private ModularPolynomial combine(ModularPolynomial p, boolean subtract) {
+        checkField(p);
+        ModularPolynomial ordered = p.withOrder(this.order);
+        Monomial[] other = ordered.monomials;
+        long[] otherCoefficients = ordered.coefficients;
+        Monomial[] monomials = new Monomial[this.monomials.length + other.length];
+        long[] coefficients = new long[monomials.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < this.monomials.length || j < other.length) {
+            int comparison = i == this.monomials.length ? -1
+                    : j == other.length ? 1
+                    : this.order.compare(this.monomials[i], other[j]);
+            Monomial monomial;
+            long coefficient;
+            if (comparison > 0) {
+                monomial = this.monomials[i];
+                coefficient = this.coefficients[i++];
+            }
+            else {
+                monomial = other[j];
+                long c = subtract ? this.field.negate(otherCoefficients[j]) : otherCoefficients[j];
+                ++j;
+                coefficient = comparison == 0 ? this.field.add(this.coefficients[i++], c) : c;
+            }
+            if (coefficient != 0) {
+                monomials[size] = monomial;
+                coefficients[size] = coefficient;
+                ++size;
+            }
+        }
+        return new ModularPolynomial(this.field, this.order, Arrays.copyOf(monomials, size),
+                Arrays.copyOf(coefficients, size));
+    }
+
+    /**
+     * Multiplies this polynomial by a single term c m. Multiplying by a monomial preserves the order of the terms.
+     * @param c The coefficient, a residue.
+     * @param m The monomial.
+     * @return The product.
+     */
+    public ModularPolynomial multiply(long c, Monomial m) {
+        if (c == 0) {
+            return zero(this.field, this.order);
+        }
+        Monomial[] monomials = new Monomial[this.monomials.length];
+        long[] coefficients = new long[this.coefficients.length];
+        for (int i = 0; i < monomials.length; ++i) {
+            monomials[i] = this.monomials[i].multiply(m);
+            coefficients[i] = this.field.multiply(this.coefficients[i], c);
+        }
+        return new ModularPolynomial(this.field, this.order, monomials, coefficients);
+    }
+
+    /**
+     * Multiplies two polynomials, accumulating the pairwise products in an open-addressing table of primitive
+     * residues.
+     * @param p The other factor, over the same field.
+     * @return The product, in this polynomial's order.
+     */
+    public ModularPolynomial multiply(ModularPolynomial p) {
+        checkField(p);
+        Accumulator accumulator = new Accumulator(this.field, this.monomials.length + p.monomials.length);
+        for (int i = 0; i < this.monomials.length; ++i) {
+            for (int j = 0; j < p.monomials.length; ++j) {
+                accumulator.add(this.monomials[i].multiply(p.monomials[j]),
+                        this.field.multiply(this.coefficients[i], p.coefficients[j]));
+            }
+        }
+        return accumulator.toPolynomial(this.order);
+    }
+
+    /**
+     * Divides this polynomial by its leading coefficient.
+     * @return The monic polynomial with the same leading monomial, or zero for the zero polynomial.
+     */
+    public ModularPolynomial monic() {
+        if (this.isZero() || this.coefficients[0] == 1) {
+            return this;
+        }
+        long inverse = this.field.inverse(this.coefficients[0]);
+        return multiply(inverse, Monomial.one);
+    }
+
+    /**
+     * Computes the greatest common divisor with Brown's modular algorithm, evaluating all variables but one at
+     * successive points and interpolating the GCDs of the images.
+     * @param p The other polynomial, over the same field.
+     * @return The monic GCD in this polynomial's order, or zero if both polynomials are zero.
+     * @throws exceptions.PrimeFieldTooSmallException If the field has too few elements to evaluate at, which can
+     *         only happen for very small primes.
+     */
+    public ModularPolynomial gcd(ModularPolynomial p) {
+        checkField(p);
+        return ModularGcd.gcd(this, p);
+    }
+
+    /**
+     * Reduces this polynomial completely modulo a list of divisors, in the same way as
+     * {@link Polynomial#divideWithRemainder(Polynomial...)}.
+     * @param divisors The divisors, over the same field.
+     * @return The remainder, in this polynomial's order.
+     */
+    public ModularPolynomial reduce(List<ModularPolynomial> divisors) {
+        return reduce(divisors, false);
+    }
+
+    /**
+     * Checks whether a nonzero polynomial divides this one, stopping at the first leading term that its leading
+     * monomial does not divide, which already proves that this polynomial is not a multiple.
+     */
+    boolean isDivisibleBy(ModularPolynomial divisor) {
+        return reduce(List.of(divisor), true) != null;
+    }
+
+    /**
+     * Reduces this polynomial modulo the divisors, or, if exact, returns null as soon as a term moves to the
+     * remainder.
+     */
+    private ModularPolynomial reduce(List<ModularPolynomial> divisors, boolean exact) {
+        List<ModularPolynomial> ordered = new ArrayList<>(divisors.size());
+        for (ModularPolynomial divisor : divisors) {
+            checkField(divisor);
+            if (!divisor.isZero()) {
+                ordered.add(divisor.withOrder(this.order));
+            }
+        }
+
+        TreeMap<Monomial, Long> work = new TreeMap<>(this.order.reversed());
+        for (int i = 0; i < this.monomials.length; ++i) {
+            work.put(this.monomials[i], this.coefficients[i]);
+        }
+        Accumulator remainder = new Accumulator(this.field, this.monomials.length);
+        while (!work.isEmpty()) {
+            Map.Entry<Monomial, Long> lead = work.pollFirstEntry();
+            ModularPolynomial g = null;
+            for (ModularPolynomial divisor : ordered) {
+                if (divisor.monomials[0].divides(lead.getKey())) {
+                    g = divisor;
+                    break;
+                }
+            }
+            if (g == null) {
+                if (exact) {
+                    return null;
+                }
+                remainder.add(lead.getKey(), lead.getValue());
+                continue;
+            }
+
+            Monomial m = lead.getKey().divide(g.monomials[0]);
+            long minusC = this.field.negate(this.field.divide(lead.getValue(), g.coefficients[0]));
+            for (int k = 1; k < g.monomials.length; ++k) {
+                work.merge(g.monomials[k].multiply(m), this.field.multiply(g.coefficients[k], minusC),
+                        this::addNonZero);
+            }
+        }
+        return remainder.toPolynomial(this.order);
+    }
+
+    private Long addNonZero(Long a, Long b) {
+        long sum = this.field.add(a, b);
+        return sum == 0 ? null : sum;
+    }
+
+    /**
+     * Obtains the same polynomial in a different monomial order.
+     * @param order The new order.
+     * @return A polynomial equal to this one whose terms are sorted in the given order.
+     */
+    public ModularPolynomial withOrder(MonomialOrder order) {
+        if (order == this.order) {
+            return this;
+        }
+        Monomial[] monomials = this.monomials.clone();
+        long[] coefficients = this.coefficients.clone();
+        order.sortDescending(monomials, coefficients);
+        return new ModularPolynomial(this.field, order, monomials, coefficients);
+    }
+
+    private void checkField(ModularPolynomial p) {
+        if (!p.field.equals(this.field)) {
+            throw new IllegalArgumentException(
+                    "Polynomials over " + this.field + " and " + p.field + " cannot be combined.");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != this.getClass()) {
+            return false;
+        }
+
+        ModularPolynomial p = ((ModularPolynomial) o).withOrder(this.order);
+        return this.field.equals(p.field) && Arrays.equals(this.monomials, p.monomials)
+                && Arrays.equals(this.coefficients, p.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = this.hash;
+        if (h == 0) {
+            // Independent of the term order, like equals.
+            for (int i = 0; i < this.monomials.length; ++i) {
+                h += this.monomials[i].hashCode() ^ Long.hashCode(this.coefficients[i]);
+            }
+            this.hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        if (this.isZero()) {
+            return "0";
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < this.monomials.length; ++i) {
+            if (i > 0) {
+                result.append(" + ");
+            }
+            result.append(this.coefficients[i]).append(this.monomials[i]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Open-addressing hash table from monomial to residue, used to collect like terms without boxing.
+     */
+    private static final class Accumulator {
+        private final PrimeField field;
+        private Monomial[] keys;
+        private long[] values;
+        private int size;
+
+        Accumulator(PrimeField field, int expectedSize) {
+            this.field = field;
+            int capacity = Integer.highestOneBit(Math.max(8, 2 * expectedSize)) << 1;
+            this.keys = new Monomial[capacity];
+            this.values = new long[capacity];
+        }
+
+        void add(Monomial monomial, long value) {
+            int mask = this.keys.length - 1;
+            int i = spread(monomial.hashCode()) & mask;
+            while (this.keys[i] != null) {
+                if (this.keys[i].equals(monomial)) {
+                    this.values[i] = this.field.add(this.values[i], value);
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            this.keys[i] = monomial;
+            this.values[i] = value;
+            if (2 * ++this.size > this.keys.length) {
+                grow();
+            }
+        }
+
+        private void grow() {
+            Monomial[] oldKeys = this.keys;
+            long[] oldValues = this.values;
+            this.keys = new Monomial[2 * oldKeys.length];
+            this.values = new long[2 * oldValues.length];
+            int mask = this.keys.length - 1;
+            for (int j = 0; j < oldKeys.length; ++j) {
+                if (oldKeys[j] != null) {
+                    int i = spread(oldKeys[j].hashCode()) & mask;
+                    while (this.keys[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    this.keys[i] = oldKeys[j];
+                    this.values[i] = oldValues[j];
+                }
+            }
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+
+        ModularPolynomial toPolynomial(MonomialOrder order) {
+            Monomial[] monomials = new Monomial[this.size];
+            long[] coefficients = new long[this.size];
+            int size = 0;
+            for (int i = 0; i < this.keys.length; ++i) {
+                if (this.keys[i] != null && this.values[i] != 0) {
+                    monomials[size] = this.keys[i];
+                    coefficients[size] = this.values[i];
+                    ++size;
+                }
+            }
+            monomials = Arrays.copyOf(monomials, size);
+            coefficients = Arrays.copyOf(coefficients, size);
+            order.sortDescending(monomials, coefficients);
+            return new ModularPolynomial(this.field, order, monomials, coefficients);
+        }
+    }
+}
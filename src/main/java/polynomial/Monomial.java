@@ -0,0 +1,487 @@
+package polynomial;
+
+import exceptions.MonomialNegativeExponentException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+/**
+ * An immutable power product of variables, e.g. xy^2z^3.
+ *
+ * Exponents are stored densely in a primitive array indexed by variable index (see {@link Variable}; the index of a
+ * {@link VariableName} is its ordinal), covering only the window from the first to the last variable that appears.
+ * Zero exponents outside the window are never stored, so two equal monomials always have identical arrays, and the
+ * array of a monomial in a few adjacent variables stays short however many variables are registered. The total degree
+ * is computed once on construction, which lets grlex comparisons, likeness checks and monomial
+ * multiplication/division run as plain loops over the arrays without allocating.
+ */
+public final class Monomial implements Comparable<Monomial> {
+    private static final int[] NO_EXPONENTS = new int[0];
+    private static final Interner<Monomial> INTERNED = new Interner<>();
+
+    public static final Monomial one = INTERNED.intern(new Monomial());
+
+    // exponents[i] is the exponent of the variable with index start + i; the first and last entries are nonzero.
+    private final int[] exponents;
+    private final int start;
+    private final int degree;
+    private int hash;
+
+    /**
+     * Creates the monomial 1 (all exponents zero).
+     */
+    public Monomial() {
+        this(NO_EXPONENTS, 0, 0);
+    }
+
+    /**
+     * Creates a single-variable monomial.
+     * @param variableName The variable of the monomial.
+     * @param power The power of the variable.
+     */
+    public Monomial(VariableName variableName, int power) {
+        this(Variable.of(variableName), power);
+    }
+
+    /**
+     * Creates a single-variable monomial.
+     * @param variable The variable of the monomial.
+     * @param power The power of the variable.
+     */
+    public Monomial(Variable variable, int power) {
+        checkExponent(power);
+        this.exponents = power == 0 ? NO_EXPONENTS : new int[] { power };
+        this.start = power == 0 ? 0 : variable.index();
+        this.degree = power;
+    }
+
+    /**
+     * Creates a multivariate monomial.
+     * @param mapVarPower A variable-power mapping. Example: { (x, 2), (y, 2), (z, 5) } creates x^2y^2z^5.
+     */
+    public Monomial(Map<VariableName, Integer> mapVarPower) {
+        Monomial m = of(mapVarPower, VariableName::ordinal);
+        this.exponents = m.exponents;
+        this.start = m.start;
+        this.degree = m.degree;
+    }
+
+    /**
+     * Wraps an exponent window without copying it. The array must not be modified afterwards and its first and last
+     * entries must be nonzero.
+     */
+    private Monomial(int[] exponents, int start, int degree) {
+        this.exponents = exponents;
+        this.start = start;
+        this.degree = degree;
+    }
+
+    /**
+     * Creates a multivariate monomial in any registered variables.
+     * @param powers A variable-power mapping. Example: { (x_1, 2), (x_7, 5) } creates x_1^2x_7^5.
+     * @return The monomial.
+     */
+    public static Monomial of(Map<Variable, Integer> powers) {
+        return of(powers, Variable::index);
+    }
+
+    private static <K> Monomial of(Map<K, Integer> powers, ToIntFunction<K> index) {
+        int from = Integer.MAX_VALUE;
+        int to = 0;
+        for (var entry : powers.entrySet()) {
+            checkExponent(entry.getValue());
+            if (entry.getValue() != 0) {
+                int i = index.applyAsInt(entry.getKey());
+                from = Math.min(from, i);
+                to = Math.max(to, i + 1);
+            }
+        }
+        if (to == 0) {
+            return one;
+        }
+
+        int[] exponents = new int[to - from];
+        int degree = 0;
+        for (var entry : powers.entrySet()) {
+            int power = entry.getValue();
+            if (power != 0) {
+                exponents[index.applyAsInt(entry.getKey()) - from] = power;
+                degree = Math.addExact(degree, power);
+            }
+        }
+        return new Monomial(exponents, from, degree);
+    }
+
+    /**
+     * Creates a monomial from exponents indexed by variable index. The array is copied without its leading and
+     * trailing zeros, so the caller may reuse it.
+     */
+    static Monomial of(int[] exponents) {
+        return of(exponents, 0, exponents.length);
+    }
+
+    /**
+     * Creates a monomial from exponents indexed by variable index, where only the entries from index from (inclusive)
+     * to index to (exclusive) may be nonzero. The entries are copied, so the caller may reuse the array.
+     */
+    static Monomial of(int[] exponents, int from, int to) {
+        while (from < to && exponents[from] == 0) {
+            ++from;
+        }
+        while (to > from && exponents[to - 1] == 0) {
+            --to;
+        }
+        if (from >= to) {
+            return one;
+        }
+        int degree = 0;
+        for (int i = from; i < to; ++i) {
+            checkExponent(exponents[i]);
+            degree = Math.addExact(degree, exponents[i]);
+        }
+        return new Monomial(Arrays.copyOfRange(exponents, from, to), from, degree);
+    }
+
+    /**
+     * Wraps an exponent window that may have zeros at either end, copying it only if it does.
+     */
+    private static Monomial trimmed(int[] exponents, int start, int degree) {
+        if (degree == 0) {
+            return one;
+        }
+        int from = 0;
+        int to = exponents.length;
+        while (exponents[from] == 0) {
+            ++from;
+        }
+        while (exponents[to - 1] == 0) {
+            --to;
+        }
+        return new Monomial(from == 0 && to == exponents.length ? exponents : Arrays.copyOfRange(exponents, from, to),
+                start + from, degree);
+    }
+
+    private static void checkExponent(int power) {
+        if (power < 0) {
+            throw new MonomialNegativeExponentException();
+        }
+    }
+
+    /**
+     * Obtains the total degree of this monomial, i.e., the sum of all its exponents.
+     * @return Total degree.
+     */
+    public int getDegree() {
+        return this.degree;
+    }
+
+    /**
+     * Obtains the power of a variable in this monomial.
+     * @param variableName The variable.
+     * @return The exponent of the variable, or zero if the variable does not appear.
+     */
+    public int getExponent(VariableName variableName) {
+        return exponentAt(variableName.ordinal());
+    }
+
+    /**
+     * Obtains the power of a variable in this monomial.
+     * @param variable The variable.
+     * @return The exponent of the variable, or zero if the variable does not appear.
+     */
+    public int getExponent(Variable variable) {
+        return exponentAt(variable.index());
+    }
+
+    /**
+     * Obtains the set of predefined variables with a positive exponent in this monomial.
+     * @return Set of the {@link VariableName}s that make up this monomial; see {@link #getVariables()} for all
+     *         variables.
+     */
+    public Set<VariableName> getVariableSet() {
+        EnumSet<VariableName> result = EnumSet.noneOf(VariableName.class);
+        for (int i = 0; i < this.exponents.length; ++i) {
+            VariableName variableName = Variable.at(this.start + i).toVariableName();
+            if (this.exponents[i] != 0 && variableName != null) {
+                result.add(variableName);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the set of variables with a positive exponent in this monomial.
+     * @return Unmodifiable set of the variables that make up this monomial, in increasing order of index.
+     */
+    public SortedSet<Variable> getVariables() {
+        SortedSet<Variable> result = new TreeSet<>();
+        for (int i = 0; i < this.exponents.length; ++i) {
+            if (this.exponents[i] != 0) {
+                result.add(Variable.at(this.start + i));
+            }
+        }
+        return Collections.unmodifiableSortedSet(result);
+    }
+
+    /**
+     * Checks if this monomial is 1.
+     * @return True if every exponent is zero, false otherwise.
+     */
+    public boolean isOne() {
+        return this.degree == 0;
+    }
+
+    // Index of the first variable that appears in this monomial, or zero for the monomial 1.
+    int start() {
+        return this.start;
+    }
+
+    // One past the index of the last variable that appears in this monomial, or zero for the monomial 1.
+    int length() {
+        return this.start + this.exponents.length;
+    }
+
+    // Exponent at a raw variable index, which is zero outside [start(), length()).
+    int exponentAt(int index) {
+        int i = index - this.start;
+        return i >= 0 && i < this.exponents.length ? this.exponents[i] : 0;
+    }
+
+    // Monomial operations.
+    public Monomial multiply(Monomial m) {
+        if (m.degree == 0) {
+            return this;
+        }
+        if (this.degree == 0) {
+            return m;
+        }
+
+        int start = Math.min(this.start, m.start);
+        int[] result;
+        int[] other;
+        int offset;
+        if (this.start == start && this.length() >= m.length()) {
+            result = this.exponents.clone();
+            other = m.exponents;
+            offset = m.start - start;
+        }
+        else if (m.start == start && m.length() >= this.length()) {
+            result = m.exponents.clone();
+            other = this.exponents;
+            offset = this.start - start;
+        }
+        else {
+            result = new int[Math.max(this.length(), m.length()) - start];
+            System.arraycopy(this.exponents, 0, result, this.start - start, this.exponents.length);
+            other = m.exponents;
+            offset = m.start - start;
+        }
+        for (int i = 0; i < other.length; ++i) {
+            result[offset + i] = Math.addExact(result[offset + i], other[i]);
+        }
+        return new Monomial(result, start, Math.addExact(this.degree, m.degree));
+    }
+
+    /**
+     * Raises this monomial to a power by multiplying every exponent.
+     * @param power The non-negative power.
+     * @return This monomial to the given power.
+     * @throws MonomialNegativeExponentException If power is negative.
+     * @throws ArithmeticException If an exponent or the degree of the result overflows an int.
+     */
+    public Monomial pow(int power) {
+        checkExponent(power);
+        if (power == 1 || this.degree == 0) {
+            return this;
+        }
+        if (power == 0) {
+            return one;
+        }
+        int[] result = new int[this.exponents.length];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = Math.multiplyExact(this.exponents[i], power);
+        }
+        return new Monomial(result, this.start, Math.multiplyExact(this.degree, power));
+    }
+
+    /**
+     * Divides this monomial by another monomial.
+     * @param m The divisor.
+     * @return The quotient this / m.
+     * @throws MonomialNegativeExponentException If m does not divide this monomial.
+     */
+    public Monomial divide(Monomial m) {
+        if (!m.divides(this)) {
+            throw new MonomialNegativeExponentException();
+        }
+        if (m.degree == 0) {
+            return this;
+        }
+
+        // The window of m lies within this window, and either end of the quotient may cancel.
+        int[] result = this.exponents.clone();
+        int offset = m.start - this.start;
+        for (int i = 0; i < m.exponents.length; ++i) {
+            result[offset + i] -= m.exponents[i];
+        }
+        return trimmed(result, this.start, this.degree - m.degree);
+    }
+
+    /**
+     * Checks if this monomial divides another monomial.
+     * @param m The monomial to check.
+     * @return True if every exponent of this monomial is at most the corresponding exponent of m.
+     */
+    public boolean divides(Monomial m) {
+        if (this.degree == 0) {
+            return true;
+        }
+        if (this.degree > m.degree || this.start < m.start || this.length() > m.length()) {
+            return false;
+        }
+        int offset = this.start - m.start;
+        for (int i = 0; i < this.exponents.length; ++i) {
+            if (this.exponents[i] > m.exponents[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the least common multiple of this monomial and another monomial.
+     * @param m The other monomial.
+     * @return The monomial whose exponents are the maxima of the two monomials' exponents.
+     */
+    public Monomial lcm(Monomial m) {
+        if (m.degree == 0) {
+            return this;
+        }
+        if (this.degree == 0) {
+            return m;
+        }
+
+        int start = Math.min(this.start, m.start);
+        int[] result = new int[Math.max(this.length(), m.length()) - start];
+        System.arraycopy(this.exponents, 0, result, this.start - start, this.exponents.length);
+        int offset = m.start - start;
+        for (int i = 0; i < m.exponents.length; ++i) {
+            result[offset + i] = Math.max(result[offset + i], m.exponents[i]);
+        }
+        int degree = 0;
+        for (int exponent : result) {
+            degree += exponent;
+        }
+        return new Monomial(result, start, degree);
+    }
+
+    /**
+     * Checks if this monomial and another monomial have no variable in common, i.e., if their least common multiple
+     * is their product.
+     * @param m The other monomial.
+     * @return True if no variable appears in both monomials, false otherwise.
+     */
+    public boolean isCoprime(Monomial m) {
+        int from = Math.max(this.start, m.start);
+        int to = Math.min(this.length(), m.length());
+        for (int i = from; i < to; ++i) {
+            if (this.exponents[i - this.start] != 0 && m.exponents[i - m.start] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares monomials using Graded Lexicographic (grlex) ordering with a > b > ... > z. Grlex adheres to the
+     * following definition:
+     * Let a and b be vectors of nonnegative integers of length n. We say that a > b if |a| = sum(a_i) > |b| = sum(b_i),
+     * or if |a| = |b| and the left-most nonzero entry of a - b is positive.
+     * @param m The monomial to be compared.
+     * @return Positive integer, negative integer, or zero if this monomial is greater than, less than, or equal to m.
+     */
+    @Override
+    public int compareTo(Monomial m) {
+        if (this.degree != m.degree) {
+            return this.degree > m.degree ? 1 : -1;
+        }
+        if (this.start != m.start) {
+            // Both are not 1; the one whose window starts first has the left-most nonzero entry of a - b.
+            return this.start < m.start ? 1 : -1;
+        }
+
+        int common = Math.min(this.exponents.length, m.exponents.length);
+        for (int i = 0; i < common; ++i) {
+            if (this.exponents[i] != m.exponents[i]) {
+                return this.exponents[i] > m.exponents[i] ? 1 : -1;
+            }
+        }
+
+        // Equal degrees and an equal common prefix leave no room for extra nonzero entries, so the monomials are equal.
+        return 0;
+    }
+
+    /**
+     * Obtains the canonical instance of this monomial, shared by all equal monomials that have been interned, so that
+     * collections of polynomials over the same monomials hold each of them once and equal monomials compare equal by
+     * reference. Canonical instances are held weakly and are collected once no longer in use elsewhere.
+     * @return The canonical monomial equal to this one, which is this monomial if none was interned before.
+     */
+    public Monomial intern() {
+        return INTERNED.intern(this);
+    }
+
+    // The number of canonical monomials that have not been collected.
+    static int internedCount() {
+        return INTERNED.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != this.getClass()) {
+            return false;
+        }
+
+        Monomial m = (Monomial) o;
+        // Cached hashes, when both are known, reject most unequal monomials without reading the arrays.
+        if (this.hash != 0 && m.hash != 0 && this.hash != m.hash) {
+            return false;
+        }
+        return this.degree == m.degree && this.start == m.start && Arrays.equals(this.exponents, m.exponents);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = this.hash;
+        if (h == 0) {
+            h = 31 * Arrays.hashCode(this.exponents) + this.start;
+            this.hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < this.exponents.length; ++i) {
+            int power = this.exponents[i];
+            if (power == 0) {
+                continue;
+            }
+            result.append(Variable.at(this.start + i).getName());
+            if (power > 1) {
+                result.append("^").append(power);
+            }
+        }
+        return result.toString();
+    }
+}
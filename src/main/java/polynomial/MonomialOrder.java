@@ -0,0 +1,363 @@
+package polynomial;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * A monomial ordering, i.e., a total order on monomials that is compatible with multiplication.
+ *
+ * Besides comparing two monomials directly, every ordering can turn a monomial into a sort key: an array of longs
+ * such that comparing the keys of two monomials lexicographically (as signed longs, see
+ * {@link Arrays#compare(long[], long[])}) gives the same result as comparing the monomials. Non-negative 31-bit
+ * exponents are packed two per long, so sorting a large term list costs one key per term and then only cheap integer
+ * comparisons. Keys only encode the variables that occur in the monomials being sorted; when there are more than
+ * {@link #MAX_KEY_VARIABLES} of them, the monomials are compared directly instead.
+ *
+ * In all predefined orderings the variables are ranked by index (see {@link Variable}): a > b > ... > z, followed by
+ * the other registered variables.
+ */
+public abstract class MonomialOrder implements Comparator<Monomial> {
+    /**
+     * Largest number of distinct variables for which sorting computes sort keys.
+     */
+    static final int MAX_KEY_VARIABLES = 64;
+
+    /**
+     * Lexicographic order: the left-most nonzero entry of a - b is positive.
+     */
+    public static final MonomialOrder lex = new MonomialOrder("lex") {
+        @Override
+        public int compare(Monomial m1, Monomial m2) {
+            return compareLex(m1, m2);
+        }
+
+        @Override
+        long[] sortKey(Monomial m, int[] variables) {
+            long[] key = new long[(variables.length + 1) / 2];
+            packForward(m, variables, key, 0);
+            return key;
+        }
+    };
+
+    /**
+     * Graded lexicographic order: higher total degree first, ties broken by {@link #lex}.
+     */
+    public static final MonomialOrder grlex = new MonomialOrder("grlex") {
+        @Override
+        public int compare(Monomial m1, Monomial m2) {
+            return m1.compareTo(m2);
+        }
+
+        @Override
+        long[] sortKey(Monomial m, int[] variables) {
+            long[] key = new long[1 + (variables.length + 1) / 2];
+            key[0] = m.getDegree();
+            packForward(m, variables, key, 1);
+            return key;
+        }
+    };
+
+    /**
+     * Graded reverse lexicographic order: higher total degree first, ties broken by the right-most nonzero entry of
+     * a - b being negative.
+     */
+    public static final MonomialOrder grevlex = new MonomialOrder("grevlex") {
+        @Override
+        public int compare(Monomial m1, Monomial m2) {
+            if (m1.getDegree() != m2.getDegree()) {
+                return m1.getDegree() > m2.getDegree() ? 1 : -1;
+            }
+            return compareReverse(m1, m2);
+        }
+
+        @Override
+        long[] sortKey(Monomial m, int[] variables) {
+            long[] key = new long[1 + (variables.length + 1) / 2];
+            key[0] = m.getDegree();
+            packReverse(m, variables, key, 1);
+            return key;
+        }
+    };
+
+    private final String name;
+    // The variable weights of a weighted order, indexed by variable index, or null.
+    private final long[] weights;
+
+    private MonomialOrder(String name) {
+        this(name, null);
+    }
+
+    private MonomialOrder(String name, long[] weights) {
+        this.name = name;
+        this.weights = weights;
+    }
+
+    /**
+     * Creates a weighted order: higher weighted degree sum(w_i * e_i) first, ties broken by {@link #grevlex}.
+     * @param weights Non-negative weight of each variable; variables that are not mapped, including all variables that
+     *                are not {@link VariableName}s, have weight zero.
+     * @return The weighted order.
+     */
+    public static MonomialOrder weighted(Map<VariableName, Integer> weights) {
+        long[] weightArray = new long[VariableName.values().length];
+        for (var entry : weights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Weight of " + entry.getKey() + " must be non-negative.");
+            }
+            weightArray[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return weighted(weightArray);
+    }
+
+    /**
+     * Creates a weighted order whose variables need not be {@link VariableName}s: higher weighted degree
+     * sum(w_i * e_i) first, ties broken by {@link #grevlex}.
+     * @param variables The variables with a weight; all other variables have weight zero.
+     * @param weights The non-negative weight of each of the variables, in the same order.
+     * @return The weighted order.
+     * @throws IllegalArgumentException If the numbers of variables and weights differ, a variable is repeated, or a
+     *                                  weight is negative.
+     */
+    public static MonomialOrder weighted(List<Variable> variables, int[] weights) {
+        if (variables.size() != weights.length) {
+            throw new IllegalArgumentException(variables.size() + " variables but " + weights.length + " weights.");
+        }
+        int length = 0;
+        for (Variable variable : variables) {
+            length = Math.max(length, variable.index() + 1);
+        }
+        long[] weightArray = new long[length];
+        Set<Variable> seen = new HashSet<>();
+        for (int k = 0; k < weights.length; ++k) {
+            Variable variable = variables.get(k);
+            if (!seen.add(variable)) {
+                throw new IllegalArgumentException(variable + " is given more than once.");
+            }
+            if (weights[k] < 0) {
+                throw new IllegalArgumentException("Weight of " + variable + " must be non-negative.");
+            }
+            weightArray[variable.index()] = weights[k];
+        }
+        return weighted(weightArray);
+    }
+
+    /**
+     * Creates the weighted order with weights indexed by variable index.
+     */
+    private static MonomialOrder weighted(long[] weightArray) {
+        // The name lists the nonzero weights in variable order, so equal orders have equal names.
+        StringJoiner name = new StringJoiner(", ", "weighted{", "}");
+        for (int i = 0; i < weightArray.length; ++i) {
+            if (weightArray[i] != 0) {
+                name.add(Variable.at(i) + "=" + weightArray[i]);
+            }
+        }
+
+        return new MonomialOrder(name.toString(), weightArray) {
+            @Override
+            public int compare(Monomial m1, Monomial m2) {
+                int comparison = Long.compare(weightedDegree(m1), weightedDegree(m2));
+                return comparison != 0 ? comparison : grevlex.compare(m1, m2);
+            }
+
+            @Override
+            long[] sortKey(Monomial m, int[] variables) {
+                long[] key = new long[2 + (variables.length + 1) / 2];
+                key[0] = weightedDegree(m);
+                key[1] = m.getDegree();
+                packReverse(m, variables, key, 2);
+                return key;
+            }
+
+            private long weightedDegree(Monomial m) {
+                long result = 0;
+                // Variables beyond the end of the weights have weight zero.
+                for (int i = m.start(); i < Math.min(m.length(), weightArray.length); ++i) {
+                    result += weightArray[i] * m.exponentAt(i);
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Obtains the variable weights of a weighted order, which must not be modified.
+     * @return Weights indexed by variable index, with zero weights of variables beyond its end, or null if this is
+     *         not a weighted order.
+     */
+    long[] weights() {
+        return this.weights;
+    }
+
+    /**
+     * Compares two monomials in this ordering.
+     * @return Positive integer, negative integer, or zero if m1 is greater than, less than, or equal to m2.
+     */
+    @Override
+    public abstract int compare(Monomial m1, Monomial m2);
+
+    /**
+     * Computes the sort key of a monomial. Keys are only comparable if they were computed with the same variables.
+     * @param m The monomial.
+     * @param variables Increasing indices of the variables to encode, which must include every variable of m.
+     * @return Sort key, compared with {@link Arrays#compare(long[], long[])}.
+     */
+    abstract long[] sortKey(Monomial m, int[] variables);
+
+    /**
+     * Sorts terms in descending order of their monomials. One sort key is computed per term up front.
+     * @param terms The terms to sort in place.
+     */
+    public void sortDescending(Term[] terms) {
+        Monomial[] monomials = new Monomial[terms.length];
+        for (int i = 0; i < terms.length; ++i) {
+            monomials[i] = terms[i].getMonomial();
+        }
+        Integer[] order = descendingPermutation(monomials);
+
+        Term[] sorted = new Term[terms.length];
+        for (int i = 0; i < terms.length; ++i) {
+            sorted[i] = terms[order[i]];
+        }
+        System.arraycopy(sorted, 0, terms, 0, terms.length);
+    }
+
+    /**
+     * Sorts monomials in descending order, permuting a parallel array of coefficients along with them.
+     */
+    void sortDescending(Monomial[] monomials, long[] coefficients) {
+        Integer[] order = descendingPermutation(monomials);
+        Monomial[] sortedMonomials = new Monomial[monomials.length];
+        long[] sortedCoefficients = new long[coefficients.length];
+        for (int i = 0; i < monomials.length; ++i) {
+            sortedMonomials[i] = monomials[order[i]];
+            sortedCoefficients[i] = coefficients[order[i]];
+        }
+        System.arraycopy(sortedMonomials, 0, monomials, 0, monomials.length);
+        System.arraycopy(sortedCoefficients, 0, coefficients, 0, coefficients.length);
+    }
+
+    /**
+     * Computes the indices of the monomials in descending order, comparing precomputed sort keys.
+     */
+    private Integer[] descendingPermutation(Monomial[] monomials) {
+        Integer[] order = new Integer[monomials.length];
+        for (int i = 0; i < monomials.length; ++i) {
+            order[i] = i;
+        }
+        int[] variables = variables(monomials);
+        if (variables.length > MAX_KEY_VARIABLES) {
+            Arrays.sort(order, (i, j) -> compare(monomials[j], monomials[i]));
+            return order;
+        }
+
+        long[][] keys = new long[monomials.length][];
+        for (int i = 0; i < monomials.length; ++i) {
+            keys[i] = sortKey(monomials[i], variables);
+        }
+        Arrays.sort(order, (i, j) -> Arrays.compare(keys[j], keys[i]));
+        return order;
+    }
+
+    /**
+     * Collects the increasing indices of the variables that occur in any of the monomials.
+     */
+    private static int[] variables(Monomial[] monomials) {
+        int from = Integer.MAX_VALUE;
+        int to = 0;
+        for (Monomial monomial : monomials) {
+            if (!monomial.isOne()) {
+                from = Math.min(from, monomial.start());
+                to = Math.max(to, monomial.length());
+            }
+        }
+        if (to == 0) {
+            return new int[0];
+        }
+
+        boolean[] used = new boolean[to - from];
+        int count = 0;
+        for (Monomial monomial : monomials) {
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                if (!used[i - from] && monomial.exponentAt(i) != 0) {
+                    used[i - from] = true;
+                    ++count;
+                }
+            }
+        }
+        int[] result = new int[count];
+        for (int i = 0, k = 0; i < used.length; ++i) {
+            if (used[i]) {
+                result[k++] = from + i;
+            }
+        }
+        return result;
+    }
+
+    private static int compareLex(Monomial m1, Monomial m2) {
+        if (m1.isOne() || m2.isOne()) {
+            return Boolean.compare(!m1.isOne(), !m2.isOne());
+        }
+        if (m1.start() != m2.start()) {
+            // The monomial whose first variable comes first has a positive entry where the other has zero.
+            return m1.start() < m2.start() ? 1 : -1;
+        }
+        int common = Math.min(m1.length(), m2.length());
+        for (int i = m1.start(); i < common; ++i) {
+            if (m1.exponentAt(i) != m2.exponentAt(i)) {
+                return m1.exponentAt(i) > m2.exponentAt(i) ? 1 : -1;
+            }
+        }
+        // There are no trailing zeros, so the longer monomial has a positive entry where the other has zero.
+        return Integer.compare(m1.length(), m2.length());
+    }
+
+    /**
+     * Compares two monomials by their right-most differing exponent, the smaller exponent being greater.
+     */
+    private static int compareReverse(Monomial m1, Monomial m2) {
+        if (m1.length() != m2.length()) {
+            // The longer monomial has a positive entry where the other has zero.
+            return m1.length() > m2.length() ? -1 : 1;
+        }
+        int from = Math.max(m1.start(), m2.start());
+        for (int i = m1.length() - 1; i >= from; --i) {
+            int e1 = m1.exponentAt(i);
+            int e2 = m2.exponentAt(i);
+            if (e1 != e2) {
+                return e1 < e2 ? 1 : -1;
+            }
+        }
+        // Below the common part, the monomial whose first variable comes first has the only positive entries.
+        return Integer.compare(m1.start(), m2.start());
+    }
+
+    /**
+     * Packs the exponents of the given variables, first to last, two per long, starting at key[offset].
+     */
+    private static void packForward(Monomial m, int[] variables, long[] key, int offset) {
+        for (int j = 0; j < variables.length; ++j) {
+            key[offset + j / 2] |= (long) m.exponentAt(variables[j]) << ((j & 1) == 0 ? 32 : 0);
+        }
+    }
+
+    /**
+     * Packs MAX - e for the exponents e of the given variables, last to first, two per long, starting at key[offset].
+     * Larger keys then mean smaller exponents at the right-most positions.
+     */
+    private static void packReverse(Monomial m, int[] variables, long[] key, int offset) {
+        for (int i = variables.length - 1, j = 0; i >= 0; --i, ++j) {
+            key[offset + j / 2] |= (long) (Integer.MAX_VALUE - m.exponentAt(variables[i])) << ((j & 1) == 0 ? 32 : 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,262 @@
+package polynomial;
+
+import exceptions.PrimeFieldDivideByZeroException;
+import number.ModularReconstruction;
+import number.PrimeField;
+import number.RationalNumber;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Multi-modular algorithms for rational polynomials.
+ *
+ * Each algorithm maps its input to {@link ModularPolynomial}s modulo several large primes (see
+ * {@link PrimeField#largePrimes(int)}), solves the problem modulo every prime independently and in parallel, and lifts
+ * the results back with {@link ModularReconstruction}. Modular coefficients never grow, so the expensive rational
+ * arithmetic only happens once per output coefficient instead of once per intermediate operation.
+ */
+public final class MultiModular {
+    private MultiModular() {
+    }
+
+    /**
+     * Multiplies two polynomials modulo as many primes as the coefficient bound of the product requires. After
+     * clearing denominators, every product coefficient is a sum of at most min(#a, #b) products of input coefficients,
+     * so the number of primes is known in advance and a single round suffices.
+     * @param a The first factor.
+     * @param b The second factor.
+     * @return The product of a and b in a's order, equal to {@link Polynomial#multiply(Polynomial)}.
+     */
+    public static Polynomial multiply(Polynomial a, Polynomial b) {
+        if (a.isZero() || b.isZero()) {
+            return a.multiply(b);
+        }
+
+        BigInteger denominatorA = denominatorLcm(a);
+        BigInteger denominatorB = denominatorLcm(b);
+        Polynomial integerA = a.multiply(new Term(new RationalNumber(denominatorA, BigInteger.ONE)));
+        Polynomial integerB = b.withOrder(a.getOrder())
+                .multiply(new Term(new RationalNumber(denominatorB, BigInteger.ONE)));
+        BigInteger bound = maxNumerator(integerA).multiply(maxNumerator(integerB))
+                .multiply(BigInteger.valueOf(Math.min(a.getTermCount(), b.getTermCount())));
+
+        // Every prime exceeds 2^30, and the product of the primes must exceed twice the bound.
+        int primeCount = (bound.bitLength() + 1 + 29) / 30;
+        List<PrimeField> primes = PrimeField.largePrimes(primeCount);
+        List<ModularPolynomial> images = primes.parallelStream()
+                .map(field -> ModularPolynomial.of(integerA, field).multiply(ModularPolynomial.of(integerB, field)))
+                .toList();
+
+        Set<Monomial> support = new HashSet<>();
+        for (ModularPolynomial image : images) {
+            support.addAll(image.getMonomials());
+        }
+        BigInteger denominator = denominatorA.multiply(denominatorB);
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * support.size());
+        for (Monomial monomial : support) {
+            BigInteger residue = BigInteger.ZERO;
+            BigInteger modulus = BigInteger.ONE;
+            for (int k = 0; k < primes.size(); ++k) {
+                PrimeField field = primes.get(k);
+                long r = images.get(k).getCoefficient(monomial);
+                residue = ModularReconstruction.chineseRemainder(residue, modulus, r, field);
+                modulus = modulus.multiply(BigInteger.valueOf(field.getModulus()));
+            }
+            BigInteger numerator = ModularReconstruction.symmetric(residue, modulus);
+            if (numerator.signum() != 0) {
+                result.put(monomial, new RationalNumber(numerator, denominator));
+            }
+        }
+        return new Polynomial(result, a.getOrder());
+    }
+
+    /**
+     * Computes the reduced Gröbner basis of the ideal generated by some polynomials over the rationals, by computing
+     * reduced bases modulo batches of primes in parallel and lifting their coefficients with Chinese remaindering and
+     * rational reconstruction.
+     *
+     * Primes whose basis has different leading monomials than the majority are discarded as unlucky. Once the lifted
+     * basis is the same for two consecutive batches, it is verified over the rationals: every generator must reduce to
+     * zero, and every S-polynomial must reduce to zero. This proves that the result is a Gröbner basis of an ideal
+     * containing the input; that the two ideals are equal relies on the majority of primes being lucky, which fails
+     * only with negligible probability.
+     * @param generators Generators of the ideal; zero polynomials are ignored.
+     * @param order The monomial order of the basis.
+     * @return The reduced Gröbner basis, equal to {@link GroebnerBasis#compute(List, MonomialOrder)}.
+     */
+    public static GroebnerBasis groebnerBasis(List<Polynomial> generators, MonomialOrder order) {
+        GroebnerBasis.SelectionStrategy strategy = order == MonomialOrder.lex
+                ? GroebnerBasis.SelectionStrategy.normal
+                : GroebnerBasis.SelectionStrategy.sugar;
+        int batchSize = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+        // Liftings keyed by the leading monomials of the modular bases that contributed to them.
+        Map<List<Monomial>, Lifting> liftings = new LinkedHashMap<>();
+        List<Polynomial> previous = null;
+        for (int used = 0; ; used += batchSize) {
+            List<PrimeField> batch = PrimeField.largePrimes(used + batchSize).subList(used, used + batchSize);
+            List<List<ModularPolynomial>> images = batch.parallelStream()
+                    .map(field -> modularBasis(generators, order, strategy, field))
+                    .toList();
+            for (int k = 0; k < batch.size(); ++k) {
+                List<ModularPolynomial> image = images.get(k);
+                if (image != null) {
+                    List<Monomial> leading = new ArrayList<>(image.size());
+                    for (ModularPolynomial g : image) {
+                        leading.add(g.getLeadingMonomial());
+                    }
+                    liftings.computeIfAbsent(leading, Lifting::new).add(image, batch.get(k));
+                }
+            }
+
+            Lifting majority = null;
+            for (Lifting lifting : liftings.values()) {
+                if (majority == null || lifting.primeCount > majority.primeCount) {
+                    majority = lifting;
+                }
+            }
+            List<Polynomial> candidate = majority == null ? null : majority.reconstruct(order);
+            if (candidate != null && candidate.equals(previous) && isBasisOf(candidate, generators, order)) {
+                return new GroebnerBasis(order, candidate);
+            }
+            previous = candidate;
+        }
+    }
+
+    /**
+     * Computes the reduced basis modulo one prime, or null if the prime divides a denominator of the input.
+     */
+    private static List<ModularPolynomial> modularBasis(List<Polynomial> generators, MonomialOrder order,
+                                                        GroebnerBasis.SelectionStrategy strategy, PrimeField field) {
+        List<ModularPolynomial> images = new ArrayList<>(generators.size());
+        try {
+            for (Polynomial generator : generators) {
+                images.add(ModularPolynomial.of(generator.withOrder(order), field));
+            }
+        }
+        catch (PrimeFieldDivideByZeroException e) {
+            return null;
+        }
+        if (images.stream().allMatch(ModularPolynomial::isZero)) {
+            return List.of();
+        }
+        return GroebnerBasis.computeModular(images, order, strategy);
+    }
+
+    /**
+     * Checks that every generator reduces to zero modulo the candidate, and that the candidate is a Gröbner basis
+     * (Buchberger's criterion). Pairs with coprime leading monomials are skipped, and so is a pair (i, j) when another
+     * element's leading monomial divides its lcm and both connecting pairs have strictly smaller lcms (the chain
+     * criterion), since the connecting pairs are covered by the same test. The remaining reductions run in parallel.
+     */
+    private static boolean isBasisOf(List<Polynomial> candidate, List<Polynomial> generators, MonomialOrder order) {
+        boolean generatorsReduce = generators.parallelStream()
+                .allMatch(generator -> Division.reduce(generator.withOrder(order), candidate).isZero());
+        if (!generatorsReduce) {
+            return false;
+        }
+
+        Monomial[] leading = new Monomial[candidate.size()];
+        for (int i = 0; i < leading.length; ++i) {
+            leading[i] = candidate.get(i).getLeadingTerm().getMonomial();
+        }
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < leading.length; ++i) {
+            for (int j = i + 1; j < leading.length; ++j) {
+                if (!leading[i].isCoprime(leading[j]) && !isChained(leading, i, j)) {
+                    pairs.add(new int[] { i, j });
+                }
+            }
+        }
+        return pairs.parallelStream().allMatch(pair -> Division.reduce(
+                GroebnerBasis.sPolynomial(candidate.get(pair[0]), candidate.get(pair[1])), candidate).isZero());
+    }
+
+    private static boolean isChained(Monomial[] leading, int i, int j) {
+        Monomial lcm = leading[i].lcm(leading[j]);
+        for (int k = 0; k < leading.length; ++k) {
+            if (k != i && k != j && leading[k].divides(lcm)
+                    && !leading[i].lcm(leading[k]).equals(lcm) && !leading[j].lcm(leading[k]).equals(lcm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BigInteger denominatorLcm(Polynomial p) {
+        BigInteger result = BigInteger.ONE;
+        for (Term term : p.getTerms()) {
+            BigInteger denominator = term.getCoefficient().getBigDenominator();
+            result = result.divide(result.gcd(denominator)).multiply(denominator);
+        }
+        return result;
+    }
+
+    private static BigInteger maxNumerator(Polynomial p) {
+        BigInteger result = BigInteger.ZERO;
+        for (Term term : p.getTerms()) {
+            result = result.max(term.getCoefficient().getBigNumerator().abs());
+        }
+        return result;
+    }
+
+    /**
+     * Coefficients of modular bases with the same leading monomials, combined across primes.
+     */
+    private static final class Lifting {
+        private final List<Map<Monomial, BigInteger>> residues = new ArrayList<>();
+        private BigInteger modulus = BigInteger.ONE;
+        private int primeCount;
+
+        Lifting(List<Monomial> leading) {
+            for (int i = 0; i < leading.size(); ++i) {
+                this.residues.add(new HashMap<>());
+            }
+        }
+
+        void add(List<ModularPolynomial> basis, PrimeField field) {
+            for (int i = 0; i < basis.size(); ++i) {
+                ModularPolynomial g = basis.get(i);
+                Map<Monomial, BigInteger> coefficients = this.residues.get(i);
+                // A monomial seen for the first time had coefficient zero modulo all earlier primes.
+                for (Monomial monomial : g.getMonomials()) {
+                    coefficients.putIfAbsent(monomial, BigInteger.ZERO);
+                }
+                for (var entry : coefficients.entrySet()) {
+                    entry.setValue(ModularReconstruction.chineseRemainder(entry.getValue(), this.modulus,
+                            g.getCoefficient(entry.getKey()), field));
+                }
+            }
+            this.modulus = this.modulus.multiply(BigInteger.valueOf(field.getModulus()));
+            ++this.primeCount;
+        }
+
+        /**
+         * Reconstructs the rational basis, or returns null if some coefficient needs more primes.
+         */
+        List<Polynomial> reconstruct(MonomialOrder order) {
+            List<Polynomial> result = new ArrayList<>(this.residues.size());
+            for (Map<Monomial, BigInteger> coefficients : this.residues) {
+                Map<Monomial, RationalNumber> terms = new HashMap<>(2 * coefficients.size());
+                for (var entry : coefficients.entrySet()) {
+                    RationalNumber coefficient = ModularReconstruction.reconstruct(entry.getValue(), this.modulus);
+                    if (coefficient == null) {
+                        return null;
+                    }
+                    if (!coefficient.isZero()) {
+                        terms.put(entry.getKey(), coefficient);
+                    }
+                }
+                result.add(new Polynomial(terms, order));
+            }
+            return List.copyOf(result);
+        }
+    }
+}
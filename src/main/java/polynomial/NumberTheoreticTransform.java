@@ -0,0 +1,96 @@
+package polynomial;
+
+import number.PrimeField;
+
+import java.util.Arrays;
+
+/**
+ * Cyclic convolution of residue vectors with the number-theoretic transform, the analogue of the fast Fourier
+ * transform over a prime field containing the required roots of unity (see {@link PrimeField#fourierPrimes}).
+ */
+final class NumberTheoreticTransform {
+    private NumberTheoreticTransform() {
+    }
+
+    /**
+     * Multiplies two polynomials given by their residue coefficient vectors, lowest degree first.
+     * @param a The first factor, nonempty.
+     * @param b The second factor, nonempty.
+     * @param field A field whose p - 1 is divisible by the transform length, the next power of two of the product
+     *              length.
+     * @return The coefficients of the product, of length a.length + b.length - 1.
+     */
+    static long[] multiply(long[] a, long[] b, PrimeField field) {
+        int resultLength = a.length + b.length - 1;
+        int log2Length = log2Length(resultLength);
+        int length = 1 << log2Length;
+
+        long root = field.rootOfUnity(log2Length);
+        long[] roots = powers(root, length / 2, field);
+        long[] fa = Arrays.copyOf(a, length);
+        long[] fb = Arrays.copyOf(b, length);
+        transform(fa, roots, field);
+        transform(fb, roots, field);
+        for (int i = 0; i < length; ++i) {
+            fa[i] = field.multiply(fa[i], fb[i]);
+        }
+
+        // The inverse transform is the forward transform with the inverse root, scaled by 1/length.
+        transform(fa, powers(field.inverse(root), length / 2, field), field);
+        long scale = field.inverse(field.valueOf(length));
+        long[] result = new long[resultLength];
+        for (int i = 0; i < resultLength; ++i) {
+            result[i] = field.multiply(fa[i], scale);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the exponent of the smallest power of two that is at least length.
+     */
+    static int log2Length(int length) {
+        return length <= 1 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+    }
+
+    private static long[] powers(long root, int count, PrimeField field) {
+        long[] result = new long[count];
+        long power = 1;
+        for (int i = 0; i < count; ++i) {
+            result[i] = power;
+            power = field.multiply(power, root);
+        }
+        return result;
+    }
+
+    /**
+     * Iterative radix-2 Cooley-Tukey transform in place. roots[j] is the j-th power of a primitive root of unity of
+     * order values.length.
+     */
+    private static void transform(long[] values, long[] roots, PrimeField field) {
+        int length = values.length;
+        for (int i = 1, j = 0; i < length; ++i) {
+            int bit = length >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j |= bit;
+            if (i < j) {
+                long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        for (int half = 1; half < length; half <<= 1) {
+            int step = length / (2 * half);
+            for (int start = 0; start < length; start += 2 * half) {
+                for (int k = 0; k < half; ++k) {
+                    long u = values[start + k];
+                    long v = field.multiply(values[start + k + half], roots[k * step]);
+                    values[start + k] = field.add(u, v);
+                    values[start + k + half] = field.subtract(u, v);
+                }
+            }
+        }
+    }
+}
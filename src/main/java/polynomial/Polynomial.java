@@ -1,52 +1,925 @@
 package polynomial;
 
+import exceptions.PolynomialDivideByZeroException;
+import exceptions.PolynomialNegativePowerException;
+import exceptions.PolynomialNotDivisibleException;
 import number.RationalNumber;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
+/**
+ * An immutable multivariate polynomial with rational coefficients.
+ *
+ * Terms are stored in a hash table from monomial to nonzero coefficient, so like terms are combined on insert and
+ * the coefficient of any monomial is found in constant time. Every polynomial carries a {@link MonomialOrder} (grlex
+ * unless specified otherwise); the descending order of the terms is only materialized, once, when the terms are
+ * requested in order (e.g. by {@link #getTerms()} or {@link #toString()}). Results of arithmetic use the order of the
+ * left operand.
+ */
 public class Polynomial {
-    private TreeSet<VariableName> varSet = new TreeSet<>();
-    private TreeSet<Term> terms = new TreeSet<>();
+    private static final Term[] NO_TERMS = new Term[0];
+    private static final int[] NO_VARIABLES = new int[0];
+
+    /**
+     * Default number of pairwise term products below which {@link #multiplyParallel(Polynomial)} stays sequential.
+     */
+    public static final long PARALLEL_MULTIPLY_THRESHOLD = 1 << 16;
+
+    /**
+     * Number of terms of the shorter factor from which {@link #multiply(Polynomial)} multiplies dense univariate
+     * polynomials as {@link DenseUnivariatePolynomial}s.
+     */
+    public static final int DENSE_MULTIPLY_THRESHOLD = 8;
+
+    private final MonomialOrder order;
+    private final Set<VariableName> varSet = EnumSet.noneOf(VariableName.class);
+    // Increasing indices of all variables, and the set of those variables, created on first use.
+    private final int[] variables;
+    private volatile SortedSet<Variable> variableSet;
+    // Never modified after construction and never contains a zero coefficient.
+    private final Map<Monomial, RationalNumber> mapMonomialCoefficient;
+    // Terms in descending order, materialized on first use.
+    private volatile Term[] sortedTerms;
+    private int hash;
 
     /**
      * Creates the zero polynomial.
      */
     public Polynomial() {
-        this.terms.add(new Term(RationalNumber.zero));
+        this.order = MonomialOrder.grlex;
+        this.mapMonomialCoefficient = Collections.emptyMap();
+        this.variables = NO_VARIABLES;
+        this.sortedTerms = NO_TERMS;
     }
 
     /**
-     * Creates a polynomial with the specified terms.
-     * Note: Adding the same Term object several times causes undefined behavior.
+     * Creates a polynomial with the specified terms. Like terms are combined and terms with a zero coefficient are
+     * dropped.
      * @param terms An array of terms for the polynomial.
      */
     public Polynomial(Term... terms) {
+        this(MonomialOrder.grlex, terms);
+    }
+
+    /**
+     * Creates a polynomial with the specified terms and monomial order. Like terms are combined and terms with a zero
+     * coefficient are dropped.
+     * @param order The order in which terms are listed and leading terms are chosen.
+     * @param terms An array of terms for the polynomial.
+     */
+    public Polynomial(MonomialOrder order, Term... terms) {
+        this.order = order;
+        Map<Monomial, RationalNumber> mapMonomialCoefficient = new HashMap<>(2 * terms.length);
         for (Term term : terms) {
-            this.varSet.addAll(term.getVariableSet());
-            this.terms.add(term);
+            if (!term.getCoefficient().isZero()) {
+                mapMonomialCoefficient.merge(term.getMonomial(), term.getCoefficient(), Polynomial::addNonZero);
+            }
+        }
+        this.mapMonomialCoefficient = mapMonomialCoefficient;
+        this.variables = collectVariables();
+    }
+
+    /**
+     * Wraps a monomial-to-coefficient map without copying it. The map must not contain zero coefficients and must not
+     * be modified afterwards.
+     */
+    Polynomial(Map<Monomial, RationalNumber> mapMonomialCoefficient, MonomialOrder order) {
+        this.order = order;
+        this.mapMonomialCoefficient = mapMonomialCoefficient;
+        this.variables = collectVariables();
+    }
+
+    private int[] collectVariables() {
+        BitSet used = new BitSet();
+        for (Monomial monomial : this.mapMonomialCoefficient.keySet()) {
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                if (monomial.exponentAt(i) != 0) {
+                    used.set(i);
+                }
+            }
+        }
+        int[] result = new int[used.cardinality()];
+        for (int i = used.nextSetBit(0), k = 0; i >= 0; i = used.nextSetBit(i + 1)) {
+            result[k++] = i;
+            VariableName variableName = Variable.at(i).toVariableName();
+            if (variableName != null) {
+                this.varSet.add(variableName);
+            }
         }
+        return result;
+    }
+
+    /**
+     * Adds two coefficients for {@link Map#merge}, mapping a zero sum to null so that the entry is removed.
+     */
+    static RationalNumber addNonZero(RationalNumber r1, RationalNumber r2) {
+        RationalNumber sum = r1.add(r2);
+        return sum.isZero() ? null : sum;
+    }
 
-        // TODO: Collect like terms.
+    // The monomial-to-coefficient map itself, which must not be modified.
+    Map<Monomial, RationalNumber> coefficientMap() {
+        return this.mapMonomialCoefficient;
     }
 
+    /**
+     * Obtains the set of predefined variables that appear in this polynomial.
+     * @return Set of the {@link VariableName}s with a positive exponent in some term; see {@link #getVariables()} for
+     *         all variables.
+     */
     public Set<VariableName> getVariableSet() {
         return this.varSet;
     }
 
-    @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    /**
+     * Obtains the set of variables that appear in this polynomial.
+     * @return Unmodifiable set of the variables with a positive exponent in some term, in increasing order of index.
+     */
+    public SortedSet<Variable> getVariables() {
+        SortedSet<Variable> result = this.variableSet;
+        if (result == null) {
+            result = new TreeSet<>();
+            for (int index : this.variables) {
+                result.add(Variable.at(index));
+            }
+            result = Collections.unmodifiableSortedSet(result);
+            this.variableSet = result;
+        }
+        return result;
+    }
+
+    public MonomialOrder getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Obtains the same polynomial with a different monomial order. The terms are shared, not copied.
+     * @param order The new order.
+     * @return A polynomial equal to this one that lists its terms in the given order.
+     */
+    public Polynomial withOrder(MonomialOrder order) {
+        return order == this.order ? this : new Polynomial(this.mapMonomialCoefficient, order);
+    }
+
+    /**
+     * Obtains an equal polynomial whose monomials are canonical (see {@link Monomial#intern()}), so that polynomials
+     * kept together in memory share their monomials and compare them by reference.
+     * @return A polynomial equal to this one, in the same order, over interned monomials.
+     */
+    public Polynomial intern() {
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.mapMonomialCoefficient.size());
+        for (Map.Entry<Monomial, RationalNumber> entry : this.mapMonomialCoefficient.entrySet()) {
+            result.put(entry.getKey().intern(), entry.getValue());
+        }
+        return new Polynomial(result, this.order);
+    }
 
-        // Iterate through all terms in DESCENDING order and append to result string.
-        for (Term term : terms.descendingSet()) {
-            result.append(term.toString());
-            // Add a '+' unless we are at the first term (AKA last term in descending order).
-            if (term != terms.first()) {
-                result.append(" + ");
+    /**
+     * Obtains the terms of this polynomial in descending order of its monomial order.
+     * @return Unmodifiable list of terms.
+     */
+    public List<Term> getTerms() {
+        return Collections.unmodifiableList(Arrays.asList(sortedTerms()));
+    }
+
+    private Term[] sortedTerms() {
+        Term[] result = this.sortedTerms;
+        if (result == null) {
+            result = unsortedTerms();
+            this.order.sortDescending(result);
+            this.sortedTerms = result;
+        }
+        return result;
+    }
+
+    private Term[] unsortedTerms() {
+        Term[] result = this.sortedTerms;
+        if (result != null) {
+            return result;
+        }
+        result = new Term[this.mapMonomialCoefficient.size()];
+        int i = 0;
+        for (var entry : this.mapMonomialCoefficient.entrySet()) {
+            result[i++] = new Term(entry.getValue(), entry.getKey());
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the leading term of this polynomial, i.e., the term with the greatest monomial in its monomial order.
+     * Does not sort the terms unless they are already sorted.
+     * @return The leading term, or null for the zero polynomial.
+     */
+    public Term getLeadingTerm() {
+        Term[] sorted = this.sortedTerms;
+        if (sorted != null) {
+            return sorted.length == 0 ? null : sorted[0];
+        }
+
+        Monomial leading = null;
+        for (Monomial monomial : this.mapMonomialCoefficient.keySet()) {
+            if (leading == null || this.order.compare(monomial, leading) > 0) {
+                leading = monomial;
             }
         }
+        return leading == null ? null : new Term(this.mapMonomialCoefficient.get(leading), leading);
+    }
+
+    /**
+     * Obtains the coefficient of a monomial in this polynomial.
+     * @param monomial The monomial.
+     * @return The coefficient of the monomial, or zero if this polynomial has no such term.
+     */
+    public RationalNumber getCoefficient(Monomial monomial) {
+        return this.mapMonomialCoefficient.getOrDefault(monomial, RationalNumber.zero);
+    }
+
+    /**
+     * Obtains the number of (nonzero) terms in this polynomial.
+     * @return Number of terms.
+     */
+    public int getTermCount() {
+        return this.mapMonomialCoefficient.size();
+    }
+
+    /**
+     * Checks if this polynomial is the zero polynomial.
+     * @return True if this polynomial has no nonzero terms, false otherwise.
+     */
+    public boolean isZero() {
+        return this.mapMonomialCoefficient.isEmpty();
+    }
+
+    // Polynomial operations.
+    public Polynomial add(Polynomial p) {
+        // Copy the larger operand and insert the smaller one into it.
+        Polynomial larger = this.getTermCount() >= p.getTermCount() ? this : p;
+        Polynomial smaller = larger == this ? p : this;
+        Map<Monomial, RationalNumber> result = new HashMap<>(larger.mapMonomialCoefficient);
+        for (var entry : smaller.mapMonomialCoefficient.entrySet()) {
+            result.merge(entry.getKey(), entry.getValue(), Polynomial::addNonZero);
+        }
+        return new Polynomial(result, this.order);
+    }
+    public Polynomial subtract(Polynomial p) {
+        Map<Monomial, RationalNumber> result = new HashMap<>(this.mapMonomialCoefficient);
+        for (var entry : p.mapMonomialCoefficient.entrySet()) {
+            result.merge(entry.getKey(), entry.getValue().negate(), Polynomial::addNonZero);
+        }
+        return new Polynomial(result, this.order);
+    }
+    public Polynomial negate() {
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.getTermCount());
+        for (var entry : this.mapMonomialCoefficient.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().negate());
+        }
+        return new Polynomial(result, this.order);
+    }
+
+    /**
+     * Multiplies this polynomial by a single term. Multiplying by a monomial is injective, so no like terms need to be
+     * combined.
+     * @param t The term.
+     * @return The product of this polynomial and t.
+     */
+    public Polynomial multiply(Term t) {
+        if (t.getCoefficient().isZero()) {
+            return new Polynomial(Collections.emptyMap(), this.order);
+        }
+
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.getTermCount());
+        for (var entry : this.mapMonomialCoefficient.entrySet()) {
+            result.put(entry.getKey().multiply(t.getMonomial()), entry.getValue().multiply(t.getCoefficient()));
+        }
+        return new Polynomial(result, this.order);
+    }
+
+    /**
+     * Multiplies two polynomials. Every pairwise product is accumulated into a hash table keyed by monomial, so like
+     * terms are combined as they are produced. If both factors are polynomials in the same single variable, at least
+     * half of whose coefficients up to the degree are nonzero, and the shorter one has at least
+     * {@link #DENSE_MULTIPLY_THRESHOLD} terms, they are multiplied as {@link DenseUnivariatePolynomial}s instead.
+     * @param p The other factor.
+     * @return The product of this polynomial and p.
+     */
+    public Polynomial multiply(Polynomial p) {
+        if (this.isZero() || p.isZero()) {
+            return new Polynomial(Collections.emptyMap(), this.order);
+        }
+        if (Math.min(this.getTermCount(), p.getTermCount()) >= DENSE_MULTIPLY_THRESHOLD
+                && this.variables.length == 1 && Arrays.equals(this.variables, p.variables)
+                && this.isDense() && p.isDense()) {
+            Variable variable = Variable.at(this.variables[0]);
+            return DenseUnivariatePolynomial.of(this, variable)
+                    .multiply(DenseUnivariatePolynomial.of(p, variable))
+                    .toPolynomial(this.order);
+        }
+
+        Term[] left = this.unsortedTerms();
+        return new Polynomial(multiply(left, 0, left.length, p.unsortedTerms()), this.order);
+    }
+
+    /**
+     * Raises this polynomial to a power. A single term is raised directly, and a polynomial in one variable as a
+     * {@link DenseUnivariatePolynomial} (see {@link DenseUnivariatePolynomial#pow}). Other polynomials are expanded
+     * with the multinomial theorem when that takes fewer term products than repeated multiplication by this
+     * polynomial, and multiplied repeatedly otherwise. Repeated squaring is not used here: the squares of a sparse
+     * multivariate polynomial have so many more terms than the polynomial itself that squaring them costs more than
+     * all multiplications by the base together.
+     * @param power The non-negative power.
+     * @return This polynomial to the given power, and 1 for a power of 0 (including 0^0).
+     * @throws PolynomialNegativePowerException If power is negative.
+     * @throws ArithmeticException If an exponent of the result overflows an int.
+     */
+    public Polynomial pow(int power) {
+        if (power < 0) {
+            throw new PolynomialNegativePowerException();
+        }
+        if (power == 0) {
+            return new Polynomial(Map.of(Monomial.one, RationalNumber.one), this.order);
+        }
+        if (power == 1 || this.isZero()) {
+            return this;
+        }
+        Term[] terms = this.unsortedTerms();
+        if (terms.length == 1) {
+            return new Polynomial(Map.of(terms[0].getMonomial().pow(power), terms[0].getCoefficient().pow(power)),
+                    this.order);
+        }
+        if (this.variables.length == 1) {
+            Variable variable = Variable.at(this.variables[0]);
+            return DenseUnivariatePolynomial.of(this, variable).pow(power).toPolynomial(this.order);
+        }
 
-        return result.toString();
+        if (!multipliesRepeatedly(terms, power)) {
+            HashMap<Monomial, RationalNumber> result = new HashMap<>();
+            multinomial(terms, 0, power, RationalNumber.one, Monomial.one, result);
+            return new Polynomial(result, this.order);
+        }
+        Polynomial result = this;
+        for (int i = 1; i < power; ++i) {
+            result = result.multiply(this);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if {@link #pow(int)} raises this polynomial, with the given terms, to a power greater than 1 by repeated
+     * multiplication rather than directly, by the univariate powering or by the multinomial theorem.
+     */
+    private boolean multipliesRepeatedly(Term[] terms, int power) {
+        return terms.length > 1 && this.variables.length > 1
+                && binomial((long) power + terms.length - 1, terms.length - 1) > repeatedProducts(terms, power);
+    }
+
+    /**
+     * Estimates the number of term products of raising terms to a power by repeated multiplication. Every
+     * intermediate power p^k has at most as many terms as there are multisets of k terms, and at most as many as
+     * there are monomials of degree up to k times the degree of p.
+     */
+    private double repeatedProducts(Term[] terms, int power) {
+        int degree = 0;
+        for (Term term : terms) {
+            degree = Math.max(degree, term.getMonomial().getDegree());
+        }
+        double result = 0;
+        for (int k = 1; k < power; ++k) {
+            result += Math.min(binomial(k + terms.length - 1, terms.length - 1),
+                    binomial((long) k * degree + this.variables.length, this.variables.length));
+        }
+        return result * terms.length;
+    }
+
+    /**
+     * Approximates the binomial coefficient n choose k.
+     */
+    private static double binomial(long n, int k) {
+        double result = 1;
+        for (int i = 1; i <= k && result < Double.POSITIVE_INFINITY; ++i) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    /**
+     * Adds the terms of the multinomial expansion of (terms[i] + ... + terms[t - 1])^remaining, times a term with the
+     * given coefficient and monomial, to result. The expansion is the sum over k_i + ... + k_{t - 1} = remaining of
+     * remaining! / (k_i! ... k_{t - 1}!) times the product of the terms to their k; the exponents are chosen one term
+     * at a time, so every partial product is shared by all the expansions that extend it.
+     */
+    private static void multinomial(Term[] terms, int i, int remaining, RationalNumber coefficient, Monomial monomial,
+            HashMap<Monomial, RationalNumber> result) {
+        Term term = terms[i];
+        if (i == terms.length - 1 || remaining == 0) {
+            result.merge(monomial.multiply(term.getMonomial().pow(remaining)),
+                    coefficient.multiply(term.getCoefficient().pow(remaining)), Polynomial::addNonZero);
+            return;
+        }
+        // binomial is remaining choose k, and factor the coefficient and monomial times terms[i]^k.
+        RationalNumber binomial = RationalNumber.one;
+        RationalNumber factor = coefficient;
+        for (int k = 0; k <= remaining; ++k) {
+            multinomial(terms, i + 1, remaining - k, factor.multiply(binomial), monomial, result);
+            binomial = binomial.multiply(RationalNumber.of(remaining - k)).divide(RationalNumber.of(k + 1));
+            factor = factor.multiply(term.getCoefficient());
+            monomial = monomial.multiply(term.getMonomial());
+        }
+    }
+
+    /**
+     * Checks if at least half of the coefficients of a univariate polynomial up to its degree are nonzero.
+     */
+    private boolean isDense() {
+        int degree = 0;
+        for (Monomial monomial : this.mapMonomialCoefficient.keySet()) {
+            degree = Math.max(degree, monomial.getDegree());
+        }
+        return 2 * this.getTermCount() > degree;
+    }
+
+    /**
+     * Multiplies two polynomials on the common {@link ForkJoinPool}, using {@link #PARALLEL_MULTIPLY_THRESHOLD}.
+     * @param p The other factor.
+     * @return The product of this polynomial and p, equal to {@link #multiply(Polynomial)}.
+     */
+    public Polynomial multiplyParallel(Polynomial p) {
+        return multiplyParallel(p, PARALLEL_MULTIPLY_THRESHOLD);
+    }
+
+    /**
+     * Multiplies two polynomials on the common {@link ForkJoinPool}. The operand with more terms is split in halves
+     * until each chunk needs at most threshold pairwise term products; each chunk is multiplied by the other operand
+     * with {@link #multiply(Polynomial)}'s algorithm and the partial products are merged pairwise.
+     * @param p The other factor.
+     * @param threshold Maximum number of pairwise term products computed sequentially by one task. Products below
+     *                  this size are computed on the calling thread.
+     * @return The product of this polynomial and p, equal to {@link #multiply(Polynomial)}.
+     */
+    public Polynomial multiplyParallel(Polynomial p, long threshold) {
+        if ((long) this.getTermCount() * p.getTermCount() <= threshold) {
+            return this.multiply(p);
+        }
+
+        Term[] split = (this.getTermCount() >= p.getTermCount() ? this : p).unsortedTerms();
+        Term[] other = (this.getTermCount() >= p.getTermCount() ? p : this).unsortedTerms();
+        return new Polynomial(ForkJoinPool.commonPool().invoke(
+                new MultiplyTask(split, 0, split.length, other, Math.max(threshold, 1))), this.order);
+    }
+
+    /**
+     * Multiplies the terms left[from, to) by every term of right, returning the collected product.
+     */
+    private static HashMap<Monomial, RationalNumber> multiply(Term[] left, int from, int to, Term[] right) {
+        HashMap<Monomial, RationalNumber> result = new HashMap<>();
+        for (int i = from; i < to; ++i) {
+            Term l = left[i];
+            for (Term r : right) {
+                result.merge(l.getMonomial().multiply(r.getMonomial()),
+                        l.getCoefficient().multiply(r.getCoefficient()), Polynomial::addNonZero);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fork-join task computing the product of a chunk of one operand's terms with all terms of the other operand.
+     * Tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class MultiplyTask extends RecursiveTask<HashMap<Monomial, RationalNumber>> {
+        private final Term[] left;
+        private final int from;
+        private final int to;
+        private final Term[] right;
+        private final long threshold;
+
+        MultiplyTask(Term[] left, int from, int to, Term[] right, long threshold) {
+            this.left = left;
+            this.from = from;
+            this.to = to;
+            this.right = right;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected HashMap<Monomial, RationalNumber> compute() {
+            if (this.to - this.from == 1 || (long) (this.to - this.from) * this.right.length <= this.threshold) {
+                return multiply(this.left, this.from, this.to, this.right);
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            MultiplyTask upper = new MultiplyTask(this.left, this.from, mid, this.right, this.threshold);
+            MultiplyTask lower = new MultiplyTask(this.left, mid, this.to, this.right, this.threshold);
+            upper.fork();
+            HashMap<Monomial, RationalNumber> result = lower.compute();
+            HashMap<Monomial, RationalNumber> other = upper.join();
+
+            // Insert the smaller partial product into the larger one.
+            if (other.size() > result.size()) {
+                HashMap<Monomial, RationalNumber> swap = result;
+                result = other;
+                other = swap;
+            }
+            for (var entry : other.entrySet()) {
+                result.merge(entry.getKey(), entry.getValue(), Polynomial::addNonZero);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Divides this polynomial by a list of divisors in this polynomial's monomial order. At every step the leading
+     * term is divided by the leading term of the first divisor whose leading monomial divides it, or moved to the
+     * remainder if there is none.
+     * @param divisors The divisors; zero divisors are skipped and get a zero quotient.
+     * @return Quotients q_i and remainder r with this = q_1 f_1 + ... + q_s f_s + r, where no term of r is divisible
+     *         by the leading monomial of any f_i.
+     */
+    public DivisionResult divideWithRemainder(Polynomial... divisors) {
+        return Division.divide(this, Arrays.asList(divisors), true);
+    }
+
+    /**
+     * Divides this polynomial by a polynomial that divides it exactly.
+     * @param p The divisor.
+     * @return The quotient q with this = q p, in this polynomial's order.
+     * @throws PolynomialDivideByZeroException If p is the zero polynomial.
+     * @throws PolynomialNotDivisibleException If p does not divide this polynomial.
+     */
+    public Polynomial divide(Polynomial p) {
+        if (p.isZero()) {
+            throw new PolynomialDivideByZeroException();
+        }
+        DivisionResult result = Division.divideExactly(this, p, true);
+        if (result == null) {
+            throw new PolynomialNotDivisibleException();
+        }
+        return result.getQuotients().get(0);
+    }
+
+    /**
+     * Computes the greatest common divisor of this polynomial and another polynomial with Brown's modular algorithm.
+     * The GCD is computed modulo several primes, evaluating all variables but one at successive points, and lifted
+     * back with interpolation and Chinese remaindering; intermediate coefficients stay word-size, unlike those of
+     * Euclid's algorithm over the rationals. Every candidate is confirmed by trial division as soon as it stabilizes.
+     * @param p The other polynomial.
+     * @return The GCD with leading coefficient 1 in this polynomial's order, or zero if both polynomials are zero.
+     */
+    public Polynomial gcd(Polynomial p) {
+        Polynomial result;
+        if (this.isZero() || p.isZero()) {
+            result = this.isZero() ? p : this;
+            if (result.isZero()) {
+                return new Polynomial(Collections.emptyMap(), this.order);
+            }
+        }
+        else {
+            result = ModularGcd.gcd(this, p);
+        }
+        result = result.withOrder(this.order);
+        RationalNumber leading = result.getLeadingTerm().getCoefficient();
+        return leading.equals(RationalNumber.one)
+                ? result
+                : result.multiply(new Term(RationalNumber.one.divide(leading)));
+    }
+
+    /**
+     * Binds some variables to values, e.g. x^2y + xz at x = 2 is 4y + 2z. Each power of a value is computed once,
+     * however many terms it multiplies.
+     * @param values Values of some variables. Variables without a value are kept, and values of variables that do not
+     *               appear in this polynomial are ignored.
+     * @return This polynomial with the values substituted, a polynomial in the remaining variables in the order of
+     *         this polynomial.
+     */
+    public Polynomial substitute(Map<VariableName, RationalNumber> values) {
+        return substitute(Variable.byIndex(values));
+    }
+
+    /**
+     * Binds some variables, which need not be {@link VariableName}s, to values.
+     * @param variables The variables to bind. Variables that do not appear in this polynomial are ignored.
+     * @param values The value of each of the variables, in the same order.
+     * @return This polynomial with the values substituted, a polynomial in the remaining variables in the order of
+     *         this polynomial.
+     * @throws IllegalArgumentException If the numbers of variables and values differ, or a variable is repeated.
+     */
+    public Polynomial substitute(List<Variable> variables, RationalNumber[] values) {
+        return substitute(Variable.byIndex(variables, values));
+    }
+
+    private Polynomial substitute(IntFunction<RationalNumber> valueAt) {
+        // powers[i][e] is the value of the variable with index i to the power e, computed on first use; powers[i] is
+        // null for a variable without a value.
+        int end = this.variables.length == 0 ? 0 : this.variables[this.variables.length - 1] + 1;
+        RationalNumber[][] powers = new RationalNumber[end][];
+        boolean anyBound = false;
+        for (var entry : this.mapMonomialCoefficient.entrySet()) {
+            Monomial monomial = entry.getKey();
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                int power = monomial.exponentAt(i);
+                if (power == 0) {
+                    continue;
+                }
+                if (valueAt.apply(i) != null && (powers[i] == null || powers[i].length <= power)) {
+                    powers[i] = powers[i] == null ? new RationalNumber[power + 1] : Arrays.copyOf(powers[i], power + 1);
+                    anyBound = true;
+                }
+            }
+        }
+        if (!anyBound) {
+            return this;
+        }
+
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.getTermCount());
+        int[] exponents = new int[end];
+        for (var entry : this.mapMonomialCoefficient.entrySet()) {
+            Monomial monomial = entry.getKey();
+            RationalNumber coefficient = entry.getValue();
+            for (int i = monomial.start(); i < monomial.length(); ++i) {
+                int power = monomial.exponentAt(i);
+                if (power != 0 && powers[i] != null) {
+                    if (powers[i][power] == null) {
+                        powers[i][power] = valueAt.apply(i).pow(power);
+                    }
+                    coefficient = coefficient.multiply(powers[i][power]);
+                    exponents[i] = 0;
+                }
+                else {
+                    exponents[i] = power;
+                }
+            }
+            if (!coefficient.isZero()) {
+                result.merge(Monomial.of(exponents, monomial.start(), monomial.length()), coefficient,
+                        Polynomial::addNonZero);
+            }
+        }
+        return new Polynomial(result, this.order);
+    }
+
+    /**
+     * Substitutes a polynomial for a variable, e.g. x^2 + xy with x = y + 1 is 2y^2 + 3y + 1.
+     * @param variableName The variable to replace.
+     * @param replacement The polynomial to substitute for it, which may contain the variable itself.
+     * @return The composition, in the order of this polynomial.
+     * @throws ArithmeticException If an exponent of the result overflows an int.
+     */
+    public Polynomial compose(VariableName variableName, Polynomial replacement) {
+        return compose(Variable.of(variableName), replacement);
+    }
+
+    /**
+     * Substitutes a polynomial for a variable. The terms are grouped by their exponent of the variable, so that each
+     * distinct power of the replacement is computed once and multiplies the whole group of cofactors, whose products
+     * are accumulated into one table. The powers are taken in increasing order: where {@link #pow(int)} would
+     * multiply repeatedly, as for most replacements with several terms in several variables, each power continues
+     * from the previous one, multiplying by the replacement once per degree in between, so the multiplications up to
+     * the previous power are not repeated; multiplying by a higher power of the replacement across a gap takes more
+     * term products than the single steps. Otherwise pow computes each power directly.
+     * @param variable The variable to replace.
+     * @param replacement The polynomial to substitute for it, which may contain the variable itself.
+     * @return The composition, in the order of this polynomial.
+     * @throws ArithmeticException If an exponent of the result overflows an int.
+     */
+    public Polynomial compose(Variable variable, Polynomial replacement) {
+        // The cofactors of the powers of the variable, by exponent. Distinct monomials with the same exponent have
+        // distinct cofactors, so no like terms are combined here.
+        TreeMap<Integer, Map<Monomial, RationalNumber>> groups = new TreeMap<>();
+        for (var entry : this.mapMonomialCoefficient.entrySet()) {
+            Monomial monomial = entry.getKey();
+            int power = monomial.getExponent(variable);
+            Monomial cofactor = power == 0 ? monomial : monomial.divide(new Monomial(variable, power));
+            groups.computeIfAbsent(power, k -> new HashMap<>()).put(cofactor, entry.getValue());
+        }
+        if (groups.isEmpty() || groups.lastKey() == 0) {
+            return this;
+        }
+
+        Map<Monomial, RationalNumber> result = new HashMap<>(groups.getOrDefault(0, Collections.emptyMap()));
+        Term[] replacementTerms = replacement.unsortedTerms();
+        // The last power computed and its exponent.
+        Polynomial previous = null;
+        int previousExponent = 0;
+        for (var group : groups.tailMap(0, false).entrySet()) {
+            int exponent = group.getKey();
+            if (previous != null && replacement.multipliesRepeatedly(replacementTerms, exponent)) {
+                for (; previousExponent < exponent; ++previousExponent) {
+                    previous = previous.multiply(replacement);
+                }
+            }
+            else {
+                previous = replacement.pow(exponent);
+                previousExponent = exponent;
+            }
+            Term[] power = previous.unsortedTerms();
+            for (var cofactor : group.getValue().entrySet()) {
+                for (Term t : power) {
+                    result.merge(cofactor.getKey().multiply(t.getMonomial()),
+                            cofactor.getValue().multiply(t.getCoefficient()), Polynomial::addNonZero);
+                }
+            }
+        }
+        return new Polynomial(result, this.order);
+    }
+
+    /**
+     * Differentiates this polynomial with respect to a variable.
+     * @param variableName The variable.
+     * @return The partial derivative, in the order of this polynomial.
+     */
+    public Polynomial derivative(VariableName variableName) {
+        return derivative(Variable.of(variableName));
+    }
+
+    /**
+     * Differentiates this polynomial with respect to a variable. Dividing the monomials that contain the variable by
+     * it is injective, so no like terms need to be combined.
+     * @param variable The variable.
+     * @return The partial derivative, in the order of this polynomial.
+     */
+    public Polynomial derivative(Variable variable) {
+        Monomial divisor = new Monomial(variable, 1);
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.getTermCount());
+        for (var entry : this.mapMonomialCoefficient.entrySet()) {
+            int power = entry.getKey().getExponent(variable);
+            if (power != 0) {
+                result.put(entry.getKey().divide(divisor), entry.getValue().multiply(RationalNumber.of(power)));
+            }
+        }
+        return new Polynomial(result, this.order);
+    }
+
+    /**
+     * Obtains the gradient of this polynomial.
+     * @param variables The variables to differentiate with respect to.
+     * @return Unmodifiable list of the partial derivatives, one per variable in the same order.
+     */
+    public List<Polynomial> gradient(List<Variable> variables) {
+        Polynomial[] result = new Polynomial[variables.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = derivative(variables.get(i));
+        }
+        return List.of(result);
+    }
+
+    /**
+     * Compiles this polynomial for repeated evaluation at many points.
+     * @return An evaluator whose point arrays are indexed by the slots listed in
+     *         {@link PolynomialEvaluator#getSlots()}.
+     */
+    public PolynomialEvaluator compile() {
+        return new PolynomialEvaluator(Arrays.asList(unsortedTerms()));
+    }
+
+    /**
+     * Evaluates this polynomial at a batch of points stored column-wise.
+     * @param columns One array per variable of this polynomial; the i-th entries of all arrays form the i-th point.
+     *                The arrays of the variables of this polynomial must have the same length.
+     * @return Approximate values of this polynomial, one per point.
+     */
+    public double[] evaluateBatch(Map<VariableName, double[]> columns) {
+        return evaluateBatch(columns, false);
+    }
+
+    /**
+     * Evaluates this polynomial at a batch of points stored column-wise.
+     * @param columns One array per variable of this polynomial; the i-th entries of all arrays form the i-th point.
+     *                The arrays of the variables of this polynomial must have the same length.
+     * @param parallel Whether to split the batch across the common {@link ForkJoinPool}.
+     * @return Approximate values of this polynomial, one per point.
+     */
+    public double[] evaluateBatch(Map<VariableName, double[]> columns, boolean parallel) {
+        return evaluateBatch(Variable.byIndex(columns), columns.values(), parallel);
+    }
+
+    /**
+     * Evaluates this polynomial at a batch of points stored column-wise, whose variables need not be
+     * {@link VariableName}s.
+     * @param variables The variables with a column, which must include all variables of this polynomial.
+     * @param columns The column of each of the variables, in the same order; the i-th entries of all arrays form the
+     *                i-th point. The arrays of the variables of this polynomial must have the same length.
+     * @return Approximate values of this polynomial, one per point.
+     * @throws IllegalArgumentException If the numbers of variables and columns differ, or a variable is repeated.
+     */
+    public double[] evaluateBatch(List<Variable> variables, double[][] columns) {
+        return evaluateBatch(variables, columns, false);
+    }
+
+    /**
+     * Evaluates this polynomial at a batch of points stored column-wise, whose variables need not be
+     * {@link VariableName}s.
+     * @param variables The variables with a column, which must include all variables of this polynomial.
+     * @param columns The column of each of the variables, in the same order; the i-th entries of all arrays form the
+     *                i-th point. The arrays of the variables of this polynomial must have the same length.
+     * @param parallel Whether to split the batch across the common {@link ForkJoinPool}.
+     * @return Approximate values of this polynomial, one per point.
+     * @throws IllegalArgumentException If the numbers of variables and columns differ, or a variable is repeated.
+     */
+    public double[] evaluateBatch(List<Variable> variables, double[][] columns, boolean parallel) {
+        return evaluateBatch(Variable.byIndex(variables, columns), Arrays.asList(columns), parallel);
+    }
+
+    private double[] evaluateBatch(IntFunction<double[]> columnAt, Collection<double[]> columns, boolean parallel) {
+        int pointCount = pointCount(columnAt, columns, column -> column.length);
+        return new BatchEvaluator(Arrays.asList(unsortedTerms()), pointCount).evaluate(columnAt, parallel);
+    }
+
+    /**
+     * Evaluates this polynomial exactly at a batch of points stored column-wise.
+     * @param columns One array per variable of this polynomial; the i-th entries of all arrays form the i-th point.
+     *                The arrays of the variables of this polynomial must have the same length.
+     * @param parallel Whether to split the batch across the common {@link ForkJoinPool}.
+     * @return Values of this polynomial, one per point.
+     */
+    public RationalNumber[] evaluateBatchExact(Map<VariableName, RationalNumber[]> columns, boolean parallel) {
+        return evaluateBatchExact(Variable.byIndex(columns), columns.values(), parallel);
+    }
+
+    /**
+     * Evaluates this polynomial exactly at a batch of points stored column-wise, whose variables need not be
+     * {@link VariableName}s.
+     * @param variables The variables with a column, which must include all variables of this polynomial.
+     * @param columns The column of each of the variables, in the same order; the i-th entries of all arrays form the
+     *                i-th point. The arrays of the variables of this polynomial must have the same length.
+     * @param parallel Whether to split the batch across the common {@link ForkJoinPool}.
+     * @return Values of this polynomial, one per point.
+     * @throws IllegalArgumentException If the numbers of variables and columns differ, or a variable is repeated.
+     */
+    public RationalNumber[] evaluateBatchExact(List<Variable> variables, RationalNumber[][] columns, boolean parallel) {
+        return evaluateBatchExact(Variable.byIndex(variables, columns), Arrays.asList(columns), parallel);
+    }
+
+    private RationalNumber[] evaluateBatchExact(IntFunction<RationalNumber[]> columnAt,
+                                                Collection<RationalNumber[]> columns, boolean parallel) {
+        int pointCount = pointCount(columnAt, columns, column -> column.length);
+        return new BatchEvaluator(Arrays.asList(unsortedTerms()), pointCount).evaluateExact(columnAt, parallel);
+    }
+
+    /**
+     * Obtains the number of points of a batch from the column of the first variable of this polynomial that has one,
+     * so that columns of variables that do not appear cannot change it. A polynomial without variables reads no
+     * column, so all columns must then have the same length.
+     */
+    private <T> int pointCount(IntFunction<T> columnAt, Collection<T> columns, ToIntFunction<T> length) {
+        for (int index : this.variables) {
+            T column = columnAt.apply(index);
+            if (column != null) {
+                return length.applyAsInt(column);
+            }
+        }
+        int result = -1;
+        for (T column : columns) {
+            if (result >= 0 && length.applyAsInt(column) != result) {
+                throw new IllegalArgumentException("Columns have different numbers of values.");
+            }
+            result = length.applyAsInt(column);
+        }
+        return Math.max(result, 0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != this.getClass()) {
+            return false;
+        }
+
+        Polynomial p = (Polynomial) o;
+        return this.hashCode() == p.hashCode() && this.mapMonomialCoefficient.equals(p.mapMonomialCoefficient);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = this.hash;
+        if (h == 0) {
+            h = this.mapMonomialCoefficient.hashCode();
+            this.hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Obtains the terms in descending order separated by " + ", each written as in {@link Term#toString()}. The text
+     * is written in one pass by {@link PolynomialFormatter}, which can also write it directly to a stream.
+     */
+    @Override
+    public String toString() {
+        return PolynomialFormatter.toString(this, PolynomialFormatter.Style.plain);
     }
 }
@@ -0,0 +1,618 @@
+package polynomial;
+
+import exceptions.InvalidVariableNameException;
+import exceptions.PolynomialFormatException;
+import number.RationalNumber;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compact, versioned binary encoding of {@link Polynomial}s, for caching results between computations without the
+ * cost of printing and parsing decimal text.
+ *
+ * Version 2 of the format is, in order:
+ * <ul>
+ *     <li>the magic bytes {@code QPLY} and the version byte 2;</li>
+ *     <li>the monomial order: a byte 0 (lex), 1 (grlex), 2 (grevlex), or 3 (weighted) followed by a varint count
+ *         and that many pairs of a variable and a varint weight, where a variable is a byte
+ *         {@link VariableName#ordinal()}, or a byte 26 followed by the name of a variable that is not a
+ *         {@link VariableName}, as in the variable table;</li>
+ *     <li>the variable table: a varint count k and k distinct variable names (see {@link Variable}), each a varint
+ *         length and ASCII bytes, in increasing order of index;</li>
+ *     <li>a varint term count, then every term in descending order: its monomial and its coefficient. If k is less
+ *         than 64, the monomial is a varint mask whose bit i is set if the i-th table variable occurs in the term,
+ *         followed by a varint exponent for every set bit from the lowest. Otherwise it is a varint count of its
+ *         variables, followed for each of them by a varint gap (its table position minus that of the previous one,
+ *         or plus one for the first) and a varint exponent.</li>
+ * </ul>
+ * Version 1 is also read. It differs only in its variable table, which holds variable bytes in increasing order.
+ * Varints are unsigned LEB128: seven bits per byte, least significant group first, high bit set on all but the last
+ * byte. Signed values are zigzag encoded first, so small negative numbers stay short. A coefficient is a tag byte 0
+ * followed by a signed varint integer, 1 followed by a signed varint numerator and a varint denominator, or 2 followed
+ * by the numerator and the denominator as a varint byte length and big-endian two's-complement bytes, for values that
+ * do not fit an int.
+ */
+public final class PolynomialBinaryFormat {
+    static final int VERSION = 2;
+    // The version whose variable table holds VariableName ordinals.
+    private static final int ENUM_VERSION = 1;
+    // Tables of at least this many variables encode monomials as gaps and exponents instead of a mask.
+    private static final int MASK_VARIABLES = Long.SIZE;
+    private static final byte[] MAGIC = { 'Q', 'P', 'L', 'Y' };
+    private static final List<MonomialOrder> ORDERS = List.of(MonomialOrder.lex, MonomialOrder.grlex,
+            MonomialOrder.grevlex);
+    private static final int WEIGHTED = 3;
+    // The variable byte of a weight that is followed by the variable's name.
+    private static final int NAMED_VARIABLE = VariableName.values().length;
+    private static final int INTEGER = 0;
+    private static final int FRACTION = 1;
+    private static final int BIG = 2;
+    private static final VariableName[] VARIABLES = VariableName.values();
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private PolynomialBinaryFormat() {
+    }
+
+    /**
+     * Writes a polynomial to a stream through an internal buffer. The stream is neither flushed nor closed.
+     * @param p The polynomial.
+     * @param out The destination.
+     * @throws IOException If writing fails.
+     */
+    public static void write(Polynomial p, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder(out, null);
+        encoder.putPolynomial(p);
+        encoder.flush();
+    }
+
+    /**
+     * Writes a polynomial to a channel, e.g. a {@link FileChannel}, at its current position. The channel is not
+     * closed.
+     * @param p The polynomial.
+     * @param channel The destination.
+     * @throws IOException If writing fails.
+     */
+    public static void write(Polynomial p, WritableByteChannel channel) throws IOException {
+        Encoder encoder = new Encoder(null, channel);
+        encoder.putPolynomial(p);
+        encoder.flush();
+    }
+
+    /**
+     * Reads a polynomial from a stream through an internal buffer. Bytes after the polynomial may be consumed.
+     * @param in The source.
+     * @return The polynomial with its original monomial order.
+     * @throws IOException If reading fails.
+     * @throws PolynomialFormatException If the bytes are not a polynomial in this format.
+     */
+    public static Polynomial read(InputStream in) throws IOException {
+        Decoder decoder = new Decoder(ByteBuffer.allocate(BUFFER_SIZE).flip(), in);
+        decoder.readHeader();
+        // The term count is not trusted for the capacity until the terms have actually been read.
+        Map<Monomial, RationalNumber> terms = new HashMap<>(2 * Math.min(decoder.termCount, BUFFER_SIZE));
+        for (int i = 0; i < decoder.termCount; ++i) {
+            decoder.readTerm(terms);
+        }
+        return new Polynomial(terms, decoder.order);
+    }
+
+    /**
+     * Reads a polynomial from a file by mapping it into memory.
+     * @param file The file written by {@link #write(Polynomial, WritableByteChannel)} or
+     *             {@link #write(Polynomial, OutputStream)}.
+     * @return The polynomial with its original monomial order.
+     * @throws IOException If the file cannot be read.
+     * @throws PolynomialFormatException If the file does not contain a polynomial in this format.
+     */
+    public static Polynomial read(Path file) throws IOException {
+        return map(file).toPolynomial();
+    }
+
+    /**
+     * Maps a file into memory and reads only its header, so that its terms can be iterated without building the
+     * polynomial.
+     * @param file The file written by {@link #write(Polynomial, WritableByteChannel)} or
+     *             {@link #write(Polynomial, OutputStream)}; at most 2 GB.
+     * @return A view of the terms in the file.
+     * @throws IOException If the file cannot be read or is too large to map.
+     * @throws PolynomialFormatException If the file does not start with a header of this format.
+     */
+    public static MappedPolynomial map(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Cannot map " + file + " of " + channel.size() + " bytes.");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        Decoder decoder = new Decoder(buffer, null);
+        decoder.readHeader();
+        // Every term takes at least three bytes: its mask, and its coefficient tag and value.
+        if (decoder.termCount > buffer.remaining() / 3) {
+            throw new PolynomialFormatException();
+        }
+        return new MappedPolynomial(buffer.slice(), decoder.order, decoder.variables, decoder.termCount);
+    }
+
+    /**
+     * Buffers the encoding of a polynomial and writes it to a stream or a channel.
+     */
+    private static final class Encoder {
+        private final OutputStream out;
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        Encoder(OutputStream out, WritableByteChannel channel) {
+            this.out = out;
+            this.channel = channel;
+        }
+
+        void putPolynomial(Polynomial p) throws IOException {
+            this.buffer.put(MAGIC).put((byte) VERSION);
+            putOrder(p.getOrder());
+
+            int[] variables = new int[p.getVariables().size()];
+            putVarint(variables.length);
+            int k = 0;
+            for (Variable variable : p.getVariables()) {
+                variables[k++] = variable.index();
+                putBytes(variable.getName().getBytes(StandardCharsets.US_ASCII));
+            }
+
+            putVarint(p.getTermCount());
+            for (Term term : p.getTerms()) {
+                Monomial monomial = term.getMonomial();
+                if (variables.length < MASK_VARIABLES) {
+                    putMask(monomial, variables);
+                }
+                else {
+                    putGaps(monomial, variables);
+                }
+                putCoefficient(term.getCoefficient());
+            }
+        }
+
+        private void putMask(Monomial monomial, int[] variables) throws IOException {
+            long mask = 0;
+            for (int i = 0; i < variables.length; ++i) {
+                if (monomial.exponentAt(variables[i]) != 0) {
+                    mask |= 1L << i;
+                }
+            }
+            putVarint(mask);
+            for (int i = 0; i < variables.length; ++i) {
+                if ((mask >>> i & 1) != 0) {
+                    putVarint(monomial.exponentAt(variables[i]));
+                }
+            }
+        }
+
+        private void putGaps(Monomial monomial, int[] variables) throws IOException {
+            if (monomial.isOne()) {
+                putVarint(0);
+                return;
+            }
+            // The table is sorted by index, so the variables of the monomial are a contiguous range of it.
+            int from = Arrays.binarySearch(variables, monomial.start());
+            int to = Arrays.binarySearch(variables, monomial.length() - 1) + 1;
+            int count = 0;
+            for (int i = from; i < to; ++i) {
+                if (monomial.exponentAt(variables[i]) != 0) {
+                    ++count;
+                }
+            }
+            putVarint(count);
+            for (int i = from, previous = -1; i < to; ++i) {
+                int exponent = monomial.exponentAt(variables[i]);
+                if (exponent != 0) {
+                    putVarint(i - previous);
+                    putVarint(exponent);
+                    previous = i;
+                }
+            }
+        }
+
+        private void putOrder(MonomialOrder order) throws IOException {
+            int index = ORDERS.indexOf(order);
+            if (index >= 0) {
+                put(index);
+                return;
+            }
+            long[] weights = order.weights();
+            if (weights == null) {
+                throw new IllegalArgumentException("Cannot encode the monomial order " + order + ".");
+            }
+            put(WEIGHTED);
+            putVarint(Arrays.stream(weights).filter(weight -> weight != 0).count());
+            for (int i = 0; i < weights.length; ++i) {
+                if (weights[i] != 0) {
+                    if (i < NAMED_VARIABLE) {
+                        put(i);
+                    }
+                    else {
+                        put(NAMED_VARIABLE);
+                        putBytes(Variable.at(i).getName().getBytes(StandardCharsets.US_ASCII));
+                    }
+                    putVarint(weights[i]);
+                }
+            }
+        }
+
+        private void putCoefficient(RationalNumber coefficient) throws IOException {
+            if (coefficient.isSmall()) {
+                if (coefficient.getDenominator() == 1) {
+                    put(INTEGER);
+                    putVarint(zigzag(coefficient.getNumerator()));
+                }
+                else {
+                    put(FRACTION);
+                    putVarint(zigzag(coefficient.getNumerator()));
+                    putVarint(coefficient.getDenominator());
+                }
+            }
+            else {
+                put(BIG);
+                putBytes(coefficient.getBigNumerator().toByteArray());
+                putBytes(coefficient.getBigDenominator().toByteArray());
+            }
+        }
+
+        private void put(int b) throws IOException {
+            ensure(1);
+            this.buffer.put((byte) b);
+        }
+
+        private void putVarint(long value) throws IOException {
+            ensure(10);
+            while ((value & ~0x7fL) != 0) {
+                this.buffer.put((byte) (value & 0x7f | 0x80));
+                value >>>= 7;
+            }
+            this.buffer.put((byte) value);
+        }
+
+        private void putBytes(byte[] bytes) throws IOException {
+            putVarint(bytes.length);
+            for (int offset = 0; offset < bytes.length; ) {
+                ensure(1);
+                int length = Math.min(bytes.length - offset, this.buffer.remaining());
+                this.buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        private void ensure(int count) throws IOException {
+            if (this.buffer.remaining() < count) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            this.buffer.flip();
+            if (this.out != null) {
+                this.out.write(this.buffer.array(), 0, this.buffer.limit());
+            }
+            else {
+                while (this.buffer.hasRemaining()) {
+                    this.channel.write(this.buffer);
+                }
+            }
+            this.buffer.clear();
+        }
+
+        private static long zigzag(long value) {
+            return value << 1 ^ value >> 63;
+        }
+    }
+
+    /**
+     * Decodes a polynomial from a buffer that holds all the bytes, or that is refilled from a stream.
+     */
+    static final class Decoder {
+        private final ByteBuffer buffer;
+        private final InputStream in;
+        // Exponents indexed by variable index, nonzero only from index low (inclusive) to high (exclusive) while a
+        // monomial is read.
+        private int[] exponents;
+        private int low = Integer.MAX_VALUE;
+        private int high;
+
+        // The header, set by readHeader().
+        MonomialOrder order;
+        int[] variables;
+        int termCount;
+
+        /**
+         * @param buffer The bytes to decode, between its position and limit.
+         * @param in The stream the buffer is refilled from, or null if the buffer holds all the bytes.
+         */
+        Decoder(ByteBuffer buffer, InputStream in) {
+            this.buffer = buffer;
+            this.in = in;
+        }
+
+        /**
+         * Creates a decoder for the terms of a polynomial whose header has already been read.
+         */
+        Decoder(int[] variables, ByteBuffer buffer) {
+            this(buffer, null);
+            setVariables(variables);
+        }
+
+        private void setVariables(int[] variables) {
+            this.variables = variables;
+            int length = 0;
+            for (int variable : variables) {
+                length = Math.max(length, variable + 1);
+            }
+            this.exponents = new int[length];
+        }
+
+        void readHeader() throws IOException {
+            for (byte b : MAGIC) {
+                if (get() != b) {
+                    throw new PolynomialFormatException();
+                }
+            }
+            int version = get();
+            if (version != VERSION && version != ENUM_VERSION) {
+                throw new PolynomialFormatException();
+            }
+            this.order = readOrder(version);
+
+            int count = readCount(version == ENUM_VERSION ? VARIABLES.length : Integer.MAX_VALUE);
+            // The count is not trusted for the capacity until the names have actually been read.
+            int[] variables = new int[Math.min(count, VARIABLES.length)];
+            Set<Integer> seen = new HashSet<>();
+            for (int k = 0; k < count; ++k) {
+                if (k == variables.length) {
+                    variables = Arrays.copyOf(variables, Math.min(2 * k, count));
+                }
+                variables[k] = version == ENUM_VERSION ? readVariable() : readName();
+                // Names are registered in the order of this table, but indices in this registry may differ.
+                if (version == ENUM_VERSION ? k > 0 && variables[k] <= variables[k - 1] : !seen.add(variables[k])) {
+                    throw new PolynomialFormatException();
+                }
+            }
+            setVariables(variables);
+            this.termCount = readCount(Integer.MAX_VALUE);
+        }
+
+        private MonomialOrder readOrder(int version) throws IOException {
+            int index = get();
+            if (index >= 0 && index < ORDERS.size()) {
+                return ORDERS.get(index);
+            }
+            if (index != WEIGHTED) {
+                throw new PolynomialFormatException();
+            }
+            int count = readCount(version == ENUM_VERSION ? VARIABLES.length : Integer.MAX_VALUE);
+            // As for the variable table, the count is not trusted for the capacity.
+            List<Variable> variables = new ArrayList<>(Math.min(count, VARIABLES.length));
+            int[] weights = new int[Math.min(count, VARIABLES.length)];
+            for (int i = 0; i < count; ++i) {
+                if (i == weights.length) {
+                    weights = Arrays.copyOf(weights, Math.min(2 * i, count));
+                }
+                int variable = get();
+                if (variable == NAMED_VARIABLE && version != ENUM_VERSION) {
+                    variables.add(Variable.at(readName()));
+                }
+                else if (variable < VARIABLES.length) {
+                    variables.add(Variable.of(VARIABLES[variable]));
+                }
+                else {
+                    throw new PolynomialFormatException();
+                }
+                weights[i] = readCount(Integer.MAX_VALUE);
+            }
+            try {
+                return MonomialOrder.weighted(variables, weights);
+            }
+            catch (IllegalArgumentException e) {
+                // A variable is repeated.
+                throw new PolynomialFormatException();
+            }
+        }
+
+        /**
+         * Reads the next term and puts it into the terms.
+         */
+        void readTerm(Map<Monomial, RationalNumber> terms) throws IOException {
+            Monomial monomial = readMonomial();
+            if (terms.put(monomial, readCoefficient()) != null) {
+                throw new PolynomialFormatException();
+            }
+        }
+
+        Term readTerm() throws IOException {
+            Monomial monomial = readMonomial();
+            return new Term(readCoefficient(), monomial);
+        }
+
+        private Monomial readMonomial() throws IOException {
+            try {
+                if (this.variables.length < MASK_VARIABLES) {
+                    long mask = readVarint();
+                    if (mask >>> this.variables.length != 0) {
+                        throw new PolynomialFormatException();
+                    }
+                    for (int i = 0; i < this.variables.length; ++i) {
+                        if ((mask >>> i & 1) != 0) {
+                            putExponent(this.variables[i]);
+                        }
+                    }
+                }
+                else {
+                    int count = readCount(this.variables.length);
+                    for (int k = 0, i = -1; k < count; ++k) {
+                        int gap = readCount(this.variables.length);
+                        if (gap == 0 || gap >= this.variables.length - i) {
+                            throw new PolynomialFormatException();
+                        }
+                        i += gap;
+                        putExponent(this.variables[i]);
+                    }
+                }
+                return Monomial.of(this.exponents, this.low, this.high);
+            }
+            catch (ArithmeticException e) {
+                throw new PolynomialFormatException();
+            }
+            finally {
+                if (this.low < this.high) {
+                    Arrays.fill(this.exponents, this.low, this.high, 0);
+                }
+                this.low = Integer.MAX_VALUE;
+                this.high = 0;
+            }
+        }
+
+        private void putExponent(int variable) throws IOException {
+            this.exponents[variable] = readCount(Integer.MAX_VALUE);
+            this.low = Math.min(this.low, variable);
+            this.high = Math.max(this.high, variable + 1);
+        }
+
+        private RationalNumber readCoefficient() throws IOException {
+            RationalNumber result;
+            switch (get()) {
+                case INTEGER -> result = RationalNumber.of(readInt());
+                case FRACTION -> {
+                    int numerator = readInt();
+                    int denominator = readCount(Integer.MAX_VALUE);
+                    if (denominator == 0) {
+                        throw new PolynomialFormatException();
+                    }
+                    result = RationalNumber.of(numerator, denominator);
+                }
+                case BIG -> {
+                    BigInteger numerator = new BigInteger(readBytes());
+                    BigInteger denominator = new BigInteger(readBytes());
+                    if (denominator.signum() <= 0) {
+                        throw new PolynomialFormatException();
+                    }
+                    result = new RationalNumber(numerator, denominator);
+                }
+                default -> throw new PolynomialFormatException();
+            }
+            if (result.isZero()) {
+                throw new PolynomialFormatException();
+            }
+            return result;
+        }
+
+        /**
+         * Reads a variable name and registers the variable.
+         * @return The index of the variable.
+         */
+        private int readName() throws IOException {
+            try {
+                return Variable.of(new String(readBytes(), StandardCharsets.US_ASCII)).index();
+            }
+            catch (InvalidVariableNameException e) {
+                throw new PolynomialFormatException();
+            }
+        }
+
+        private int readVariable() throws IOException {
+            int variable = get();
+            if (variable < 0 || variable >= VARIABLES.length) {
+                throw new PolynomialFormatException();
+            }
+            return variable;
+        }
+
+        /**
+         * Reads a varint that must be at most max.
+         */
+        private int readCount(int max) throws IOException {
+            long value = readVarint();
+            if (value < 0 || value > max) {
+                throw new PolynomialFormatException();
+            }
+            return (int) value;
+        }
+
+        private int readInt() throws IOException {
+            long encoded = readVarint();
+            long value = encoded >>> 1 ^ -(encoded & 1);
+            if (value != (int) value) {
+                throw new PolynomialFormatException();
+            }
+            return (int) value;
+        }
+
+        private long readVarint() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = get();
+                result |= (long) (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new PolynomialFormatException();
+        }
+
+        private byte[] readBytes() throws IOException {
+            int count = readCount(Integer.MAX_VALUE);
+            if (count == 0 || this.in == null && count > this.buffer.remaining()) {
+                throw new PolynomialFormatException();
+            }
+            // From a stream, the count is not trusted for the capacity until the bytes have actually been read.
+            byte[] result = new byte[this.in == null ? count : Math.min(count, BUFFER_SIZE)];
+            for (int offset = 0; offset < count; ) {
+                if (!this.buffer.hasRemaining()) {
+                    fill();
+                }
+                if (offset == result.length) {
+                    result = Arrays.copyOf(result, (int) Math.min(2L * offset, count));
+                }
+                int length = Math.min(result.length - offset, this.buffer.remaining());
+                this.buffer.get(result, offset, length);
+                offset += length;
+            }
+            return result;
+        }
+
+        /**
+         * Reads one unsigned byte.
+         */
+        private int get() throws IOException {
+            if (!this.buffer.hasRemaining()) {
+                fill();
+            }
+            return this.buffer.get() & 0xff;
+        }
+
+        private void fill() throws IOException {
+            if (this.in == null) {
+                throw new PolynomialFormatException();
+            }
+            this.buffer.clear();
+            int count = this.in.read(this.buffer.array(), 0, this.buffer.capacity());
+            if (count <= 0) {
+                this.buffer.limit(0);
+                throw new PolynomialFormatException();
+            }
+            this.buffer.limit(count);
+        }
+    }
+}
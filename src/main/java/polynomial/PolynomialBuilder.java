@@ -0,0 +1,119 @@
+package polynomial;
+
+import number.MutableRationalNumber;
+import number.RationalNumber;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A mutable sum of terms, for accumulating polynomials such as a sum of products without creating an intermediate
+ * {@link Polynomial} or {@link RationalNumber} per step.
+ *
+ * Every monomial of the sum has its own {@link MutableRationalNumber}, which is updated in place; only monomials seen
+ * for the first time allocate. Coefficients that cancel to zero are dropped by {@link #build()}. A builder is not
+ * thread-safe.
+ */
+public final class PolynomialBuilder {
+    private final MonomialOrder order;
+    private final Map<Monomial, MutableRationalNumber> terms = new HashMap<>();
+
+    /**
+     * Creates a builder for a polynomial in grlex order, starting from zero.
+     */
+    public PolynomialBuilder() {
+        this(MonomialOrder.grlex);
+    }
+
+    /**
+     * Creates a builder starting from zero.
+     * @param order The monomial order of the built polynomials.
+     */
+    public PolynomialBuilder(MonomialOrder order) {
+        this.order = order;
+    }
+
+    private MutableRationalNumber coefficient(Monomial monomial) {
+        return this.terms.computeIfAbsent(monomial, m -> new MutableRationalNumber());
+    }
+
+    /**
+     * Adds a term to the sum.
+     * @param t The term.
+     * @return This builder.
+     */
+    public PolynomialBuilder addTerm(Term t) {
+        if (!t.getCoefficient().isZero()) {
+            coefficient(t.getMonomial()).add(t.getCoefficient());
+        }
+        return this;
+    }
+
+    /**
+     * Adds a polynomial to the sum.
+     * @param p The polynomial.
+     * @return This builder.
+     */
+    public PolynomialBuilder add(Polynomial p) {
+        for (var entry : p.coefficientMap().entrySet()) {
+            coefficient(entry.getKey()).add(entry.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Adds a multiple of a polynomial to the sum.
+     * @param p The polynomial.
+     * @param scale The factor of every term of p.
+     * @return This builder.
+     */
+    public PolynomialBuilder addScaled(Polynomial p, RationalNumber scale) {
+        if (scale.isZero()) {
+            return this;
+        }
+        for (var entry : p.coefficientMap().entrySet()) {
+            coefficient(entry.getKey()).addProduct(entry.getValue(), scale);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the product of two polynomials to the sum, term by term, without creating the product.
+     * @param a The first factor.
+     * @param b The second factor.
+     * @return This builder.
+     */
+    public PolynomialBuilder addProduct(Polynomial a, Polynomial b) {
+        for (var left : a.coefficientMap().entrySet()) {
+            Monomial monomial = left.getKey();
+            RationalNumber coefficient = left.getValue();
+            for (var right : b.coefficientMap().entrySet()) {
+                coefficient(monomial.multiply(right.getKey())).addProduct(coefficient, right.getValue());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Resets the sum to zero.
+     * @return This builder.
+     */
+    public PolynomialBuilder clear() {
+        this.terms.clear();
+        return this;
+    }
+
+    /**
+     * Creates a polynomial equal to the current sum. The builder keeps its state and may be used further.
+     * @return The sum as an immutable polynomial.
+     */
+    public Polynomial build() {
+        Map<Monomial, RationalNumber> result = new HashMap<>(2 * this.terms.size());
+        for (var entry : this.terms.entrySet()) {
+            if (!entry.getValue().isZero()) {
+                result.put(entry.getKey(), entry.getValue().toRationalNumber());
+            }
+        }
+        return new Polynomial(result, this.order);
+    }
+}
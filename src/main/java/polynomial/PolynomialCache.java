@@ -0,0 +1,272 @@
+package polynomial;
+
+import exceptions.EvaluatorMissingVariable;
+import number.RationalNumber;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * A bounded memo of polynomial products, powers, compiled evaluators and exact values, for pipelines that repeat the
+ * same operations on equal operands.
+ *
+ * Entries are keyed by the operation and its operands, which are compared with {@link Polynomial#equals} and so by
+ * their terms alone: equal polynomials built independently, or with different monomial orders, share an entry, and
+ * a result is returned in the order that the uncached operation would have used. Products are cached independently
+ * of the order of the factors.
+ *
+ * Every entry has a weight: the number of terms of a cached polynomial or of the polynomial behind a cached
+ * evaluator, and 1 for a cached value. When the total weight exceeds the capacity, the least recently used entries
+ * are evicted; a single result heavier than the capacity is returned but not cached. Operands are held by the keys of
+ * their entries, so they stay reachable until evicted.
+ *
+ * The counters count every lookup, including that of the evaluator behind an evaluation that missed.
+ *
+ * A cache can be shared between threads. Results are computed outside the lock, so two threads missing on the same
+ * key at once both compute it.
+ */
+public final class PolynomialCache {
+    private final long capacity;
+    // In access order, least recently used first.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates an empty cache.
+     * @param capacity The largest total weight of the entries, e.g. a number of terms.
+     * @throws IllegalArgumentException If capacity is negative.
+     */
+    public PolynomialCache(long capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Multiplies two polynomials, or returns a cached product of equal factors in either order.
+     * @param p The first factor.
+     * @param q The second factor.
+     * @return The product, equal to {@code p.multiply(q)} and in the order of p.
+     */
+    public Polynomial multiply(Polynomial p, Polynomial q) {
+        // Factors with equal hash codes may be cached in both orders, which only costs a second entry.
+        Key key = p.hashCode() <= q.hashCode() ? new Key(Operation.multiply, p, q, 0)
+                : new Key(Operation.multiply, q, p, 0);
+        Polynomial result = (Polynomial) get(key, () -> p.multiply(q));
+        return result.withOrder(p.getOrder());
+    }
+
+    /**
+     * Raises a polynomial to a power, or returns a cached power of an equal polynomial.
+     * @param p The polynomial.
+     * @param power The non-negative power.
+     * @return The power, equal to {@code p.pow(power)} and in the order of p.
+     * @throws exceptions.PolynomialNegativePowerException If power is negative.
+     */
+    public Polynomial pow(Polynomial p, int power) {
+        Polynomial result = (Polynomial) get(new Key(Operation.pow, p, null, power), () -> p.pow(power));
+        return result.withOrder(p.getOrder());
+    }
+
+    /**
+     * Compiles a polynomial for repeated evaluation, or returns the cached evaluator of an equal polynomial.
+     * @param p The polynomial.
+     * @return An evaluator of p, as from {@link Polynomial#compile()}.
+     */
+    public PolynomialEvaluator compile(Polynomial p) {
+        return (PolynomialEvaluator) get(new Key(Operation.compile, p, null, 0), p::compile);
+    }
+
+    /**
+     * Evaluates a polynomial exactly with its cached evaluator, or returns the cached value of an equal polynomial at
+     * the same point. Values of variables that do not appear in p are ignored.
+     * @param p The polynomial.
+     * @param point Values of the variables of p.
+     * @return The value of p at the point.
+     * @throws EvaluatorMissingVariable If a variable of p has no value, which includes all variables that are not
+     *                                  {@link VariableName}s.
+     */
+    public RationalNumber evaluate(Polynomial p, Map<VariableName, RationalNumber> point) {
+        return evaluate(p, Variable.byIndex(point));
+    }
+
+    /**
+     * Evaluates a polynomial exactly with its cached evaluator, or returns the cached value of an equal polynomial at
+     * the same point, whose variables need not be {@link VariableName}s.
+     * @param p The polynomial.
+     * @param variables The variables with a value, which must include all variables of p.
+     * @param values The value of each of the variables, in the same order.
+     * @return The value of p at the point.
+     * @throws EvaluatorMissingVariable If a variable of p has no value.
+     * @throws IllegalArgumentException If the numbers of variables and values differ, or a variable is repeated.
+     */
+    public RationalNumber evaluate(Polynomial p, List<Variable> variables, RationalNumber[] values) {
+        return evaluate(p, Variable.byIndex(variables, values));
+    }
+
+    private RationalNumber evaluate(Polynomial p, IntFunction<RationalNumber> valueAt) {
+        // The slots of an evaluator hold the variables in increasing order, as in getVariables().
+        RationalNumber[] values = new RationalNumber[p.getVariables().size()];
+        int slot = 0;
+        for (Variable variable : p.getVariables()) {
+            values[slot] = valueAt.apply(variable.index());
+            if (values[slot++] == null) {
+                throw new EvaluatorMissingVariable();
+            }
+        }
+        return (RationalNumber) get(new Key(Operation.evaluate, p, values, 0), () -> compile(p).evaluate(values));
+    }
+
+    /**
+     * Looks up a key, computing and inserting its value on a miss.
+     */
+    private Object get(Key key, Supplier<Object> compute) {
+        synchronized (this) {
+            Entry entry = this.entries.get(key);
+            if (entry != null) {
+                ++this.hitCount;
+                return entry.value;
+            }
+            ++this.missCount;
+        }
+
+        Object value = compute.get();
+        long weight = weight(key, value);
+        synchronized (this) {
+            if (weight > this.capacity) {
+                return value;
+            }
+            Entry previous = this.entries.put(key, new Entry(value, weight));
+            this.weight += weight - (previous == null ? 0 : previous.weight);
+            Iterator<Entry> eldest = this.entries.values().iterator();
+            while (this.weight > this.capacity) {
+                this.weight -= eldest.next().weight;
+                eldest.remove();
+                ++this.evictionCount;
+            }
+        }
+        return value;
+    }
+
+    private static long weight(Key key, Object value) {
+        return switch (key.operation) {
+            case multiply, pow -> Math.max(((Polynomial) value).getTermCount(), 1);
+            case compile -> Math.max(key.first.getTermCount(), 1);
+            case evaluate -> 1;
+        };
+    }
+
+    /**
+     * Removes all entries. The counters are kept.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    // Accessor methods.
+    public long getCapacity() {
+        return this.capacity;
+    }
+    public synchronized int size() {
+        return this.entries.size();
+    }
+    public synchronized long getWeight() {
+        return this.weight;
+    }
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Obtains the fraction of lookups that found a cached result.
+     * @return Hits divided by hits and misses, or 0 before the first lookup.
+     */
+    public synchronized double getHitRate() {
+        long lookups = this.hitCount + this.missCount;
+        return lookups == 0 ? 0.0 : (double) this.hitCount / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "PolynomialCache[size=" + this.entries.size() + ", weight=" + this.weight + "/" + this.capacity
+                + ", hits=" + this.hitCount + ", misses=" + this.missCount + ", evictions=" + this.evictionCount + "]";
+    }
+
+    private enum Operation {
+        multiply,
+        pow,
+        compile,
+        evaluate
+    }
+
+    /**
+     * An operation with its operands: up to two polynomials, or a polynomial and the point of an evaluation, and an
+     * int such as a power.
+     */
+    private static final class Key {
+        private final Operation operation;
+        private final Polynomial first;
+        private final Object second;
+        private final int parameter;
+        private final int hash;
+
+        Key(Operation operation, Polynomial first, Object second, int parameter) {
+            this.operation = operation;
+            this.first = first;
+            this.second = second;
+            this.parameter = parameter;
+            int secondHash = second instanceof RationalNumber[] values ? Arrays.hashCode(values)
+                    : second == null ? 0 : second.hashCode();
+            this.hash = ((operation.ordinal() * 31 + first.hashCode()) * 31 + secondHash) * 31 + parameter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key k)) {
+                return false;
+            }
+            if (this.hash != k.hash || this.operation != k.operation || this.parameter != k.parameter
+                    || !this.first.equals(k.first)) {
+                return false;
+            }
+            if (this.second instanceof RationalNumber[] values) {
+                return Arrays.equals(values, (RationalNumber[]) k.second);
+            }
+            return this.second == null ? k.second == null : this.second.equals(k.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long weight;
+
+        Entry(Object value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package polynomial;
+
+import exceptions.EvaluatorMissingVariable;
+import number.RationalNumber;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A polynomial compiled for repeated evaluation, obtained from {@link Polynomial#compile()}.
+ *
+ * The variables of the polynomial are mapped to consecutive slots of a point array, in the order given by
+ * {@link #getSlots()}. The terms are nested in multivariate Horner form: the polynomial is written as a univariate
+ * polynomial in its first variable whose coefficients are polynomials in the remaining variables, recursively. Each
+ * evaluation first fills a power table per variable up to the largest exponent gap used in the Horner scheme, so no
+ * power is computed twice and no map is consulted.
+ *
+ * Evaluators are immutable and can be shared between threads.
+ */
+public final class PolynomialEvaluator {
+    private final Variable[] variables;
+    // Largest power of each slot's variable that the Horner scheme multiplies by.
+    private final int[] maxGap;
+    private final Node root;
+
+    PolynomialEvaluator(List<Term> terms) {
+        // Assign consecutive slots to the variables in index order.
+        SortedSet<Variable> used = new TreeSet<>();
+        for (Term term : terms) {
+            used.addAll(term.getVariables());
+        }
+        this.variables = used.toArray(new Variable[0]);
+        this.maxGap = new int[this.variables.length];
+        this.root = build(terms, 0);
+    }
+
+    /**
+     * Builds the Horner node for the given terms, nesting in the first variable at or after index from that appears
+     * in any of them.
+     */
+    private Node build(List<Term> terms, int from) {
+        int slot = from;
+        while (slot < this.variables.length && !usesVariable(terms, this.variables[slot])) {
+            ++slot;
+        }
+        if (slot == this.variables.length) {
+            // Only constants are left; like terms have been collected, so there is at most one.
+            RationalNumber constant = RationalNumber.zero;
+            for (Term term : terms) {
+                constant = constant.add(term.getCoefficient());
+            }
+            return new Node(constant);
+        }
+
+        // Group terms by the exponent of this slot's variable, highest first.
+        Variable variable = this.variables[slot];
+        TreeMap<Integer, List<Term>> groups = new TreeMap<>(Collections.reverseOrder());
+        for (Term term : terms) {
+            groups.computeIfAbsent(term.getMonomial().getExponent(variable), e -> new ArrayList<>()).add(term);
+        }
+
+        Node[] children = new Node[groups.size()];
+        int[] gaps = new int[groups.size()];
+        int i = 0;
+        Integer previous = null;
+        for (Map.Entry<Integer, List<Term>> group : groups.entrySet()) {
+            children[i] = build(group.getValue(), slot + 1);
+            if (previous != null) {
+                gaps[i - 1] = previous - group.getKey();
+            }
+            previous = group.getKey();
+            ++i;
+        }
+        // The last gap multiplies the whole nest by the smallest exponent.
+        gaps[gaps.length - 1] = previous;
+        for (int gap : gaps) {
+            this.maxGap[slot] = Math.max(this.maxGap[slot], gap);
+        }
+        return new Node(slot, gaps, children);
+    }
+
+    private static boolean usesVariable(List<Term> terms, Variable variable) {
+        for (Term term : terms) {
+            if (term.getMonomial().getExponent(variable) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtains the variables of the compiled polynomial in slot order.
+     * @return Unmodifiable list where the i-th variable is read from index i of a point array.
+     * @throws IllegalStateException If a variable is not a {@link VariableName}; see {@link #getSlots()}.
+     */
+    public List<VariableName> getVariables() {
+        VariableName[] result = new VariableName[this.variables.length];
+        for (int slot = 0; slot < result.length; ++slot) {
+            result[slot] = this.variables[slot].toVariableName();
+            if (result[slot] == null) {
+                throw new IllegalStateException(this.variables[slot] + " is not a VariableName.");
+            }
+        }
+        return List.of(result);
+    }
+
+    /**
+     * Obtains the variables of the compiled polynomial in slot order, including those that are not
+     * {@link VariableName}s.
+     * @return Unmodifiable list where the i-th variable is read from index i of a point array.
+     */
+    public List<Variable> getSlots() {
+        return List.of(this.variables);
+    }
+
+    /**
+     * Evaluates the compiled polynomial exactly.
+     * @param point Values of the variables, indexed by slot (see {@link #getSlots()}).
+     * @return Value of the polynomial at the point.
+     */
+    public RationalNumber evaluate(RationalNumber[] point) {
+        checkPoint(point.length);
+        RationalNumber[][] powers = new RationalNumber[this.variables.length][];
+        for (int slot = 0; slot < powers.length; ++slot) {
+            RationalNumber[] table = new RationalNumber[this.maxGap[slot] + 1];
+            table[0] = RationalNumber.one;
+            for (int k = 1; k < table.length; ++k) {
+                table[k] = table[k - 1].multiply(point[slot]);
+            }
+            powers[slot] = table;
+        }
+        return this.root.evaluate(powers);
+    }
+
+    /**
+     * Evaluates the compiled polynomial in floating point.
+     * @param point Values of the variables, indexed by slot (see {@link #getSlots()}).
+     * @return Approximate value of the polynomial at the point.
+     */
+    public double evaluate(double[] point) {
+        checkPoint(point.length);
+        double[][] powers = new double[this.variables.length][];
+        for (int slot = 0; slot < powers.length; ++slot) {
+            double[] table = new double[this.maxGap[slot] + 1];
+            table[0] = 1.0;
+            for (int k = 1; k < table.length; ++k) {
+                table[k] = table[k - 1] * point[slot];
+            }
+            powers[slot] = table;
+        }
+        return this.root.evaluate(powers);
+    }
+
+    private void checkPoint(int length) {
+        if (length < this.variables.length) {
+            throw new EvaluatorMissingVariable();
+        }
+    }
+
+    /**
+     * A node of the Horner scheme: either a constant, or sum_i children[i] * x^(e_i) for the slot's variable x, where
+     * gaps[i] = e_i - e_(i+1) and the last gap is the smallest exponent.
+     */
+    private static final class Node {
+        private final int slot;
+        private final int[] gaps;
+        private final Node[] children;
+        private final RationalNumber constant;
+        private final double constantDouble;
+
+        Node(RationalNumber constant) {
+            this.slot = -1;
+            this.gaps = null;
+            this.children = null;
+            this.constant = constant;
+            this.constantDouble = constant.doubleValue();
+        }
+
+        Node(int slot, int[] gaps, Node[] children) {
+            this.slot = slot;
+            this.gaps = gaps;
+            this.children = children;
+            this.constant = null;
+            this.constantDouble = 0.0;
+        }
+
+        RationalNumber evaluate(RationalNumber[][] powers) {
+            if (this.children == null) {
+                return this.constant;
+            }
+            RationalNumber[] table = powers[this.slot];
+            RationalNumber result = this.children[0].evaluate(powers);
+            for (int i = 1; i < this.children.length; ++i) {
+                result = result.multiply(table[this.gaps[i - 1]]).add(this.children[i].evaluate(powers));
+            }
+            int lastGap = this.gaps[this.gaps.length - 1];
+            return lastGap == 0 ? result : result.multiply(table[lastGap]);
+        }
+
+        double evaluate(double[][] powers) {
+            if (this.children == null) {
+                return this.constantDouble;
+            }
+            double[] table = powers[this.slot];
+            double result = this.children[0].evaluate(powers);
+            for (int i = 1; i < this.children.length; ++i) {
+                result = result * table[this.gaps[i - 1]] + this.children[i].evaluate(powers);
+            }
+            return result * table[this.gaps[this.gaps.length - 1]];
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package polynomial;
+
+import number.RationalNumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.util.List;
+
+/**
+ * Writes polynomials as text in one pass over their terms, directly to an {@link Appendable}.
+ *
+ * Characters are collected in a fixed buffer that is handed to the destination when it fills up, in bulk for a
+ * {@link Writer} or a {@link StringBuilder}. Monomials and small coefficients are written digit by digit into the
+ * buffer, so no string is created per term; only coefficients that do not fit an int go through
+ * {@link BigInteger#toString()}.
+ */
+public final class PolynomialFormatter {
+    private static final int BUFFER_SIZE = 1 << 13;
+    // The longest decimal representation of a long, with its sign.
+    private static final int LONG_LENGTH = 20;
+    // Variables with smaller indices are the single letters of VariableName.
+    private static final int PREDEFINED = VariableName.values().length;
+
+    /**
+     * The notation of the output.
+     */
+    public enum Style {
+        /**
+         * The format of {@link Polynomial#toString()}, e.g. {@code (1/2)xy^2z^3 + -4x + 1}, which
+         * {@link PolynomialParser} reads back.
+         */
+        plain,
+        /**
+         * LaTeX math mode, e.g. {@code \frac{1}{2}xy^{2}z^{3} - 4x + 1}.
+         */
+        latex,
+        /**
+         * The usual notation of computer algebra systems, e.g. {@code 1/2*x*y^2*z^3 - 4*x + 1}, which
+         * {@link PolynomialParser} also reads back.
+         */
+        machine
+    }
+
+    private final Appendable out;
+    private final Style style;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int length;
+
+    private PolynomialFormatter(Appendable out, Style style) {
+        this.out = out;
+        this.style = style;
+    }
+
+    /**
+     * Writes a polynomial in the format of {@link Polynomial#toString()}.
+     * @param p The polynomial.
+     * @param out The destination, which is neither flushed nor closed.
+     * @throws IOException If the destination fails.
+     */
+    public static void format(Polynomial p, Appendable out) throws IOException {
+        format(p, out, Style.plain);
+    }
+
+    /**
+     * Writes a polynomial with its terms in descending order.
+     * @param p The polynomial.
+     * @param out The destination, which is neither flushed nor closed.
+     * @param style The notation.
+     * @throws IOException If the destination fails.
+     */
+    public static void format(Polynomial p, Appendable out, Style style) throws IOException {
+        PolynomialFormatter formatter = new PolynomialFormatter(out, style);
+        formatter.putPolynomial(p);
+        formatter.flush();
+    }
+
+    /**
+     * Formats a polynomial as a string.
+     * @param p The polynomial.
+     * @param style The notation.
+     * @return The text of the polynomial.
+     */
+    public static String toString(Polynomial p, Style style) {
+        StringBuilder result = new StringBuilder(Math.min(16 * p.getTermCount() + 1, BUFFER_SIZE));
+        try {
+            format(p, result, style);
+        }
+        catch (IOException e) {
+            // A StringBuilder never fails.
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    private void putPolynomial(Polynomial p) throws IOException {
+        if (p.isZero()) {
+            put('0');
+            return;
+        }
+
+        List<Term> terms = p.getTerms();
+        for (int i = 0; i < terms.size(); ++i) {
+            Term term = terms.get(i);
+            if (this.style == Style.plain) {
+                if (i > 0) {
+                    put(" + ");
+                }
+                putPlainCoefficient(term.getCoefficient());
+                putMonomial(term.getMonomial());
+                continue;
+            }
+
+            // Signs become binary operators, and unit coefficients are left out.
+            RationalNumber coefficient = term.getCoefficient();
+            boolean negative = coefficient.signum() < 0;
+            if (i > 0) {
+                put(negative ? " - " : " + ");
+            }
+            else if (negative) {
+                put('-');
+            }
+            Monomial monomial = term.getMonomial();
+            boolean unit = coefficient.equals(RationalNumber.one) || coefficient.equals(RationalNumber.minusOne);
+            if (!unit || monomial.isOne()) {
+                putMagnitude(coefficient);
+                if (!monomial.isOne() && this.style == Style.machine) {
+                    put('*');
+                }
+            }
+            putMonomial(monomial);
+        }
+    }
+
+    /**
+     * Writes a coefficient like {@link RationalNumber#toString()}: an integer, or a fraction in parentheses.
+     */
+    private void putPlainCoefficient(RationalNumber r) throws IOException {
+        if (r.isSmall()) {
+            if (r.getDenominator() == 1) {
+                putLong(r.getNumerator());
+            }
+            else {
+                put('(');
+                putLong(r.getNumerator());
+                put('/');
+                putLong(r.getDenominator());
+                put(')');
+            }
+        }
+        else if (r.getBigDenominator().equals(BigInteger.ONE)) {
+            put(r.getBigNumerator().toString());
+        }
+        else {
+            put('(');
+            put(r.getBigNumerator().toString());
+            put('/');
+            put(r.getBigDenominator().toString());
+            put(')');
+        }
+    }
+
+    /**
+     * Writes the absolute value of a coefficient in the LaTeX or machine style.
+     */
+    private void putMagnitude(RationalNumber r) throws IOException {
+        boolean integral;
+        if (r.isSmall()) {
+            integral = r.getDenominator() == 1;
+            if (integral) {
+                putLong(Math.abs((long) r.getNumerator()));
+                return;
+            }
+        }
+        else {
+            integral = r.getBigDenominator().equals(BigInteger.ONE);
+        }
+        if (integral) {
+            put(r.getBigNumerator().abs().toString());
+            return;
+        }
+
+        if (this.style == Style.latex) {
+            put("\\frac{");
+        }
+        if (r.isSmall()) {
+            putLong(Math.abs((long) r.getNumerator()));
+        }
+        else {
+            put(r.getBigNumerator().abs().toString());
+        }
+        put(this.style == Style.latex ? "}{" : "/");
+        if (r.isSmall()) {
+            putLong(r.getDenominator());
+        }
+        else {
+            put(r.getBigDenominator().toString());
+        }
+        if (this.style == Style.latex) {
+            put('}');
+        }
+    }
+
+    private void putMonomial(Monomial monomial) throws IOException {
+        boolean first = true;
+        for (int i = monomial.start(); i < monomial.length(); ++i) {
+            int power = monomial.exponentAt(i);
+            if (power == 0) {
+                continue;
+            }
+            if (!first && this.style == Style.machine) {
+                put('*');
+            }
+            first = false;
+            if (i < PREDEFINED) {
+                put((char) ('a' + i));
+            }
+            else {
+                putSubscripted(Variable.at(i).getName());
+            }
+            if (power > 1) {
+                put('^');
+                if (this.style == Style.latex) {
+                    put('{');
+                    putLong(power);
+                    put('}');
+                }
+                else {
+                    putLong(power);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a name x_n as x_{n} in the LaTeX style, and unchanged otherwise.
+     */
+    private void putSubscripted(String name) throws IOException {
+        if (this.style == Style.latex) {
+            put(name.charAt(0));
+            put("_{");
+            for (int i = 2; i < name.length(); ++i) {
+                put(name.charAt(i));
+            }
+            put('}');
+        }
+        else {
+            put(name);
+        }
+    }
+
+    // Buffer methods.
+
+    private void put(char c) throws IOException {
+        if (this.length == BUFFER_SIZE) {
+            flush();
+        }
+        this.buffer[this.length++] = c;
+    }
+
+    private void put(String s) throws IOException {
+        for (int i = 0; i < s.length(); ++i) {
+            put(s.charAt(i));
+        }
+    }
+
+    /**
+     * Writes the decimal digits of a value, most significant first, without going through a string.
+     */
+    private void putLong(long value) throws IOException {
+        if (BUFFER_SIZE - this.length < LONG_LENGTH) {
+            flush();
+        }
+        if (value < 0) {
+            this.buffer[this.length++] = '-';
+        }
+        int start = this.length;
+        // Digits are produced from the least significant; negative remainders avoid overflow at Long.MIN_VALUE.
+        do {
+            this.buffer[this.length++] = (char) ('0' + Math.abs(value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = this.length - 1; i < j; ++i, --j) {
+            char swap = this.buffer[i];
+            this.buffer[i] = this.buffer[j];
+            this.buffer[j] = swap;
+        }
+    }
+
+    private void flush() throws IOException {
+        if (this.out instanceof Writer writer) {
+            writer.write(this.buffer, 0, this.length);
+        }
+        else if (this.out instanceof StringBuilder builder) {
+            builder.append(this.buffer, 0, this.length);
+        }
+        else {
+            this.out.append(CharBuffer.wrap(this.buffer, 0, this.length));
+        }
+        this.length = 0;
+    }
+}
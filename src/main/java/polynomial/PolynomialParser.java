@@ -0,0 +1,391 @@
+package polynomial;
+
+import exceptions.InvalidVariableNameException;
+import exceptions.PolynomialParseException;
+import number.RationalNumber;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A single-pass parser for polynomials in the format of {@link Polynomial#toString()}, e.g.
+ * {@code (1/2)xy^2z^3 + -4x + 7}, and in the usual notation with {@code *}, {@code ^} and subtraction, e.g.
+ * {@code 1/2*x*y^2*z^3 - 4*x + 7}.
+ *
+ * A term is a product of factors, written next to each other or separated by {@code *}. A factor is a variable
+ * with an optional power {@code ^n}, or a coefficient: an integer or fraction, or a signed integer or fraction in
+ * parentheses. A variable is a letter a-z, optionally followed by an underscore and a subscript, e.g. {@code x_12}
+ * (see {@link Variable}). Coefficients may only be juxtaposed in parentheses, so {@code 2 3} is rejected. Terms
+ * are separated by {@code +} or {@code -}, followed by any further signs, and whitespace may appear between any two
+ * tokens.
+ *
+ * The input is read character by character through a fixed buffer, without regular expressions or intermediate
+ * strings: integers are accumulated in a long and only become {@link BigInteger}s when they need more than 18
+ * digits, exponents are accumulated in one reused array, and every finished term is merged into the polynomial's
+ * monomial-to-coefficient map immediately, so like terms are collected as they are read.
+ */
+public final class PolynomialParser {
+    private static final int BUFFER_SIZE = 1 << 13;
+    // Files are mapped in regions of this many bytes, so arbitrarily large files can be parsed.
+    private static final long REGION_SIZE = 1 << 26;
+    // Integers are accumulated in chunks of this many decimal digits, which always fit a long.
+    private static final int CHUNK_LENGTH = 18;
+    private static final BigInteger[] POWERS_OF_TEN = new BigInteger[CHUNK_LENGTH + 1];
+
+    static {
+        for (int i = 0; i <= CHUNK_LENGTH; ++i) {
+            POWERS_OF_TEN[i] = BigInteger.TEN.pow(i);
+        }
+    }
+
+    // Exactly one of the three sources is used: a reader, a mapped file, or the characters of a string.
+    private final Reader reader;
+    private final FileChannel channel;
+    private final char[] chars;
+    private int position;
+    private int limit;
+    private ByteBuffer bytes;
+    private long mapped;
+
+    // The current character, or -1 at the end of the input, and its index.
+    private int next;
+    private long index = -1;
+
+    // The last integer read: its value, or null and the value in smallInteger if it has at most 18 digits.
+    private long smallInteger;
+    private BigInteger bigInteger;
+
+    // Exponents indexed by variable index, nonzero only from index low (inclusive) to high (exclusive).
+    private int[] exponents = new int[VariableName.values().length];
+    private int low = Integer.MAX_VALUE;
+    private int high;
+    private final StringBuilder name = new StringBuilder();
+    private final Map<Monomial, RationalNumber> terms = new HashMap<>();
+
+    private PolynomialParser(Reader reader, FileChannel channel, char[] chars, int limit) {
+        this.reader = reader;
+        this.channel = channel;
+        this.chars = chars;
+        this.limit = limit;
+    }
+
+    /**
+     * Parses a polynomial from a string.
+     * @param text The polynomial, e.g. the result of {@link Polynomial#toString()}.
+     * @return The polynomial in grlex order.
+     * @throws PolynomialParseException If the text is not a polynomial.
+     */
+    public static Polynomial parse(String text) {
+        char[] chars = text.toCharArray();
+        try {
+            return new PolynomialParser(null, null, chars, chars.length).parse();
+        }
+        catch (IOException e) {
+            // A string source never reads.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses a polynomial from all the characters of a reader. The reader is buffered internally and is not closed.
+     * @param reader The source of the polynomial.
+     * @return The polynomial in grlex order.
+     * @throws IOException If reading fails.
+     * @throws PolynomialParseException If the characters are not a polynomial.
+     */
+    public static Polynomial parse(Reader reader) throws IOException {
+        return new PolynomialParser(reader, null, new char[BUFFER_SIZE], 0).parse();
+    }
+
+    /**
+     * Parses a polynomial from a file by mapping it into memory, without copying it into the Java heap. Every byte is
+     * read as one character, which suits the ASCII-only syntax.
+     * @param file The file containing the polynomial.
+     * @return The polynomial in grlex order.
+     * @throws IOException If the file cannot be read.
+     * @throws PolynomialParseException If the file does not contain a polynomial.
+     */
+    public static Polynomial parse(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            PolynomialParser parser = new PolynomialParser(null, channel, null, 0);
+            parser.bytes = ByteBuffer.allocate(0);
+            return parser.parse();
+        }
+    }
+
+    private Polynomial parse() throws IOException {
+        advance();
+        skipWhitespace();
+        readTerm(readSigns());
+        while (this.next == '+' || this.next == '-') {
+            readTerm(readSigns());
+        }
+        if (this.next != -1) {
+            throw new PolynomialParseException(this.index);
+        }
+        return new Polynomial(this.terms, MonomialOrder.grlex);
+    }
+
+    /**
+     * Reads a product of factors and adds it to the terms.
+     */
+    private void readTerm(boolean negative) throws IOException {
+        RationalNumber coefficient = readFactor(negative ? RationalNumber.minusOne : RationalNumber.one, true);
+        while (true) {
+            if (this.next == '*') {
+                skip();
+                coefficient = readFactor(coefficient, true);
+            }
+            else if (isVariable(this.next) || this.next == '(') {
+                coefficient = readFactor(coefficient, false);
+            }
+            else {
+                break;
+            }
+        }
+
+        if (!coefficient.isZero()) {
+            this.terms.merge(Monomial.of(this.exponents, this.low, this.high), coefficient, Polynomial::addNonZero);
+        }
+        if (this.low < this.high) {
+            Arrays.fill(this.exponents, this.low, this.high, 0);
+        }
+        this.low = Integer.MAX_VALUE;
+        this.high = 0;
+    }
+
+    /**
+     * Reads one factor, adding a variable power to the exponents or multiplying a coefficient into the given one.
+     * @param number Whether an unparenthesized coefficient may appear here.
+     * @return The coefficient of the term so far.
+     */
+    private RationalNumber readFactor(RationalNumber coefficient, boolean number) throws IOException {
+        if (isVariable(this.next)) {
+            int variable = readVariable();
+            int power = 1;
+            if (this.next == '^') {
+                skip();
+                long start = this.index;
+                readInteger();
+                if (this.bigInteger != null || this.smallInteger > Integer.MAX_VALUE) {
+                    throw new PolynomialParseException(start);
+                }
+                power = (int) this.smallInteger;
+            }
+            if (variable >= this.exponents.length) {
+                this.exponents = Arrays.copyOf(this.exponents, Math.max(2 * this.exponents.length, variable + 1));
+            }
+            this.low = Math.min(this.low, variable);
+            this.high = Math.max(this.high, variable + 1);
+            try {
+                this.exponents[variable] = Math.addExact(this.exponents[variable], power);
+            }
+            catch (ArithmeticException e) {
+                throw new PolynomialParseException(this.index);
+            }
+            return coefficient;
+        }
+
+        RationalNumber factor;
+        if (this.next == '(') {
+            skip();
+            factor = readNumber(readSigns());
+            if (this.next != ')') {
+                throw new PolynomialParseException(this.index);
+            }
+            skip();
+        }
+        else if (number && isDigit(this.next)) {
+            factor = readNumber(false);
+        }
+        else {
+            throw new PolynomialParseException(this.index);
+        }
+
+        if (coefficient == RationalNumber.one) {
+            return factor;
+        }
+        if (coefficient == RationalNumber.minusOne) {
+            return factor.negate();
+        }
+        return coefficient.multiply(factor);
+    }
+
+    /**
+     * Reads the name of a variable, registering it if it has a subscript that is new.
+     * @return The index of the variable.
+     */
+    private int readVariable() throws IOException {
+        int letter = this.next;
+        advance();
+        if (this.next != '_') {
+            skipWhitespace();
+            return letter - 'a';
+        }
+
+        long start = this.index + 1;
+        this.name.setLength(0);
+        this.name.append((char) letter).append('_');
+        advance();
+        while (isDigit(this.next)) {
+            this.name.append((char) this.next);
+            advance();
+        }
+        skipWhitespace();
+        try {
+            return Variable.of(this.name.toString()).index();
+        }
+        catch (InvalidVariableNameException e) {
+            throw new PolynomialParseException(start);
+        }
+    }
+
+    /**
+     * Reads an integer or a fraction of integers.
+     */
+    private RationalNumber readNumber(boolean negative) throws IOException {
+        readInteger();
+        long numerator = this.smallInteger;
+        BigInteger bigNumerator = this.bigInteger;
+        long denominator = 1;
+        BigInteger bigDenominator = null;
+        if (this.next == '/') {
+            skip();
+            long start = this.index;
+            readInteger();
+            denominator = this.smallInteger;
+            bigDenominator = this.bigInteger;
+            if (bigDenominator == null && denominator == 0) {
+                throw new PolynomialParseException(start);
+            }
+        }
+
+        if (bigNumerator == null && bigDenominator == null
+                && numerator <= Integer.MAX_VALUE && denominator <= Integer.MAX_VALUE) {
+            return RationalNumber.of(negative ? -(int) numerator : (int) numerator, (int) denominator);
+        }
+        BigInteger n = bigNumerator == null ? BigInteger.valueOf(numerator) : bigNumerator;
+        BigInteger d = bigDenominator == null ? BigInteger.valueOf(denominator) : bigDenominator;
+        return new RationalNumber(negative ? n.negate() : n, d);
+    }
+
+    /**
+     * Reads a nonempty sequence of decimal digits into smallInteger or bigInteger.
+     */
+    private void readInteger() throws IOException {
+        if (!isDigit(this.next)) {
+            throw new PolynomialParseException(this.index);
+        }
+        long chunk = 0;
+        int chunkLength = 0;
+        BigInteger big = null;
+        while (isDigit(this.next)) {
+            if (chunkLength == CHUNK_LENGTH) {
+                big = big == null ? BigInteger.valueOf(chunk) : shift(big, chunk, chunkLength);
+                chunk = 0;
+                chunkLength = 0;
+            }
+            chunk = 10 * chunk + (this.next - '0');
+            ++chunkLength;
+            advance();
+        }
+        skipWhitespace();
+        this.smallInteger = chunk;
+        this.bigInteger = big == null ? null : shift(big, chunk, chunkLength);
+    }
+
+    private static BigInteger shift(BigInteger big, long chunk, int chunkLength) {
+        return big.multiply(POWERS_OF_TEN[chunkLength]).add(BigInteger.valueOf(chunk));
+    }
+
+    /**
+     * Reads any number of signs.
+     * @return Whether the number of minus signs is odd.
+     */
+    private boolean readSigns() throws IOException {
+        boolean negative = false;
+        while (this.next == '+' || this.next == '-') {
+            negative ^= this.next == '-';
+            skip();
+        }
+        return negative;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isVariable(int c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    // Input methods.
+
+    /**
+     * Moves past the current character and any whitespace after it.
+     */
+    private void skip() throws IOException {
+        advance();
+        skipWhitespace();
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (this.next == ' ' || this.next == '\t' || this.next == '\n' || this.next == '\r') {
+            advance();
+        }
+    }
+
+    private void advance() throws IOException {
+        ++this.index;
+        if (this.bytes != null) {
+            if (!this.bytes.hasRemaining() && !mapRegion()) {
+                this.next = -1;
+                return;
+            }
+            this.next = this.bytes.get() & 0xff;
+        }
+        else {
+            if (this.position == this.limit && !fill()) {
+                this.next = -1;
+                return;
+            }
+            this.next = this.chars[this.position++];
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (this.reader == null) {
+            return false;
+        }
+        int count;
+        do {
+            count = this.reader.read(this.chars);
+        } while (count == 0);
+        if (count < 0) {
+            return false;
+        }
+        this.position = 0;
+        this.limit = count;
+        return true;
+    }
+
+    private boolean mapRegion() throws IOException {
+        long size = this.channel.size();
+        if (this.mapped >= size) {
+            return false;
+        }
+        long length = Math.min(REGION_SIZE, size - this.mapped);
+        this.bytes = this.channel.map(FileChannel.MapMode.READ_ONLY, this.mapped, length);
+        this.mapped += length;
+        return true;
+    }
+}
@@ -3,14 +3,24 @@ package polynomial;
 import exceptions.TermEvaluationMissingVariable;
 import number.RationalNumber;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
-
-public class Term implements Comparable<Term> {
-    protected RationalNumber coefficient;
-    protected TreeMap<VariableName, Integer> mapVarPower = new TreeMap<>();
+import java.util.SortedSet;
+import java.util.function.IntFunction;
+
+/**
+ * An immutable term of a polynomial: a rational coefficient times a {@link Monomial}.
+ *
+ * Terms are equal when their coefficients and monomials are, consistently with {@link #compareTo(Term)}, and can be
+ * interned like monomials (see {@link #intern()}).
+ */
+public final class Term implements Comparable<Term> {
+    private static final Interner<Term> INTERNED = new Interner<>();
+
+    private final RationalNumber coefficient;
+    private final Monomial monomial;
+    private int hash;
 
     /**
      * Creates a constant polynomial term.
@@ -18,6 +28,7 @@ public class Term implements Comparable<Term> {
      */
     public Term(RationalNumber coefficient) {
         this.coefficient = coefficient;
+        this.monomial = Monomial.one;
     }
 
     /**
@@ -28,7 +39,18 @@ public class Term implements Comparable<Term> {
      */
     public Term(RationalNumber coefficient, VariableName variableName, int power) {
         this.coefficient = coefficient;
-        this.mapVarPower.put(variableName, power);
+        this.monomial = new Monomial(variableName, power);
+    }
+
+    /**
+     * Creates a single-variable term with specified coefficient and variable with specified power.
+     * @param coefficient The coefficient of the term.
+     * @param variable The variable that is multiplied by the coefficient.
+     * @param power The power of the variable.
+     */
+    public Term(RationalNumber coefficient, Variable variable, int power) {
+        this.coefficient = coefficient;
+        this.monomial = new Monomial(variable, power);
     }
 
     /**
@@ -39,23 +61,54 @@ public class Term implements Comparable<Term> {
      */
     public Term(RationalNumber coefficient, Map<VariableName, Integer> mapVarPower) {
         this.coefficient = coefficient;
-        this.mapVarPower.putAll(mapVarPower);
+        this.monomial = new Monomial(mapVarPower);
+    }
+
+    /**
+     * Creates a polynomial term from a coefficient and a monomial.
+     * @param coefficient The coefficient of this term.
+     * @param monomial The power product multiplied by the coefficient.
+     */
+    public Term(RationalNumber coefficient, Monomial monomial) {
+        this.coefficient = coefficient;
+        this.monomial = monomial;
     }
 
     /**
      * Evaluates this term at a given point.
      * @param mapVarValue Variable-to-rational map used to plug in values.
      * @return Rational number that is a result of plugging in the specified values.
+     * @throws TermEvaluationMissingVariable If a variable has no value, which includes all variables that are not
+     *                                       {@link VariableName}s.
      */
     public RationalNumber evaluateAt(Map<VariableName, RationalNumber> mapVarValue) {
+        return evaluateAt(Variable.byIndex(mapVarValue));
+    }
+
+    /**
+     * Evaluates this term at a given point, whose variables need not be {@link VariableName}s.
+     * @param variables The variables with a value.
+     * @param values The value of each of the variables, in the same order.
+     * @return Rational number that is a result of plugging in the specified values.
+     * @throws TermEvaluationMissingVariable If a variable of this term has no value.
+     * @throws IllegalArgumentException If the numbers of variables and values differ, or a variable is repeated.
+     */
+    public RationalNumber evaluateAt(List<Variable> variables, RationalNumber[] values) {
+        return evaluateAt(Variable.byIndex(variables, values));
+    }
+
+    private RationalNumber evaluateAt(IntFunction<RationalNumber> valueAt) {
         RationalNumber result = this.coefficient;
-        // For each variable, get its value from mapVarValue.
-        for (var entry : this.mapVarPower.entrySet()) {
-            RationalNumber varValue = mapVarValue.get(entry.getKey());
+        // For each variable, get its value by index.
+        for (int i = this.monomial.start(); i < this.monomial.length(); ++i) {
+            int power = this.monomial.exponentAt(i);
+            if (power == 0) {
+                continue;
+            }
+            RationalNumber varValue = valueAt.apply(i);
             if (varValue == null) {
                 throw new TermEvaluationMissingVariable();
             }
-            int power = entry.getValue();
             // Multiply result by value^(power).
             result = result.multiply(varValue.pow(power));
         }
@@ -63,11 +116,50 @@ public class Term implements Comparable<Term> {
     }
 
     /**
-     * Obtains the set of variables that makes up this term.
-     * @return Set of variables that makes up this term.
+     * Differentiates this term with respect to a variable, e.g. the derivative of 3x^2y with respect to x is 6xy.
+     * @param variableName The variable.
+     * @return The derivative, a term with a zero coefficient if the variable does not appear in this term.
+     */
+    public Term derivative(VariableName variableName) {
+        return derivative(Variable.of(variableName));
+    }
+
+    /**
+     * Differentiates this term with respect to a variable.
+     * @param variable The variable.
+     * @return The derivative, a term with a zero coefficient if the variable does not appear in this term.
+     */
+    public Term derivative(Variable variable) {
+        int power = this.monomial.getExponent(variable);
+        if (power == 0) {
+            return new Term(RationalNumber.zero);
+        }
+        return new Term(this.coefficient.multiply(RationalNumber.of(power)),
+                this.monomial.divide(new Monomial(variable, 1)));
+    }
+
+    // Accessor methods.
+    public RationalNumber getCoefficient() {
+        return this.coefficient;
+    }
+    public Monomial getMonomial() {
+        return this.monomial;
+    }
+
+    /**
+     * Obtains the set of predefined variables that makes up this term.
+     * @return Set of the {@link VariableName}s that make up this term.
      */
     public Set<VariableName> getVariableSet() {
-        return mapVarPower.keySet();
+        return this.monomial.getVariableSet();
+    }
+
+    /**
+     * Obtains the set of variables that makes up this term.
+     * @return Unmodifiable set of the variables that make up this term, in increasing order of index.
+     */
+    public SortedSet<Variable> getVariables() {
+        return this.monomial.getVariables();
     }
 
     /**
@@ -77,112 +169,66 @@ public class Term implements Comparable<Term> {
      * @return True if otherTerm is like this term. False otherwise.
      */
     public boolean like(Term otherTerm) {
-        // Get a sorted set of variables of both terms.
-        TreeSet<VariableName> varSet = new TreeSet<>(this.mapVarPower.keySet());
-        varSet.addAll(otherTerm.mapVarPower.keySet());
-
-        for (var currentVariable : varSet) {
-            Integer thisPower = this.mapVarPower.get(currentVariable);
-            Integer otherPower = otherTerm.mapVarPower.get(currentVariable);
-            if (thisPower == null || otherPower == null) {
-                // If we are here, one of the terms does not have currentVariable.
-                return false;
-            }
+        return this.monomial.equals(otherTerm.monomial);
+    }
 
-            if (thisPower != otherPower) {
-                // If the powers differ, return false.
-                return false;
-            }
+    /**
+     * Obtains the canonical instance of this term, shared by all equal terms that have been interned. Its monomial is
+     * the canonical monomial (see {@link Monomial#intern()}). Canonical instances are held weakly and are collected
+     * once no longer in use elsewhere.
+     * @return The canonical term equal to this one.
+     */
+    public Term intern() {
+        Monomial canonicalMonomial = this.monomial.intern();
+        Term term = canonicalMonomial == this.monomial ? this : new Term(this.coefficient, canonicalMonomial);
+        return INTERNED.intern(term);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != this.getClass()) {
+            return false;
         }
 
-        // If we are here, all the variables are the same and their powers are the same as well. Thus, the terms must
-        // be like.
-        return true;
+        Term t = (Term) o;
+        return this.hashCode() == t.hashCode() && this.monomial.equals(t.monomial)
+                && this.coefficient.equals(t.coefficient);
     }
 
     @Override
-    public String toString() {
-        // Sort variable names.
-        StringBuilder result = new StringBuilder(coefficient.toString());
-        for (var entry : this.mapVarPower.entrySet()) {
-            result.append(entry.getKey());
-            int power = entry.getValue();
-            if (power > 1) {
-                result.append("^").append(power);
-            }
+    public int hashCode() {
+        int h = this.hash;
+        if (h == 0) {
+            h = 31 * this.monomial.hashCode() + this.coefficient.hashCode();
+            this.hash = h;
         }
-        return result.toString();
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return this.coefficient.toString() + this.monomial.toString();
     }
 
     /**
-     * Compares polynomial terms using Graded Lexicographic (grlex) ordering. Grlex adheres to the following
-     * definition:
-     * Let a and b be vectors of nonnegative integers of length n. We say that a > b if |a| = sum(a_i) > |b| = sum(b_i),
-     * or if |a| = |b| and the left-most nonzero entry of a - b is positive.
+     * Compares polynomial terms using Graded Lexicographic (grlex) ordering of their monomials (see
+     * {@link Monomial#compareTo(Monomial)}). Like terms are ordered by their coefficients.
      * @param otherTerm the term to be compared.
      * @return Positive integer, negative integer, or zero if this term is greater than, less than, or equal to
      *         other term.
      */
     @Override
     public int compareTo(Term otherTerm) {
-        // First, get sums of powers.
-        int thisPowerSum = 0;
-        for (var entry : this.mapVarPower.entrySet()) {
-            thisPowerSum += entry.getValue();
-        }
-        int otherPowerSum = 0;
-        for (var entry : otherTerm.mapVarPower.entrySet()) {
-            otherPowerSum += entry.getValue();
-        }
-        // Check if we the sums are different.
-        if (thisPowerSum > otherPowerSum) {
-            return 1;
-        }
-        else if (otherPowerSum > thisPowerSum) {
-            return -1;
-        }
-
-        // If we are here, the sums are the same.
-        // Get a sorted set of variables of both terms.
-        TreeSet<VariableName> varSet = new TreeSet<>(this.mapVarPower.keySet());
-        varSet.addAll(otherTerm.mapVarPower.keySet());
-
-        for (var currentVariable : varSet) {
-            Integer thisPower = this.mapVarPower.get(currentVariable);
-            Integer otherPower = otherTerm.mapVarPower.get(currentVariable);
-            if (thisPower == null) {
-                // If we are here, this term does not have currentVariable. This means that this term must be "less"
-                // than the other term.
-                return -1;
-            }
-            if (otherPower == null) {
-                // If we are here, the other term does not have currentVariable. This means that this term must be
-                // "greater" than the other term.
-                return 1;
-            }
-
-            // Here, both terms have currentVariable, so take the difference of powers of currentVariable.
-            int powerDifference = thisPower - otherPower;
-            if (powerDifference > 0) {
-                // If we are here, this term has higher power of currentVariable, so it must be "greater."
-                return 1;
-            }
-            if (powerDifference < 0) {
-                // If we are here, this term has smaller power of currentVariable, so it must be "less."
-                return -1;
-            }
+        int monomialComparison = this.monomial.compareTo(otherTerm.monomial);
+        if (monomialComparison != 0) {
+            return monomialComparison;
         }
 
         // If we are here, the variables and their powers are equal.
         // Compare the coefficients.
-        if (this.coefficient.compareTo(otherTerm.coefficient) == 1) {
-            return 1;
-        }
-        else if (this.coefficient.compareTo(otherTerm.coefficient) == -1) {
-            return -1;
-        }
-
-        // If all else equal, return 1 so that we can add repeated term to the terms map.
-        return 1;
+        return this.coefficient.compareTo(otherTerm.coefficient);
     }
 }
@@ -0,0 +1,222 @@
+package polynomial;
+
+import exceptions.InvalidVariableNameException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * A polynomial variable, interned by name, for systems with more variables than the 26 {@link VariableName}s.
+ *
+ * A name is a letter a-z, optionally followed by an underscore and a decimal subscript without leading zeros, e.g.
+ * {@code x} or {@code x_17}. Every name is registered once in a global registry, which gives it the next dense index:
+ * the position of the variable's exponent in a {@link Monomial}. There is only ever one instance per name, so
+ * variables are compared by identity. The {@link VariableName}s are predefined with their ordinals as indices, so
+ * {@code Variable.of(VariableName.x)} and {@code Variable.of("x")} are the same variable and code written against the
+ * enum sees no difference.
+ *
+ * All predefined monomial orders rank variables by index: a > b > ... > z, then the other variables in the order
+ * they were registered. Registering the variables of a model up front, e.g. with
+ * {@link #range(VariableName, int, int)}, fixes that ranking and gives the variables adjacent indices, which keeps
+ * the exponent arrays of their monomials short.
+ */
+public final class Variable implements Comparable<Variable> {
+    private static final VariableName[] PREDEFINED = VariableName.values();
+    private static final Map<String, Variable> BY_NAME = new ConcurrentHashMap<>();
+    // Variables by index, followed by unused capacity. Only replaced or extended while holding the class lock, and
+    // always reassigned after an extension so that readers of the field see the new element.
+    private static volatile Variable[] byIndex = new Variable[2 * PREDEFINED.length];
+    private static int count;
+
+    static {
+        for (VariableName variableName : PREDEFINED) {
+            register(variableName.toString(), variableName);
+        }
+    }
+
+    private final String name;
+    private final int index;
+    private final VariableName variableName;
+
+    private Variable(String name, int index, VariableName variableName) {
+        this.name = name;
+        this.index = index;
+        this.variableName = variableName;
+    }
+
+    /**
+     * Obtains the variable with a given name, registering it if it is new.
+     * @param name The name, e.g. "x" or "x_17".
+     * @return The unique variable with that name.
+     * @throws InvalidVariableNameException If the name is not a letter with an optional subscript.
+     */
+    public static Variable of(String name) {
+        Variable result = BY_NAME.get(name);
+        if (result != null) {
+            return result;
+        }
+        if (!isValidName(name)) {
+            throw new InvalidVariableNameException();
+        }
+        synchronized (Variable.class) {
+            result = BY_NAME.get(name);
+            return result != null ? result : register(name, null);
+        }
+    }
+
+    /**
+     * Obtains the predefined variable of a {@link VariableName}.
+     * @param variableName The variable name.
+     * @return The variable whose index is the ordinal of variableName.
+     */
+    public static Variable of(VariableName variableName) {
+        return byIndex[variableName.ordinal()];
+    }
+
+    /**
+     * Obtains a subscripted variable, e.g. x_17, registering it if it is new.
+     * @param base The letter of the variable.
+     * @param subscript The non-negative subscript.
+     * @return The unique variable named base_subscript.
+     * @throws InvalidVariableNameException If the subscript is negative.
+     */
+    public static Variable of(VariableName base, int subscript) {
+        if (subscript < 0) {
+            throw new InvalidVariableNameException();
+        }
+        return of(base + "_" + subscript);
+    }
+
+    /**
+     * Obtains the subscripted variables base_first, ..., base_last, registering the new ones in that order.
+     * @param base The letter of the variables.
+     * @param first The lowest subscript, non-negative.
+     * @param last The highest subscript.
+     * @return The variables in increasing order of subscript.
+     * @throws InvalidVariableNameException If first is negative.
+     */
+    public static List<Variable> range(VariableName base, int first, int last) {
+        List<Variable> result = new ArrayList<>(Math.max(last - first + 1, 0));
+        for (int subscript = first; subscript <= last; ++subscript) {
+            result.add(of(base, subscript));
+        }
+        return result;
+    }
+
+    private static boolean isValidName(String name) {
+        if (name.isEmpty() || name.charAt(0) < 'a' || name.charAt(0) > 'z') {
+            return false;
+        }
+        if (name.length() == 1) {
+            return true;
+        }
+        if (name.length() < 3 || name.charAt(1) != '_' || (name.charAt(2) == '0' && name.length() > 3)) {
+            return false;
+        }
+        for (int i = 2; i < name.length(); ++i) {
+            if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a variable with the next index. Must be called while holding the class lock, or from the static
+     * initializer.
+     */
+    private static Variable register(String name, VariableName variableName) {
+        Variable[] variables = byIndex;
+        if (count == variables.length) {
+            variables = Arrays.copyOf(variables, 2 * variables.length);
+        }
+        Variable result = new Variable(name, count, variableName);
+        variables[count++] = result;
+        byIndex = variables;
+        BY_NAME.put(name, result);
+        return result;
+    }
+
+    /**
+     * Obtains the variable with an index, which must have been registered.
+     */
+    static Variable at(int index) {
+        return byIndex[index];
+    }
+
+    /**
+     * Looks up values keyed by {@link VariableName} by variable index; variables that are not predefined have none.
+     */
+    static <T> IntFunction<T> byIndex(Map<VariableName, T> values) {
+        return index -> {
+            VariableName variableName = at(index).toVariableName();
+            return variableName == null ? null : values.get(variableName);
+        };
+    }
+
+    /**
+     * Looks up values given in the order of a list of variables by variable index.
+     * @throws IllegalArgumentException If the numbers of variables and values differ, or a variable is repeated.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> IntFunction<T> byIndex(List<Variable> variables, T[] values) {
+        if (variables.size() != values.length) {
+            throw new IllegalArgumentException(variables.size() + " variables but " + values.length + " values.");
+        }
+        int length = 0;
+        for (Variable variable : variables) {
+            length = Math.max(length, variable.index + 1);
+        }
+        Object[] result = new Object[length];
+        boolean[] seen = new boolean[length];
+        for (int k = 0; k < values.length; ++k) {
+            int index = variables.get(k).index;
+            if (seen[index]) {
+                throw new IllegalArgumentException(variables.get(k) + " is given more than once.");
+            }
+            seen[index] = true;
+            result[index] = values[k];
+        }
+        return index -> index < result.length ? (T) result[index] : null;
+    }
+
+    // Accessor methods.
+    public String getName() {
+        return this.name;
+    }
+
+    // The position of this variable's exponent in monomials.
+    int index() {
+        return this.index;
+    }
+
+    // The enum constant of a predefined variable, or null.
+    VariableName toVariableName() {
+        return this.variableName;
+    }
+
+    /**
+     * Compares variables by index, like the ordinals of {@link VariableName}s.
+     * @param v The variable to be compared.
+     * @return Negative integer, zero, or positive integer if this variable was registered before, is, or was
+     *         registered after v.
+     */
+    @Override
+    public int compareTo(Variable v) {
+        return Integer.compare(this.index, v.index);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.index;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,52 @@
+package number;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModularReconstructionTest {
+    @Test
+    @DisplayName("Chinese remainder")
+    void testChineseRemainder() {
+        List<PrimeField> primes = PrimeField.largePrimes(4);
+        BigInteger value = new BigInteger("-123456789012345678901234567890");
+        BigInteger residue = BigInteger.ZERO;
+        BigInteger modulus = BigInteger.ONE;
+        for (PrimeField field : primes) {
+            residue = ModularReconstruction.chineseRemainder(residue, modulus, field.valueOf(value), field);
+            modulus = modulus.multiply(BigInteger.valueOf(field.getModulus()));
+            assertTrue(residue.signum() >= 0 && residue.compareTo(modulus) < 0);
+        }
+        assertEquals(value.mod(modulus), residue);
+        assertEquals(value, ModularReconstruction.symmetric(residue, modulus));
+    }
+
+    @Test
+    @DisplayName("Rational reconstruction")
+    void testReconstruct() {
+        RationalNumber r = new RationalNumber(new BigInteger("-98765432109876543"), new BigInteger("1234567890123"));
+        BigInteger residue = BigInteger.ZERO;
+        BigInteger modulus = BigInteger.ONE;
+        RationalNumber reconstructed = null;
+        for (PrimeField field : PrimeField.largePrimes(6)) {
+            residue = ModularReconstruction.chineseRemainder(residue, modulus, field.valueOf(r), field);
+            modulus = modulus.multiply(BigInteger.valueOf(field.getModulus()));
+            reconstructed = ModularReconstruction.reconstruct(residue, modulus);
+        }
+        // Six 31-bit primes are plenty for a 57-bit numerator and a 41-bit denominator.
+        assertEquals(r, reconstructed);
+
+        // Too few primes: one prime cannot determine the fraction.
+        PrimeField field = PrimeField.largePrimes(1).get(0);
+        BigInteger single = BigInteger.valueOf(field.valueOf(r));
+        assertNotEquals(r, ModularReconstruction.reconstruct(single, BigInteger.valueOf(field.getModulus())));
+
+        assertEquals(RationalNumber.zero, ModularReconstruction.reconstruct(BigInteger.ZERO, BigInteger.valueOf(101)));
+        assertEquals(new RationalNumber(-1, 2),
+                ModularReconstruction.reconstruct(BigInteger.valueOf(50), BigInteger.valueOf(101)));
+    }
+}
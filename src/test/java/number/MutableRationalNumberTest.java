@@ -0,0 +1,76 @@
+package number;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableRationalNumberTest {
+    @Test
+    @DisplayName("Add and add products")
+    void testAdd() {
+        Random random = new Random(1);
+        MutableRationalNumber accumulator = new MutableRationalNumber();
+        RationalNumber expected = RationalNumber.zero;
+        for (int i = 0; i < 2000; ++i) {
+            RationalNumber a = randomRational(random);
+            RationalNumber b = randomRational(random);
+            if (random.nextBoolean()) {
+                accumulator.add(a);
+                expected = expected.add(a);
+            }
+            else {
+                accumulator.addProduct(a, b);
+                expected = expected.add(a.multiply(b));
+            }
+            assertEquals(expected, accumulator.toRationalNumber());
+        }
+        // Reading does not change the value, and later additions continue from it.
+        assertEquals(expected, accumulator.toRationalNumber());
+        assertEquals(expected, accumulator.add(RationalNumber.zero).toRationalNumber());
+        assertEquals(expected.add(RationalNumber.of(1, 7)),
+                accumulator.add(RationalNumber.of(1, 7)).toRationalNumber());
+
+        // The value moves to arbitrary precision and back once the large parts cancel.
+        RationalNumber max = RationalNumber.of(Integer.MAX_VALUE, Integer.MAX_VALUE - 1);
+        RationalNumber min = RationalNumber.of(Integer.MIN_VALUE);
+        MutableRationalNumber r = new MutableRationalNumber().add(RationalNumber.of(1, 3));
+        for (int i = 0; i < 4; ++i) {
+            r.addProduct(max, min);
+        }
+        assertEquals(RationalNumber.of(1, 3).add(max.multiply(min).multiply(RationalNumber.of(4))),
+                r.toRationalNumber());
+        for (int i = 0; i < 4; ++i) {
+            r.addProduct(max, min.negate());
+        }
+        assertEquals(RationalNumber.of(1, 3), r.toRationalNumber());
+        assertTrue(r.toRationalNumber().isSmall());
+    }
+
+    @Test
+    @DisplayName("Zero and clear")
+    void testZero() {
+        MutableRationalNumber r = new MutableRationalNumber();
+        assertTrue(r.isZero());
+        r.add(RationalNumber.of(2, 3)).addProduct(RationalNumber.of(-1, 3), RationalNumber.of(2));
+        assertTrue(r.isZero());
+        assertSame(RationalNumber.zero, r.toRationalNumber());
+        r.add(new RationalNumber(BigInteger.TEN.pow(40), BigInteger.valueOf(3)));
+        assertAll(
+                () -> assertFalse(r.isZero()),
+                () -> assertEquals("(10000000000000000000000000000000000000000/3)", r.toString()),
+                () -> assertTrue(r.clear().isZero()));
+    }
+
+    private static RationalNumber randomRational(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> RationalNumber.of(random.nextInt(21) - 10, random.nextInt(6) + 1);
+            case 1 -> new RationalNumber(random.nextInt(), random.nextInt(Integer.MAX_VALUE) + 1);
+            default -> new RationalNumber(new BigInteger(80, random).subtract(BigInteger.ONE.shiftLeft(79)),
+                    new BigInteger(70, random).add(BigInteger.ONE));
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package number;
+
+import exceptions.PrimeFieldDivideByZeroException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimeFieldTest {
+    @Test
+    @DisplayName("Initialize")
+    void testInitialize() {
+        assertEquals(7, new PrimeField(7).getModulus());
+        assertEquals("GF(7)", new PrimeField(7).toString());
+        assertEquals(new PrimeField(7), new PrimeField(7));
+        assertThrows(IllegalArgumentException.class, () -> new PrimeField(1));
+        assertThrows(IllegalArgumentException.class, () -> new PrimeField(91));
+        assertThrows(IllegalArgumentException.class, () -> new PrimeField(PrimeField.MAX_MODULUS + 2));
+    }
+
+    @Test
+    @DisplayName("Large primes")
+    void testLargePrimes() {
+        List<PrimeField> primes = PrimeField.largePrimes(5);
+        assertEquals(5, primes.size());
+        assertEquals(PrimeField.MAX_MODULUS, primes.get(0).getModulus());
+        for (int i = 0; i < primes.size(); ++i) {
+            long p = primes.get(i).getModulus();
+            assertTrue(BigInteger.valueOf(p).isProbablePrime(50));
+            assertTrue(p > 1L << 30);
+            if (i > 0) {
+                assertTrue(p < primes.get(i - 1).getModulus());
+            }
+        }
+        assertEquals(primes, PrimeField.largePrimes(8).subList(0, 5));
+    }
+
+    @Test
+    @DisplayName("Fourier primes and roots of unity")
+    void testFourierPrimes() {
+        List<PrimeField> primes = PrimeField.fourierPrimes(4, 20);
+        assertEquals(4, primes.size());
+        for (PrimeField field : primes) {
+            long p = field.getModulus();
+            assertTrue(BigInteger.valueOf(p).isProbablePrime(50));
+            assertTrue(p > 1L << 30);
+            assertEquals(0, (p - 1) % (1 << 20));
+
+            long root = field.rootOfUnity(20);
+            assertEquals(1, field.pow(root, 1 << 20));
+            assertNotEquals(1, field.pow(root, 1 << 19));
+        }
+        // Asking for more primes extends the shared list.
+        assertEquals(primes.subList(0, 2), PrimeField.fourierPrimes(2, 20));
+        assertEquals(primes, PrimeField.fourierPrimes(6, 20).subList(0, 4));
+        // 2013265921 = 15 * 2^27 + 1 is the only such prime for 2^27.
+        assertEquals(List.of(new PrimeField(2013265921)), PrimeField.fourierPrimes(5, 27));
+        assertThrows(IllegalArgumentException.class, () -> PrimeField.fourierPrimes(1, 31));
+        assertThrows(IllegalArgumentException.class, () -> new PrimeField(7).rootOfUnity(2));
+        assertEquals(1, new PrimeField(7).rootOfUnity(0));
+    }
+
+    @Test
+    @DisplayName("Arithmetic matches BigInteger")
+    void testArithmetic() {
+        Random random = new Random(13);
+        for (PrimeField field : List.of(new PrimeField(2), new PrimeField(65537), PrimeField.largePrimes(3).get(2))) {
+            BigInteger p = BigInteger.valueOf(field.getModulus());
+            for (int i = 0; i < 1000; ++i) {
+                long a = Math.floorMod(random.nextLong(), field.getModulus());
+                long b = Math.floorMod(random.nextLong(), field.getModulus());
+                BigInteger bigA = BigInteger.valueOf(a);
+                BigInteger bigB = BigInteger.valueOf(b);
+                assertEquals(bigA.add(bigB).mod(p).longValue(), field.add(a, b));
+                assertEquals(bigA.subtract(bigB).mod(p).longValue(), field.subtract(a, b));
+                assertEquals(bigA.negate().mod(p).longValue(), field.negate(a));
+                assertEquals(bigA.multiply(bigB).mod(p).longValue(), field.multiply(a, b));
+                assertEquals(bigA.modPow(BigInteger.valueOf(i), p).longValue(), field.pow(a, i));
+                if (b != 0) {
+                    assertEquals(1, field.multiply(b, field.inverse(b)));
+                    assertEquals(a, field.multiply(field.divide(a, b), b));
+                }
+            }
+        }
+        assertThrows(PrimeFieldDivideByZeroException.class, () -> new PrimeField(7).inverse(0));
+    }
+
+    @Test
+    @DisplayName("Conversions")
+    void testConversions() {
+        PrimeField field = new PrimeField(7);
+        assertEquals(4, field.valueOf(-3));
+        assertEquals(4, field.valueOf(BigInteger.valueOf(-3)));
+        // 1/2 = 4 (mod 7), since 2 * 4 = 8.
+        assertEquals(4, field.valueOf(new RationalNumber(1, 2)));
+        assertEquals(1, field.valueOf(new RationalNumber(BigInteger.TEN.pow(30), BigInteger.ONE)));
+        assertThrows(PrimeFieldDivideByZeroException.class, () -> field.valueOf(new RationalNumber(1, 14)));
+        assertEquals(3, field.symmetric(3));
+        assertEquals(-3, field.symmetric(4));
+    }
+}
@@ -4,6 +4,7 @@ import exceptions.RationalNumberDivideByZeroException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -335,6 +336,125 @@ class RationalNumberTest {
         RationalNumber s = new RationalNumber(-1, 2);
         RationalNumber sPow = s.pow(3);
         assertEquals(new RationalNumber(-1, 8), sPow);
+
+        // Negative powers raise the reciprocal, and large powers move to arbitrary precision.
+        RationalNumber t = new RationalNumber(-3, 2);
+        assertAll(
+                () -> assertEquals(new RationalNumber(4, 9), t.pow(-2)),
+                () -> assertEquals(new RationalNumber(-8, 27), t.pow(-3)),
+                () -> assertEquals(RationalNumber.one, t.pow(0)),
+                () -> assertEquals(RationalNumber.one, RationalNumber.zero.pow(0)),
+                () -> assertEquals(RationalNumber.zero, RationalNumber.zero.pow(5)),
+                () -> assertThrows(RationalNumberDivideByZeroException.class, () -> RationalNumber.zero.pow(-1)),
+                () -> assertEquals(RationalNumber.one, RationalNumber.minusOne.pow(Integer.MIN_VALUE)),
+                () -> assertEquals(RationalNumber.minusOne, RationalNumber.minusOne.pow(Integer.MAX_VALUE)),
+                () -> assertEquals(new RationalNumber(BigInteger.valueOf(-3).pow(41), BigInteger.TWO.pow(41)),
+                        t.pow(41)),
+                () -> assertEquals(new RationalNumber(BigInteger.TWO.pow(41), BigInteger.valueOf(-3).pow(41)),
+                        t.pow(-41)),
+                () -> assertEquals(new RationalNumber(BigInteger.ONE, BigInteger.valueOf(Integer.MIN_VALUE).pow(2)),
+                        RationalNumber.of(Integer.MIN_VALUE).pow(-2)),
+                () -> assertTrue(t.pow(41).pow(-1).multiply(t.pow(41)).equals(RationalNumber.one)));
+
+        // Powers by squaring agree with repeated multiplication, across the small and big representations.
+        RationalNumber big = new RationalNumber(new BigInteger("123456789012345678901"), BigInteger.valueOf(-7));
+        for (RationalNumber base : List.of(t, new RationalNumber(7, 10), RationalNumber.of(Integer.MIN_VALUE), big)) {
+            RationalNumber expected = RationalNumber.one;
+            for (int power = 0; power <= 20; ++power) {
+                assertEquals(expected, base.pow(power));
+                assertEquals(RationalNumber.one.divide(expected), base.pow(-power));
+                expected = expected.multiply(base);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Overflow promotes to arbitrary precision")
+    void testOverflow() {
+        RationalNumber max = new RationalNumber(Integer.MAX_VALUE, 1);
+        RationalNumber sum = max.add(max);
+        assertFalse(sum.isSmall());
+        assertEquals(BigInteger.valueOf(Integer.MAX_VALUE).multiply(BigInteger.TWO), sum.getBigNumerator());
+        assertEquals(BigInteger.ONE, sum.getBigDenominator());
+        assertEquals("4294967294", sum.toString());
+        assertThrows(ArithmeticException.class, sum::getNumerator);
+
+        RationalNumber product = new RationalNumber(65537, 65536).multiply(new RationalNumber(65539, 65536));
+        assertEquals(new RationalNumber(BigInteger.valueOf(65537L * 65539L), BigInteger.valueOf(1L << 32)), product);
+        assertEquals("(4295229443/4294967296)", product.toString());
+        assertEquals(65537.0 * 65539.0 / 4294967296.0, product.doubleValue(), 1e-12);
+
+        // Results that fit back into an int are demoted to the small representation.
+        RationalNumber back = sum.divide(new RationalNumber(2, 1));
+        assertTrue(back.isSmall());
+        assertEquals(max, back);
+        assertEquals(max.hashCode(), back.hashCode());
+        assertEquals(RationalNumber.zero, sum.subtract(sum));
+
+        RationalNumber min = new RationalNumber(Integer.MIN_VALUE, -1);
+        assertEquals(BigInteger.valueOf(1L << 31), min.getBigNumerator());
+        assertEquals(1, min.compareTo(max));
+        assertEquals(-1, max.compareTo(sum));
+        assertEquals(0, sum.compareTo(max.multiply(new RationalNumber(2, 1))));
+    }
+
+    @Test
+    @DisplayName("Reduction edge cases")
+    void testReductionEdgeCases() {
+        // Operands that degenerate a subtraction-only binary GCD.
+        RationalNumber r = new RationalNumber((1 << 30) - 1, 1 << 30);
+        assertEquals((1 << 30) - 1, r.getNumerator());
+        assertEquals(1 << 30, r.getDenominator());
+        assertEquals(new RationalNumber(1, 1), r.divide(r));
+        assertEquals(new RationalNumber(1, 1), r.multiply(new RationalNumber(1 << 30, (1 << 30) - 1)));
+
+        // Cross-cancellation keeps the result reduced.
+        RationalNumber product = new RationalNumber(6, 35).multiply(new RationalNumber(14, 9));
+        assertEquals(4, product.getNumerator());
+        assertEquals(15, product.getDenominator());
+        RationalNumber quotient = new RationalNumber(6, 35).divide(new RationalNumber(-9, 14));
+        assertEquals(-4, quotient.getNumerator());
+        assertEquals(15, quotient.getDenominator());
+
+        // Denominators sharing a factor leave only part of it in the sum.
+        RationalNumber sum = new RationalNumber(1, 6).add(new RationalNumber(1, 10));
+        assertEquals(4, sum.getNumerator());
+        assertEquals(15, sum.getDenominator());
+        assertEquals(new RationalNumber(1, 1), new RationalNumber(5, 6).add(new RationalNumber(1, 6)));
+
+        // Zero results are canonical.
+        assertEquals(RationalNumber.zero, RationalNumber.zero.multiply(new RationalNumber(3, 7)));
+        assertEquals(1, RationalNumber.zero.divide(new RationalNumber(-3, 7)).getDenominator());
+        assertEquals(1, new RationalNumber(2, 9).subtract(new RationalNumber(2, 9)).getDenominator());
+
+        RationalNumber min = new RationalNumber(Integer.MIN_VALUE, 1);
+        assertEquals(BigInteger.valueOf(1L << 31), min.multiply(new RationalNumber(-1, 1)).getBigNumerator());
+        assertEquals(BigInteger.valueOf(1L << 31), RationalNumber.zero.subtract(min).getBigNumerator());
+    }
+
+    @Test
+    @DisplayName("Interned small values")
+    void testOf() {
+        assertSame(RationalNumber.zero, RationalNumber.of(0, 5));
+        assertSame(RationalNumber.one, RationalNumber.of(3, 3));
+        assertSame(RationalNumber.minusOne, RationalNumber.of(-2, 2));
+        assertSame(RationalNumber.of(1, 2), RationalNumber.of(-4, -8));
+        assertEquals(new RationalNumber(-7, 12), RationalNumber.of(-7, 12));
+        assertEquals(new RationalNumber(1000, 3), RationalNumber.of(1000, 3));
+        assertThrows(
+                RationalNumberDivideByZeroException.class,
+                () -> RationalNumber.of(1, 0)
+        );
+
+        // Arithmetic results in the interned range are shared.
+        RationalNumber half = new RationalNumber(1, 2);
+        assertSame(RationalNumber.one, half.add(half));
+        assertSame(RationalNumber.zero, half.subtract(half));
+        assertSame(RationalNumber.of(1, 4), half.multiply(half));
+        assertSame(RationalNumber.minusOne, half.divide(half.negate()));
+        assertSame(RationalNumber.of(1, 8), half.pow(3));
+        RationalNumber big = new RationalNumber(Integer.MAX_VALUE, 1).add(RationalNumber.one);
+        assertSame(RationalNumber.one, big.divide(big));
     }
 
     // GCD helper method.
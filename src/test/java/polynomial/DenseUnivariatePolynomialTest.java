@@ -0,0 +1,183 @@
+package polynomial;
+
+import exceptions.PolynomialNegativePowerException;
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DenseUnivariatePolynomialTest {
+    @Test
+    @DisplayName("Initialize")
+    void testInitialize() {
+        DenseUnivariatePolynomial p = new DenseUnivariatePolynomial(VariableName.x,
+                new RationalNumber(1, 2), RationalNumber.zero, new RationalNumber(-3, 1), RationalNumber.zero);
+        assertAll(
+                () -> assertEquals(VariableName.x, p.getVariable()),
+                () -> assertEquals(2, p.getDegree()),
+                () -> assertEquals(new RationalNumber(-3, 1), p.getCoefficient(2)),
+                () -> assertEquals(RationalNumber.zero, p.getCoefficient(7)),
+                () -> assertEquals(3, p.getCoefficients().size()),
+                () -> assertEquals("-3x^2 + (1/2)", p.toString()),
+                () -> assertTrue(new DenseUnivariatePolynomial(VariableName.x, RationalNumber.zero).isZero()),
+                () -> assertEquals("0", new DenseUnivariatePolynomial(VariableName.y).toString())
+        );
+    }
+
+    @Test
+    @DisplayName("Conversion")
+    void testConversion() {
+        Polynomial sparse = new Polynomial(
+                new Term(new RationalNumber(5, 1), VariableName.y, 4),
+                new Term(new RationalNumber(-1, 3), VariableName.y, 1),
+                new Term(new RationalNumber(2, 1)));
+        DenseUnivariatePolynomial dense = DenseUnivariatePolynomial.of(sparse, VariableName.y);
+        assertAll(
+                () -> assertEquals(4, dense.getDegree()),
+                () -> assertEquals(sparse.toString(), dense.toString()),
+                () -> assertEquals(sparse, dense.toPolynomial()),
+                () -> assertEquals(MonomialOrder.lex, dense.toPolynomial(MonomialOrder.lex).getOrder()),
+                () -> assertTrue(DenseUnivariatePolynomial.of(new Polynomial(), VariableName.x).isZero()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> DenseUnivariatePolynomial.of(sparse, VariableName.x))
+        );
+
+        Variable x7 = Variable.of(VariableName.x, 7);
+        Polynomial sparseX7 = PolynomialParser.parse("5x_7^4 - 1/3x_7 + 2");
+        DenseUnivariatePolynomial denseX7 = DenseUnivariatePolynomial.of(sparseX7, x7);
+        assertAll(
+                () -> assertEquals(x7, denseX7.getIndeterminate()),
+                () -> assertEquals(Variable.of(VariableName.y), dense.getIndeterminate()),
+                () -> assertEquals(VariableName.y, dense.getVariable()),
+                () -> assertThrows(IllegalStateException.class, denseX7::getVariable),
+                () -> assertEquals(sparseX7, denseX7.toPolynomial()),
+                () -> assertEquals(denseX7, new DenseUnivariatePolynomial(x7, RationalNumber.of(2),
+                        new RationalNumber(-1, 3), RationalNumber.zero, RationalNumber.zero, RationalNumber.of(5))),
+                () -> assertThrows(IllegalArgumentException.class, () -> DenseUnivariatePolynomial.of(sparse, x7))
+        );
+    }
+
+    @Test
+    @DisplayName("Add and subtract")
+    void testAdd() {
+        Random random = new Random(3);
+        DenseUnivariatePolynomial p = randomPolynomial(random, 20, 10);
+        DenseUnivariatePolynomial q = randomPolynomial(random, 13, 10);
+        DenseUnivariatePolynomial constant = new DenseUnivariatePolynomial(VariableName.t, RationalNumber.one);
+        assertAll(
+                () -> assertEquals(p.toPolynomial().add(q.toPolynomial()), p.add(q).toPolynomial()),
+                () -> assertEquals(p.toPolynomial().subtract(q.toPolynomial()), p.subtract(q).toPolynomial()),
+                () -> assertTrue(p.subtract(p).isZero()),
+                () -> assertEquals(VariableName.x, constant.add(p).getVariable()),
+                () -> assertEquals(p, p.multiply(constant)),
+                () -> assertThrows(IllegalArgumentException.class, () -> p.add(
+                        new DenseUnivariatePolynomial(VariableName.y, RationalNumber.zero, RationalNumber.one)))
+        );
+    }
+
+    @Test
+    @DisplayName("Multiply")
+    void testMultiply() {
+        Random random = new Random(7);
+        // Small and large coefficients, balanced and unbalanced lengths around the thresholds.
+        int[][] shapes = { { 5, 9, 8 }, { 40, 40, 20 }, { 100, 37, 70 }, { 300, 300, 12 }, { 700, 260, 40 },
+                { 257, 1000, 150 } };
+        for (int[] shape : shapes) {
+            DenseUnivariatePolynomial p = randomPolynomial(random, shape[0], shape[2]);
+            DenseUnivariatePolynomial q = randomPolynomial(random, shape[1], shape[2]);
+            // The fork-join product with a threshold of one always multiplies term by term.
+            Polynomial expected = p.toPolynomial().multiplyParallel(q.toPolynomial(), 1);
+            assertAll(
+                    () -> assertEquals(expected, p.multiplySchoolbook(q).toPolynomial()),
+                    () -> assertEquals(expected, p.multiplyKaratsuba(q).toPolynomial()),
+                    () -> assertEquals(expected, p.multiplyFourier(q).toPolynomial()),
+                    () -> assertEquals(expected, p.multiply(q).toPolynomial()),
+                    () -> assertEquals(expected, p.toPolynomial().multiply(q.toPolynomial()))
+            );
+        }
+        DenseUnivariatePolynomial p = randomPolynomial(random, 10, 10);
+        DenseUnivariatePolynomial zero = new DenseUnivariatePolynomial(VariableName.x);
+        assertAll(
+                () -> assertTrue(p.multiplySchoolbook(zero).isZero()),
+                () -> assertTrue(zero.multiplyKaratsuba(p).isZero()),
+                () -> assertTrue(p.multiplyFourier(zero).isZero())
+        );
+    }
+
+    @Test
+    @DisplayName("Power")
+    void testPow() {
+        Random random = new Random(8);
+        RationalNumber zero = RationalNumber.zero;
+        DenseUnivariatePolynomial sparse = new DenseUnivariatePolynomial(VariableName.x, zero, zero, zero,
+                new RationalNumber(-2, 3), zero, zero, zero, zero, zero, zero, new RationalNumber(5, 4));
+        for (DenseUnivariatePolynomial p : List.of(randomPolynomial(random, 6, 10), randomPolynomial(random, 20, 70),
+                sparse, randomPolynomial(random, 1, 5))) {
+            DenseUnivariatePolynomial expected = new DenseUnivariatePolynomial(VariableName.x, RationalNumber.one);
+            for (int power = 0; power <= 13; ++power) {
+                int n = power;
+                DenseUnivariatePolynomial e = expected;
+                assertAll(
+                        () -> assertEquals(e, p.powRecurrence(n)),
+                        () -> assertEquals(e, p.powSquaring(n)),
+                        () -> assertEquals(e, p.pow(n)));
+                expected = expected.multiplySchoolbook(p);
+            }
+        }
+
+        // (1 + x)^n has the binomial coefficients.
+        DenseUnivariatePolynomial binomial = new DenseUnivariatePolynomial(VariableName.x, RationalNumber.one,
+                RationalNumber.one).pow(100);
+        BigInteger coefficient = BigInteger.ONE;
+        for (int k = 0; k <= 100; ++k) {
+            assertEquals(new RationalNumber(coefficient, BigInteger.ONE), binomial.getCoefficient(k));
+            coefficient = coefficient.multiply(BigInteger.valueOf(100 - k)).divide(BigInteger.valueOf(k + 1));
+        }
+
+        DenseUnivariatePolynomial empty = new DenseUnivariatePolynomial(VariableName.x);
+        assertAll(
+                () -> assertEquals(100, binomial.getDegree()),
+                () -> assertTrue(empty.powRecurrence(3).isZero()),
+                () -> assertEquals(new DenseUnivariatePolynomial(VariableName.x, RationalNumber.one), empty.pow(0)),
+                () -> assertThrows(PolynomialNegativePowerException.class, () -> sparse.pow(-1)),
+                () -> assertThrows(ArithmeticException.class, () -> sparse.powSquaring(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Equals")
+    void testEquals() {
+        DenseUnivariatePolynomial p = randomPolynomial(new Random(1), 10, 10);
+        DenseUnivariatePolynomial copy = DenseUnivariatePolynomial.of(p.toPolynomial(), VariableName.x);
+        RationalNumber one = RationalNumber.one;
+        assertAll(
+                () -> assertEquals(p, copy),
+                () -> assertEquals(p.hashCode(), copy.hashCode()),
+                () -> assertNotEquals(p, DenseUnivariatePolynomial.of(p.toPolynomial().negate(), VariableName.x)),
+                () -> assertEquals(new DenseUnivariatePolynomial(VariableName.x, one),
+                        new DenseUnivariatePolynomial(VariableName.y, one)),
+                () -> assertNotEquals(new DenseUnivariatePolynomial(VariableName.x, one, one),
+                        new DenseUnivariatePolynomial(VariableName.y, one, one))
+        );
+    }
+
+    // Random polynomial in x with the given number of coefficients, each with up to the given number of bits.
+    private static DenseUnivariatePolynomial randomPolynomial(Random random, int length, int bits) {
+        RationalNumber[] coefficients = new RationalNumber[length];
+        for (int i = 0; i < length; ++i) {
+            BigInteger numerator = new BigInteger(bits, random);
+            if (random.nextBoolean()) {
+                numerator = numerator.negate();
+            }
+            BigInteger denominator = BigInteger.valueOf(random.nextInt(6) + 1);
+            coefficients[i] = new RationalNumber(numerator, denominator);
+        }
+        coefficients[length - 1] = RationalNumber.one;
+        return new DenseUnivariatePolynomial(VariableName.x, coefficients);
+    }
+}
@@ -0,0 +1,167 @@
+package polynomial;
+
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroebnerBasisTest {
+    private static final VariableName[] VARIABLES = VariableName.values();
+
+    @Test
+    @DisplayName("S-polynomial")
+    void testSPolynomial() {
+        // f = x^3y^2 - x^2y^3 + x, g = 3x^4y + y^2 in grlex; S(f, g) = -x^3y^3 + x^2 - (1/3)y^3.
+        Polynomial f = new Polynomial(xy(1, 1, 3, 2), xy(-1, 1, 2, 3), xy(1, 1, 1, 0));
+        Polynomial g = new Polynomial(xy(3, 1, 4, 1), xy(1, 1, 0, 2));
+        Polynomial expected = new Polynomial(xy(-1, 1, 3, 3), xy(1, 1, 2, 0), xy(-1, 3, 0, 3));
+        assertEquals(expected, GroebnerBasis.sPolynomial(f, g));
+        assertThrows(IllegalArgumentException.class, () -> GroebnerBasis.sPolynomial(f, new Polynomial()));
+    }
+
+    @Test
+    @DisplayName("Lex basis")
+    void testLex() {
+        // <x^2 + y^2 - 1, x - y> has the lex basis { x - y, y^2 - 1/2 }.
+        Polynomial x = variable(VariableName.x);
+        Polynomial y = variable(VariableName.y);
+        Polynomial circle = new Polynomial(xy(1, 1, 2, 0), xy(1, 1, 0, 2), xy(-1, 1, 0, 0));
+        GroebnerBasis basis = GroebnerBasis.compute(List.of(circle, x.subtract(y)), MonomialOrder.lex);
+        assertEquals(List.of(x.subtract(y), y.multiply(y).subtract(constant(1, 2))), basis.getPolynomials());
+        assertEquals(MonomialOrder.lex, basis.getOrder());
+        assertTrue(basis.contains(x.multiply(x).subtract(constant(1, 2))));
+        assertFalse(basis.contains(x));
+        assertEquals(MonomialOrder.lex, basis.getPolynomials().get(0).getOrder());
+    }
+
+    @Test
+    @DisplayName("Unit ideal")
+    void testUnitIdeal() {
+        // x y - 1 and x have no common root.
+        Polynomial x = variable(VariableName.x);
+        Polynomial y = variable(VariableName.y);
+        GroebnerBasis basis = GroebnerBasis.compute(
+                List.of(x.multiply(y).subtract(constant(1, 1)), x, new Polynomial()), MonomialOrder.grevlex);
+        assertEquals(List.of(constant(1, 1)), basis.getPolynomials());
+        assertTrue(basis.contains(y.add(constant(7, 3))));
+    }
+
+    @Test
+    @DisplayName("Cyclic-4")
+    void testCyclic4() {
+        List<Polynomial> generators = cyclic(4);
+        GroebnerBasis sugar = GroebnerBasis.compute(generators, MonomialOrder.grevlex);
+        GroebnerBasis normal = GroebnerBasis.compute(generators, MonomialOrder.grevlex,
+                GroebnerBasis.SelectionStrategy.normal);
+        assertIsReducedBasisOf(sugar, generators);
+        assertEquals(sugar.getPolynomials(), normal.getPolynomials());
+    }
+
+    @Test
+    @DisplayName("Katsura-3")
+    void testKatsura3() {
+        List<Polynomial> generators = katsura(3);
+        GroebnerBasis grevlex = GroebnerBasis.compute(generators, MonomialOrder.grevlex);
+        assertIsReducedBasisOf(grevlex, generators);
+        GroebnerBasis lex = GroebnerBasis.compute(generators, MonomialOrder.lex);
+        assertIsReducedBasisOf(lex, generators);
+
+        // Both bases generate the same ideal.
+        for (Polynomial g : lex.getPolynomials()) {
+            assertTrue(grevlex.contains(g));
+        }
+        for (Polynomial g : grevlex.getPolynomials()) {
+            assertTrue(lex.contains(g));
+        }
+    }
+
+    private static void assertIsReducedBasisOf(GroebnerBasis basis, List<Polynomial> generators) {
+        List<Polynomial> polynomials = basis.getPolynomials();
+        for (Polynomial generator : generators) {
+            assertTrue(basis.contains(generator));
+        }
+        for (int i = 0; i < polynomials.size(); ++i) {
+            Polynomial g = polynomials.get(i);
+            assertEquals(RationalNumber.one, g.getLeadingTerm().getCoefficient());
+            for (int j = 0; j < polynomials.size(); ++j) {
+                if (i == j) {
+                    continue;
+                }
+                Monomial leading = polynomials.get(j).getLeadingTerm().getMonomial();
+                for (Term term : g.getTerms()) {
+                    assertFalse(leading.divides(term.getMonomial()));
+                }
+                if (j > i) {
+                    assertTrue(basis.reduce(GroebnerBasis.sPolynomial(g, polynomials.get(j))).isZero());
+                }
+            }
+        }
+    }
+
+    /**
+     * The cyclic-n system in the variables a, b, ...: the elementary symmetric-like cyclic sums of degree 1 to n - 1,
+     * and the product of all variables minus 1.
+     */
+    static List<Polynomial> cyclic(int n) {
+        List<Polynomial> result = new ArrayList<>();
+        for (int d = 1; d < n; ++d) {
+            Polynomial sum = new Polynomial();
+            for (int i = 0; i < n; ++i) {
+                Polynomial product = constant(1, 1);
+                for (int k = 0; k < d; ++k) {
+                    product = product.multiply(variable(VARIABLES[(i + k) % n]));
+                }
+                sum = sum.add(product);
+            }
+            result.add(sum);
+        }
+        Polynomial product = constant(1, 1);
+        for (int i = 0; i < n; ++i) {
+            product = product.multiply(variable(VARIABLES[i]));
+        }
+        result.add(product.subtract(constant(1, 1)));
+        return result;
+    }
+
+    /**
+     * The katsura-n system in the n + 1 variables u_0 = a, u_1 = b, ...
+     */
+    static List<Polynomial> katsura(int n) {
+        List<Polynomial> result = new ArrayList<>();
+        Polynomial linear = variable(VARIABLES[0]).subtract(constant(1, 1));
+        for (int i = 1; i <= n; ++i) {
+            linear = linear.add(variable(VARIABLES[i]).multiply(constant(2, 1)));
+        }
+        result.add(linear);
+        for (int m = 0; m < n; ++m) {
+            Polynomial sum = variable(VARIABLES[m]).negate();
+            for (int l = -n; l <= n; ++l) {
+                if (Math.abs(m - l) <= n) {
+                    sum = sum.add(variable(VARIABLES[Math.abs(l)]).multiply(variable(VARIABLES[Math.abs(m - l)])));
+                }
+            }
+            result.add(sum);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the term (numerator/denominator) x^i y^j.
+     */
+    private static Term xy(int numerator, int denominator, int i, int j) {
+        return new Term(new RationalNumber(numerator, denominator),
+                new Monomial(VariableName.x, i).multiply(new Monomial(VariableName.y, j)));
+    }
+
+    private static Polynomial variable(VariableName name) {
+        return new Polynomial(new Term(RationalNumber.one, name, 1));
+    }
+
+    private static Polynomial constant(int numerator, int denominator) {
+        return new Polynomial(new Term(new RationalNumber(numerator, denominator)));
+    }
+}
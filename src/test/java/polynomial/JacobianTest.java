@@ -0,0 +1,112 @@
+package polynomial;
+
+import exceptions.EvaluatorMissingVariable;
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacobianTest {
+    private static final Variable x = Variable.of(VariableName.x);
+    private static final Variable y = Variable.of(VariableName.y);
+    private static final Variable z = Variable.of(VariableName.z);
+
+    @Test
+    @DisplayName("Jacobian")
+    void testJacobian() {
+        List<Polynomial> system = List.of(PolynomialParser.parse("x^2 + y^2 - 1"), PolynomialParser.parse("x - y"));
+        Jacobian jacobian = Jacobian.of(system);
+        Jacobian reversed = Jacobian.of(system, List.of(y, x));
+        assertAll(
+                () -> assertEquals(2, jacobian.getRowCount()),
+                () -> assertEquals(2, jacobian.getColumnCount()),
+                () -> assertEquals(List.of(x, y), jacobian.getVariables()),
+                () -> assertEquals(List.of(PolynomialParser.parse("2x"), PolynomialParser.parse("2y")),
+                        jacobian.getRow(0)),
+                () -> assertEquals(PolynomialParser.parse("1"), jacobian.get(1, 0)),
+                () -> assertEquals(PolynomialParser.parse("-1"), jacobian.get(1, 1)),
+                () -> assertEquals(jacobian.get(0, 0), reversed.get(0, 1)),
+                () -> assertEquals("[[2x, 2y], [1, -1]]", jacobian.toString()),
+                () -> assertEquals(new Polynomial(), Jacobian.of(system, List.of(z)).get(0, 0))
+        );
+    }
+
+    @Test
+    @DisplayName("Hessian")
+    void testHessian() {
+        Jacobian hessian = Jacobian.hessian(PolynomialParser.parse("x^3y + y^2 + z"), List.of(x, y));
+        assertAll(
+                () -> assertEquals(PolynomialParser.parse("6xy"), hessian.get(0, 0)),
+                () -> assertEquals(PolynomialParser.parse("3x^2"), hessian.get(0, 1)),
+                () -> assertSame(hessian.get(0, 1), hessian.get(1, 0)),
+                () -> assertEquals(PolynomialParser.parse("2"), hessian.get(1, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluate")
+    void testEvaluate() {
+        JacobianEvaluator evaluator = Jacobian.of(List.of(PolynomialParser.parse("x^2 + y^2 - 1"),
+                PolynomialParser.parse("x - y"))).compile();
+        RationalNumber[] point = { new RationalNumber(3, 5), new RationalNumber(4, 5) };
+        RationalNumber[][] expected = {
+                { new RationalNumber(6, 5), new RationalNumber(8, 5) },
+                { RationalNumber.one, new RationalNumber(-1, 1) } };
+        assertAll(
+                () -> assertEquals(List.of(x, y), evaluator.getSlots()),
+                () -> assertArrayEquals(expected, evaluator.evaluate(point)),
+                () -> assertArrayEquals(new double[] { 1.2, 1.6 }, evaluator.evaluate(new double[] { 0.6, 0.8 })[0],
+                        1e-12),
+                () -> assertThrows(EvaluatorMissingVariable.class, () -> evaluator.evaluate(new double[1]))
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluate random systems")
+    void testEvaluateRandom() {
+        Random random = new Random(25);
+        List<Polynomial> system = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            system.add(randomPolynomial(random, 12));
+        }
+        // The Jacobian with respect to x and y only, so z is a parameter.
+        Jacobian jacobian = Jacobian.of(system, List.of(x, y));
+        JacobianEvaluator evaluator = jacobian.compile();
+        RationalNumber[] point = { new RationalNumber(2, 3), new RationalNumber(-3, 2), new RationalNumber(5, 7) };
+        Map<VariableName, RationalNumber> values = new HashMap<>();
+        for (int slot = 0; slot < point.length; ++slot) {
+            values.put(evaluator.getSlots().get(slot).toVariableName(), point[slot]);
+        }
+        RationalNumber[][] result = evaluator.evaluate(point);
+        RationalNumber[][] parallel = evaluator.evaluate(point, true);
+        double[][] approximate = evaluator.evaluate(new double[] { 2.0 / 3, -1.5, 5.0 / 7 }, true);
+        for (int row = 0; row < jacobian.getRowCount(); ++row) {
+            for (int column = 0; column < jacobian.getColumnCount(); ++column) {
+                RationalNumber expected = jacobian.get(row, column).substitute(values).getCoefficient(Monomial.one);
+                assertEquals(expected, result[row][column]);
+                assertEquals(expected, parallel[row][column]);
+                assertEquals(expected.doubleValue(), approximate[row][column],
+                        1e-9 * Math.max(1.0, Math.abs(expected.doubleValue())));
+            }
+        }
+    }
+
+    // Helper method for creating a polynomial in x, y, z with small random exponents and coefficients.
+    private Polynomial randomPolynomial(Random random, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.x, random.nextInt(5))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(5)))
+                    .multiply(new Monomial(VariableName.z, random.nextInt(5)));
+            terms[i] = new Term(new RationalNumber(random.nextInt(19) - 9, random.nextInt(4) + 1), m);
+        }
+        return new Polynomial(terms);
+    }
+}
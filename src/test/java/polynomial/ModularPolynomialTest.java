@@ -0,0 +1,179 @@
+package polynomial;
+
+import exceptions.PrimeFieldDivideByZeroException;
+import exceptions.PrimeFieldTooSmallException;
+import number.PrimeField;
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModularPolynomialTest {
+    private static final PrimeField field = new PrimeField(101);
+
+    @Test
+    @DisplayName("Initialize")
+    void testInitialize() {
+        // (1/2)x^2 - 3y + 7 over GF(101): 1/2 = 51, -3 = 98.
+        Polynomial p = new Polynomial(
+                new Term(new RationalNumber(1, 2), VariableName.x, 2),
+                new Term(new RationalNumber(-3, 1), VariableName.y, 1),
+                new Term(new RationalNumber(7, 1)));
+        ModularPolynomial m = ModularPolynomial.of(p, field);
+        assertEquals("51x^2 + 98y + 7", m.toString());
+        assertEquals(3, m.getTermCount());
+        assertEquals(new Monomial(VariableName.x, 2), m.getLeadingMonomial());
+        assertEquals(51, m.getLeadingCoefficient());
+        assertEquals(98, m.getCoefficient(new Monomial(VariableName.y, 1)));
+        assertEquals(0, m.getCoefficient(new Monomial(VariableName.z, 1)));
+        assertEquals(2, m.getDegree());
+        assertEquals(field, m.getField());
+
+        // Symmetric representatives: 51 = -50, 98 = -3.
+        assertEquals(new Polynomial(
+                new Term(new RationalNumber(-50, 1), VariableName.x, 2),
+                new Term(new RationalNumber(-3, 1), VariableName.y, 1),
+                new Term(new RationalNumber(7, 1))), m.toPolynomial());
+
+        assertTrue(ModularPolynomial.of(new Polynomial(new Term(new RationalNumber(202, 1))), field).isZero());
+        assertEquals("0", ModularPolynomial.zero(field, MonomialOrder.grlex).toString());
+        assertThrows(PrimeFieldDivideByZeroException.class,
+                () -> ModularPolynomial.of(new Polynomial(new Term(new RationalNumber(1, 101))), field));
+    }
+
+    @Test
+    @DisplayName("Arithmetic matches rational arithmetic")
+    void testArithmetic() {
+        Random random = new Random(17);
+        for (int i = 0; i < 20; ++i) {
+            Polynomial p = randomPolynomial(random, 15);
+            Polynomial q = randomPolynomial(random, 10);
+            ModularPolynomial mp = ModularPolynomial.of(p, field);
+            ModularPolynomial mq = ModularPolynomial.of(q, field);
+            assertEquals(ModularPolynomial.of(p.add(q), field), mp.add(mq));
+            assertEquals(ModularPolynomial.of(p.subtract(q), field), mp.subtract(mq));
+            assertEquals(ModularPolynomial.of(p.negate(), field), mp.negate());
+            assertEquals(ModularPolynomial.of(p.multiply(q), field), mp.multiply(mq));
+            assertTrue(mp.subtract(mp).isZero());
+            if (!mp.isZero()) {
+                assertEquals(1, mp.monic().getLeadingCoefficient());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Order and equality")
+    void testOrder() {
+        Polynomial p = randomPolynomial(new Random(3), 20);
+        ModularPolynomial grlex = ModularPolynomial.of(p, field);
+        ModularPolynomial lex = grlex.withOrder(MonomialOrder.lex);
+        assertEquals(MonomialOrder.lex, lex.getOrder());
+        assertEquals(grlex, lex);
+        assertEquals(grlex.hashCode(), lex.hashCode());
+        assertEquals(ModularPolynomial.of(p.withOrder(MonomialOrder.lex), field).getMonomials(), lex.getMonomials());
+        assertNotEquals(grlex, ModularPolynomial.of(p, new PrimeField(103)));
+        assertThrows(IllegalArgumentException.class, () -> grlex.add(ModularPolynomial.of(p, new PrimeField(103))));
+    }
+
+    @Test
+    @DisplayName("Reduce")
+    void testReduce() {
+        Random random = new Random(5);
+        Polynomial f = randomPolynomial(random, 30);
+        Polynomial g1 = randomPolynomial(random, 4);
+        Polynomial g2 = randomPolynomial(random, 3);
+        ModularPolynomial remainder = ModularPolynomial.of(f, field).reduce(
+                List.of(ModularPolynomial.of(g1, field), ModularPolynomial.of(g2, field)));
+        List<Monomial> leading = List.of(
+                ModularPolynomial.of(g1, field).getLeadingMonomial(),
+                ModularPolynomial.of(g2, field).getLeadingMonomial());
+        for (Monomial monomial : remainder.getMonomials()) {
+            for (Monomial lead : leading) {
+                assertFalse(lead.divides(monomial));
+            }
+        }
+        // f - remainder lies in the ideal, so it reduces to zero modulo a Gröbner basis of (g1, g2).
+        List<ModularPolynomial> basis = GroebnerBasis.computeModular(
+                List.of(ModularPolynomial.of(g1, field), ModularPolynomial.of(g2, field)), MonomialOrder.grlex,
+                GroebnerBasis.SelectionStrategy.sugar);
+        assertTrue(ModularPolynomial.of(f, field).subtract(remainder).reduce(basis).isZero());
+    }
+
+    @Test
+    @DisplayName("Greatest common divisor")
+    void testGcd() {
+        Random random = new Random(9);
+        ModularPolynomial one = ModularPolynomial.constant(field, MonomialOrder.grlex, 1);
+        for (int i = 0; i < 5; ++i) {
+            ModularPolynomial common = ModularPolynomial.of(randomPolynomial(random, 5), field);
+            ModularPolynomial a = common.multiply(ModularPolynomial.of(randomPolynomial(random, 4), field));
+            ModularPolynomial b = common.multiply(ModularPolynomial.of(randomPolynomial(random, 4), field));
+            ModularPolynomial gcd = a.gcd(b);
+            assertEquals(1, gcd.getLeadingCoefficient());
+            assertTrue(gcd.reduce(List.of(common)).isZero());
+            assertTrue(a.reduce(List.of(gcd)).isZero());
+            assertTrue(b.reduce(List.of(gcd)).isZero());
+            assertTrue(a.isDivisibleBy(gcd));
+            ModularPolynomial notMultiple = a.add(one);
+            assertEquals(notMultiple.reduce(List.of(gcd)).isZero(), notMultiple.isDivisibleBy(gcd));
+            assertEquals(gcd, b.gcd(a));
+        }
+        ModularPolynomial p = ModularPolynomial.of(randomPolynomial(random, 5), field);
+        assertEquals(p.monic(), p.gcd(ModularPolynomial.zero(field, MonomialOrder.grlex)));
+        assertEquals(one, p.gcd(ModularPolynomial.constant(field, MonomialOrder.grlex, 3)));
+        assertThrows(IllegalArgumentException.class, () -> p.gcd(ModularPolynomial.of(
+                randomPolynomial(random, 2), new PrimeField(103))));
+    }
+
+    @Test
+    @DisplayName("GCD over small fields")
+    void testGcdSmallField() {
+        Polynomial common = PolynomialParser.parse("xy + 1");
+        Polynomial a = common.multiply(PolynomialParser.parse("x + y"));
+        Polynomial b = common.multiply(PolynomialParser.parse("xy^2 + x + 1"));
+        for (long p : new long[] { 2, 3, 5 }) {
+            PrimeField small = new PrimeField(p);
+            // Too few points to interpolate: the search ends with an exception rather than repeating points.
+            assertThrows(PrimeFieldTooSmallException.class,
+                    () -> ModularPolynomial.of(a, small).gcd(ModularPolynomial.of(b, small)));
+        }
+        for (long p : new long[] { 7, 11, 2147483647 }) {
+            PrimeField small = new PrimeField(p);
+            assertEquals(ModularPolynomial.of(common, small),
+                    ModularPolynomial.of(a, small).gcd(ModularPolynomial.of(b, small)));
+        }
+    }
+
+    @Test
+    @DisplayName("Gröbner basis modulo a prime")
+    void testGroebnerBasis() {
+        // The reduced basis of cyclic-4 has small integer coefficients, so its image is the modular basis.
+        List<Polynomial> generators = GroebnerBasisTest.cyclic(4);
+        List<ModularPolynomial> images = new ArrayList<>();
+        for (Polynomial generator : generators) {
+            images.add(ModularPolynomial.of(generator, field));
+        }
+        List<ModularPolynomial> expected = new ArrayList<>();
+        for (Polynomial g : GroebnerBasis.compute(generators, MonomialOrder.grevlex).getPolynomials()) {
+            expected.add(ModularPolynomial.of(g, field));
+        }
+        assertEquals(expected, GroebnerBasis.computeModular(images, MonomialOrder.grevlex,
+                GroebnerBasis.SelectionStrategy.normal));
+    }
+
+    private static Polynomial randomPolynomial(Random random, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.x, random.nextInt(4))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(4)))
+                    .multiply(new Monomial(VariableName.z, random.nextInt(3)));
+            terms[i] = new Term(new RationalNumber(random.nextInt(401) - 200, random.nextInt(5) + 1), m);
+        }
+        return new Polynomial(terms);
+    }
+}
@@ -0,0 +1,218 @@
+package polynomial;
+
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonomialOrderTest {
+    @Test
+    @DisplayName("Lex")
+    void testLex() {
+        MonomialOrder order = MonomialOrder.lex;
+        assertEquals(1, order.compare(monomial(1, 0, 0), monomial(0, 5, 5)));
+        assertEquals(1, order.compare(monomial(1, 2, 0), monomial(1, 1, 7)));
+        assertEquals(1, order.compare(monomial(0, 0, 1), Monomial.one));
+        assertEquals(0, order.compare(monomial(2, 1, 0), monomial(2, 1, 0)));
+    }
+
+    @Test
+    @DisplayName("Grlex")
+    void testGrlex() {
+        MonomialOrder order = MonomialOrder.grlex;
+        assertEquals(-1, order.compare(monomial(1, 0, 0), monomial(0, 1, 1)));
+        assertEquals(1, order.compare(monomial(1, 1, 1), monomial(0, 1, 2)));
+        assertEquals(1, order.compare(monomial(1, 0, 2), monomial(0, 3, 0)));
+    }
+
+    @Test
+    @DisplayName("Grevlex")
+    void testGrevlex() {
+        MonomialOrder order = MonomialOrder.grevlex;
+        assertEquals(-1, order.compare(monomial(1, 0, 0), monomial(0, 1, 1)));
+        // Same degree: the right-most differing exponent decides, smaller being greater.
+        assertEquals(1, order.compare(monomial(1, 2, 0), monomial(2, 0, 1)));
+        assertEquals(-1, order.compare(monomial(1, 0, 2), monomial(0, 3, 0)));
+        assertEquals(1, order.compare(monomial(1, 1, 1), monomial(0, 1, 2)));
+    }
+
+    @Test
+    @DisplayName("Weighted")
+    void testWeighted() {
+        Map<VariableName, Integer> weights = new HashMap<>();
+        weights.put(VariableName.x, 1);
+        weights.put(VariableName.y, 3);
+        MonomialOrder order = MonomialOrder.weighted(weights);
+        assertEquals(-1, order.compare(monomial(2, 0, 0), monomial(0, 1, 0)));
+        // z has weight zero, so the weighted degree ties and grevlex decides.
+        assertEquals(1, order.compare(monomial(3, 0, 0), monomial(0, 1, 1)));
+        // The name does not depend on the map's iteration order or on explicit zero weights.
+        assertEquals("weighted{x=1, y=3}", order.toString());
+        assertEquals(order.toString(),
+                MonomialOrder.weighted(Map.of(VariableName.z, 0, VariableName.y, 3, VariableName.x, 1)).toString());
+
+        weights.put(VariableName.z, -1);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> MonomialOrder.weighted(weights)
+        );
+    }
+
+    @Test
+    @DisplayName("Weighted - variables beyond VariableName")
+    void testWeightedVariables() {
+        Variable k5 = Variable.of(VariableName.k, 5);
+        Variable x = Variable.of(VariableName.x);
+        MonomialOrder order = MonomialOrder.weighted(List.of(k5, x), new int[] { 2, 1 });
+        assertAll(
+                () -> assertEquals(1, order.compare(new Monomial(k5, 1), new Monomial(x, 1))),
+                () -> assertEquals(-1, order.compare(new Monomial(k5, 1), new Monomial(x, 3))),
+                // k_5 and x^2 have the same weighted degree, so grevlex decides.
+                () -> assertEquals(MonomialOrder.grevlex.compare(new Monomial(k5, 1), new Monomial(x, 2)),
+                        order.compare(new Monomial(k5, 1), new Monomial(x, 2))),
+                () -> assertEquals("weighted{x=1, k_5=2}", order.toString()),
+                () -> assertEquals(MonomialOrder.weighted(Map.of(VariableName.x, 1)).toString(),
+                        MonomialOrder.weighted(List.of(x, k5), new int[] { 1, 0 }).toString()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MonomialOrder.weighted(List.of(k5, x), new int[] { 2 })),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MonomialOrder.weighted(List.of(k5, k5), new int[] { 2, 1 })),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MonomialOrder.weighted(List.of(k5, x), new int[] { -2, 1 }))
+        );
+    }
+
+    @Test
+    @DisplayName("Sort keys agree with comparison")
+    void testSortKeys() {
+        Map<VariableName, Integer> weights = new HashMap<>();
+        weights.put(VariableName.a, 2);
+        weights.put(VariableName.y, 1);
+        List<MonomialOrder> orders = List.of(MonomialOrder.lex, MonomialOrder.grlex, MonomialOrder.grevlex,
+                MonomialOrder.weighted(weights));
+
+        int[] all = new int[26];
+        Arrays.setAll(all, i -> i);
+
+        Random random = new Random(8);
+        List<Monomial> monomials = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            Monomial m = new Monomial(VariableName.a, random.nextInt(3))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(3)))
+                    .multiply(new Monomial(VariableName.values()[random.nextInt(26)], random.nextInt(3)));
+            monomials.add(m);
+        }
+
+        for (MonomialOrder order : orders) {
+            for (Monomial m1 : monomials.subList(0, 40)) {
+                for (Monomial m2 : monomials) {
+                    int expected = Integer.signum(order.compare(m1, m2));
+                    int actual = Integer.signum(Arrays.compare(order.sortKey(m1, all), order.sortKey(m2, all)));
+                    assertEquals(expected, actual, order + ": " + m1 + " vs " + m2);
+                    assertEquals(-expected, Integer.signum(order.compare(m2, m1)));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Variables beyond VariableName")
+    void testVariables() {
+        List<Variable> variables = new ArrayList<>(Variable.range(VariableName.k, 1, 100));
+        variables.add(Variable.of(VariableName.b));
+        variables.sort(null);
+        List<MonomialOrder> orders = List.of(MonomialOrder.lex, MonomialOrder.grlex, MonomialOrder.grevlex,
+                MonomialOrder.weighted(Map.of(VariableName.b, 3)));
+
+        Random random = new Random(21);
+        // Few variables are sorted by keys, many by comparison.
+        for (int count : new int[] { 10, variables.size() }) {
+            Term[] terms = new Term[300];
+            for (int i = 0; i < terms.length; ++i) {
+                Monomial m = Monomial.one;
+                for (int k = random.nextInt(4); k > 0; --k) {
+                    m = m.multiply(new Monomial(variables.get(random.nextInt(count)), 1 + random.nextInt(3)));
+                }
+                terms[i] = new Term(RationalNumber.of(i + 1), m);
+            }
+
+            for (MonomialOrder order : orders) {
+                Term[] sorted = terms.clone();
+                order.sortDescending(sorted);
+                for (int i = 1; i < sorted.length; ++i) {
+                    assertTrue(order.compare(sorted[i - 1].getMonomial(), sorted[i].getMonomial()) >= 0, order + "");
+                }
+            }
+            for (Term t1 : Arrays.asList(terms).subList(0, 40)) {
+                for (Term t2 : terms) {
+                    int[] e1 = exponents(t1.getMonomial(), variables);
+                    int[] e2 = exponents(t2.getMonomial(), variables);
+                    int degree = Integer.compare(t1.getMonomial().getDegree(), t2.getMonomial().getDegree());
+                    // Lex: the left-most nonzero entry of e1 - e2 is positive. Grevlex: the right-most is negative.
+                    int lex = 0;
+                    int reverse = 0;
+                    for (int i = 0; i < e1.length; ++i) {
+                        if (e1[i] != e2[i]) {
+                            lex = lex != 0 ? lex : Integer.compare(e1[i], e2[i]);
+                            reverse = Integer.compare(e2[i], e1[i]);
+                        }
+                    }
+                    int expectedLex = lex;
+                    int expectedGrevlex = degree != 0 ? degree : reverse;
+                    assertAll(
+                            () -> assertEquals(expectedLex, MonomialOrder.lex.compare(t1.getMonomial(),
+                                    t2.getMonomial())),
+                            () -> assertEquals(expectedGrevlex, MonomialOrder.grevlex.compare(t1.getMonomial(),
+                                    t2.getMonomial())));
+                }
+            }
+        }
+    }
+
+    private static int[] exponents(Monomial m, List<Variable> variables) {
+        int[] result = new int[variables.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = m.getExponent(variables.get(i));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Polynomial order")
+    void testPolynomialOrder() {
+        // x^2 + y^3 + xz: grlex lists y^3 first, lex lists x^2 first.
+        Polynomial p = new Polynomial(
+                new Term(RationalNumber.one, monomial(2, 0, 0)),
+                new Term(RationalNumber.one, monomial(0, 3, 0)),
+                new Term(RationalNumber.one, monomial(1, 0, 1)));
+        assertEquals(MonomialOrder.grlex, p.getOrder());
+        assertEquals("1y^3 + 1x^2 + 1xz", p.toString());
+        assertEquals(monomial(0, 3, 0), p.getLeadingTerm().getMonomial());
+
+        Polynomial q = p.withOrder(MonomialOrder.lex);
+        assertEquals(monomial(2, 0, 0), q.getLeadingTerm().getMonomial());
+        assertEquals("1x^2 + 1xz + 1y^3", q.toString());
+        assertEquals(p, q);
+        assertEquals(MonomialOrder.lex, q.add(p).getOrder());
+        assertEquals(MonomialOrder.lex, q.multiply(p).getOrder());
+        assertEquals(MonomialOrder.lex, q.multiply(new Polynomial()).getOrder());
+        assertNull(new Polynomial().getLeadingTerm());
+    }
+
+    // Helper method for creating x^i y^j z^k.
+    private Monomial monomial(int i, int j, int k) {
+        Map<VariableName, Integer> mapVarPower = new HashMap<>();
+        mapVarPower.put(VariableName.x, i);
+        mapVarPower.put(VariableName.y, j);
+        mapVarPower.put(VariableName.z, k);
+        return new Monomial(mapVarPower);
+    }
+}
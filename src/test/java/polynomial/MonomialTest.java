@@ -0,0 +1,217 @@
+package polynomial;
+
+import exceptions.MonomialNegativeExponentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonomialTest {
+    @Test
+    @DisplayName("Initialize")
+    void testInitialize() {
+        Monomial m0 = new Monomial();
+        assertEquals("", m0.toString());
+        assertTrue(m0.isOne());
+        assertEquals(0, m0.getDegree());
+
+        Monomial m1 = new Monomial(VariableName.x, 2);
+        assertEquals("x^2", m1.toString());
+        assertEquals(2, m1.getDegree());
+        assertEquals(2, m1.getExponent(VariableName.x));
+        assertEquals(0, m1.getExponent(VariableName.z));
+
+        Monomial m2 = monomial(1, 2, 3);
+        assertEquals("xy^2z^3", m2.toString());
+        assertEquals(6, m2.getDegree());
+        assertEquals(3, m2.getVariableSet().size());
+
+        assertEquals(Monomial.one, new Monomial(VariableName.a, 0));
+        assertThrows(
+                MonomialNegativeExponentException.class,
+                () -> new Monomial(VariableName.a, -1)
+        );
+    }
+
+    @Test
+    @DisplayName("Equals and hash code")
+    void testEquals() {
+        Map<VariableName, Integer> mapVarPower = new HashMap<>();
+        mapVarPower.put(VariableName.x, 1);
+        mapVarPower.put(VariableName.z, 0);
+        Monomial m1 = new Monomial(mapVarPower);
+        Monomial m2 = new Monomial(VariableName.x, 1);
+        assertEquals(m1, m2);
+        assertEquals(m1.hashCode(), m2.hashCode());
+        assertNotEquals(m1, new Monomial(VariableName.x, 2));
+        assertNotEquals(m1, null);
+    }
+
+    @Test
+    @DisplayName("Multiply and divide")
+    void testMultiplyDivide() {
+        Monomial m1 = monomial(1, 2, 0);
+        Monomial m2 = monomial(0, 1, 3);
+        Monomial product = m1.multiply(m2);
+        assertEquals(monomial(1, 3, 3), product);
+        assertEquals(7, product.getDegree());
+
+        assertEquals(m1, product.divide(m2));
+        assertEquals(m2, product.divide(m1));
+        assertEquals(Monomial.one, product.divide(product));
+        assertEquals(m1, m1.multiply(Monomial.one));
+
+        assertTrue(m1.divides(product));
+        assertFalse(product.divides(m1));
+        assertFalse(m1.divides(m2));
+        assertThrows(
+                MonomialNegativeExponentException.class,
+                () -> m1.divide(m2)
+        );
+
+        assertEquals(monomial(3, 6, 0), m1.pow(3));
+        assertEquals(9, m1.pow(3).getDegree());
+        assertEquals(m1.multiply(m1), m1.pow(2));
+        assertEquals(Monomial.one, m1.pow(0));
+        assertEquals(Monomial.one, Monomial.one.pow(5));
+        assertThrows(MonomialNegativeExponentException.class, () -> m1.pow(-1));
+        assertThrows(ArithmeticException.class, () -> m1.pow(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Least common multiple")
+    void testLcm() {
+        Monomial m1 = monomial(1, 2, 0);
+        Monomial m2 = monomial(0, 1, 3);
+        assertEquals(monomial(1, 2, 3), m1.lcm(m2));
+        assertEquals(6, m1.lcm(m2).getDegree());
+        assertEquals(m1, m1.lcm(Monomial.one));
+        assertEquals(m1, m1.lcm(m1));
+
+        assertFalse(m1.isCoprime(m2));
+        assertTrue(monomial(2, 0, 0).isCoprime(m2));
+        assertTrue(m1.isCoprime(Monomial.one));
+    }
+
+    @Test
+    @DisplayName("Compare")
+    void testCompare() {
+        Monomial x = new Monomial(VariableName.x, 1);
+        Monomial y = new Monomial(VariableName.y, 1);
+        assertEquals(0, x.compareTo(new Monomial(VariableName.x, 1)));
+        assertEquals(1, x.compareTo(y));
+        assertEquals(-1, y.compareTo(x));
+
+        // Higher total degree always wins.
+        assertEquals(1, new Monomial(VariableName.z, 3).compareTo(monomial(1, 1, 0)));
+
+        // Equal degrees fall back to the left-most differing exponent.
+        assertEquals(-1, monomial(1, 2, 0).compareTo(monomial(2, 1, 0)));
+        assertEquals(1, monomial(1, 0, 2).compareTo(monomial(0, 3, 0)));
+        assertEquals(1, x.compareTo(Monomial.one));
+    }
+
+    @Test
+    @DisplayName("Variables beyond VariableName")
+    void testVariables() {
+        List<Variable> variables = new ArrayList<>(Variable.range(VariableName.m, 1, 300));
+        variables.add(Variable.of(VariableName.c));
+        variables.add(Variable.of(VariableName.x));
+        Monomial wide = Monomial.of(Map.of(variables.get(298), 1, variables.get(299), 4));
+        assertAll(
+                () -> assertEquals("m_1^2m_3",
+                        Monomial.of(Map.of(variables.get(2), 1, variables.get(0), 2)).toString()),
+                () -> assertEquals(4, wide.getExponent(Variable.of("m_300"))),
+                () -> assertEquals(0, wide.getExponent(VariableName.m)),
+                () -> assertEquals(2, wide.length() - wide.start()),
+                () -> assertTrue(wide.getVariableSet().isEmpty()),
+                () -> assertEquals(new Monomial(Variable.of(VariableName.x), 3), new Monomial(VariableName.x, 3)));
+
+        Random random = new Random(20);
+        List<Map<Variable, Integer>> powers = new ArrayList<>();
+        for (int i = 0; i < 60; ++i) {
+            Map<Variable, Integer> mapVarPower = new HashMap<>();
+            for (int k = random.nextInt(5); k > 0; --k) {
+                mapVarPower.put(variables.get(random.nextInt(variables.size())), 1 + random.nextInt(3));
+            }
+            powers.add(mapVarPower);
+        }
+        for (Map<Variable, Integer> p1 : powers) {
+            for (Map<Variable, Integer> p2 : powers) {
+                Monomial m1 = Monomial.of(p1);
+                Monomial m2 = Monomial.of(p2);
+                Map<Variable, Integer> sum = new HashMap<>(p1);
+                p2.forEach((v, e) -> sum.merge(v, e, Integer::sum));
+                Map<Variable, Integer> max = new HashMap<>(p1);
+                p2.forEach((v, e) -> max.merge(v, e, Math::max));
+                boolean divides = p1.entrySet().stream().allMatch(e -> p2.getOrDefault(e.getKey(), 0) >= e.getValue());
+                boolean coprime = p1.keySet().stream().noneMatch(p2::containsKey);
+
+                Monomial product = m1.multiply(m2);
+                assertAll(
+                        () -> assertEquals(Monomial.of(sum), product),
+                        () -> assertEquals(Monomial.of(sum).hashCode(), product.hashCode()),
+                        () -> assertEquals(m1, product.divide(m2)),
+                        () -> assertEquals(Monomial.of(max), m1.lcm(m2)),
+                        () -> assertEquals(divides, m1.divides(m2)),
+                        () -> assertEquals(coprime, m1.isCoprime(m2)),
+                        () -> assertEquals(grlex(p1, p2), m1.compareTo(m2)),
+                        () -> assertEquals(new TreeSet<>(p1.keySet()), m1.getVariables()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Intern")
+    void testIntern() {
+        Monomial m1 = monomial(2, 0, 3);
+        Monomial m2 = monomial(2, 0, 3);
+        Monomial canonical = m1.intern();
+        assertAll(
+                () -> assertNotSame(m1, m2),
+                () -> assertSame(canonical, m2.intern()),
+                () -> assertSame(canonical, m1.multiply(Monomial.one).intern()),
+                () -> assertNotSame(canonical, monomial(3, 0, 2).intern()),
+                () -> assertSame(Monomial.one, new Monomial().intern()),
+                () -> assertSame(Monomial.one, m1.divide(m2).intern()),
+                () -> assertTrue(Monomial.internedCount() >= 3)
+        );
+    }
+
+    /**
+     * Compares variable-power mappings in grlex, directly from the definition.
+     */
+    private static int grlex(Map<Variable, Integer> p1, Map<Variable, Integer> p2) {
+        int d1 = p1.values().stream().mapToInt(Integer::intValue).sum();
+        int d2 = p2.values().stream().mapToInt(Integer::intValue).sum();
+        if (d1 != d2) {
+            return d1 > d2 ? 1 : -1;
+        }
+        TreeSet<Variable> variables = new TreeSet<>(p1.keySet());
+        variables.addAll(p2.keySet());
+        for (Variable v : variables) {
+            int e1 = p1.getOrDefault(v, 0);
+            int e2 = p2.getOrDefault(v, 0);
+            if (e1 != e2) {
+                return e1 > e2 ? 1 : -1;
+            }
+        }
+        return 0;
+    }
+
+    // Helper method for creating x^i y^j z^k.
+    private Monomial monomial(int i, int j, int k) {
+        Map<VariableName, Integer> mapVarPower = new HashMap<>();
+        mapVarPower.put(VariableName.x, i);
+        mapVarPower.put(VariableName.y, j);
+        mapVarPower.put(VariableName.z, k);
+        return new Monomial(mapVarPower);
+    }
+}
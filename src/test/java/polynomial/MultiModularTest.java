@@ -0,0 +1,65 @@
+package polynomial;
+
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiModularTest {
+    @Test
+    @DisplayName("Multiply")
+    void testMultiply() {
+        Random random = new Random(23);
+        for (int i = 0; i < 10; ++i) {
+            Polynomial p = randomPolynomial(random, 25, 40);
+            Polynomial q = randomPolynomial(random, 20, 70);
+            assertEquals(p.multiply(q), MultiModular.multiply(p, q));
+        }
+        Polynomial p = randomPolynomial(random, 5, 10);
+        assertTrue(MultiModular.multiply(p, new Polynomial()).isZero());
+        assertEquals(MonomialOrder.lex, MultiModular.multiply(p.withOrder(MonomialOrder.lex), p).getOrder());
+    }
+
+    @Test
+    @DisplayName("Gröbner basis")
+    void testGroebnerBasis() {
+        List<Polynomial> cyclic = GroebnerBasisTest.cyclic(4);
+        assertEquals(GroebnerBasis.compute(cyclic, MonomialOrder.grevlex).getPolynomials(),
+                MultiModular.groebnerBasis(cyclic, MonomialOrder.grevlex).getPolynomials());
+
+        // The lex basis of katsura-3 has large rational coefficients that need several primes.
+        List<Polynomial> katsura = GroebnerBasisTest.katsura(3);
+        assertEquals(GroebnerBasis.compute(katsura, MonomialOrder.lex).getPolynomials(),
+                MultiModular.groebnerBasis(katsura, MonomialOrder.lex).getPolynomials());
+
+        // Rational input coefficients.
+        List<Polynomial> scaled = new ArrayList<>();
+        for (Polynomial generator : katsura) {
+            scaled.add(generator.multiply(new Term(new RationalNumber(7, 3))));
+        }
+        assertEquals(GroebnerBasis.compute(katsura, MonomialOrder.grevlex).getPolynomials(),
+                MultiModular.groebnerBasis(scaled, MonomialOrder.grevlex).getPolynomials());
+    }
+
+    // Random polynomial in x, y with coefficients of up to the given number of bits.
+    private static Polynomial randomPolynomial(Random random, int termCount, int bits) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.x, random.nextInt(6))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(6)));
+            BigInteger numerator = new BigInteger(bits, random);
+            BigInteger denominator = new BigInteger(bits / 2, random).add(BigInteger.ONE);
+            if (random.nextBoolean()) {
+                numerator = numerator.negate();
+            }
+            terms[i] = new Term(new RationalNumber(numerator, denominator), m);
+        }
+        return new Polynomial(terms);
+    }
+}
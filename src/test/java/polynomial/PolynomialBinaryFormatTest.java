@@ -0,0 +1,162 @@
+package polynomial;
+
+import exceptions.PolynomialFormatException;
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialBinaryFormatTest {
+    @Test
+    @DisplayName("Write and read a stream")
+    void testStream() throws IOException {
+        Random random = new Random(7);
+        MonomialOrder weighted = MonomialOrder.weighted(Map.of(VariableName.x, 3, VariableName.z, 1));
+        for (MonomialOrder order : List.of(MonomialOrder.lex, MonomialOrder.grlex, MonomialOrder.grevlex, weighted)) {
+            Polynomial p = randomPolynomial(random, 200).withOrder(order);
+            Polynomial q = readBack(p);
+            assertEquals(p, q);
+            assertEquals(p.getTerms().toString(), q.getTerms().toString());
+            assertEquals(order.toString(), q.getOrder().toString());
+            assertTrue(toBytes(p).length < p.toString().length());
+        }
+
+        Polynomial big = new Polynomial(
+                new Term(new RationalNumber(new BigInteger("-123456789012345678901234567890"),
+                        new BigInteger("98765432109876543210")), VariableName.a, Integer.MAX_VALUE),
+                new Term(RationalNumber.of(Integer.MIN_VALUE), VariableName.z, 1),
+                new Term(RationalNumber.of(Integer.MAX_VALUE, 7)));
+        assertAll(
+                () -> assertEquals(big, readBack(big)),
+                () -> assertTrue(readBack(new Polynomial()).isZero()),
+                () -> assertSame(MonomialOrder.lex, readBack(big.withOrder(MonomialOrder.lex)).getOrder()));
+    }
+
+    @Test
+    @DisplayName("Write a channel and iterate a mapped file")
+    void testMappedFile(@TempDir Path directory) throws IOException {
+        // Large enough to need several flushes of the write buffer.
+        Polynomial p = randomPolynomial(new Random(8), 20000).withOrder(MonomialOrder.grevlex);
+        Path file = directory.resolve("polynomial.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            PolynomialBinaryFormat.write(p, channel);
+        }
+        assertTrue(Files.size(file) > 1 << 16);
+
+        MappedPolynomial mapped = PolynomialBinaryFormat.map(file);
+        List<Term> terms = new ArrayList<>();
+        mapped.forEach(terms::add);
+        assertAll(
+                () -> assertEquals(p.getTermCount(), mapped.getTermCount()),
+                () -> assertEquals(p.getVariableSet(), mapped.getVariableSet()),
+                () -> assertSame(MonomialOrder.grevlex, mapped.getOrder()),
+                () -> assertEquals(p.getTerms().toString(), terms.toString()),
+                () -> assertEquals(p.getLeadingTerm().toString(), mapped.iterator().next().toString()),
+                () -> assertEquals(p, mapped.toPolynomial()),
+                () -> assertEquals(p, PolynomialBinaryFormat.read(file)));
+    }
+
+    @Test
+    @DisplayName("Variables beyond VariableName")
+    void testVariables(@TempDir Path directory) throws IOException {
+        List<Variable> variables = new ArrayList<>(Variable.range(VariableName.w, 1, 100));
+        variables.add(Variable.of(VariableName.x));
+        Random random = new Random(10);
+        // Fewer than 64 variables are written as a mask per term, more as gaps between them.
+        for (int count : new int[] { 10, variables.size() }) {
+            Term[] terms = new Term[500];
+            for (int i = 0; i < terms.length; ++i) {
+                Monomial m = new Monomial(variables.get(random.nextInt(count)), random.nextInt(5))
+                        .multiply(new Monomial(variables.get(random.nextInt(count)), random.nextInt(3)))
+                        .multiply(new Monomial(variables.get(variables.size() - 1), random.nextInt(2)));
+                terms[i] = new Term(RationalNumber.of(random.nextInt(201) - 100), m);
+            }
+            // The weighted order names a variable beyond VariableName.
+            MonomialOrder order = MonomialOrder.weighted(List.of(variables.get(count / 2), Variable.of(VariableName.x)),
+                    new int[] { 2, 1 });
+            Polynomial p = new Polynomial(terms).withOrder(order);
+            Path file = directory.resolve("variables" + count + ".bin");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                PolynomialBinaryFormat.write(p, channel);
+            }
+            MappedPolynomial mapped = PolynomialBinaryFormat.map(file);
+            assertAll(
+                    () -> assertEquals(p, readBack(p)),
+                    () -> assertEquals(p.getTerms().toString(), readBack(p).getTerms().toString()),
+                    () -> assertEquals(p, mapped.toPolynomial()),
+                    () -> assertEquals(p.getVariables(), mapped.getVariables()),
+                    () -> assertEquals(p.getVariableSet(), mapped.getVariableSet()),
+                    () -> assertEquals(order.toString(), readBack(p).getOrder().toString()),
+                    () -> assertEquals(order.toString(), mapped.getOrder().toString()));
+        }
+    }
+
+    @Test
+    @DisplayName("Reject malformed data")
+    void testMalformed(@TempDir Path directory) throws IOException {
+        byte[] bytes = toBytes(randomPolynomial(new Random(9), 50));
+        byte[] badMagic = bytes.clone();
+        badMagic[0] = 'X';
+        byte[] badVersion = bytes.clone();
+        badVersion[4] = PolynomialBinaryFormat.VERSION + 1;
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        Path file = directory.resolve("truncated.bin");
+        Files.write(file, truncated);
+        MappedPolynomial mapped = PolynomialBinaryFormat.map(file);
+        // A header announcing one variable whose name is 2^31 - 16 bytes long, which the input does not hold.
+        byte[] longName = { 'Q', 'P', 'L', 'Y', PolynomialBinaryFormat.VERSION, 1, 1,
+                (byte) 0xf0, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07 };
+        Path longNameFile = directory.resolve("name.bin");
+        Files.write(longNameFile, longName);
+        assertAll(
+                () -> assertThrows(PolynomialFormatException.class, () -> read(longName)),
+                () -> assertThrows(PolynomialFormatException.class, () -> PolynomialBinaryFormat.map(longNameFile)),
+                () -> assertThrows(PolynomialFormatException.class, () -> read(badMagic)),
+                () -> assertThrows(PolynomialFormatException.class, () -> read(badVersion)),
+                () -> assertThrows(PolynomialFormatException.class, () -> read(truncated)),
+                () -> assertThrows(PolynomialFormatException.class, () -> read(new byte[0])),
+                () -> assertThrows(PolynomialFormatException.class, mapped::toPolynomial),
+                () -> assertThrows(PolynomialFormatException.class, () -> mapped.forEach(term -> { })));
+    }
+
+    private static byte[] toBytes(Polynomial p) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PolynomialBinaryFormat.write(p, out);
+        return out.toByteArray();
+    }
+
+    private static Polynomial read(byte[] bytes) throws IOException {
+        return PolynomialBinaryFormat.read(new ByteArrayInputStream(bytes));
+    }
+
+    private static Polynomial readBack(Polynomial p) throws IOException {
+        return read(toBytes(p));
+    }
+
+    private Polynomial randomPolynomial(Random random, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.values()[random.nextInt(26)], random.nextInt(200))
+                    .multiply(new Monomial(VariableName.x, random.nextInt(3)))
+                    .multiply(new Monomial(VariableName.z, random.nextInt(3)));
+            terms[i] = new Term(new RationalNumber(random.nextInt(200001) - 100000, random.nextInt(9) + 1), m);
+        }
+        return new Polynomial(terms);
+    }
+}
@@ -0,0 +1,61 @@
+package polynomial;
+
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialBuilderTest {
+    @Test
+    @DisplayName("Sum of products")
+    void testSumOfProducts() {
+        Random random = new Random(2);
+        PolynomialBuilder builder = new PolynomialBuilder(MonomialOrder.lex);
+        Polynomial sum = new Polynomial();
+        for (int i = 0; i < 20; ++i) {
+            Polynomial a = randomPolynomial(random, 10);
+            Polynomial b = randomPolynomial(random, 10);
+            RationalNumber scale = new RationalNumber(random.nextInt(11) - 5, random.nextInt(4) + 1);
+            builder.addProduct(a, b).addScaled(a, scale).add(b);
+            sum = sum.add(a.multiply(b)).add(a.multiply(new Term(scale))).add(b);
+        }
+        Polynomial expected = sum;
+        Polynomial result = builder.build();
+        assertAll(
+                () -> assertEquals(expected, result),
+                () -> assertEquals(MonomialOrder.lex, result.getOrder()),
+                () -> assertEquals(expected, builder.build()));
+    }
+
+    @Test
+    @DisplayName("Terms, cancellation and clear")
+    void testTerms() {
+        Term x = new Term(RationalNumber.of(1, 2), VariableName.x, 1);
+        Term y = new Term(RationalNumber.of(3), VariableName.y, 2);
+        PolynomialBuilder builder = new PolynomialBuilder()
+                .addTerm(x)
+                .addTerm(y)
+                .addTerm(new Term(RationalNumber.zero, VariableName.z, 1))
+                .addTerm(new Term(RationalNumber.of(-1, 2), VariableName.x, 1));
+        Polynomial p = builder.build();
+        assertAll(
+                () -> assertEquals(new Polynomial(y), p),
+                () -> assertEquals(1, p.getTermCount()),
+                () -> assertFalse(p.getVariableSet().contains(VariableName.x)),
+                () -> assertTrue(builder.addScaled(p, RationalNumber.minusOne).build().isZero()),
+                () -> assertTrue(builder.addTerm(x).clear().build().isZero()));
+    }
+
+    private Polynomial randomPolynomial(Random random, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.x, random.nextInt(4))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(4)));
+            terms[i] = new Term(new RationalNumber(random.nextInt(19) - 9, random.nextInt(4) + 1), m);
+        }
+        return new Polynomial(terms);
+    }
+}
@@ -0,0 +1,134 @@
+package polynomial;
+
+import exceptions.EvaluatorMissingVariable;
+import exceptions.PolynomialNegativePowerException;
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialCacheTest {
+    private final Polynomial p = PolynomialParser.parse("x^2 + 2xy - 3");
+    private final Polynomial q = PolynomialParser.parse("(1/2)y - x + 1");
+
+    @Test
+    @DisplayName("Cache products and powers")
+    void testOperations() {
+        PolynomialCache cache = new PolynomialCache(1000);
+        Polynomial product = cache.multiply(this.p, this.q);
+        Polynomial lex = PolynomialParser.parse("1/2 y - x + 1").withOrder(MonomialOrder.lex);
+        assertAll(
+                () -> assertEquals(this.p.multiply(this.q), product),
+                () -> assertSame(product, cache.multiply(this.p, this.q)),
+                // Equal factors in the other order and with another monomial order share the entry.
+                () -> assertEquals(product, cache.multiply(lex, this.p)),
+                () -> assertSame(MonomialOrder.lex, cache.multiply(lex, this.p).getOrder()),
+                () -> assertEquals(this.p.pow(5), cache.pow(this.p, 5)),
+                () -> assertSame(cache.pow(this.p, 5), cache.pow(this.p, 5)),
+                () -> assertEquals(this.p.pow(4), cache.pow(this.p, 4)),
+                () -> assertThrows(PolynomialNegativePowerException.class, () -> cache.pow(this.p, -1)));
+        assertAll(
+                () -> assertEquals(5, cache.getHitCount()),
+                () -> assertEquals(4, cache.getMissCount()),
+                () -> assertEquals(3, cache.size()),
+                () -> assertEquals(product.getTermCount() + this.p.pow(5).getTermCount()
+                        + this.p.pow(4).getTermCount(), cache.getWeight()),
+                () -> assertEquals(5.0 / 9, cache.getHitRate()));
+    }
+
+    @Test
+    @DisplayName("Cache evaluators and values")
+    void testEvaluate() {
+        PolynomialCache cache = new PolynomialCache(1000);
+        Map<VariableName, RationalNumber> point = Map.of(VariableName.x, RationalNumber.of(2),
+                VariableName.y, new RationalNumber(1, 3), VariableName.z, RationalNumber.of(7));
+        // 4 + 4/3 - 3
+        RationalNumber expected = new RationalNumber(7, 3);
+        assertAll(
+                () -> assertEquals(expected, cache.evaluate(this.p, point)),
+                () -> assertEquals(expected, cache.evaluate(this.p, Map.of(VariableName.x, RationalNumber.of(2),
+                        VariableName.y, new RationalNumber(1, 3)))),
+                () -> assertSame(cache.compile(this.p), cache.compile(PolynomialParser.parse("2xy + x^2 - 3"))),
+                () -> assertEquals(RationalNumber.of(-3), cache.evaluate(this.p, Map.of(VariableName.x,
+                        RationalNumber.zero, VariableName.y, RationalNumber.one))),
+                () -> assertThrows(EvaluatorMissingVariable.class,
+                        () -> cache.evaluate(this.p, Map.of(VariableName.x, RationalNumber.one))));
+        // Two values and one evaluator.
+        assertEquals(3, cache.size());
+        assertEquals(2 + this.p.getTermCount(), cache.getWeight());
+
+        // 2x_1 + x_1^2 - 3 at x_1 = 2, given alongside an unused y.
+        Polynomial q = PolynomialParser.parse("2x_1 + x_1^2 - 3");
+        List<Variable> variables = List.of(Variable.of(VariableName.y), Variable.of(VariableName.x, 1));
+        RationalNumber[] values = { RationalNumber.one, RationalNumber.of(2) };
+        assertAll(
+                () -> assertEquals(RationalNumber.of(5), cache.evaluate(q, variables, values)),
+                () -> assertEquals(RationalNumber.of(5), cache.evaluate(q, variables, values)),
+                () -> assertThrows(EvaluatorMissingVariable.class,
+                        () -> cache.evaluate(q, variables.subList(0, 1), Arrays.copyOf(values, 1))));
+    }
+
+    @Test
+    @DisplayName("Evict the least recently used entries")
+    void testEviction() {
+        Polynomial cube = this.q.pow(3);
+        PolynomialCache cache = new PolynomialCache(2L * cube.getTermCount());
+        cache.pow(this.q, 3);
+        cache.pow(this.q.negate(), 3);
+        cache.pow(this.q, 3);
+        assertEquals(0, cache.getEvictionCount());
+
+        // The negated power is the least recently used.
+        cache.pow(this.p, 1);
+        assertAll(
+                () -> assertEquals(1, cache.getEvictionCount()),
+                () -> assertEquals(2, cache.size()),
+                () -> assertTrue(cache.getWeight() <= cache.getCapacity()));
+        long misses = cache.getMissCount();
+        cache.pow(this.q, 3);
+        assertEquals(misses, cache.getMissCount());
+        cache.pow(this.q.negate(), 3);
+        assertEquals(misses + 1, cache.getMissCount());
+
+        // A result heavier than the capacity is not cached.
+        PolynomialCache small = new PolynomialCache(cube.getTermCount() - 1);
+        assertEquals(cube, small.pow(this.q, 3));
+        assertEquals(0, small.size());
+        assertEquals(0, small.getWeight());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+        assertThrows(IllegalArgumentException.class, () -> new PolynomialCache(-1));
+    }
+
+    @Test
+    @DisplayName("Share between threads")
+    void testConcurrent() throws Exception {
+        PolynomialCache cache = new PolynomialCache(200);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Polynomial>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; ++i) {
+                int power = i % 7;
+                futures.add(executor.submit(() -> cache.multiply(cache.pow(this.q, power), this.p)));
+            }
+            for (int i = 0; i < futures.size(); ++i) {
+                assertEquals(this.q.pow(i % 7).multiply(this.p), futures.get(i).get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals(400, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getWeight() <= cache.getCapacity());
+    }
+}
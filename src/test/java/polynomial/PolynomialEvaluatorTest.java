@@ -0,0 +1,98 @@
+package polynomial;
+
+import exceptions.EvaluatorMissingVariable;
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialEvaluatorTest {
+    @Test
+    @DisplayName("Variables")
+    void testVariables() {
+        Polynomial p = new Polynomial(
+                new Term(new RationalNumber(1, 1), VariableName.z, 2),
+                new Term(new RationalNumber(1, 1), VariableName.x, 1));
+        PolynomialEvaluator evaluator = p.compile();
+        assertEquals(List.of(VariableName.x, VariableName.z), evaluator.getVariables());
+        assertThrows(
+                EvaluatorMissingVariable.class,
+                () -> evaluator.evaluate(new double[1])
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluate constants")
+    void testEvaluateConstant() {
+        assertEquals(RationalNumber.zero, new Polynomial().compile().evaluate(new RationalNumber[0]));
+        Polynomial p = new Polynomial(new Term(new RationalNumber(3, 4)));
+        assertEquals(new RationalNumber(3, 4), p.compile().evaluate(new RationalNumber[0]));
+        assertEquals(0.75, p.compile().evaluate(new double[0]));
+    }
+
+    @Test
+    @DisplayName("Evaluate")
+    void testEvaluate() {
+        // p = (1/2)x^3y + -2xy^2 + 5y + -7
+        Map<VariableName, Integer> mapVarPower1 = new HashMap<>();
+        mapVarPower1.put(VariableName.x, 3);
+        mapVarPower1.put(VariableName.y, 1);
+        Map<VariableName, Integer> mapVarPower2 = new HashMap<>();
+        mapVarPower2.put(VariableName.x, 1);
+        mapVarPower2.put(VariableName.y, 2);
+        Polynomial p = new Polynomial(
+                new Term(new RationalNumber(1, 2), mapVarPower1),
+                new Term(new RationalNumber(-2, 1), mapVarPower2),
+                new Term(new RationalNumber(5, 1), VariableName.y, 1),
+                new Term(new RationalNumber(-7, 1)));
+        PolynomialEvaluator evaluator = p.compile();
+
+        RationalNumber x = new RationalNumber(2, 3);
+        RationalNumber y = new RationalNumber(-5, 2);
+        // (1/2)(8/27)(-5/2) - 2(2/3)(25/4) + 5(-5/2) - 7 = -10/27 - 25/3 - 25/2 - 7
+        RationalNumber expected = new RationalNumber(-10, 27)
+                .add(new RationalNumber(-25, 3))
+                .add(new RationalNumber(-25, 2))
+                .add(new RationalNumber(-7, 1));
+        assertEquals(expected, evaluator.evaluate(new RationalNumber[] { x, y }));
+        assertEquals(expected.doubleValue(), evaluator.evaluate(new double[] { x.doubleValue(), y.doubleValue() }),
+                1e-12);
+    }
+
+    @Test
+    @DisplayName("Evaluate matches term evaluation")
+    void testEvaluateRandom() {
+        Random random = new Random(5);
+        Term[] terms = new Term[60];
+        for (int i = 0; i < terms.length; ++i) {
+            Map<VariableName, Integer> mapVarPower = new HashMap<>();
+            mapVarPower.put(VariableName.a, random.nextInt(4));
+            mapVarPower.put(VariableName.c, random.nextInt(4));
+            mapVarPower.put(VariableName.x, random.nextInt(4));
+            terms[i] = new Term(new RationalNumber(random.nextInt(21) - 10, random.nextInt(3) + 1), mapVarPower);
+        }
+        Polynomial p = new Polynomial(terms);
+        PolynomialEvaluator evaluator = p.compile();
+
+        Map<VariableName, RationalNumber> mapVarValue = new HashMap<>();
+        mapVarValue.put(VariableName.a, new RationalNumber(-1, 2));
+        mapVarValue.put(VariableName.c, new RationalNumber(3, 1));
+        mapVarValue.put(VariableName.x, new RationalNumber(2, 5));
+        RationalNumber expected = RationalNumber.zero;
+        for (Term term : p.getTerms()) {
+            expected = expected.add(term.evaluateAt(mapVarValue));
+        }
+
+        RationalNumber[] point = new RationalNumber[evaluator.getVariables().size()];
+        for (int i = 0; i < point.length; ++i) {
+            point[i] = mapVarValue.get(evaluator.getVariables().get(i));
+        }
+        assertEquals(expected, evaluator.evaluate(point));
+    }
+}
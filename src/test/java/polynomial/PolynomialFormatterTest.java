@@ -0,0 +1,87 @@
+package polynomial;
+
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialFormatterTest {
+    private final Polynomial example = PolynomialParser.parse("(1/2)xy^2z^3 + -4x + -y + 1");
+    private final Polynomial subscripted = PolynomialParser.parse("2x q_3^2 - q_10");
+
+    @Test
+    @DisplayName("Plain style")
+    void testPlain() throws IOException {
+        // Enough terms to flush the buffer several times.
+        Polynomial p = randomPolynomial(new Random(3), 5000);
+        StringJoiner expected = new StringJoiner(" + ");
+        for (Term term : p.getTerms()) {
+            expected.add(term.toString());
+        }
+        StringWriter writer = new StringWriter();
+        PolynomialFormatter.format(p, writer);
+        StringBuilder builder = new StringBuilder("p = ");
+        PolynomialFormatter.format(p, builder);
+        assertAll(
+                () -> assertEquals(expected.toString(), p.toString()),
+                () -> assertEquals(expected.toString(), writer.toString()),
+                () -> assertEquals("p = " + expected, builder.toString()),
+                () -> assertEquals("(1/2)xy^2z^3 + -4x + -1y + 1", this.example.toString()),
+                () -> assertEquals("0", new Polynomial().toString()));
+    }
+
+    @Test
+    @DisplayName("LaTeX style")
+    void testLatex() {
+        Polynomial big = new Polynomial(
+                new Term(new RationalNumber(new BigInteger("-12345678901234567890"), BigInteger.valueOf(7)),
+                        VariableName.x, 12),
+                new Term(RationalNumber.of(Integer.MIN_VALUE)));
+        assertAll(
+                () -> assertEquals("\\frac{1}{2}xy^{2}z^{3} - 4x - y + 1",
+                        PolynomialFormatter.toString(this.example, PolynomialFormatter.Style.latex)),
+                () -> assertEquals("-\\frac{12345678901234567890}{7}x^{12} - 2147483648",
+                        PolynomialFormatter.toString(big, PolynomialFormatter.Style.latex)),
+                () -> assertEquals("-1", PolynomialFormatter.toString(new Polynomial(
+                        new Term(RationalNumber.minusOne)), PolynomialFormatter.Style.latex)),
+                () -> assertEquals("0", PolynomialFormatter.toString(new Polynomial(),
+                        PolynomialFormatter.Style.latex)),
+                () -> assertEquals("2xq_{3}^{2} - q_{10}",
+                        PolynomialFormatter.toString(this.subscripted, PolynomialFormatter.Style.latex)));
+    }
+
+    @Test
+    @DisplayName("Machine style")
+    void testMachine() {
+        assertEquals("1/2*x*y^2*z^3 - 4*x - y + 1",
+                PolynomialFormatter.toString(this.example, PolynomialFormatter.Style.machine));
+        assertEquals("2*x*q_3^2 - q_10",
+                PolynomialFormatter.toString(this.subscripted, PolynomialFormatter.Style.machine));
+        assertEquals("2xq_3^2 + -1q_10", this.subscripted.toString());
+        Random random = new Random(4);
+        for (int i = 0; i < 20; ++i) {
+            Polynomial p = randomPolynomial(random, 1 + random.nextInt(50));
+            assertEquals(p, PolynomialParser.parse(PolynomialFormatter.toString(p, PolynomialFormatter.Style.machine)));
+        }
+    }
+
+    private Polynomial randomPolynomial(Random random, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.values()[random.nextInt(26)], random.nextInt(4))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(20)));
+            RationalNumber coefficient = random.nextInt(10) == 0
+                    ? new RationalNumber(BigInteger.probablePrime(80, random), BigInteger.TWO)
+                    : new RationalNumber(random.nextInt(5) - 2, random.nextInt(3) + 1);
+            terms[i] = new Term(random.nextBoolean() ? coefficient : coefficient.negate(), m);
+        }
+        return new Polynomial(terms);
+    }
+}
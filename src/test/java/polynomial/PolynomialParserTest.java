@@ -0,0 +1,119 @@
+package polynomial;
+
+import exceptions.PolynomialParseException;
+import number.RationalNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialParserTest {
+    @Test
+    @DisplayName("Parse the output of toString")
+    void testRoundTrip() {
+        Random random = new Random(5);
+        for (int i = 0; i < 20; ++i) {
+            Polynomial p = randomPolynomial(random, 1 + random.nextInt(30));
+            assertEquals(p, PolynomialParser.parse(p.toString()));
+        }
+        Polynomial big = new Polynomial(
+                new Term(new RationalNumber(new BigInteger("-123456789012345678901234567890"),
+                        new BigInteger("98765432109876543210")), VariableName.a, 3),
+                new Term(RationalNumber.of(Integer.MIN_VALUE)));
+        assertAll(
+                () -> assertEquals(big, PolynomialParser.parse(big.toString())),
+                () -> assertTrue(PolynomialParser.parse(new Polynomial().toString()).isZero()),
+                () -> assertEquals("(1/2)xy^2z^3", PolynomialParser.parse("(1/2)xy^2z^3").toString()));
+    }
+
+    @Test
+    @DisplayName("Parse standard notation")
+    void testStandardNotation() {
+        Polynomial expected = PolynomialParser.parse("(1/2)xy^2z^3 + -4x + 7");
+        assertAll(
+                () -> assertEquals(expected, PolynomialParser.parse("1/2*x*y^2*z^3 - 4*x + 7")),
+                () -> assertEquals(expected, PolynomialParser.parse(" 1/2 x y ^ 2 z^3\n\t-4 * x\r\n+7 ")),
+                () -> assertEquals(expected, PolynomialParser.parse("7 + x*(-2)*2 + z^2*x*(1/2)*z*y^2")),
+                () -> assertEquals(expected, PolynomialParser.parse("--7 - - -4x + 1/4xy^2z^3 + (1/4)xy^2z^3")));
+
+        // Like terms are collected, and cancelling terms disappear.
+        Polynomial p = PolynomialParser.parse("x^2 + 2x*y - x^2 + y*x + 0*z - 3xy + 1");
+        assertEquals(new Polynomial(new Term(RationalNumber.one)), p);
+        assertEquals(0, p.getVariableSet().size());
+    }
+
+    @Test
+    @DisplayName("Parse subscripted variables")
+    void testSubscripts() {
+        Variable p1 = Variable.of(VariableName.p, 1);
+        Variable p12 = Variable.of(VariableName.p, 12);
+        Polynomial expected = new Polynomial(
+                new Term(RationalNumber.of(3), Monomial.of(Map.of(p1, 2, p12, 1, Variable.of(VariableName.x), 1))),
+                new Term(RationalNumber.of(-1), p12, 3));
+        assertAll(
+                () -> assertEquals(expected, PolynomialParser.parse("3p_1^2 x p_12 - p_12^3")),
+                () -> assertEquals(expected, PolynomialParser.parse("3*p_12*x*p_1*p_1 - p_12^2*p_12")),
+                () -> assertEquals(expected, PolynomialParser.parse(expected.toString())),
+                () -> assertEquals(Set.of(p1, p12, Variable.of(VariableName.x)), expected.getVariables()),
+                () -> assertEquals(2, position("x_")),
+                () -> assertEquals(2, position("x_01")),
+                () -> assertEquals(2, position("x_ 1")));
+    }
+
+    @Test
+    @DisplayName("Parse from a reader and a mapped file")
+    void testSources(@TempDir Path directory) throws IOException {
+        // Enough terms to cross the boundary of the reader buffer.
+        Polynomial p = randomPolynomial(new Random(6), 3000);
+        String text = p.toString();
+        assertTrue(text.length() > 1 << 13);
+        Path file = directory.resolve("polynomial.txt");
+        Files.writeString(file, text);
+        Path empty = directory.resolve("empty.txt");
+        Files.writeString(empty, "");
+        assertAll(
+                () -> assertEquals(p, PolynomialParser.parse(new StringReader(text))),
+                () -> assertEquals(p, PolynomialParser.parse(file)),
+                () -> assertThrows(PolynomialParseException.class, () -> PolynomialParser.parse(empty)));
+    }
+
+    @Test
+    @DisplayName("Report the position of malformed input")
+    void testErrors() {
+        assertAll(
+                () -> assertEquals(0, position("")),
+                () -> assertEquals(3, position("x +")),
+                () -> assertEquals(2, position("2 3")),
+                () -> assertEquals(1, position("x2")),
+                () -> assertEquals(2, position("x^-1")),
+                () -> assertEquals(2, position("1/0x")),
+                () -> assertEquals(5, position("(1/2 x")),
+                () -> assertEquals(2, position("x^99999999999")),
+                () -> assertEquals(1, position("xX")),
+                () -> assertEquals(4, position("x + *y")));
+    }
+
+    private long position(String text) {
+        return assertThrows(PolynomialParseException.class, () -> PolynomialParser.parse(text)).getPosition();
+    }
+
+    private Polynomial randomPolynomial(Random random, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.values()[random.nextInt(26)], random.nextInt(12))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(3)));
+            terms[i] = new Term(new RationalNumber(random.nextInt(2001) - 1000, random.nextInt(9) + 1), m);
+        }
+        return new Polynomial(terms);
+    }
+}
@@ -1,9 +1,23 @@
 package polynomial;
 
+import exceptions.BatchEvaluationMissingColumn;
+import exceptions.PolynomialDivideByZeroException;
+import exceptions.PolynomialNegativePowerException;
+import exceptions.PolynomialNotDivisibleException;
 import number.RationalNumber;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PolynomialTest {
@@ -13,6 +27,7 @@ class PolynomialTest {
         Polynomial p0 = new Polynomial();
         assertEquals(RationalNumber.zero.toString(), p0.toString());
         assertTrue(p0.getVariableSet().isEmpty());
+        assertTrue(p0.isZero());
 
         RationalNumber r1 = new RationalNumber(1, 1);
         Term t1 = new Term(r1);
@@ -49,6 +64,496 @@ class PolynomialTest {
         Term t1 = new Term(r, VariableName.x, 1);
         Term t2 = new Term(r.multiply(new RationalNumber(2, 1)), VariableName.x, 1);
         Polynomial p2 = new Polynomial(t1, t2);
-        assertEquals("2x + 1x", p2.toString());
+        assertEquals("3x", p2.toString());
+        assertEquals("2x", new Polynomial(t1, new Term(r, VariableName.x, 1)).toString());
+
+        Term t3 = new Term(new RationalNumber(-3, 1), VariableName.x, 1);
+        Polynomial p3 = new Polynomial(t1, t2, t3);
+        assertTrue(p3.isZero());
+        assertEquals("0", p3.toString());
+        assertTrue(p3.getVariableSet().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Add and subtract")
+    void testAddSubtract() {
+        // p = x^2 + 2xy + 3, q = -x^2 + y + (1/2)
+        Polynomial p = new Polynomial(
+                new Term(integer(1), VariableName.x, 2),
+                new Term(integer(2), monomial(1, 1)),
+                new Term(integer(3)));
+        Polynomial q = new Polynomial(
+                new Term(integer(-1), VariableName.x, 2),
+                new Term(integer(1), VariableName.y, 1),
+                new Term(new RationalNumber(1, 2)));
+
+        assertEquals("2xy + 1y + (7/2)", p.add(q).toString());
+        assertEquals("2x^2 + 2xy + -1y + (5/2)", p.subtract(q).toString());
+        assertEquals(p.add(q).toString(), q.add(p).toString());
+        assertTrue(p.subtract(p).isZero());
+        assertEquals("-1x^2 + -2xy + -3", p.negate().toString());
+        assertEquals(p.toString(), p.add(new Polynomial()).toString());
+        assertEquals(p.negate().toString(), new Polynomial().subtract(p).toString());
+    }
+
+    @Test
+    @DisplayName("Multiply")
+    void testMultiply() {
+        // (x + y)(x - y) = x^2 - y^2
+        Polynomial p = new Polynomial(new Term(integer(1), VariableName.x, 1), new Term(integer(1), VariableName.y, 1));
+        Polynomial q = new Polynomial(new Term(integer(1), VariableName.x, 1), new Term(integer(-1), VariableName.y, 1));
+        Polynomial product = p.multiply(q);
+        assertEquals("1x^2 + -1y^2", product.toString());
+        assertEquals(2, product.getTermCount());
+
+        // (x + y)^2 = x^2 + 2xy + y^2
+        assertEquals("1x^2 + 2xy + 1y^2", p.multiply(p).toString());
+
+        // (x + 1)^3 expanded through repeated products.
+        Polynomial r = new Polynomial(new Term(integer(1), VariableName.x, 1), new Term(integer(1)));
+        assertEquals("1x^3 + 3x^2 + 3x + 1", r.multiply(r).multiply(r).toString());
+
+        assertTrue(p.multiply(new Polynomial()).isZero());
+        assertEquals(p.toString(), p.multiply(new Polynomial(new Term(integer(1)))).toString());
+    }
+
+    @Test
+    @DisplayName("Power")
+    void testPow() {
+        Random random = new Random(14);
+        Polynomial x = new Polynomial(new Term(integer(1), VariableName.x, 1));
+        Polynomial one = new Polynomial(new Term(integer(1)));
+        // Sparse and dense multivariate, univariate with fractions, and a single term.
+        Polynomial dense = new Polynomial();
+        for (int i = 0; i <= 4; ++i) {
+            for (int j = 0; i + j <= 4; ++j) {
+                dense = dense.add(new Polynomial(new Term(integer(random.nextInt(9) + 1), monomial(i, j))));
+            }
+        }
+        List<Polynomial> bases = List.of(randomPolynomial(random, 4).withOrder(MonomialOrder.lex), dense,
+                x.add(new Polynomial(new Term(new RationalNumber(-1, 2), VariableName.x, 4))),
+                new Polynomial(new Term(new RationalNumber(-2, 3), monomial(2, 1))));
+        for (Polynomial p : bases) {
+            Polynomial expected = one.withOrder(p.getOrder());
+            for (int power = 0; power <= 9; ++power) {
+                Polynomial actual = p.pow(power);
+                assertEquals(expected, actual);
+                assertEquals(p.getOrder(), actual.getOrder());
+                expected = expected.multiply(p);
+            }
+        }
+
+        // (x + 1)^3 = x^3 + 3x^2 + 3x + 1
+        assertAll(
+                () -> assertEquals("1x^3 + 3x^2 + 3x + 1", x.add(one).pow(3).toString()),
+                () -> assertEquals(one, new Polynomial().pow(0)),
+                () -> assertTrue(new Polynomial().pow(4).isZero()),
+                () -> assertThrows(PolynomialNegativePowerException.class, () -> x.pow(-1)));
+    }
+
+    @Test
+    @DisplayName("Divide with remainder")
+    void testDivideWithRemainder() {
+        // x^2y + xy^2 + y^2 divided by (xy - 1, y^2 - 1) in lex: quotients (x + y, 1), remainder x + y + 1.
+        Polynomial f = new Polynomial(MonomialOrder.lex,
+                new Term(integer(1), monomial(2, 1)),
+                new Term(integer(1), monomial(1, 2)),
+                new Term(integer(1), monomial(0, 2)));
+        Polynomial f1 = new Polynomial(new Term(integer(1), monomial(1, 1)), new Term(integer(-1)));
+        Polynomial f2 = new Polynomial(new Term(integer(1), monomial(0, 2)), new Term(integer(-1)));
+        Polynomial x = new Polynomial(new Term(integer(1), VariableName.x, 1));
+        Polynomial y = new Polynomial(new Term(integer(1), VariableName.y, 1));
+        Polynomial one = new Polynomial(new Term(integer(1)));
+
+        DivisionResult result = f.divideWithRemainder(f1, f2);
+        assertEquals(List.of(x.add(y), one), result.getQuotients());
+        assertEquals(x.add(y).add(one), result.getRemainder());
+        assertEquals(MonomialOrder.lex, result.getRemainder().getOrder());
+
+        // The identity f = q_1 f_1 + q_2 f_2 + r holds for arbitrary polynomials and divisors.
+        Polynomial g = randomPolynomial(new Random(7), 40);
+        Polynomial g1 = randomPolynomial(new Random(8), 5);
+        Polynomial g2 = randomPolynomial(new Random(9), 4);
+        DivisionResult random = g.divideWithRemainder(g1, new Polynomial(), g2);
+        assertTrue(random.getQuotients().get(1).isZero());
+        assertEquals(g, random.getQuotients().get(0).multiply(g1)
+                .add(random.getQuotients().get(2).multiply(g2))
+                .add(random.getRemainder()));
+        for (Term term : random.getRemainder().getTerms()) {
+            assertFalse(g1.getLeadingTerm().getMonomial().divides(term.getMonomial()));
+            assertFalse(g2.getLeadingTerm().getMonomial().divides(term.getMonomial()));
+        }
+    }
+
+    @Test
+    @DisplayName("Divide exactly")
+    void testDivide() {
+        Polynomial p = randomPolynomial(new Random(10), 20);
+        Polynomial q = randomPolynomial(new Random(11), 10);
+        Polynomial x = new Polynomial(new Term(integer(1), VariableName.x, 1));
+        assertEquals(p, p.multiply(q).divide(q));
+        assertEquals(MonomialOrder.lex, p.withOrder(MonomialOrder.lex).multiply(q).divide(q).getOrder());
+        assertTrue(new Polynomial().divide(q).isZero());
+        assertThrows(PolynomialDivideByZeroException.class, () -> p.divide(new Polynomial()));
+        assertThrows(PolynomialNotDivisibleException.class, () -> p.multiply(q).add(x).divide(q));
+
+        // Divisibility agrees with the remainder of a full division, whether the first or a later term fails.
+        Polynomial pq = p.multiply(q);
+        Polynomial leadingFails = pq.add(new Polynomial(new Term(integer(1), VariableName.x, 40)));
+        assertAll(
+                () -> assertTrue(Division.divides(q, pq)),
+                () -> assertTrue(Division.divides(q, new Polynomial())),
+                () -> assertFalse(Division.divides(q, pq.add(x))),
+                () -> assertFalse(Division.divides(q, leadingFails)),
+                () -> assertFalse(Division.divides(pq, q)),
+                () -> assertNull(Division.divideExactly(leadingFails, q, true))
+        );
+    }
+
+    @Test
+    @DisplayName("Greatest common divisor")
+    void testGcd() {
+        // x^2 - 1 and x^2 + 2x + 1 have the common factor x + 1.
+        Polynomial x = new Polynomial(new Term(integer(1), VariableName.x, 1));
+        Polynomial one = new Polynomial(new Term(integer(1)));
+        Polynomial f = x.multiply(x).subtract(one);
+        Polynomial g = x.multiply(x).add(x.add(x)).add(one);
+        assertEquals(x.add(one), f.gcd(g));
+        assertEquals(x.add(one), f.multiply(new Term(new RationalNumber(-2, 3))).gcd(g));
+        assertEquals(one, f.gcd(x));
+        assertEquals(one, f.gcd(new Polynomial(new Term(integer(5)))));
+        assertEquals(f, f.gcd(new Polynomial()));
+        assertEquals(x.add(one), new Polynomial().gcd(x.add(x).add(one).add(one)));
+        assertTrue(new Polynomial().gcd(new Polynomial()).isZero());
+
+        // Multivariate cofactors: the GCD is the monic common factor, up to a common factor of the cofactors.
+        Random random = new Random(12);
+        for (int i = 0; i < 5; ++i) {
+            Polynomial common = randomPolynomial(random, 6);
+            Polynomial a = common.multiply(randomPolynomial(random, 5));
+            Polynomial b = common.multiply(randomPolynomial(random, 5)).withOrder(MonomialOrder.grevlex);
+            Polynomial gcd = b.gcd(a);
+            assertEquals(MonomialOrder.grevlex, gcd.getOrder());
+            assertEquals(RationalNumber.one, gcd.getLeadingTerm().getCoefficient());
+            gcd.divide(common);
+            assertEquals(one, a.divide(gcd).gcd(b.divide(gcd)));
+        }
+
+        // Large coefficients need several primes.
+        Polynomial big = x.multiply(x).add(new Polynomial(
+                new Term(new RationalNumber(new BigInteger("123456789012345678901234567"), BigInteger.valueOf(7)),
+                        VariableName.x, 1),
+                new Term(new RationalNumber(new BigInteger("-98765432109876543210"), BigInteger.ONE))));
+        Polynomial y = new Polynomial(new Term(integer(1), VariableName.y, 1));
+        assertEquals(big, big.multiply(x.add(y)).gcd(big.multiply(x.subtract(y).multiply(y))));
+    }
+
+    @Test
+    @DisplayName("Variables beyond VariableName")
+    void testVariables() {
+        Variable t1 = Variable.of(VariableName.t, 1);
+        Variable t2 = Variable.of(VariableName.t, 2);
+
+        // Dense univariate products in an extended variable match those in a predefined one.
+        Random random = new Random(13);
+        Term[] terms = new Term[40];
+        for (int i = 0; i < terms.length; ++i) {
+            terms[i] = new Term(new RationalNumber(random.nextInt(19) - 9, random.nextInt(4) + 1), VariableName.x, i);
+        }
+        Polynomial p = new Polynomial(terms);
+        Polynomial q = new Polynomial(Arrays.copyOf(terms, 30)).add(new Polynomial(new Term(integer(1))));
+        Polynomial pt = PolynomialParser.parse(p.toString().replace("x", "t_1"));
+        Polynomial qt = PolynomialParser.parse(q.toString().replace("x", "t_1"));
+        assertEquals(p.multiply(q).toString().replace("x", "t_1"), pt.multiply(qt).toString());
+
+        // (t_1 + 1)(t_2 - t_1) and (t_1 + 1)(t_2 + 2) have the common factor t_1 + 1.
+        Polynomial common = PolynomialParser.parse("t_1 + 1");
+        Polynomial f = common.multiply(PolynomialParser.parse("t_2 - t_1"));
+        Polynomial g = common.multiply(PolynomialParser.parse("t_2 + 2"));
+        assertEquals(common, f.gcd(g));
+
+        Polynomial h = f.add(PolynomialParser.parse("3y"));
+        PolynomialEvaluator evaluator = h.compile();
+        // y = 2, t_1 = 3, t_2 = 5: (3 + 1)(5 - 3) + 6 = 14.
+        RationalNumber[] point = new RationalNumber[3];
+        for (int i = 0; i < point.length; ++i) {
+            Variable variable = evaluator.getSlots().get(i);
+            point[i] = integer(variable == t1 ? 3 : variable == t2 ? 5 : 2);
+        }
+        assertAll(
+                () -> assertEquals(Set.of(t1, t2, Variable.of(VariableName.y)), h.getVariables()),
+                () -> assertEquals(Set.of(VariableName.y), h.getVariableSet()),
+                () -> assertEquals(List.of(Variable.of(VariableName.y), t1, t2), evaluator.getSlots()),
+                () -> assertThrows(IllegalStateException.class, evaluator::getVariables),
+                () -> assertEquals(integer(14), evaluator.evaluate(point)),
+                () -> assertEquals(Set.of(), new Polynomial().getVariables()));
+    }
+
+    @Test
+    @DisplayName("Equals, hash code and coefficient lookup")
+    void testEquals() {
+        Polynomial p = randomPolynomial(new Random(6), 50);
+        Term[] reversed = p.getTerms().toArray(new Term[0]);
+        Collections.reverse(Arrays.asList(reversed));
+        Polynomial q = new Polynomial(reversed);
+        assertEquals(p, q);
+        assertEquals(p.hashCode(), q.hashCode());
+        assertEquals(new Polynomial(), p.subtract(q));
+        assertNotEquals(p, p.add(new Polynomial(new Term(integer(1)))));
+        assertNotEquals(p, null);
+
+        Term first = p.getTerms().get(0);
+        assertEquals(first.getCoefficient(), p.getCoefficient(first.getMonomial()));
+        assertEquals(RationalNumber.zero, p.getCoefficient(new Monomial(VariableName.a, 1)));
+    }
+
+    @Test
+    @DisplayName("Intern")
+    void testIntern() {
+        Polynomial p = randomPolynomial(new Random(23), 30).withOrder(MonomialOrder.lex);
+        Polynomial q = new Polynomial(p.getTerms().toArray(new Term[0]));
+        Polynomial internedP = p.intern();
+        Polynomial internedQ = q.intern();
+        List<Term> termsP = internedP.getTerms();
+        List<Term> termsQ = internedQ.withOrder(MonomialOrder.lex).getTerms();
+        assertAll(
+                () -> assertEquals(p, internedP),
+                () -> assertEquals(MonomialOrder.lex, internedP.getOrder()),
+                () -> assertEquals(p.getTerms(), termsP),
+                () -> assertEquals(termsP, termsQ),
+                () -> assertTrue(IntStream.range(0, termsP.size())
+                        .allMatch(i -> termsP.get(i).getMonomial() == termsQ.get(i).getMonomial())),
+                () -> assertEquals(new Polynomial(), new Polynomial().intern())
+        );
+    }
+
+    @Test
+    @DisplayName("Multiply in parallel")
+    void testMultiplyParallel() {
+        Polynomial p = randomPolynomial(new Random(1), 200);
+        Polynomial q = randomPolynomial(new Random(2), 150);
+        Polynomial expected = p.multiply(q);
+
+        // A tiny threshold forces splitting down to single terms.
+        for (long threshold : new long[] { 1, 150, 1000, Polynomial.PARALLEL_MULTIPLY_THRESHOLD }) {
+            Polynomial actual = p.multiplyParallel(q, threshold);
+            assertEquals(expected, actual);
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected, q.multiplyParallel(p, threshold));
+        }
+        assertTrue(p.multiplyParallel(new Polynomial(), 1).isZero());
+    }
+
+    @Test
+    @DisplayName("Evaluate batch")
+    void testEvaluateBatch() {
+        Polynomial p = randomPolynomial(new Random(3), 40).add(new Polynomial(new Term(integer(5))));
+        PolynomialEvaluator evaluator = p.compile();
+        assertEquals(List.of(VariableName.x, VariableName.y, VariableName.z), evaluator.getVariables());
+
+        // More points than one block, with a partial last block.
+        int pointCount = 2500;
+        Random random = new Random(4);
+        Map<VariableName, double[]> columns = new HashMap<>();
+        Map<VariableName, RationalNumber[]> exactColumns = new HashMap<>();
+        for (VariableName variable : evaluator.getVariables()) {
+            double[] column = new double[pointCount];
+            RationalNumber[] exactColumn = new RationalNumber[pointCount];
+            for (int i = 0; i < pointCount; ++i) {
+                exactColumn[i] = new RationalNumber(random.nextInt(7) - 3, random.nextInt(3) + 1);
+                column[i] = exactColumn[i].doubleValue();
+            }
+            columns.put(variable, column);
+            exactColumns.put(variable, exactColumn);
+        }
+
+        double[] sequential = p.evaluateBatch(columns);
+        double[] parallel = p.evaluateBatch(columns, true);
+        RationalNumber[] exact = p.evaluateBatchExact(exactColumns, true);
+        for (int i = 0; i < pointCount; ++i) {
+            double[] point = { columns.get(VariableName.x)[i], columns.get(VariableName.y)[i],
+                    columns.get(VariableName.z)[i] };
+            double expected = evaluator.evaluate(point);
+            assertEquals(expected, sequential[i], 1e-9 * Math.max(1.0, Math.abs(expected)));
+            assertEquals(sequential[i], parallel[i]);
+
+            RationalNumber[] exactPoint = { exactColumns.get(VariableName.x)[i], exactColumns.get(VariableName.y)[i],
+                    exactColumns.get(VariableName.z)[i] };
+            assertEquals(evaluator.evaluate(exactPoint), exact[i]);
+        }
+
+        // Columns of variables that do not appear neither change the number of points nor cause an error.
+        for (VariableName unused : List.of(VariableName.a, VariableName.w)) {
+            columns.put(unused, new double[7]);
+            assertArrayEquals(sequential, p.evaluateBatch(columns));
+        }
+        Polynomial constant = new Polynomial(new Term(integer(3)));
+        assertThrows(IllegalArgumentException.class, () -> constant.evaluateBatch(columns));
+        assertArrayEquals(new double[] { 3.0, 3.0 }, constant.evaluateBatch(Map.of(VariableName.a, new double[2])));
+
+        columns.remove(VariableName.y);
+        assertThrows(
+                BatchEvaluationMissingColumn.class,
+                () -> p.evaluateBatch(columns)
+        );
+    }
+
+    @Test
+    @DisplayName("Evaluate and substitute variables beyond VariableName")
+    void testEvaluateVariables() {
+        List<Variable> variables = Variable.range(VariableName.x, 1, 3);
+        Polynomial p = PolynomialParser.parse("x_1^2x_2 + x_1x_3 - 3x_2 + y");
+        List<Variable> all = List.of(variables.get(0), variables.get(1), variables.get(2), Variable.of(VariableName.y));
+        RationalNumber[] values = { integer(2), new RationalNumber(-1, 3), integer(5), integer(1) };
+
+        int pointCount = 1500;
+        Random random = new Random(25);
+        double[][] columns = new double[all.size()][pointCount];
+        RationalNumber[][] exactColumns = new RationalNumber[all.size()][pointCount];
+        for (int v = 0; v < all.size(); ++v) {
+            for (int i = 0; i < pointCount; ++i) {
+                exactColumns[v][i] = new RationalNumber(random.nextInt(7) - 3, random.nextInt(3) + 1);
+                columns[v][i] = exactColumns[v][i].doubleValue();
+            }
+        }
+        PolynomialEvaluator evaluator = p.compile();
+        double[] sequential = p.evaluateBatch(all, columns);
+        double[] parallel = p.evaluateBatch(all, columns, true);
+        RationalNumber[] exact = p.evaluateBatchExact(all, exactColumns, true);
+        for (int i = 0; i < pointCount; ++i) {
+            RationalNumber[] point = new RationalNumber[evaluator.getSlots().size()];
+            for (int slot = 0; slot < point.length; ++slot) {
+                point[slot] = exactColumns[all.indexOf(evaluator.getSlots().get(slot))][i];
+            }
+            RationalNumber expected = evaluator.evaluate(point);
+            assertEquals(expected, exact[i]);
+            assertEquals(expected.doubleValue(), sequential[i], 1e-9 * Math.max(1.0, Math.abs(expected.doubleValue())));
+            assertEquals(sequential[i], parallel[i]);
+        }
+
+        assertAll(
+                () -> assertEquals(PolynomialParser.parse("4x_2 + 2x_3 - 3x_2 + y"),
+                        p.substitute(variables.subList(0, 1), new RationalNumber[] { integer(2) })),
+                () -> assertEquals(PolynomialParser.parse("-4/3 + 10 + 1 + 1"), p.substitute(all, values)),
+                () -> assertSame(p, p.substitute(List.of(Variable.of(VariableName.x, 9)),
+                        new RationalNumber[] { integer(1) })),
+                () -> assertEquals(p.substitute(Map.of(VariableName.y, integer(1))),
+                        p.substitute(List.of(Variable.of(VariableName.y)), new RationalNumber[] { integer(1) })),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> p.substitute(all, new RationalNumber[] { integer(1) })),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> p.substitute(List.of(variables.get(0), variables.get(0)),
+                                new RationalNumber[] { integer(1), integer(2) })),
+                () -> assertThrows(BatchEvaluationMissingColumn.class,
+                        () -> p.evaluateBatch(all.subList(0, 3), Arrays.copyOf(columns, 3))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> p.evaluateBatch(all, Arrays.copyOf(columns, 3)))
+        );
+    }
+
+    // Helper method for creating integer coefficients.
+    @Test
+    @DisplayName("Substitute values")
+    void testSubstitute() {
+        Polynomial p = PolynomialParser.parse("x^2y + xz - 3y + 1/2");
+        Map<VariableName, RationalNumber> all = Map.of(VariableName.x, integer(2), VariableName.y,
+                new RationalNumber(-1, 3), VariableName.z, integer(5));
+        Polynomial q = randomPolynomial(new Random(24), 40).withOrder(MonomialOrder.lex);
+        Polynomial qx = q.substitute(Map.of(VariableName.x, integer(2)));
+        assertAll(
+                () -> assertEquals(PolynomialParser.parse("4y + 2z - 3y + 1/2"), p.substitute(Map.of(VariableName.x,
+                        integer(2)))),
+                () -> assertEquals(PolynomialParser.parse("x^2y - 3y + 1/2"), p.substitute(Map.of(VariableName.z,
+                        RationalNumber.zero))),
+                () -> assertSame(p, p.substitute(Map.of(VariableName.a, integer(1)))),
+                () -> assertEquals(PolynomialParser.parse("-4/3 + 10 + 1 + 1/2"), p.substitute(all)),
+                () -> assertEquals(MonomialOrder.lex, qx.getOrder()),
+                () -> assertFalse(qx.getVariableSet().contains(VariableName.x)),
+                () -> assertEquals(q.substitute(all), qx.substitute(all)),
+                () -> assertEquals(q, q.compose(VariableName.x, PolynomialParser.parse("x")))
+        );
+    }
+
+    @Test
+    @DisplayName("Compose")
+    void testCompose() {
+        Polynomial p = PolynomialParser.parse("x^2 + xy");
+        Polynomial q = randomPolynomial(new Random(25), 30);
+        Polynomial replacement = PolynomialParser.parse("y^2 - 2xz + 1/3");
+        Polynomial composed = q.compose(VariableName.x, replacement);
+        // Composing and then binding all variables matches binding x to the value of the replacement.
+        Map<VariableName, RationalNumber> point = Map.of(VariableName.x, integer(3), VariableName.y, integer(-2),
+                VariableName.z, new RationalNumber(1, 2));
+        RationalNumber replacementValue = replacement.substitute(point).getCoefficient(Monomial.one);
+        Map<VariableName, RationalNumber> image = Map.of(VariableName.x, replacementValue, VariableName.y,
+                integer(-2), VariableName.z, new RationalNumber(1, 2));
+        // With several terms in several variables, the powers of the replacement are computed from each other.
+        Polynomial wide = PolynomialParser.parse("x + y + 2z + 1/3w + 1").pow(3);
+        assertAll(
+                () -> assertEquals(PolynomialParser.parse("2y^2 + 3y + 1"), p.compose(VariableName.x,
+                        PolynomialParser.parse("y + 1"))),
+                () -> assertEquals(PolynomialParser.parse("x^2 + 2x + 1 + xy + y"), p.compose(VariableName.x,
+                        PolynomialParser.parse("x + 1"))),
+                () -> assertEquals(PolynomialParser.parse("xy"), p.compose(VariableName.y,
+                        PolynomialParser.parse("y - x"))),
+                () -> assertEquals(new Polynomial(), p.compose(VariableName.x, new Polynomial())),
+                () -> assertSame(p, p.compose(VariableName.z, replacement)),
+                () -> assertEquals(composeTermByTerm(q, VariableName.x, replacement), composed),
+                () -> assertEquals(composeTermByTerm(q, VariableName.x, wide), q.compose(VariableName.x, wide)),
+                () -> assertEquals(q.substitute(image), composed.substitute(point))
+        );
+    }
+
+    private static Polynomial composeTermByTerm(Polynomial p, VariableName variable, Polynomial replacement) {
+        Polynomial result = new Polynomial();
+        for (Term t : p.getTerms()) {
+            int power = t.getMonomial().getExponent(variable);
+            result = result.add(new Polynomial(new Term(t.getCoefficient(),
+                    t.getMonomial().divide(new Monomial(variable, power)))).multiply(replacement.pow(power)));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Derivative and gradient")
+    void testDerivative() {
+        Polynomial p = PolynomialParser.parse("x^3y^2 - 2xz + 5y + 7").withOrder(MonomialOrder.lex);
+        Polynomial q = randomPolynomial(new Random(26), 20);
+        Polynomial r = randomPolynomial(new Random(27), 20);
+        Variable x = Variable.of(VariableName.x);
+        Variable y = Variable.of(VariableName.y);
+        assertAll(
+                () -> assertEquals(PolynomialParser.parse("3x^2y^2 - 2z"), p.derivative(VariableName.x)),
+                () -> assertEquals(MonomialOrder.lex, p.derivative(VariableName.x).getOrder()),
+                () -> assertEquals(PolynomialParser.parse("-2x"), p.derivative(VariableName.z)),
+                () -> assertEquals(new Polynomial(), p.derivative(VariableName.a)),
+                () -> assertEquals(List.of(p.derivative(VariableName.x), p.derivative(VariableName.y)),
+                        p.gradient(List.of(x, y))),
+                // Product rule and equality of mixed partial derivatives.
+                () -> assertEquals(q.derivative(x).multiply(r).add(q.multiply(r.derivative(x))),
+                        q.multiply(r).derivative(x)),
+                () -> assertEquals(q.derivative(x).derivative(y), q.derivative(y).derivative(x))
+        );
+    }
+
+    private RationalNumber integer(int value) {
+        return new RationalNumber(value, 1);
+    }
+
+    // Helper method for creating a polynomial in x, y, z with small random exponents and coefficients.
+    private Polynomial randomPolynomial(Random random, int termCount) {
+        Term[] terms = new Term[termCount];
+        for (int i = 0; i < termCount; ++i) {
+            Monomial m = new Monomial(VariableName.x, random.nextInt(6))
+                    .multiply(new Monomial(VariableName.y, random.nextInt(6)))
+                    .multiply(new Monomial(VariableName.z, random.nextInt(6)));
+            terms[i] = new Term(new RationalNumber(random.nextInt(19) - 9, random.nextInt(4) + 1), m);
+        }
+        return new Polynomial(terms);
+    }
+
+    // Helper method for creating x^i y^j.
+    private Monomial monomial(int i, int j) {
+        return new Monomial(VariableName.x, i).multiply(new Monomial(VariableName.y, j));
     }
 }
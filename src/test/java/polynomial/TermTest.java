@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -64,6 +65,21 @@ class TermTest {
                 TermEvaluationMissingVariable.class,
                 () -> term4.evaluateAt(mapVarValue)
         );
+
+        Variable x1 = Variable.of(VariableName.x, 1);
+        Term term5 = new Term(coeff, new Monomial(x1, 2).multiply(new Monomial(Variable.of(VariableName.y), 1)));
+        List<Variable> variables = List.of(Variable.of(VariableName.y), x1);
+        assertAll(
+                () -> assertEquals(coeff.multiply(xVal.pow(2)).multiply(yVal),
+                        term5.evaluateAt(variables, new RationalNumber[] { yVal, xVal })),
+                () -> assertEquals(expected, term3.evaluateAt(
+                        List.of(Variable.of(VariableName.z), Variable.of(VariableName.x), Variable.of(VariableName.y)),
+                        new RationalNumber[] { zVal, xVal, yVal })),
+                () -> assertThrows(TermEvaluationMissingVariable.class,
+                        () -> term5.evaluateAt(List.of(x1), new RationalNumber[] { xVal })),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> term5.evaluateAt(variables, new RationalNumber[] { yVal }))
+        );
     }
 
     @Test
@@ -123,4 +139,41 @@ class TermTest {
         Term t4 = new Term(r2, mapVarPower4);
         assertFalse(t3.like(t4));
     }
+
+    @Test
+    @DisplayName("Equals, hash code and interning")
+    void testEqualsAndIntern() {
+        Term t1 = new Term(new RationalNumber(2, 3), Map.of(VariableName.x, 2, VariableName.y, 1));
+        Term t2 = new Term(new RationalNumber(4, 6), Map.of(VariableName.y, 1, VariableName.x, 2));
+        Term t3 = new Term(new RationalNumber(-2, 3), Map.of(VariableName.x, 2, VariableName.y, 1));
+        Term t4 = new Term(new RationalNumber(2, 3), Map.of(VariableName.x, 1, VariableName.y, 2));
+        Term canonical = t1.intern();
+        assertAll(
+                () -> assertEquals(t1, t2),
+                () -> assertEquals(t1.hashCode(), t2.hashCode()),
+                () -> assertEquals(0, t1.compareTo(t2)),
+                () -> assertNotEquals(t1, t3),
+                () -> assertNotEquals(t1, t4),
+                () -> assertNotEquals(t1, null),
+                () -> assertSame(canonical, t2.intern()),
+                () -> assertSame(canonical.getMonomial(), t2.getMonomial().intern()),
+                () -> assertNotSame(canonical, t3.intern()),
+                () -> assertSame(canonical.getMonomial(), t3.intern().getMonomial()),
+                () -> assertSame(Monomial.one, new Term(RationalNumber.one).intern().getMonomial())
+        );
+    }
+
+    @Test
+    @DisplayName("Derivative")
+    void testDerivative() {
+        Term t = new Term(new RationalNumber(3, 2), Map.of(VariableName.x, 2, VariableName.y, 1));
+        assertAll(
+                () -> assertEquals(new Term(new RationalNumber(3, 1), Map.of(VariableName.x, 1, VariableName.y, 1)),
+                        t.derivative(VariableName.x)),
+                () -> assertEquals(new Term(new RationalNumber(3, 2), VariableName.x, 2), t.derivative(VariableName.y)),
+                () -> assertEquals(new Term(RationalNumber.zero), t.derivative(VariableName.z)),
+                () -> assertEquals(new Term(RationalNumber.zero),
+                        new Term(RationalNumber.one).derivative(VariableName.x))
+        );
+    }
 }
@@ -0,0 +1,53 @@
+package polynomial;
+
+import exceptions.InvalidVariableNameException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariableTest {
+    @Test
+    @DisplayName("Predefined variables")
+    void testPredefined() {
+        for (VariableName variableName : VariableName.values()) {
+            Variable variable = Variable.of(variableName);
+            assertAll(
+                    () -> assertSame(variable, Variable.of(variableName.toString())),
+                    () -> assertEquals(variableName.ordinal(), variable.index()),
+                    () -> assertEquals(variableName, variable.toVariableName()),
+                    () -> assertEquals(variableName.toString(), variable.getName()));
+        }
+        assertTrue(Variable.of(VariableName.a).compareTo(Variable.of(VariableName.b)) < 0);
+    }
+
+    @Test
+    @DisplayName("Register and intern")
+    void testRegister() {
+        List<Variable> range = Variable.range(VariableName.v, 1001, 1003);
+        Variable first = range.get(0);
+        assertAll(
+                () -> assertEquals(3, range.size()),
+                () -> assertEquals("v_1001", first.getName()),
+                () -> assertSame(first, Variable.of("v_1001")),
+                () -> assertSame(range.get(2), Variable.of(VariableName.v, 1003)),
+                () -> assertEquals(first.index() + 1, range.get(1).index()),
+                () -> assertTrue(first.compareTo(range.get(1)) < 0),
+                () -> assertTrue(Variable.of(VariableName.z).compareTo(first) < 0),
+                () -> assertNull(first.toVariableName()),
+                () -> assertSame(first, Variable.at(first.index())),
+                () -> assertEquals(List.of(), Variable.range(VariableName.v, 5, 4)));
+    }
+
+    @Test
+    @DisplayName("Reject invalid names")
+    void testInvalid() {
+        for (String name : List.of("", "x_", "x_01", "xy", "X", "x1", "x_1a", "_1")) {
+            assertThrows(InvalidVariableNameException.class, () -> Variable.of(name), name);
+        }
+        assertThrows(InvalidVariableNameException.class, () -> Variable.of(VariableName.x, -1));
+        assertEquals("x_0", Variable.of(VariableName.x, 0).getName());
+    }
+}